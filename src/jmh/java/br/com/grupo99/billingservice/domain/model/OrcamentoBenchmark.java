@@ -0,0 +1,76 @@
+package br.com.grupo99.billingservice.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark: cálculo do valor total do Orcamento com listas grandes de itens.
+ *
+ * calcularValorTotal percorre todos os itens; montarComAdicionarItem mede a
+ * montagem item a item (adicionarItem atualiza a soma em centavos em O(1)).
+ *
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.include=OrcamentoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrcamentoBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    public int itens;
+
+    private List<ItemOrcamento> lista;
+    private Orcamento orcamento;
+
+    @Setup
+    public void setUp() {
+        lista = IntStream.range(0, itens)
+                .mapToObj(i -> new ItemOrcamento(TipoItem.PECA, "Peça " + i, 1 + i % 5,
+                        new BigDecimal("35.90").add(BigDecimal.valueOf(i, 2))))
+                .collect(Collectors.toCollection(ArrayList::new));
+        orcamento = Orcamento.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .status(StatusOrcamento.PENDENTE)
+                .itens(lista)
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal calcularValorTotal() {
+        orcamento.calcularValorTotal();
+        return orcamento.getValorTotal();
+    }
+
+    @Benchmark
+    public BigDecimal montarComAdicionarItem() {
+        Orcamento novo = Orcamento.builder()
+                .id(orcamento.getId())
+                .osId(orcamento.getOsId())
+                .status(StatusOrcamento.PENDENTE)
+                .itens(new ArrayList<>(itens))
+                .build();
+        lista.forEach(novo::adicionarItem);
+        return novo.getValorTotal();
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.domain.events.DiagnosticoConcluidoEvent;
+import br.com.grupo99.billingservice.domain.events.OSCriadaEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoProntoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
+import br.com.grupo99.billingservice.infrastructure.messaging.serde.BillingEventDeserializer;
+import br.com.grupo99.billingservice.infrastructure.messaging.serde.BillingEventSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: serialização dos eventos Kafka de domain.events (tempo por
+ * evento; o tamanho em bytes de cada formato sai no resultado de serializar
+ * como o contador secundário bytesPorEvento).
+ *
+ * Formatos:
+ * - jackson: ObjectMapper do JsonSerializer/JsonDeserializer do spring-kafka
+ * - jackson-map: mesma escrita, leitura em Map (consumer antes dos schemas)
+ * - json: BillingEventSerializer/Deserializer em JSON (JsonGenerator/JsonParser)
+ * - binario: BillingEventSerializer/Deserializer no formato binário
+ *
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.include=EventSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    @Param({ "ORCAMENTO_PRONTO", "ORCAMENTO_APROVADO", "ORCAMENTO_REJEITADO", "PAGAMENTO_FALHOU", "OS_CRIADA",
+            "DIAGNOSTICO_CONCLUIDO" })
+    public String eventType;
+
+    @Param({ "jackson", "jackson-map", "json", "binario" })
+    public String formato;
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+    private final BillingEventDeserializer deserializer = new BillingEventDeserializer();
+    private final Headers headers = new RecordHeaders();
+
+    private BillingEventSerializer serializer;
+    private Object event;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        event = evento(eventType);
+        headers.add(BillingEventDeserializer.EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+        serializer = new BillingEventSerializer(formato.equals("binario")
+                ? BillingEventSerializer.FORMAT_BINARY
+                : BillingEventSerializer.FORMAT_JSON);
+        bytes = serializarEvento();
+    }
+
+    /**
+     * Tamanho do evento serializado, reportado pelo JMH junto do tempo.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanho {
+
+        /** Bytes do último evento serializado (o mesmo em toda invocação). */
+        public long bytesPorEvento;
+    }
+
+    @Benchmark
+    public byte[] serializar(Tamanho tamanho) throws Exception {
+        byte[] data = serializarEvento();
+        tamanho.bytesPorEvento = data.length;
+        return data;
+    }
+
+    @Benchmark
+    public Object desserializar() throws Exception {
+        return switch (formato) {
+            case "jackson" -> objectMapper.readValue(bytes, event.getClass());
+            case "jackson-map" -> objectMapper.readValue(bytes, Map.class);
+            default -> deserializer.deserialize("billing-events", headers, bytes);
+        };
+    }
+
+    private byte[] serializarEvento() throws Exception {
+        return formato.startsWith("jackson")
+                ? objectMapper.writeValueAsBytes(event)
+                : serializer.serialize("billing-events", event);
+    }
+
+    private static Object evento(String eventType) {
+        UUID osId = UUID.randomUUID();
+        UUID orcamentoId = UUID.randomUUID();
+        LocalDateTime agora = LocalDateTime.now();
+        BigDecimal valor = new BigDecimal("1250.90");
+        return switch (eventType) {
+            case "ORCAMENTO_PRONTO" -> OrcamentoProntoEvent.builder()
+                    .orcamentoId(orcamentoId).osId(osId).valorTotal(valor).timestamp(agora).build();
+            case "ORCAMENTO_APROVADO" -> OrcamentoAprovadoEvent.builder()
+                    .orcamentoId(orcamentoId).osId(osId).valorTotal(valor).aprovadoPor("cliente")
+                    .timestamp(agora).build();
+            case "ORCAMENTO_REJEITADO" -> OrcamentoRejeitadoEvent.builder()
+                    .orcamentoId(orcamentoId).osId(osId).motivo("Valor acima do esperado")
+                    .rejeitadoPor("cliente").timestamp(agora).build();
+            case "PAGAMENTO_FALHOU" -> PagamentoFalhouEvent.builder()
+                    .pagamentoId(UUID.randomUUID()).orcamentoId(orcamentoId).osId(osId)
+                    .motivo("Cartão recusado").mensagemErro("cc_rejected_insufficient_amount")
+                    .codigoErro("MP-402").valorTentado(valor).timestamp(agora).build();
+            case "OS_CRIADA" -> new OSCriadaEvent(osId, UUID.randomUUID(), UUID.randomUUID(),
+                    "Revisão dos 20 mil km", agora, "OS_CRIADA");
+            case "DIAGNOSTICO_CONCLUIDO" -> new DiagnosticoConcluidoEvent(osId, UUID.randomUUID(),
+                    "Pastilhas de freio gastas", valor, agora, "DIAGNOSTICO_CONCLUIDO");
+            default -> throw new IllegalArgumentException("Evento desconhecido: " + eventType);
+        };
+    }
+}
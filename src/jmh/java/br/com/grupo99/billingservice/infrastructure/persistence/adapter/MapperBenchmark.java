@@ -0,0 +1,141 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.application.mapper.OrcamentoMapper;
+import br.com.grupo99.billingservice.domain.model.FormaPagamento;
+import br.com.grupo99.billingservice.domain.model.ItemOrcamento;
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.model.Pagamento;
+import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.domain.model.StatusPagamento;
+import br.com.grupo99.billingservice.domain.model.TipoItem;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter.Formato;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark: mappers Entity ↔ Domain (OrcamentoEntityMapper,
+ * PagamentoEntityMapper), Domain → DTO (OrcamentoMapper.toResponse) e o
+ * caminho de leitura item → DTO (via domínio x OrcamentoResponseProjection).
+ *
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.include=MapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "1", "20", "200" })
+    public int itens;
+
+    private final OrcamentoEntityMapper orcamentoEntityMapper = new OrcamentoEntityMapper();
+    private final PagamentoEntityMapper pagamentoEntityMapper = new PagamentoEntityMapper();
+    private final OrcamentoMapper orcamentoMapper = new OrcamentoMapper();
+    private final TableSchema<OrcamentoEntity> orcamentoSchema = EntityTableSchemas.orcamento(Formato.LISTA);
+
+    private Orcamento orcamento;
+    private OrcamentoEntity orcamentoEntity;
+    private Map<String, AttributeValue> orcamentoItem;
+    private Pagamento pagamento;
+    private PagamentoEntity pagamentoEntity;
+
+    @Setup
+    public void setUp() {
+        Instant agora = Instant.now();
+        orcamento = Orcamento.builder()
+                .id(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .status(StatusOrcamento.PENDENTE)
+                .itens(IntStream.range(0, itens)
+                        .mapToObj(i -> new ItemOrcamento(TipoItem.PECA, "Peça " + i, 2, new BigDecimal("35.90")))
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .dataGeracao(agora)
+                .historicoCount(1)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .version(1L)
+                .build();
+        orcamento.calcularValorTotal();
+        orcamentoEntity = orcamentoEntityMapper.toEntity(orcamento);
+        orcamentoItem = orcamentoSchema.itemToMap(orcamentoEntity, true);
+
+        pagamento = Pagamento.builder()
+                .id(UUID.randomUUID())
+                .orcamentoId(orcamento.getId())
+                .osId(orcamento.getOsId())
+                .status(StatusPagamento.CONFIRMADO)
+                .valor(orcamento.getValorTotal())
+                .formaPagamento(FormaPagamento.PIX)
+                .mercadoPagoPaymentId(123L)
+                .dataPagamento(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .version(1L)
+                .build();
+        pagamentoEntity = pagamentoEntityMapper.toEntity(pagamento);
+    }
+
+    @Benchmark
+    public OrcamentoEntity orcamentoToEntity() {
+        return orcamentoEntityMapper.toEntity(orcamento);
+    }
+
+    @Benchmark
+    public Orcamento orcamentoToDomain() {
+        return orcamentoEntityMapper.toDomain(orcamentoEntity);
+    }
+
+    @Benchmark
+    public PagamentoEntity pagamentoToEntity() {
+        return pagamentoEntityMapper.toEntity(pagamento);
+    }
+
+    @Benchmark
+    public Pagamento pagamentoToDomain() {
+        return pagamentoEntityMapper.toDomain(pagamentoEntity);
+    }
+
+    @Benchmark
+    public OrcamentoResponse orcamentoToResponse() {
+        return orcamentoMapper.toResponse(orcamento);
+    }
+
+    /** Leitura antes do read model: item → entity → domínio → DTO. */
+    @Benchmark
+    public OrcamentoResponse leituraViaDominio() {
+        OrcamentoEntity entity = orcamentoSchema.mapToItem(orcamentoItem);
+        return orcamentoMapper.toResponse(orcamentoEntityMapper.toDomain(entity));
+    }
+
+    /** Leitura pelo read model: item → DTO. */
+    @Benchmark
+    public OrcamentoResponse leituraProjecao() {
+        return OrcamentoResponseProjection.fromItem(orcamentoItem);
+    }
+}
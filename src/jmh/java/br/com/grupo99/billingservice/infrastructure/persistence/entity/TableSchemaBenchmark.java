@@ -0,0 +1,133 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter.Formato;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity.ItemOrcamentoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark: custo por item mapeado (itemToMap / mapToItem) com
+ * TableSchema.fromBean x EntityTableSchemas (StaticTableSchema montado à mão).
+ * Alocação por operação via -prof gc (padrão do profile); custo de subida em
+ * {@link TableSchemaStartupBenchmark}.
+ *
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.include=TableSchemaBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableSchemaBenchmark {
+
+    @Param({ "1", "20" })
+    public int itens;
+
+    private final TableSchema<OrcamentoEntity> orcamentoBean = TableSchema.fromBean(OrcamentoEntity.class);
+    private final TableSchema<OrcamentoEntity> orcamentoEstatico = EntityTableSchemas.orcamento(Formato.LISTA);
+    private final TableSchema<PagamentoEntity> pagamentoBean = TableSchema.fromBean(PagamentoEntity.class);
+    private final TableSchema<PagamentoEntity> pagamentoEstatico = EntityTableSchemas.PAGAMENTO;
+
+    private OrcamentoEntity orcamento;
+    private Map<String, AttributeValue> orcamentoItem;
+    private PagamentoEntity pagamento;
+    private Map<String, AttributeValue> pagamentoItem;
+
+    @Setup
+    public void setUp() {
+        Instant agora = Instant.now();
+        orcamento = OrcamentoEntity.builder()
+                .id("orc-1")
+                .osId("os-1")
+                .status("PENDENTE")
+                .itens(IntStream.range(0, itens)
+                        .mapToObj(i -> ItemOrcamentoEntity.builder()
+                                .tipo("PECA")
+                                .descricao("Peça " + i)
+                                .valorUnitario(new BigDecimal("35.90"))
+                                .valorTotal(new BigDecimal("71.80"))
+                                .quantidade(2)
+                                .build())
+                        .toList())
+                .valorTotal(new BigDecimal("71.80").multiply(BigDecimal.valueOf(itens)))
+                .dataGeracao(agora)
+                .historicoCount(1)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .version(1L)
+                .build();
+        orcamentoItem = orcamentoBean.itemToMap(orcamento, true);
+        pagamento = PagamentoEntity.builder()
+                .id("pag-1")
+                .orcamentoId("orc-1")
+                .osId("os-1")
+                .status("CONFIRMADO")
+                .valor(new BigDecimal("71.80"))
+                .formaPagamento("PIX")
+                .mercadoPagoPaymentId(123L)
+                .dataPagamento(agora)
+                .createdAt(agora)
+                .updatedAt(agora)
+                .version(1L)
+                .build();
+        pagamentoItem = pagamentoBean.itemToMap(pagamento, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> orcamentoItemToMapBean() {
+        return orcamentoBean.itemToMap(orcamento, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> orcamentoItemToMapEstatico() {
+        return orcamentoEstatico.itemToMap(orcamento, true);
+    }
+
+    @Benchmark
+    public OrcamentoEntity orcamentoMapToItemBean() {
+        return orcamentoBean.mapToItem(orcamentoItem);
+    }
+
+    @Benchmark
+    public OrcamentoEntity orcamentoMapToItemEstatico() {
+        return orcamentoEstatico.mapToItem(orcamentoItem);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> pagamentoItemToMapBean() {
+        return pagamentoBean.itemToMap(pagamento, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> pagamentoItemToMapEstatico() {
+        return pagamentoEstatico.itemToMap(pagamento, true);
+    }
+
+    @Benchmark
+    public PagamentoEntity pagamentoMapToItemBean() {
+        return pagamentoBean.mapToItem(pagamentoItem);
+    }
+
+    @Benchmark
+    public PagamentoEntity pagamentoMapToItemEstatico() {
+        return pagamentoEstatico.mapToItem(pagamentoItem);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter.Formato;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: primeira criação dos schemas de orçamento e pagamento em uma JVM
+ * nova (SingleShotTime, uma amostra por fork), TableSchema.fromBean x
+ * EntityTableSchemas. Sem @State para nada ser criado antes da medição.
+ *
+ * mvn -Pjmh test-compile exec:exec@jmh -Djmh.include=TableSchemaStartupBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class TableSchemaStartupBenchmark {
+
+    @Benchmark
+    public List<TableSchema<?>> bean() {
+        return List.of(TableSchema.fromBean(OrcamentoEntity.class), TableSchema.fromBean(PagamentoEntity.class));
+    }
+
+    @Benchmark
+    public List<TableSchema<?>> estatico() {
+        return List.of(EntityTableSchemas.orcamento(Formato.LISTA), EntityTableSchemas.PAGAMENTO);
+    }
+}
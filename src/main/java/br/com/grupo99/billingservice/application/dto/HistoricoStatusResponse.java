@@ -0,0 +1,26 @@
+package br.com.grupo99.billingservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO para response de uma entrada do histórico de status do orçamento
+ * 
+ * ✅ CLEAN ARCHITECTURE: DTO isolado na application layer
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoricoStatusResponse {
+
+    private String statusAnterior;
+    private String novoStatus;
+    private Instant data;
+    private String usuario;
+    private String observacao;
+}
@@ -0,0 +1,25 @@
+package br.com.grupo99.billingservice.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para response do resumo de cobrança de uma OS (orçamento + pagamentos)
+ * 
+ * ✅ CLEAN ARCHITECTURE: DTO isolado na application layer
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoCobrancaResponse {
+
+    private UUID osId;
+    private OrcamentoResponse orcamento;
+    private List<PagamentoResponse> pagamentos;
+}
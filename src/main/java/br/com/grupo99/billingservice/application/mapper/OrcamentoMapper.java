@@ -1,7 +1,9 @@
 package br.com.grupo99.billingservice.application.mapper;
 
 import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.dto.HistoricoStatusResponse;
 import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
 import br.com.grupo99.billingservice.domain.model.ItemOrcamento;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
 import org.springframework.stereotype.Component;
@@ -31,7 +33,7 @@ public class OrcamentoMapper {
             request.getItens().forEach(itemReq -> itens.add(ItemOrcamento.builder()
                     .descricao(itemReq.getDescricao())
                     .valorUnitario(itemReq.getValor())
-                    .valorTotal(itemReq.getValor().multiply(new BigDecimal(itemReq.getQuantidade())))
+                    .valorTotal(itemReq.getValor().multiply(BigDecimal.valueOf(itemReq.getQuantidade())))
                     .quantidade(itemReq.getQuantidade())
                     .build()));
         }
@@ -71,7 +73,24 @@ public class OrcamentoMapper {
                 .dataGeracao(orcamento.getDataGeracao())
                 .dataAprovacao(orcamento.getDataAprovacao())
                 .dataRejeicao(orcamento.getDataRejeicao())
-                .historicoCount(orcamento.getHistorico().size())
+                .historicoCount(orcamento.getHistoricoCount())
+                .build();
+    }
+
+    /**
+     * Converte HistoricoStatus (domain) → HistoricoStatusResponse (DTO)
+     */
+    public HistoricoStatusResponse toHistoricoResponse(HistoricoStatus historico) {
+        if (historico == null) {
+            return null;
+        }
+
+        return HistoricoStatusResponse.builder()
+                .statusAnterior(historico.getStatusAnterior() != null ? historico.getStatusAnterior().name() : null)
+                .novoStatus(historico.getNovoStatus() != null ? historico.getNovoStatus().name() : null)
+                .data(historico.getData())
+                .usuario(historico.getUsuario())
+                .observacao(historico.getObservacao())
                 .build();
     }
 }
@@ -0,0 +1,46 @@
+package br.com.grupo99.billingservice.application.query;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Port de leitura de Orçamento (read model).
+ *
+ * ✅ CLEAN ARCHITECTURE: Interface na application layer, implementação na
+ * infrastructure
+ * - Consultas devolvem o DTO de resposta direto do item persistido, sem
+ *   montar o agregado (Entity → Domain → DTO) só para serializá-lo
+ * - Escritas e regras de negócio continuam no OrcamentoRepository
+ */
+public interface OrcamentoReadModel {
+
+    /**
+     * Busca um orçamento por ID.
+     */
+    Optional<OrcamentoResponse> findById(UUID id);
+
+    /**
+     * Busca vários orçamentos por ID. IDs inexistentes são ignorados e a ordem
+     * do resultado não é garantida.
+     */
+    List<OrcamentoResponse> findAllById(Collection<UUID> ids);
+
+    /**
+     * Busca uma página de orçamentos.
+     *
+     * @param pageSize quantidade máxima de itens na página
+     * @param cursor   cursor da página anterior (null na primeira)
+     */
+    PageResult<OrcamentoResponse> findAll(int pageSize, String cursor);
+
+    /**
+     * Percorre todos os orçamentos de forma lazy (página a página).
+     */
+    Stream<OrcamentoResponse> streamAll();
+}
@@ -1,18 +1,34 @@
 package br.com.grupo99.billingservice.application.service;
 
 import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.dto.HistoricoStatusResponse;
 import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
 import br.com.grupo99.billingservice.application.mapper.OrcamentoMapper;
+import br.com.grupo99.billingservice.application.query.OrcamentoReadModel;
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoJaExisteException;
 import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
 import br.com.grupo99.billingservice.infrastructure.messaging.BillingEventPublisherPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Application Service para Orçamento
@@ -21,6 +37,9 @@ import java.util.UUID;
  * - Não contém lógica de negócio (fica no domain)
  * - Coordena chamadas entre domain e infrastructure
  * - Gerencia transações
+ *
+ * Consultas usam o read model (DTO direto do item persistido); o agregado só
+ * é carregado nos use cases que alteram estado.
  */
 @Slf4j
 @Service
@@ -28,14 +47,17 @@ import java.util.UUID;
 public class OrcamentoApplicationService {
 
     private final OrcamentoRepository orcamentoRepository;
+    private final OrcamentoReadModel readModel;
     private final BillingEventPublisherPort eventPublisher;
     private final OrcamentoMapper mapper;
 
     public OrcamentoApplicationService(
             OrcamentoRepository orcamentoRepository,
+            OrcamentoReadModel readModel,
             BillingEventPublisherPort eventPublisher,
             OrcamentoMapper mapper) {
         this.orcamentoRepository = orcamentoRepository;
+        this.readModel = readModel;
         this.eventPublisher = eventPublisher;
         this.mapper = mapper;
     }
@@ -48,10 +70,16 @@ public class OrcamentoApplicationService {
      * 2. Persistir usando repository
      * 3. Publicar evento via publisher
      * 4. Retornar response
+     *
+     * @throws OrcamentoJaExisteException se a OS já tiver orçamento
      */
     public OrcamentoResponse criar(CreateOrcamentoRequest request) {
         log.info("Criando orçamento para OS: {}", request.getOsId());
 
+        if (orcamentoRepository.existsByOsId(request.getOsId())) {
+            throw new OrcamentoJaExisteException(request.getOsId());
+        }
+
         // 1. Domain: criar agregado
         Orcamento orcamento = mapper.toDomain(request);
 
@@ -72,10 +100,23 @@ public class OrcamentoApplicationService {
     public OrcamentoResponse obterPorId(UUID id) {
         log.info("Buscando orçamento: {}", id);
 
-        Orcamento orcamento = orcamentoRepository.findById(id)
+        return readModel.findById(id)
                 .orElseThrow(() -> new RuntimeException("Orçamento não encontrado: " + id));
+    }
+
+    /**
+     * Use Case: Consultar histórico de status do Orçamento (carregado sob demanda)
+     */
+    public List<HistoricoStatusResponse> obterHistorico(UUID id) {
+        log.info("Buscando histórico do orçamento: {}", id);
+
+        if (orcamentoRepository.findById(id).isEmpty()) {
+            throw new RuntimeException("Orçamento não encontrado: " + id);
+        }
 
-        return mapper.toResponse(orcamento);
+        return orcamentoRepository.findHistorico(id).stream()
+                .map(mapper::toHistoricoResponse)
+                .toList();
     }
 
     /**
@@ -84,29 +125,32 @@ public class OrcamentoApplicationService {
      * Fluxo:
      * 1. Buscar orçamento
      * 2. Executar lógica de domínio (aprovar())
-     * 3. Persistir mudanças
-     * 4. Publicar evento
-     * 5. Retornar response
+     * 3. Persistir mudanças + evento no outbox (mesma transação)
+     * 4. Retornar response
+     *
+     * Em conflito de versão o fluxo é refeito a partir da leitura.
      */
     public OrcamentoResponse aprovar(UUID id) {
         log.info("Aprovando orçamento: {}", id);
 
-        // 1. Buscar domain
-        Orcamento orcamento = orcamentoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Orçamento não encontrado: " + id));
-
-        // 2. Executar lógica de domínio
-        orcamento.aprovar();
-        log.info("Orçamento {} aprovado", id);
+        return RetryOnConflict.executar("Aprovar orçamento " + id, () -> {
+            // 1. Buscar domain
+            Orcamento orcamento = orcamentoRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Orçamento não encontrado: " + id));
 
-        // 3. Persistir
-        Orcamento updated = orcamentoRepository.save(orcamento);
+            // 2. Executar lógica de domínio
+            StatusOrcamento statusAnterior = orcamento.getStatus();
+            orcamento.aprovar();
+            log.info("Orçamento {} aprovado", id);
 
-        // 4. Publicar evento
-        eventPublisher.publicarOrcamentoAprovado(updated);
+            // 3. Persistir só a transição (condicional no status e na versão lidos);
+            // o evento vai para o outbox na mesma transação e é publicado pelo relay
+            Orcamento updated = orcamentoRepository.updateStatus(orcamento, statusAnterior,
+                    OrcamentoAprovadoEvent.de(orcamento));
 
-        // 5. Response
-        return mapper.toResponse(updated);
+            // 4. Response
+            return mapper.toResponse(updated);
+        });
     }
 
     /**
@@ -115,15 +159,17 @@ public class OrcamentoApplicationService {
     public OrcamentoResponse rejeitar(UUID id, String motivo) {
         log.info("Rejeitando orçamento: {}, motivo: {}", id, motivo);
 
-        Orcamento orcamento = orcamentoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Orçamento não encontrado: " + id));
-
-        orcamento.rejeitar();
-        Orcamento updated = orcamentoRepository.save(orcamento);
+        return RetryOnConflict.executar("Rejeitar orçamento " + id, () -> {
+            Orcamento orcamento = orcamentoRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Orçamento não encontrado: " + id));
 
-        eventPublisher.publicarOrcamentoRejeitado(updated);
+            StatusOrcamento statusAnterior = orcamento.getStatus();
+            orcamento.rejeitar();
+            Orcamento updated = orcamentoRepository.updateStatus(orcamento, statusAnterior,
+                    OrcamentoRejeitadoEvent.de(orcamento));
 
-        return mapper.toResponse(updated);
+            return mapper.toResponse(updated);
+        });
     }
 
     /**
@@ -132,11 +178,14 @@ public class OrcamentoApplicationService {
     public void cancelar(UUID id) {
         log.info("Cancelando orçamento: {}", id);
 
-        Orcamento orcamento = orcamentoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Orçamento não encontrado: " + id));
+        RetryOnConflict.executar("Cancelar orçamento " + id, () -> {
+            Orcamento orcamento = orcamentoRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Orçamento não encontrado: " + id));
 
-        orcamento.cancelar();
-        orcamentoRepository.save(orcamento);
+            StatusOrcamento statusAnterior = orcamento.getStatus();
+            orcamento.cancelar();
+            orcamentoRepository.updateStatus(orcamento, statusAnterior);
+        });
 
         log.info("Orçamento {} cancelado", id);
     }
@@ -147,22 +196,130 @@ public class OrcamentoApplicationService {
     public void cancelarPorOs(UUID osId, String motivo) {
         log.info("Cancelando orçamento por OS: {}, motivo: {}", osId, motivo);
 
-        Orcamento orcamento = orcamentoRepository.findByOsId(osId)
-                .orElseThrow(() -> new RuntimeException("Orçamento não encontrado para OS: " + osId));
+        UUID orcamentoId = RetryOnConflict.executar("Cancelar orçamento da OS " + osId, () -> {
+            Orcamento orcamento = orcamentoRepository.findByOsId(osId)
+                    .orElseThrow(() -> new RuntimeException("Orçamento não encontrado para OS: " + osId));
+
+            StatusOrcamento statusAnterior = orcamento.getStatus();
+            orcamento.cancelar();
+            orcamentoRepository.updateStatus(orcamento, statusAnterior);
+            return orcamento.getId();
+        });
+
+        log.info("Orçamento {} cancelado para OS: {}", orcamentoId, osId);
+    }
+
+    /**
+     * Use Case: Criar orçamentos em lote (para lotes de eventos Kafka)
+     *
+     * Uma leitura em lote das OS que já têm orçamento, um BatchWriteItem para
+     * os novos e um evento por orçamento criado. OS que já têm orçamento ou
+     * repetidas no lote são ignoradas (reentrega do mesmo evento).
+     *
+     * @return orçamentos criados
+     */
+    public List<OrcamentoResponse> criarEmLote(List<CreateOrcamentoRequest> requests) {
+        log.info("Criando orçamentos em lote para {} OS", requests.size());
 
-        orcamento.cancelar();
-        orcamentoRepository.save(orcamento);
+        Set<UUID> osIds = requests.stream().map(CreateOrcamentoRequest::getOsId).collect(Collectors.toSet());
+        Set<UUID> existentes = orcamentoRepository.findAllByOsId(osIds).stream()
+                .map(Orcamento::getOsId)
+                .collect(Collectors.toSet());
 
-        log.info("Orçamento {} cancelado para OS: {}", orcamento.getId(), osId);
+        Map<UUID, Orcamento> novos = new LinkedHashMap<>();
+        requests.stream()
+                .filter(request -> !existentes.contains(request.getOsId()))
+                .forEach(request -> novos.computeIfAbsent(request.getOsId(), osId -> mapper.toDomain(request)));
+        if (novos.isEmpty()) {
+            log.info("Todas as {} OS do lote já têm orçamento", osIds.size());
+            return List.of();
+        }
+
+        List<Orcamento> saved = orcamentoRepository.saveAll(new ArrayList<>(novos.values()));
+        log.info("{} orçamentos criados em lote ({} OS já tinham orçamento)", saved.size(), existentes.size());
+
+        saved.forEach(eventPublisher::publicarOrcamentoCriado);
+
+        return saved.stream().map(mapper::toResponse).toList();
+    }
+
+    /**
+     * Use Case: Cancelar orçamentos de várias OS (para lotes de eventos Kafka)
+     *
+     * Os orçamentos são lidos em lote; cada cancelamento é uma transição
+     * condicional própria, relida só em conflito de versão. OS sem orçamento,
+     * orçamentos já cancelados e transições inválidas são ignorados, como em
+     * um evento reentregue.
+     *
+     * @return falhas por OS (as demais OS foram processadas)
+     */
+    public Map<UUID, RuntimeException> cancelarPorOsEmLote(Collection<UUID> osIds) {
+        log.info("Cancelando orçamentos em lote para {} OS", osIds.size());
+
+        Map<UUID, Orcamento> porOs = orcamentoRepository.findAllByOsId(osIds).stream()
+                .collect(Collectors.toMap(Orcamento::getOsId, orcamento -> orcamento, (a, b) -> a));
+
+        Map<UUID, RuntimeException> falhas = new LinkedHashMap<>();
+        for (UUID osId : new LinkedHashSet<>(osIds)) {
+            Orcamento lido = porOs.get(osId);
+            if (lido == null) {
+                log.warn("Orçamento não encontrado para OS: {}", osId);
+                continue;
+            }
+            if (lido.getStatus() == StatusOrcamento.CANCELADO) {
+                log.debug("Orçamento {} da OS {} já cancelado", lido.getId(), osId);
+                continue;
+            }
+            try {
+                cancelarLido(osId, lido);
+                log.info("Orçamento {} cancelado para OS: {}", lido.getId(), osId);
+            } catch (IllegalStateException e) {
+                log.warn("Orçamento da OS {} não pode ser cancelado: {}", osId, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Erro ao cancelar orçamento da OS {}: {}", osId, e.getMessage(), e);
+                falhas.put(osId, e);
+            }
+        }
+        return falhas;
+    }
+
+    /**
+     * Cancela a partir do orçamento já lido; só relê depois de um conflito.
+     */
+    private void cancelarLido(UUID osId, Orcamento lido) {
+        AtomicReference<Orcamento> primeiraLeitura = new AtomicReference<>(lido);
+        RetryOnConflict.executar("Cancelar orçamento da OS " + osId, () -> {
+            Orcamento orcamento = Optional.ofNullable(primeiraLeitura.getAndSet(null))
+                    .or(() -> orcamentoRepository.findByOsId(osId))
+                    .orElseThrow(() -> new RuntimeException("Orçamento não encontrado para OS: " + osId));
+
+            StatusOrcamento statusAnterior = orcamento.getStatus();
+            orcamento.cancelar();
+            orcamentoRepository.updateStatus(orcamento, statusAnterior);
+        });
+    }
+
+    /**
+     * Use Case: Buscar vários orçamentos por ID (uma leitura em lote a cada 100 IDs)
+     */
+    public List<OrcamentoResponse> obterPorIds(Collection<UUID> ids) {
+        log.info("Buscando {} orçamentos por ID", ids.size());
+        return readModel.findAllById(ids);
+    }
+
+    /**
+     * Use Case: Listar orçamentos paginados (cursor)
+     */
+    public PageResult<OrcamentoResponse> listar(int limit, String cursor) {
+        log.info("Listando orçamentos. limit: {}", limit);
+        return readModel.findAll(limit, cursor);
     }
 
     /**
-     * Use Case: Listar todos os orçamentos
+     * Use Case: Exportar todos os orçamentos (stream lazy, página a página)
      */
-    public List<OrcamentoResponse> listarTodos() {
-        log.info("Listando todos os orçamentos");
-        return orcamentoRepository.findAll().stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+    public Stream<OrcamentoResponse> exportarTodos() {
+        log.info("Exportando todos os orçamentos (stream)");
+        return readModel.streamAll();
     }
 }
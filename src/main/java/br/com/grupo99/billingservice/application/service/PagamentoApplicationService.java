@@ -3,18 +3,23 @@ package br.com.grupo99.billingservice.application.service;
 import br.com.grupo99.billingservice.application.dto.CreatePagamentoRequest;
 import br.com.grupo99.billingservice.application.dto.PagamentoResponse;
 import br.com.grupo99.billingservice.application.mapper.PagamentoMapper;
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
 import br.com.grupo99.billingservice.domain.gateway.MercadoPagoPort;
 import br.com.grupo99.billingservice.domain.gateway.MercadoPagoPort.MercadoPagoPaymentResult;
 import br.com.grupo99.billingservice.domain.gateway.MercadoPagoPort.MercadoPagoPreferenceResult;
 import br.com.grupo99.billingservice.domain.model.Pagamento;
 import br.com.grupo99.billingservice.domain.model.StatusPagamento;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
 import br.com.grupo99.billingservice.domain.repository.PagamentoRepository;
 import br.com.grupo99.billingservice.infrastructure.messaging.BillingEventPublisherPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Application Service para Pagamento
@@ -95,6 +100,9 @@ public class PagamentoApplicationService {
      *
      * Consulta no MP se o pagamento já foi realizado pelo cliente.
      * Usa external_reference (pagamentoId) para buscar o pagamento no MP.
+     *
+     * O MP é consultado uma vez; a atualização local relê o pagamento e é
+     * refeita em conflito de versão.
      */
     public PagamentoResponse checarPagamento(UUID id) {
         log.info("Checando pagamento no Mercado Pago: {}", id);
@@ -114,6 +122,20 @@ public class PagamentoApplicationService {
         log.info("Resultado checagem MP para {}: status={}, paymentId={}",
                 id, mpResult.status(), mpResult.paymentId());
 
+        // Relê antes de gravar: o pagamento pode ter mudado durante a chamada ao MP
+        return RetryOnConflict.executar("Checar pagamento " + id, () -> aplicarStatusMercadoPago(id, mpResult));
+    }
+
+    private PagamentoResponse aplicarStatusMercadoPago(UUID id, MercadoPagoPaymentResult mpResult) {
+        Pagamento pagamento = pagamentoRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Pagamento não encontrado: " + id));
+        StatusPagamento statusAnterior = pagamento.getStatus();
+
+        if (pagamento.getStatus().isFinal()) {
+            log.info("Pagamento {} já está em estado final: {}", id, pagamento.getStatus());
+            return mapper.toResponse(pagamento);
+        }
+
         // Atualizar status baseado no retorno do MP
         String mpStatus = mpResult.status();
 
@@ -124,7 +146,7 @@ public class PagamentoApplicationService {
                         pagamento.processar(mpResult.paymentId());
                     }
                     pagamento.confirmar();
-                    pagamentoRepository.save(pagamento);
+                    pagamentoRepository.updateStatus(pagamento, statusAnterior);
                     eventPublisher.publicarPagamentoConfirmado(pagamento);
                     log.info("✅ Pagamento {} confirmado! MP Payment ID: {}", id, mpResult.paymentId());
                 }
@@ -132,7 +154,7 @@ public class PagamentoApplicationService {
             case "pending", "in_process" -> {
                 if (pagamento.getStatus() == StatusPagamento.PENDENTE && mpResult.paymentId() != null) {
                     pagamento.processar(mpResult.paymentId());
-                    pagamentoRepository.save(pagamento);
+                    pagamentoRepository.updateStatus(pagamento, statusAnterior);
                     log.info("⏳ Pagamento {} está processando no MP. Payment ID: {}",
                             id, mpResult.paymentId());
                 }
@@ -140,7 +162,7 @@ public class PagamentoApplicationService {
             case "rejected", "cancelled" -> {
                 if (pagamento.getStatus() != StatusPagamento.CANCELADO) {
                     pagamento.cancelar();
-                    pagamentoRepository.save(pagamento);
+                    pagamentoRepository.updateStatus(pagamento, statusAnterior);
                     log.info("❌ Pagamento {} cancelado/rejeitado pelo MP (status: {})",
                             id, mpStatus);
                 }
@@ -148,8 +170,8 @@ public class PagamentoApplicationService {
             case "refunded" -> {
                 if (pagamento.getStatus() != StatusPagamento.ESTORNADO) {
                     pagamento.estornar("Estorno via Mercado Pago");
-                    pagamentoRepository.save(pagamento);
-                    eventPublisher.publicarPagamentoEstornado(pagamento);
+                    pagamentoRepository.updateStatus(pagamento, statusAnterior,
+                            PagamentoFalhouEvent.estorno(pagamento));
                     log.info("↩️ Pagamento {} estornado via MP", id);
                 }
             }
@@ -166,6 +188,8 @@ public class PagamentoApplicationService {
      * Use Case: Processar Webhook do Mercado Pago
      *
      * Chamado quando o MP envia notificação de atualização de pagamento.
+     * Em conflito de versão só a atualização local é refeita (o MP não é
+     * consultado de novo).
      */
     public void processarWebhook(Long mercadoPagoPaymentId) {
         log.info("Processando webhook do Mercado Pago para payment_id: {}", mercadoPagoPaymentId);
@@ -173,10 +197,16 @@ public class PagamentoApplicationService {
         // 1. Consultar status no MP
         MercadoPagoPaymentResult mpResult = mercadoPagoPort.consultarPagamento(mercadoPagoPaymentId);
 
+        RetryOnConflict.executar("Webhook MP " + mercadoPagoPaymentId,
+                () -> aplicarWebhook(mercadoPagoPaymentId, mpResult));
+    }
+
+    private void aplicarWebhook(Long mercadoPagoPaymentId, MercadoPagoPaymentResult mpResult) {
         // 2. Buscar pagamento local pelo MP ID
         Pagamento pagamento = pagamentoRepository.findByMercadoPagoPaymentId(mercadoPagoPaymentId)
                 .orElseThrow(() -> new RuntimeException(
                         "Pagamento não encontrado para MP ID: " + mercadoPagoPaymentId));
+        StatusPagamento statusAnterior = pagamento.getStatus();
 
         // 3. Atualizar status baseado no retorno do MP
         String mpStatus = mpResult.status();
@@ -186,7 +216,7 @@ public class PagamentoApplicationService {
             case "approved" -> {
                 if (pagamento.getStatus() != StatusPagamento.CONFIRMADO) {
                     pagamento.confirmar();
-                    pagamentoRepository.save(pagamento);
+                    pagamentoRepository.updateStatus(pagamento, statusAnterior);
                     eventPublisher.publicarPagamentoConfirmado(pagamento);
                     log.info("Pagamento {} confirmado via webhook", pagamento.getId());
                 }
@@ -194,7 +224,7 @@ public class PagamentoApplicationService {
             case "rejected", "cancelled" -> {
                 if (pagamento.getStatus() != StatusPagamento.CANCELADO) {
                     pagamento.cancelar();
-                    pagamentoRepository.save(pagamento);
+                    pagamentoRepository.updateStatus(pagamento, statusAnterior);
                     log.info("Pagamento {} cancelado via webhook (MP status: {})",
                             pagamento.getId(), mpStatus);
                 }
@@ -202,8 +232,8 @@ public class PagamentoApplicationService {
             case "refunded" -> {
                 if (pagamento.getStatus() != StatusPagamento.ESTORNADO) {
                     pagamento.estornar("Estorno via Mercado Pago");
-                    pagamentoRepository.save(pagamento);
-                    eventPublisher.publicarPagamentoEstornado(pagamento);
+                    pagamentoRepository.updateStatus(pagamento, statusAnterior,
+                            PagamentoFalhouEvent.estorno(pagamento));
                     log.info("Pagamento {} estornado via webhook", pagamento.getId());
                 }
             }
@@ -212,13 +242,29 @@ public class PagamentoApplicationService {
     }
 
     /**
-     * Use Case: Listar todos os pagamentos
+     * Use Case: Buscar vários pagamentos por ID (uma leitura em lote a cada 100 IDs)
      */
-    public java.util.List<PagamentoResponse> listarTodos() {
-        log.info("Listando todos os pagamentos");
-        return pagamentoRepository.findAll().stream()
+    public List<PagamentoResponse> obterPorIds(Collection<UUID> ids) {
+        log.info("Buscando {} pagamentos por ID", ids.size());
+        return pagamentoRepository.findAllById(ids).stream()
                 .map(mapper::toResponse)
-                .collect(java.util.stream.Collectors.toList());
+                .toList();
+    }
+
+    /**
+     * Use Case: Listar pagamentos paginados (cursor)
+     */
+    public PageResult<PagamentoResponse> listar(int limit, String cursor) {
+        log.info("Listando pagamentos. limit: {}", limit);
+        return pagamentoRepository.findAll(limit, cursor).map(mapper::toResponse);
+    }
+
+    /**
+     * Use Case: Exportar todos os pagamentos (stream lazy, página a página)
+     */
+    public Stream<PagamentoResponse> exportarTodos() {
+        log.info("Exportando todos os pagamentos (stream)");
+        return pagamentoRepository.streamAll().map(mapper::toResponse);
     }
 
     /**
@@ -227,20 +273,23 @@ public class PagamentoApplicationService {
     public PagamentoResponse confirmar(UUID id) {
         log.info("Confirmando pagamento: {}", id);
 
-        Pagamento pagamento = pagamentoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Pagamento não encontrado: " + id));
+        return RetryOnConflict.executar("Confirmar pagamento " + id, () -> {
+            Pagamento pagamento = pagamentoRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Pagamento não encontrado: " + id));
 
-        // Lógica de domínio
-        pagamento.confirmar();
+            // Lógica de domínio
+            StatusPagamento statusAnterior = pagamento.getStatus();
+            pagamento.confirmar();
 
-        // Persistir
-        Pagamento updated = pagamentoRepository.save(pagamento);
+            // Persistir só a transição (condicional no status e na versão lidos)
+            Pagamento updated = pagamentoRepository.updateStatus(pagamento, statusAnterior);
 
-        // Publicar evento
-        eventPublisher.publicarPagamentoConfirmado(updated);
+            // Publicar evento
+            eventPublisher.publicarPagamentoConfirmado(updated);
 
-        log.info("Pagamento {} confirmado", id);
-        return mapper.toResponse(updated);
+            log.info("Pagamento {} confirmado", id);
+            return mapper.toResponse(updated);
+        });
     }
 
     /**
@@ -249,15 +298,18 @@ public class PagamentoApplicationService {
     public PagamentoResponse estornar(UUID id, String motivo) {
         log.info("Estornando pagamento: {}, motivo: {}", id, motivo);
 
-        Pagamento pagamento = pagamentoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Pagamento não encontrado: " + id));
+        return RetryOnConflict.executar("Estornar pagamento " + id, () -> {
+            Pagamento pagamento = pagamentoRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Pagamento não encontrado: " + id));
 
-        pagamento.estornar(motivo);
-        Pagamento updated = pagamentoRepository.save(pagamento);
+            StatusPagamento statusAnterior = pagamento.getStatus();
+            pagamento.estornar(motivo);
+            // Evento de compensação vai para o outbox na mesma transação
+            Pagamento updated = pagamentoRepository.updateStatus(pagamento, statusAnterior,
+                    PagamentoFalhouEvent.estorno(pagamento));
 
-        eventPublisher.publicarPagamentoEstornado(updated);
-
-        return mapper.toResponse(updated);
+            return mapper.toResponse(updated);
+        });
     }
 
     /**
@@ -266,11 +318,14 @@ public class PagamentoApplicationService {
     public void cancelar(UUID id) {
         log.info("Cancelando pagamento: {}", id);
 
-        Pagamento pagamento = pagamentoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Pagamento não encontrado: " + id));
+        RetryOnConflict.executar("Cancelar pagamento " + id, () -> {
+            Pagamento pagamento = pagamentoRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Pagamento não encontrado: " + id));
 
-        pagamento.cancelar();
-        pagamentoRepository.save(pagamento);
+            StatusPagamento statusAnterior = pagamento.getStatus();
+            pagamento.cancelar();
+            pagamentoRepository.updateStatus(pagamento, statusAnterior);
+        });
 
         log.info("Pagamento {} cancelado", id);
     }
@@ -0,0 +1,79 @@
+package br.com.grupo99.billingservice.application.service;
+
+import br.com.grupo99.billingservice.application.dto.ResumoCobrancaResponse;
+import br.com.grupo99.billingservice.application.mapper.OrcamentoMapper;
+import br.com.grupo99.billingservice.application.mapper.PagamentoMapper;
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.model.Pagamento;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoAsyncRepository;
+import br.com.grupo99.billingservice.domain.repository.PagamentoAsyncRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service para consultas que cruzam Orcamento e Pagamento
+ * 
+ * ✅ CLEAN ARCHITECTURE: Orquestração de use cases na camada application
+ * ✅ Leituras independentes são disparadas juntas (repositórios assíncronos)
+ */
+@Slf4j
+@Service
+public class ResumoCobrancaApplicationService {
+
+    private final OrcamentoAsyncRepository orcamentoRepository;
+    private final PagamentoAsyncRepository pagamentoRepository;
+    private final OrcamentoMapper orcamentoMapper;
+    private final PagamentoMapper pagamentoMapper;
+
+    public ResumoCobrancaApplicationService(
+            OrcamentoAsyncRepository orcamentoRepository,
+            PagamentoAsyncRepository pagamentoRepository,
+            OrcamentoMapper orcamentoMapper,
+            PagamentoMapper pagamentoMapper) {
+        this.orcamentoRepository = orcamentoRepository;
+        this.pagamentoRepository = pagamentoRepository;
+        this.orcamentoMapper = orcamentoMapper;
+        this.pagamentoMapper = pagamentoMapper;
+    }
+
+    /**
+     * Use Case: Resumo de cobrança da OS
+     *
+     * Busca o orçamento e os pagamentos da OS em paralelo; a latência é a da
+     * leitura mais lenta, não a soma das duas.
+     *
+     * @return resumo, ou vazio se a OS não tiver orçamento
+     */
+    public Optional<ResumoCobrancaResponse> obterPorOs(UUID osId) {
+        log.debug("Obtendo resumo de cobrança da OS: {}", osId);
+
+        CompletableFuture<Optional<Orcamento>> orcamento = orcamentoRepository.findByOsId(osId);
+        CompletableFuture<List<Pagamento>> pagamentos = pagamentoRepository.findByOsId(osId);
+
+        return join(orcamento.thenCombine(pagamentos, (o, p) -> o.map(found -> ResumoCobrancaResponse.builder()
+                .osId(osId)
+                .orcamento(orcamentoMapper.toResponse(found))
+                .pagamentos(p.stream()
+                        .map(pagamentoMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .build())));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
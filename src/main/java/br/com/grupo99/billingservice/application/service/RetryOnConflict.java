@@ -0,0 +1,49 @@
+package br.com.grupo99.billingservice.application.service;
+
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Reexecuta um read-modify-write quando o save falha por conflito de versão
+ * (optimistic locking).
+ *
+ * A operação deve começar pela leitura do agregado: cada tentativa relê o
+ * estado gravado pelo outro escritor e reaplica a regra de domínio sobre ele.
+ */
+final class RetryOnConflict {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryOnConflict.class);
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private RetryOnConflict() {
+    }
+
+    /**
+     * @throws ConflitoDeVersaoException se o conflito persistir após
+     *                                   {@value #MAX_ATTEMPTS} tentativas
+     */
+    static <T> T executar(String operacao, Supplier<T> readModifyWrite) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return readModifyWrite.get();
+            } catch (ConflitoDeVersaoException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("{}: conflito de versão após {} tentativas", operacao, MAX_ATTEMPTS);
+                    throw e;
+                }
+                log.warn("{}: conflito de versão (tentativa {}), relendo", operacao, attempt);
+            }
+        }
+    }
+
+    static void executar(String operacao, Runnable readModifyWrite) {
+        executar(operacao, () -> {
+            readModifyWrite.run();
+            return null;
+        });
+    }
+}
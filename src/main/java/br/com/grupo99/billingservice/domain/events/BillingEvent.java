@@ -0,0 +1,14 @@
+package br.com.grupo99.billingservice.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo Billing Service no tópico billing-events.
+ *
+ * A chave da mensagem é o osId: eventos da mesma OS ficam na mesma partição
+ * e são consumidos na ordem em que foram gravados.
+ */
+public interface BillingEvent {
+
+    UUID getOsId();
+}
@@ -0,0 +1,20 @@
+package br.com.grupo99.billingservice.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecucaoFalhouEvent {
+    private UUID osId;
+    private UUID execucaoId;
+    private String motivo;
+    private Boolean requerRetrabalho;
+    private LocalDateTime timestamp;
+    private String eventType = "EXECUCAO_FALHOU";
+}
@@ -0,0 +1,18 @@
+package br.com.grupo99.billingservice.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OSCanceladaEvent {
+    private UUID osId;
+    private String motivo;
+    private LocalDateTime timestamp;
+    private String eventType = "OS_CANCELADA";
+}
@@ -1,5 +1,6 @@
 package br.com.grupo99.billingservice.domain.events;
 
+import br.com.grupo99.billingservice.domain.model.Orcamento;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +14,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrcamentoAprovadoEvent {
+public class OrcamentoAprovadoEvent implements BillingEvent {
     private UUID orcamentoId;
     private UUID osId;
     private BigDecimal valorTotal;
@@ -21,4 +22,17 @@ public class OrcamentoAprovadoEvent {
     private LocalDateTime timestamp;
     @Builder.Default
     private String eventType = "ORCAMENTO_APROVADO";
+
+    /**
+     * Evento da aprovação de um orçamento.
+     */
+    public static OrcamentoAprovadoEvent de(Orcamento orcamento) {
+        return OrcamentoAprovadoEvent.builder()
+                .orcamentoId(orcamento.getId())
+                .osId(orcamento.getOsId())
+                .valorTotal(orcamento.getValorTotal())
+                .timestamp(LocalDateTime.now())
+                .eventType("ORCAMENTO_APROVADO")
+                .build();
+    }
 }
@@ -13,7 +13,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrcamentoProntoEvent {
+public class OrcamentoProntoEvent implements BillingEvent {
     private UUID orcamentoId;
     private UUID osId;
     private BigDecimal valorTotal;
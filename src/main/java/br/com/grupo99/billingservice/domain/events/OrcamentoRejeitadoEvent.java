@@ -1,5 +1,6 @@
 package br.com.grupo99.billingservice.domain.events;
 
+import br.com.grupo99.billingservice.domain.model.Orcamento;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,7 +16,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrcamentoRejeitadoEvent {
+public class OrcamentoRejeitadoEvent implements BillingEvent {
     private UUID orcamentoId;
     private UUID osId;
     private String motivo;
@@ -23,4 +24,17 @@ public class OrcamentoRejeitadoEvent {
     private LocalDateTime timestamp;
     @Builder.Default
     private String eventType = "ORCAMENTO_REJEITADO";
+
+    /**
+     * Evento da rejeição de um orçamento.
+     */
+    public static OrcamentoRejeitadoEvent de(Orcamento orcamento) {
+        return OrcamentoRejeitadoEvent.builder()
+                .orcamentoId(orcamento.getId())
+                .osId(orcamento.getOsId())
+                .motivo(orcamento.getMotivoRejeicao())
+                .timestamp(LocalDateTime.now())
+                .eventType("ORCAMENTO_REJEITADO")
+                .build();
+    }
 }
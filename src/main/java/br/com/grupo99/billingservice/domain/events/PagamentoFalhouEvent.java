@@ -1,5 +1,6 @@
 package br.com.grupo99.billingservice.domain.events;
 
+import br.com.grupo99.billingservice.domain.model.Pagamento;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class PagamentoFalhouEvent {
+public class PagamentoFalhouEvent implements BillingEvent {
     private UUID pagamentoId;
     private UUID orcamentoId;
     private UUID osId;
@@ -27,4 +28,19 @@ public class PagamentoFalhouEvent {
     private LocalDateTime timestamp;
     @Builder.Default
     private String eventType = "PAGAMENTO_FALHOU";
+
+    /**
+     * Evento de compensação do estorno de um pagamento.
+     */
+    public static PagamentoFalhouEvent estorno(Pagamento pagamento) {
+        return PagamentoFalhouEvent.builder()
+                .pagamentoId(pagamento.getId())
+                .osId(pagamento.getOsId())
+                .orcamentoId(pagamento.getOrcamentoId())
+                .codigoErro("ESTORNO")
+                .mensagemErro("Pagamento estornado")
+                .timestamp(LocalDateTime.now())
+                .eventType("PAGAMENTO_ESTORNADO")
+                .build();
+    }
 }
@@ -1,9 +1,13 @@
 package br.com.grupo99.billingservice.domain.model;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -45,13 +49,31 @@ public class Orcamento {
 
     private String motivoRejeicao;
 
+    /**
+     * Entradas do histórico ainda não persistidas. O histórico gravado não é
+     * carregado com o agregado: é lido sob demanda via
+     * {@code OrcamentoRepository.findHistorico}.
+     */
     @Builder.Default
     private List<HistoricoStatus> historico = new ArrayList<>();
 
+    private Integer historicoCount; // Total de entradas (persistidas + novas); null = apenas as da lista
+
     private Instant createdAt;
 
     private Instant updatedAt;
 
+    private Long version; // Versão lida do repositório (optimistic locking)
+
+    /**
+     * Soma dos itens em centavos, atualizada por adicionarItem/removerItem sem
+     * percorrer a lista. Não faz parte do estado (fora do builder e do equals).
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final SomaItens somaItens = new SomaItens();
+
     /**
      * Factory method para criar novo orçamento.
      *
@@ -104,14 +126,29 @@ public class Orcamento {
     }
 
     /**
-     * Adiciona um item ao orçamento
+     * Adiciona um item ao orçamento. O total é atualizado em O(1).
      */
     public void adicionarItem(ItemOrcamento item) {
         if (item == null) {
             throw new IllegalArgumentException("Item não pode ser nulo");
         }
         this.itens.add(item);
-        calcularValorTotal();
+        somaItens.adicionado(this.itens, item);
+        this.valorTotal = null; // convertido da soma na próxima leitura
+    }
+
+    /**
+     * Remove um item do orçamento. O total é atualizado em O(1).
+     *
+     * @return true se o item estava no orçamento
+     */
+    public boolean removerItem(ItemOrcamento item) {
+        if (!this.itens.remove(item)) {
+            return false;
+        }
+        somaItens.removido(this.itens, item);
+        this.valorTotal = null;
+        return true;
     }
 
     /**
@@ -122,12 +159,23 @@ public class Orcamento {
     }
 
     /**
-     * Calcula o valor total somando todos os itens.
+     * Calcula o valor total somando todos os itens (necessário só depois de
+     * alterar itens ou a lista diretamente).
      */
     public void calcularValorTotal() {
-        this.valorTotal = itens.stream()
-                .map(ItemOrcamento::calcularValorTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        somaItens.recalcular(itens);
+        this.valorTotal = somaItens.valor();
+    }
+
+    /**
+     * Valor total. Depois de adicionarItem/removerItem é montado a partir da
+     * soma em centavos na primeira leitura.
+     */
+    public BigDecimal getValorTotal() {
+        if (this.valorTotal == null && somaItens.calculada()) {
+            this.valorTotal = somaItens.valor();
+        }
+        return this.valorTotal;
     }
 
     /**
@@ -226,7 +274,22 @@ public class Orcamento {
      */
     private void adicionarHistorico(StatusOrcamento statusAnterior, StatusOrcamento novoStatus,
             String usuario, String observacao) {
+        int total = getHistoricoCount();
         this.historico.add(HistoricoStatus.criar(statusAnterior, novoStatus, usuario, observacao));
+        this.historicoCount = total + 1;
+    }
+
+    /**
+     * Total de entradas do histórico, incluindo as já persistidas que não
+     * foram carregadas.
+     *
+     * @return quantidade de entradas
+     */
+    public int getHistoricoCount() {
+        if (this.historicoCount != null) {
+            return this.historicoCount;
+        }
+        return this.historico != null ? this.historico.size() : 0;
     }
 
     /**
@@ -51,6 +51,8 @@ public class Pagamento {
 
     private Instant updatedAt;
 
+    private Long version; // Versão lida do repositório (optimistic locking)
+
     /**
      * Factory method para criar novo pagamento.
      *
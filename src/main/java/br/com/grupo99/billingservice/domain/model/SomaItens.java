@@ -0,0 +1,160 @@
+package br.com.grupo99.billingservice.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Soma dos valores dos itens de um Orcamento, mantida incrementalmente.
+ *
+ * Valores com até 2 casas decimais são somados como long (centavos); os
+ * demais (mais casas ou fora da faixa do long) ficam em uma parcela
+ * BigDecimal. O BigDecimal do total só é montado em {@link #valor()}, com o
+ * mesmo valor e escala da soma item a item de {@link ItemOrcamento#calcularValorTotal()}.
+ *
+ * A soma acompanha uma lista: se ela foi trocada ou mudou de tamanho por fora,
+ * a próxima operação recalcula tudo. Itens alterados depois de somados só
+ * entram via {@link #recalcular(List)}.
+ */
+final class SomaItens {
+
+    private static final int ESCALA_CENTAVOS = 2;
+    private static final long FORA_DOS_CENTAVOS = Long.MIN_VALUE;
+    /** Dígitos que sempre cabem em um long. */
+    private static final int PRECISAO_MAXIMA = 18;
+
+    private List<ItemOrcamento> lista;
+    private int tamanho;
+    private long centavos;
+    /** Itens somados em centavos por escala do valor unitário (0, 1 ou 2 casas). */
+    private final int[] itensPorEscala = new int[ESCALA_CENTAVOS + 1];
+    /** Soma dos itens fora do formato em centavos (null = nenhum). */
+    private BigDecimal resto;
+
+    /**
+     * Soma todos os itens da lista, descartando o estado anterior.
+     */
+    void recalcular(List<ItemOrcamento> itens) {
+        lista = itens;
+        centavos = 0;
+        Arrays.fill(itensPorEscala, 0);
+        resto = null;
+        itens.forEach(this::somar);
+        tamanho = itens.size();
+    }
+
+    /**
+     * Atualiza a soma depois de o item ser adicionado à lista.
+     */
+    void adicionado(List<ItemOrcamento> itens, ItemOrcamento item) {
+        if (lista != itens || tamanho != itens.size() - 1) {
+            recalcular(itens);
+            return;
+        }
+        somar(item);
+        tamanho++;
+    }
+
+    /**
+     * Atualiza a soma depois de o item ser removido da lista.
+     */
+    void removido(List<ItemOrcamento> itens, ItemOrcamento item) {
+        if (lista != itens || tamanho != itens.size() + 1 || !subtrair(item)) {
+            recalcular(itens);
+            return;
+        }
+        tamanho--;
+    }
+
+    /**
+     * Indica se já houve alguma soma.
+     */
+    boolean calculada() {
+        return lista != null;
+    }
+
+    /**
+     * Total como BigDecimal, na maior escala entre os itens (mínimo 0).
+     */
+    BigDecimal valor() {
+        BigDecimal total = BigDecimal.valueOf(centavos, ESCALA_CENTAVOS)
+                .setScale(escala(), RoundingMode.UNNECESSARY);
+        return resto != null ? total.add(resto) : total;
+    }
+
+    private void somar(ItemOrcamento item) {
+        if (semValor(item)) {
+            // Vale BigDecimal.ZERO (escala 0): não altera soma nem escala
+            return;
+        }
+        long valor = centavos(item);
+        if (valor == FORA_DOS_CENTAVOS) {
+            somarResto(item);
+            return;
+        }
+        try {
+            centavos = Math.addExact(centavos, valor);
+        } catch (ArithmeticException e) {
+            somarResto(item);
+            return;
+        }
+        itensPorEscala[escala(item)]++;
+    }
+
+    private boolean subtrair(ItemOrcamento item) {
+        if (semValor(item)) {
+            return true;
+        }
+        long valor = centavos(item);
+        if (resto != null || valor == FORA_DOS_CENTAVOS) {
+            return false;
+        }
+        centavos -= valor;
+        itensPorEscala[escala(item)]--;
+        return true;
+    }
+
+    private void somarResto(ItemOrcamento item) {
+        resto = resto != null ? resto.add(item.calcularValorTotal()) : item.calcularValorTotal();
+    }
+
+    private int escala() {
+        for (int escala = ESCALA_CENTAVOS; escala > 0; escala--) {
+            if (itensPorEscala[escala] > 0) {
+                return escala;
+            }
+        }
+        return 0;
+    }
+
+    private static int escala(ItemOrcamento item) {
+        return Math.max(item.getValorUnitario().scale(), 0);
+    }
+
+    private static boolean semValor(ItemOrcamento item) {
+        return item.getValorUnitario() == null || item.getQuantidade() == null;
+    }
+
+    /**
+     * Valor total do item (valorUnitario × quantidade) em centavos, ou
+     * {@link #FORA_DOS_CENTAVOS} se não for representável.
+     */
+    private static long centavos(ItemOrcamento item) {
+        BigDecimal unitario = item.getValorUnitario();
+        int quantidade = item.getQuantidade();
+        if (unitario.scale() > ESCALA_CENTAVOS) {
+            return FORA_DOS_CENTAVOS;
+        }
+        // Escala resultante é 0: longValueExact não aloca
+        BigDecimal unitarioEmCentavos = unitario.movePointRight(ESCALA_CENTAVOS);
+        if (unitarioEmCentavos.precision() > PRECISAO_MAXIMA) {
+            return FORA_DOS_CENTAVOS;
+        }
+        try {
+            return Math.multiplyExact(unitarioEmCentavos.longValueExact(), (long) quantidade);
+        } catch (ArithmeticException e) {
+            return FORA_DOS_CENTAVOS;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.grupo99.billingservice.domain.repository;
+
+/**
+ * Lançada pelo repositório quando o agregado foi alterado por outro escritor
+ * desde a leitura (optimistic locking). O chamador deve reler e tentar de novo.
+ * 
+ * ✅ CLEAN ARCHITECTURE: Exceção de domínio, sem dependência do DynamoDB
+ */
+public class ConflitoDeVersaoException extends RuntimeException {
+
+    public ConflitoDeVersaoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.grupo99.billingservice.domain.repository;
+
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Leituras assíncronas do agregado Orcamento.
+ * 
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio (sem Spring Data, sem
+ * anotações)
+ * Permite que os application services sobreponham leituras independentes
+ */
+public interface OrcamentoAsyncRepository {
+
+    /**
+     * Busca orçamento por ID.
+     *
+     * @param id ID do orçamento
+     * @return future com o orçamento, se encontrado
+     */
+    CompletableFuture<Optional<Orcamento>> findById(UUID id);
+
+    /**
+     * Busca orçamento por ID da OS.
+     *
+     * @param osId ID da ordem de serviço
+     * @return future com o orçamento, se encontrado
+     */
+    CompletableFuture<Optional<Orcamento>> findByOsId(UUID osId);
+}
@@ -0,0 +1,17 @@
+package br.com.grupo99.billingservice.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * Lançada na criação de orçamento para uma OS que já tem orçamento (um por
+ * OS). Não é erro de entrada: a API responde 409 e o consumidor Kafka trata
+ * como evento duplicado.
+ * 
+ * ✅ CLEAN ARCHITECTURE: Exceção de domínio, sem dependência do DynamoDB
+ */
+public class OrcamentoJaExisteException extends RuntimeException {
+
+    public OrcamentoJaExisteException(UUID osId) {
+        super("Orçamento já existe para OS: " + osId);
+    }
+}
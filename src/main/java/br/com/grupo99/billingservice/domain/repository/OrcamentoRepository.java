@@ -1,11 +1,15 @@
 package br.com.grupo99.billingservice.domain.repository;
 
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
 import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository para agregado Orcamento.
@@ -24,6 +28,44 @@ public interface OrcamentoRepository {
      */
     Orcamento save(Orcamento orcamento);
 
+    /**
+     * Salva vários orçamentos de uma vez.
+     *
+     * @param orcamentos orçamentos a serem salvos
+     * @return orçamentos salvos
+     */
+    List<Orcamento> saveAll(List<Orcamento> orcamentos);
+
+    /**
+     * Grava só a transição de status (status, datas, observação e as entradas
+     * novas do histórico), sem regravar itens e histórico anterior.
+     *
+     * @param orcamento      orçamento após a transição
+     * @param statusAnterior status lido antes da transição
+     * @return orçamento atualizado
+     * @throws ConflitoDeVersaoException se o orçamento mudou desde a leitura
+     */
+    Orcamento updateStatus(Orcamento orcamento, StatusOrcamento statusAnterior);
+
+    /**
+     * Como {@link #updateStatus(Orcamento, StatusOrcamento)}, registrando o
+     * evento da transição no outbox na mesma escrita: o evento é publicado em
+     * billing-events depois, de forma assíncrona, e só se a transição foi gravada.
+     *
+     * @param evento evento a publicar
+     * @throws ConflitoDeVersaoException se o orçamento mudou desde a leitura
+     */
+    Orcamento updateStatus(Orcamento orcamento, StatusOrcamento statusAnterior, BillingEvent evento);
+
+    /**
+     * Busca o histórico de status de um orçamento, em ordem cronológica.
+     * O histórico não vem com o agregado: só é lido quando pedido.
+     *
+     * @param orcamentoId ID do orçamento
+     * @return entradas do histórico (vazia se o orçamento não existe)
+     */
+    List<HistoricoStatus> findHistorico(UUID orcamentoId);
+
     /**
      * Busca orçamento por ID.
      *
@@ -32,6 +74,14 @@ public interface OrcamentoRepository {
      */
     Optional<Orcamento> findById(UUID id);
 
+    /**
+     * Busca vários orçamentos por ID.
+     *
+     * @param ids IDs procurados
+     * @return orçamentos encontrados (IDs inexistentes são ignorados, sem ordem definida)
+     */
+    List<Orcamento> findAllById(Collection<UUID> ids);
+
     /**
      * Busca orçamento por ID da OS.
      *
@@ -40,6 +90,14 @@ public interface OrcamentoRepository {
      */
     Optional<Orcamento> findByOsId(UUID osId);
 
+    /**
+     * Busca os orçamentos de várias OS.
+     *
+     * @param osIds IDs das ordens de serviço
+     * @return orçamentos encontrados (OS sem orçamento são ignoradas, sem ordem definida)
+     */
+    List<Orcamento> findAllByOsId(Collection<UUID> osIds);
+
     /**
      * Busca orçamentos por status.
      *
@@ -48,6 +106,16 @@ public interface OrcamentoRepository {
      */
     List<Orcamento> findByStatus(StatusOrcamento status);
 
+    /**
+     * Busca uma página de orçamentos por status, ordenada por data de criação.
+     *
+     * @param status   status do orçamento
+     * @param pageSize quantidade máxima de itens na página
+     * @param cursor   cursor retornado pela página anterior (null na primeira)
+     * @return página de orçamentos com o cursor da próxima página
+     */
+    PageResult<Orcamento> findByStatus(StatusOrcamento status, int pageSize, String cursor);
+
     /**
      * Verifica se existe orçamento para uma OS.
      *
@@ -63,10 +131,34 @@ public interface OrcamentoRepository {
      */
     List<Orcamento> findAll();
 
+    /**
+     * Busca uma página de orçamentos.
+     *
+     * @param pageSize quantidade máxima de itens na página
+     * @param cursor   cursor retornado pela página anterior (null na primeira)
+     * @return página de orçamentos com o cursor da próxima página
+     */
+    PageResult<Orcamento> findAll(int pageSize, String cursor);
+
+    /**
+     * Percorre todos os orçamentos sob demanda, sem carregá-los de uma vez em
+     * memória.
+     *
+     * @return stream lazy de orçamentos
+     */
+    Stream<Orcamento> streamAll();
+
     /**
      * Deleta um orçamento.
      *
      * @param id ID do orçamento a ser deletado
      */
     void deleteById(UUID id);
+
+    /**
+     * Deleta vários orçamentos de uma vez.
+     *
+     * @param ids IDs dos orçamentos a serem deletados
+     */
+    void deleteAllById(Collection<UUID> ids);
 }
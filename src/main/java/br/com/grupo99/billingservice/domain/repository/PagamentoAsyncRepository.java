@@ -0,0 +1,34 @@
+package br.com.grupo99.billingservice.domain.repository;
+
+import br.com.grupo99.billingservice.domain.model.Pagamento;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Leituras assíncronas do agregado Pagamento.
+ * 
+ * ✅ CLEAN ARCHITECTURE: Interface pura de domínio (sem Spring Data, sem
+ * anotações)
+ * Permite que os application services sobreponham leituras independentes
+ */
+public interface PagamentoAsyncRepository {
+
+    /**
+     * Busca pagamento por ID.
+     *
+     * @param id ID do pagamento
+     * @return future com o pagamento, se encontrado
+     */
+    CompletableFuture<Optional<Pagamento>> findById(UUID id);
+
+    /**
+     * Busca pagamentos por ID da OS.
+     *
+     * @param osId ID da ordem de serviço
+     * @return future com a lista de pagamentos
+     */
+    CompletableFuture<List<Pagamento>> findByOsId(UUID osId);
+}
@@ -1,11 +1,14 @@
 package br.com.grupo99.billingservice.domain.repository;
 
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
 import br.com.grupo99.billingservice.domain.model.Pagamento;
 import br.com.grupo99.billingservice.domain.model.StatusPagamento;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository para agregado Pagamento.
@@ -24,6 +27,35 @@ public interface PagamentoRepository {
      */
     Pagamento save(Pagamento pagamento);
 
+    /**
+     * Salva vários pagamentos de uma vez.
+     *
+     * @param pagamentos pagamentos a serem salvos
+     * @return pagamentos salvos
+     */
+    List<Pagamento> saveAll(List<Pagamento> pagamentos);
+
+    /**
+     * Grava só a transição de status (status, payment_id do Mercado Pago,
+     * datas e motivo de estorno).
+     *
+     * @param pagamento      pagamento após a transição
+     * @param statusAnterior status lido antes da transição
+     * @return pagamento atualizado
+     * @throws ConflitoDeVersaoException se o pagamento mudou desde a leitura
+     */
+    Pagamento updateStatus(Pagamento pagamento, StatusPagamento statusAnterior);
+
+    /**
+     * Como {@link #updateStatus(Pagamento, StatusPagamento)}, registrando o
+     * evento da transição no outbox na mesma escrita: o evento é publicado em
+     * billing-events depois, de forma assíncrona, e só se a transição foi gravada.
+     *
+     * @param evento evento a publicar
+     * @throws ConflitoDeVersaoException se o pagamento mudou desde a leitura
+     */
+    Pagamento updateStatus(Pagamento pagamento, StatusPagamento statusAnterior, BillingEvent evento);
+
     /**
      * Busca pagamento por ID.
      *
@@ -32,6 +64,14 @@ public interface PagamentoRepository {
      */
     Optional<Pagamento> findById(UUID id);
 
+    /**
+     * Busca vários pagamentos por ID.
+     *
+     * @param ids IDs procurados
+     * @return pagamentos encontrados (IDs inexistentes são ignorados, sem ordem definida)
+     */
+    List<Pagamento> findAllById(Collection<UUID> ids);
+
     /**
      * Busca pagamento por ID do orçamento.
      *
@@ -56,6 +96,16 @@ public interface PagamentoRepository {
      */
     List<Pagamento> findByStatus(StatusPagamento status);
 
+    /**
+     * Busca uma página de pagamentos por status, ordenada por data de criação.
+     *
+     * @param status   status do pagamento
+     * @param pageSize quantidade máxima de itens na página
+     * @param cursor   cursor retornado pela página anterior (null na primeira)
+     * @return página de pagamentos com o cursor da próxima página
+     */
+    PageResult<Pagamento> findByStatus(StatusPagamento status, int pageSize, String cursor);
+
     /**
      * Verifica se existe pagamento confirmado para um orçamento.
      *
@@ -80,10 +130,34 @@ public interface PagamentoRepository {
      */
     List<Pagamento> findAll();
 
+    /**
+     * Busca uma página de pagamentos.
+     *
+     * @param pageSize quantidade máxima de itens na página
+     * @param cursor   cursor retornado pela página anterior (null na primeira)
+     * @return página de pagamentos com o cursor da próxima página
+     */
+    PageResult<Pagamento> findAll(int pageSize, String cursor);
+
+    /**
+     * Percorre todos os pagamentos sob demanda, sem carregá-los de uma vez em
+     * memória.
+     *
+     * @return stream lazy de pagamentos
+     */
+    Stream<Pagamento> streamAll();
+
     /**
      * Deleta um pagamento.
      *
      * @param id ID do pagamento a ser deletado
      */
     void deleteById(UUID id);
+
+    /**
+     * Deleta vários pagamentos de uma vez.
+     *
+     * @param ids IDs dos pagamentos a serem deletados
+     */
+    void deleteAllById(Collection<UUID> ids);
 }
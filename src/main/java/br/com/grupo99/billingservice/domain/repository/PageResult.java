@@ -0,0 +1,39 @@
+package br.com.grupo99.billingservice.domain.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados de uma consulta paginada por cursor.
+ *
+ * ✅ CLEAN ARCHITECTURE: O cursor é opaco para o domínio — apenas a
+ * infrastructure sabe interpretá-lo.
+ *
+ * @param items      itens da página
+ * @param nextCursor cursor para a próxima página (null quando não há mais itens)
+ */
+public record PageResult<T>(List<T> items, String nextCursor) {
+
+    public PageResult {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+
+    /**
+     * Verifica se existe próxima página.
+     *
+     * @return true se há cursor para continuar a leitura
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Converte os itens da página mantendo o cursor.
+     *
+     * @param mapper função de conversão
+     * @return nova página com os itens convertidos
+     */
+    public <R> PageResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new PageResult<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
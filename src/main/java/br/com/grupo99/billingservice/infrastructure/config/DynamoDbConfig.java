@@ -1,20 +1,38 @@
 package br.com.grupo99.billingservice.infrastructure.config;
 
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.HistoricoOrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ProcessedEventEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import jakarta.annotation.PostConstruct;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Configuração DynamoDB para o Billing Service.
@@ -37,10 +55,84 @@ public class DynamoDbConfig {
     @Value("${aws.dynamodb.table-prefix:}")
     private String tablePrefix;
 
+    /**
+     * Client síncrono sobre Apache HttpClient com pool configurável
+     * (aws.dynamodb.http.*). Latência por operação e estado do pool vão para o
+     * Micrometer via {@link DynamoDbMetricPublisher}.
+     */
+    @Bean
+    public DynamoDbClient dynamoDbClient(
+            MetricPublisher dynamoDbMetricPublisher,
+            @Value("${aws.dynamodb.http.max-connections:100}") int maxConnections,
+            @Value("${aws.dynamodb.http.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${aws.dynamodb.http.socket-timeout:10s}") Duration socketTimeout,
+            @Value("${aws.dynamodb.http.connection-acquisition-timeout:2s}") Duration acquisitionTimeout,
+            @Value("${aws.dynamodb.http.connection-time-to-live:5m}") Duration connectionTimeToLive,
+            @Value("${aws.dynamodb.http.connection-max-idle-time:60s}") Duration connectionMaxIdleTime,
+            @Value("${aws.dynamodb.http.use-idle-connection-reaper:true}") boolean useIdleConnectionReaper,
+            @Value("${aws.dynamodb.http.tcp-keep-alive:true}") boolean tcpKeepAlive) {
+        return configure(DynamoDbClient.builder(), dynamoDbMetricPublisher)
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionTimeout(connectionTimeout)
+                        .socketTimeout(socketTimeout)
+                        .connectionAcquisitionTimeout(acquisitionTimeout)
+                        .connectionTimeToLive(connectionTimeToLive)
+                        .connectionMaxIdleTime(connectionMaxIdleTime)
+                        .useIdleConnectionReaper(useIdleConnectionReaper)
+                        .tcpKeepAlive(tcpKeepAlive))
+                .build();
+    }
+
+    @Bean
+    public DynamoDbEnhancedClient dynamoDbEnhancedClient(DynamoDbClient dynamoDbClient) {
+        return DynamoDbEnhancedClient.builder()
+                .dynamoDbClient(dynamoDbClient)
+                .build();
+    }
+
+    /**
+     * Client assíncrono (Netty NIO), habilitado com aws.dynamodb.async.enabled=true.
+     * Sem ele, os repositórios assíncronos usam o client síncrono em virtual threads.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "true")
+    public DynamoDbAsyncClient dynamoDbAsyncClient(
+            MetricPublisher dynamoDbMetricPublisher,
+            @Value("${aws.dynamodb.async.max-concurrency:50}") int maxConcurrency,
+            @Value("${aws.dynamodb.http.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${aws.dynamodb.http.connection-acquisition-timeout:2s}") Duration acquisitionTimeout,
+            @Value("${aws.dynamodb.http.connection-time-to-live:5m}") Duration connectionTimeToLive,
+            @Value("${aws.dynamodb.http.connection-max-idle-time:60s}") Duration connectionMaxIdleTime,
+            @Value("${aws.dynamodb.http.use-idle-connection-reaper:true}") boolean useIdleConnectionReaper,
+            @Value("${aws.dynamodb.http.tcp-keep-alive:true}") boolean tcpKeepAlive) {
+        return configure(DynamoDbAsyncClient.builder(), dynamoDbMetricPublisher)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .connectionTimeout(connectionTimeout)
+                        .connectionAcquisitionTimeout(acquisitionTimeout)
+                        .connectionTimeToLive(connectionTimeToLive)
+                        .connectionMaxIdleTime(connectionMaxIdleTime)
+                        .useIdleConnectionReaper(useIdleConnectionReaper)
+                        .tcpKeepAlive(tcpKeepAlive))
+                .build();
+    }
+
     @Bean
-    public DynamoDbClient dynamoDbClient() {
-        var builder = DynamoDbClient.builder()
-                .region(Region.of(region));
+    @ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "true")
+    public DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbAsyncClient)
+                .build();
+    }
+
+    /**
+     * Região, endpoint (LocalStack), credenciais e métricas comuns aos clients
+     * síncrono e assíncrono.
+     */
+    private <B extends AwsClientBuilder<B, ?>> B configure(B builder, MetricPublisher metricPublisher) {
+        builder.region(Region.of(region))
+                .overrideConfiguration(config -> config.addMetricPublisher(metricPublisher));
 
         if (endpoint != null && !endpoint.isBlank()) {
             builder.endpointOverride(URI.create(endpoint))
@@ -50,14 +142,7 @@ public class DynamoDbConfig {
             builder.credentialsProvider(DefaultCredentialsProvider.create());
         }
 
-        return builder.build();
-    }
-
-    @Bean
-    public DynamoDbEnhancedClient dynamoDbEnhancedClient(DynamoDbClient dynamoDbClient) {
-        return DynamoDbEnhancedClient.builder()
-                .dynamoDbClient(dynamoDbClient)
-                .build();
+        return builder;
     }
 
     /**
@@ -79,8 +164,32 @@ public class DynamoDbConfig {
                         AwsBasicCredentials.create("test", "test")))
                 .build();
 
-        createTableIfNotExists(client, resolveTableName("orcamentos"), "id");
-        createTableIfNotExists(client, resolveTableName("pagamentos"), "id");
+        createTableIfNotExists(client, resolveTableName("orcamentos"), "id",
+                Map.of("osId", ScalarAttributeType.S,
+                        "status", ScalarAttributeType.S,
+                        "createdAt", ScalarAttributeType.S),
+                List.of(globalSecondaryIndex(OrcamentoEntity.OS_ID_INDEX, "osId", null),
+                        globalSecondaryIndex(OrcamentoEntity.STATUS_CREATED_AT_INDEX, "status", "createdAt")));
+        createTableIfNotExists(client, resolveTableName("orcamentos-historico"), HistoricoOrcamentoEntity.ORCAMENTO_ID,
+                HistoricoOrcamentoEntity.TIMESTAMP, Map.of(), List.of());
+        createTableIfNotExists(client, resolveTableName(OutboxEventEntity.TABLE), OutboxEventEntity.SHARD,
+                OutboxEventEntity.SEQUENCIA, Map.of(), List.of());
+        createTableIfNotExists(client, resolveTableName(ProcessedEventEntity.TABLE), ProcessedEventEntity.CHAVE,
+                Map.of(), List.of());
+        enableTimeToLive(client, resolveTableName(ProcessedEventEntity.TABLE), ProcessedEventEntity.EXPIRES_AT);
+        createTableIfNotExists(client, resolveTableName("pagamentos"), "id",
+                Map.of("mercadoPagoPaymentId", ScalarAttributeType.N,
+                        "orcamentoId", ScalarAttributeType.S,
+                        "osId", ScalarAttributeType.S,
+                        "status", ScalarAttributeType.S,
+                        "createdAt", ScalarAttributeType.S),
+                List.of(globalSecondaryIndex(PagamentoEntity.MERCADO_PAGO_PAYMENT_ID_INDEX,
+                        "mercadoPagoPaymentId", null),
+                        globalSecondaryIndex(PagamentoEntity.ORCAMENTO_ID_STATUS_INDEX,
+                                "orcamentoId", "status"),
+                        globalSecondaryIndex(PagamentoEntity.OS_ID_INDEX, "osId", null),
+                        globalSecondaryIndex(PagamentoEntity.STATUS_CREATED_AT_INDEX,
+                                "status", "createdAt")));
 
         log.info("✅ Tabelas DynamoDB verificadas/criadas com sucesso");
     }
@@ -92,25 +201,120 @@ public class DynamoDbConfig {
         return baseName;
     }
 
-    private void createTableIfNotExists(DynamoDbClient client, String tableName, String partitionKey) {
+    private void createTableIfNotExists(DynamoDbClient client, String tableName, String partitionKey,
+            Map<String, ScalarAttributeType> indexAttributes, List<GlobalSecondaryIndex> indexes) {
+        createTableIfNotExists(client, tableName, partitionKey, null, indexAttributes, indexes);
+    }
+
+    /**
+     * Cria a tabela com partition key (e sort key opcional) do tipo String.
+     */
+    private void createTableIfNotExists(DynamoDbClient client, String tableName, String partitionKey,
+            String sortKey, Map<String, ScalarAttributeType> indexAttributes, List<GlobalSecondaryIndex> indexes) {
+        List<AttributeDefinition> attributeDefinitions = new ArrayList<>();
+        attributeDefinitions.add(AttributeDefinition.builder()
+                .attributeName(partitionKey)
+                .attributeType(ScalarAttributeType.S)
+                .build());
+        if (sortKey != null) {
+            attributeDefinitions.add(AttributeDefinition.builder()
+                    .attributeName(sortKey)
+                    .attributeType(ScalarAttributeType.S)
+                    .build());
+        }
+        indexAttributes.forEach((name, type) -> attributeDefinitions.add(AttributeDefinition.builder()
+                .attributeName(name)
+                .attributeType(type)
+                .build()));
+
         try {
-            client.describeTable(DescribeTableRequest.builder().tableName(tableName).build());
+            TableDescription table = client.describeTable(DescribeTableRequest.builder().tableName(tableName).build())
+                    .table();
             log.info("Tabela '{}' já existe", tableName);
+            createMissingIndexes(client, table, attributeDefinitions, indexes);
         } catch (ResourceNotFoundException e) {
             log.info("Criando tabela '{}'...", tableName);
-            client.createTable(CreateTableRequest.builder()
+            List<KeySchemaElement> keySchema = new ArrayList<>();
+            keySchema.add(KeySchemaElement.builder().attributeName(partitionKey).keyType(KeyType.HASH).build());
+            if (sortKey != null) {
+                keySchema.add(KeySchemaElement.builder().attributeName(sortKey).keyType(KeyType.RANGE).build());
+            }
+            CreateTableRequest.Builder request = CreateTableRequest.builder()
                     .tableName(tableName)
-                    .keySchema(KeySchemaElement.builder()
-                            .attributeName(partitionKey)
-                            .keyType(KeyType.HASH)
-                            .build())
-                    .attributeDefinitions(AttributeDefinition.builder()
-                            .attributeName(partitionKey)
-                            .attributeType(ScalarAttributeType.S)
-                            .build())
-                    .billingMode(BillingMode.PAY_PER_REQUEST)
-                    .build());
+                    .keySchema(keySchema)
+                    .attributeDefinitions(attributeDefinitions)
+                    .billingMode(BillingMode.PAY_PER_REQUEST);
+            if (!indexes.isEmpty()) {
+                request.globalSecondaryIndexes(indexes);
+            }
+            client.createTable(request.build());
             log.info("✅ Tabela '{}' criada com sucesso", tableName);
         }
     }
+
+    /**
+     * Habilita o TTL da tabela no atributo informado, se ainda não estiver.
+     */
+    private void enableTimeToLive(DynamoDbClient client, String tableName, String attributeName) {
+        TimeToLiveStatus status = client.describeTimeToLive(DescribeTimeToLiveRequest.builder()
+                .tableName(tableName)
+                .build())
+                .timeToLiveDescription()
+                .timeToLiveStatus();
+        if (status == TimeToLiveStatus.ENABLED || status == TimeToLiveStatus.ENABLING) {
+            return;
+        }
+        log.info("Habilitando TTL '{}' na tabela '{}'...", attributeName, tableName);
+        client.updateTimeToLive(UpdateTimeToLiveRequest.builder()
+                .tableName(tableName)
+                .timeToLiveSpecification(TimeToLiveSpecification.builder()
+                        .attributeName(attributeName)
+                        .enabled(true)
+                        .build())
+                .build());
+    }
+
+    /**
+     * Adiciona GSIs ausentes em tabelas locais criadas por versões anteriores.
+     */
+    private void createMissingIndexes(DynamoDbClient client, TableDescription table,
+            List<AttributeDefinition> attributeDefinitions, List<GlobalSecondaryIndex> indexes) {
+        Set<String> existing = table.globalSecondaryIndexes().stream()
+                .map(GlobalSecondaryIndexDescription::indexName)
+                .collect(Collectors.toSet());
+
+        indexes.stream()
+                .filter(index -> !existing.contains(index.indexName()))
+                .forEach(index -> {
+                    log.info("Criando índice '{}' na tabela '{}'...", index.indexName(), table.tableName());
+                    client.updateTable(UpdateTableRequest.builder()
+                            .tableName(table.tableName())
+                            .attributeDefinitions(attributeDefinitions)
+                            .globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder()
+                                    .create(CreateGlobalSecondaryIndexAction.builder()
+                                            .indexName(index.indexName())
+                                            .keySchema(index.keySchema())
+                                            .projection(index.projection())
+                                            .build())
+                                    .build())
+                            .build());
+                });
+    }
+
+    /**
+     * GSI com projeção ALL (itens completos mapeáveis pelo TableSchema).
+     * O sortKey é opcional.
+     */
+    private static GlobalSecondaryIndex globalSecondaryIndex(String indexName, String partitionKey, String sortKey) {
+        List<KeySchemaElement> keySchema = new ArrayList<>();
+        keySchema.add(KeySchemaElement.builder().attributeName(partitionKey).keyType(KeyType.HASH).build());
+        if (sortKey != null) {
+            keySchema.add(KeySchemaElement.builder().attributeName(sortKey).keyType(KeyType.RANGE).build());
+        }
+        return GlobalSecondaryIndex.builder()
+                .indexName(indexName)
+                .keySchema(keySchema)
+                .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                .build();
+    }
 }
@@ -0,0 +1,126 @@
+package br.com.grupo99.billingservice.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Publica as métricas do AWS SDK (clients DynamoDB) no Micrometer/Prometheus.
+ *
+ * Métricas expostas:
+ * - aws.dynamodb.api.call.latency: Latência por operação (inclui retries)
+ * - aws.dynamodb.api.call.retries: Retries por operação
+ * - aws.dynamodb.http.acquire.latency: Espera por uma conexão do pool
+ * - aws.dynamodb.http.connections.{leased,pending,available,max}: Estado do
+ * pool na última chamada
+ */
+@Component
+public class DynamoDbMetricPublisher implements MetricPublisher {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, PoolGauges> poolGauges = new ConcurrentHashMap<>();
+
+    public DynamoDbMetricPublisher(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void publish(MetricCollection metrics) {
+        String operation = first(metrics, CoreMetric.OPERATION_NAME, "unknown");
+        String outcome = Boolean.TRUE.equals(first(metrics, CoreMetric.API_CALL_SUCCESSFUL, false))
+                ? "success"
+                : "failure";
+
+        values(metrics, CoreMetric.API_CALL_DURATION).forEach(duration -> Timer
+                .builder("aws.dynamodb.api.call.latency")
+                .description("Latência das chamadas ao DynamoDB (inclui retries)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(true)
+                .register(meterRegistry)
+                .record(duration));
+
+        values(metrics, CoreMetric.RETRY_COUNT).forEach(retries -> Counter
+                .builder("aws.dynamodb.api.call.retries")
+                .description("Retries das chamadas ao DynamoDB")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment(retries));
+
+        String httpClient = first(metrics, HttpMetric.HTTP_CLIENT_NAME, "unknown");
+        Timer acquire = Timer.builder("aws.dynamodb.http.acquire.latency")
+                .description("Espera por uma conexão do pool HTTP do DynamoDB")
+                .tag("http_client", httpClient)
+                .publishPercentileHistogram(true)
+                .register(meterRegistry);
+        values(metrics, HttpMetric.CONCURRENCY_ACQUIRE_DURATION).forEach(acquire::record);
+
+        PoolGauges gauges = poolGauges.computeIfAbsent(httpClient, this::registerPoolGauges);
+        lastValue(metrics, HttpMetric.LEASED_CONCURRENCY, gauges.leased);
+        lastValue(metrics, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, gauges.pending);
+        lastValue(metrics, HttpMetric.AVAILABLE_CONCURRENCY, gauges.available);
+        lastValue(metrics, HttpMetric.MAX_CONCURRENCY, gauges.max);
+    }
+
+    @Override
+    public void close() {
+        // Os meters pertencem ao MeterRegistry do Spring
+    }
+
+    private PoolGauges registerPoolGauges(String httpClient) {
+        PoolGauges gauges = new PoolGauges();
+        registerGauge("aws.dynamodb.http.connections.leased", "Conexões em uso", httpClient, gauges.leased);
+        registerGauge("aws.dynamodb.http.connections.pending", "Requisições esperando conexão", httpClient,
+                gauges.pending);
+        registerGauge("aws.dynamodb.http.connections.available", "Conexões livres no pool", httpClient,
+                gauges.available);
+        registerGauge("aws.dynamodb.http.connections.max", "Tamanho máximo do pool", httpClient, gauges.max);
+        return gauges;
+    }
+
+    private void registerGauge(String name, String description, String httpClient, AtomicInteger value) {
+        Gauge.builder(name, value, AtomicInteger::get)
+                .description(description)
+                .tag("http_client", httpClient)
+                .register(meterRegistry);
+    }
+
+    private static void lastValue(MetricCollection metrics, SdkMetric<Integer> metric, AtomicInteger target) {
+        List<Integer> observed = values(metrics, metric).toList();
+        if (!observed.isEmpty()) {
+            target.set(observed.get(observed.size() - 1));
+        }
+    }
+
+    private static <T> T first(MetricCollection metrics, SdkMetric<T> metric, T defaultValue) {
+        return values(metrics, metric).findFirst().orElse(defaultValue);
+    }
+
+    /**
+     * Valores da métrica na coleção e nos filhos (ApiCall → ApiCallAttempt → HttpClient).
+     */
+    private static <T> Stream<T> values(MetricCollection metrics, SdkMetric<T> metric) {
+        return Stream.concat(metrics.metricValues(metric).stream(),
+                metrics.children().stream().flatMap(child -> values(child, metric)));
+    }
+
+    private static final class PoolGauges {
+        private final AtomicInteger leased = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger available = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+    }
+}
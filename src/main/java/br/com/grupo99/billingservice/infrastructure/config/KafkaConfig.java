@@ -1,5 +1,7 @@
 package br.com.grupo99.billingservice.infrastructure.config;
 
+import br.com.grupo99.billingservice.infrastructure.messaging.serde.BillingEventDeserializer;
+import br.com.grupo99.billingservice.infrastructure.messaging.serde.BillingEventSerializer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -17,8 +19,8 @@ import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
@@ -30,11 +32,16 @@ import java.util.Map;
  * 
  * Padrão: Saga Coreografada
  * - Consome: os-events, execution-events
- * - Produz: billing-events
+ * - Produz: billing-events (direto ou pelo relay do outbox, agendado)
+ *
+ * Valores com schema (BillingEventSchemas): JSON ou binário no producer
+ * (app.kafka.serde.format); o consumer aceita os dois formatos. Falha de
+ * desserialização vai para o DLT com os bytes originais.
  */
 @Slf4j
 @Configuration
 @EnableKafka
+@EnableScheduling
 @SuppressWarnings("null")
 public class KafkaConfig {
 
@@ -54,6 +61,9 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String consumerGroupId;
 
+    @Value("${app.kafka.serde.format:json}")
+    private String serdeFormat;
+
     // ===================== PRODUCER CONFIGURATION =====================
 
     @Bean
@@ -61,7 +71,8 @@ public class KafkaConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, BillingEventSerializer.class);
+        configProps.put(BillingEventSerializer.FORMAT_CONFIG, serdeFormat);
 
         // Garantias de entrega
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
@@ -89,18 +100,15 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // Payload inválido não pode travar o poll: o registro chega ao listener
+        // com valor nulo e a exceção no header, e segue para o DLT
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, BillingEventDeserializer.class);
 
         // Offset reset strategy
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
-        // Trusted packages for JSON deserialization
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES,
-                "br.com.grupo99.billingservice.domain.events," +
-                        "br.com.grupo99.osservice.application.events," +
-                        "br.com.grupo99.*,java.util");
-
         // Performance
         configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 45000);
@@ -123,23 +131,49 @@ public class KafkaConfig {
     }
 
     /**
-     * Error Handler com Dead Letter Topic e Exponential Backoff
+     * Container de lotes: o listener recebe todos os registros de um poll
+     * (até MAX_POLL_RECORDS) e confirma uma vez por lote.
+     *
+     * Exceção lançada pelo listener reenvia o lote inteiro com o mesmo backoff
+     * e, esgotadas as tentativas, manda cada registro para o DLT; falhas de um
+     * registro só vão direto para o DLT pelo próprio listener.
      */
     @Bean
-    public CommonErrorHandler kafkaErrorHandler() {
-        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+
+        return factory;
+    }
+
+    /**
+     * Publica no DLT (tópico + ".DLT") o registro que falhou
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+        return new DeadLetterPublishingRecoverer(
                 kafkaTemplate(),
                 (record, ex) -> {
                     String dltTopic = record.topic() + ".DLT";
                     log.error("🔴 Enviando mensagem para DLT: {}. Erro: {}", dltTopic, ex.getMessage());
                     return new org.apache.kafka.common.TopicPartition(dltTopic, record.partition());
                 });
+    }
 
+    /**
+     * Error Handler com Dead Letter Topic e Exponential Backoff
+     */
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler() {
         ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
         backOff.setMaxElapsedTime(30000L);
         backOff.setMaxInterval(16000L);
 
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterPublishingRecoverer(), backOff);
         errorHandler.addNotRetryableExceptions(
                 org.apache.kafka.common.errors.SerializationException.class,
                 org.springframework.messaging.converter.MessageConversionException.class);
@@ -0,0 +1,43 @@
+package br.com.grupo99.billingservice.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Escrita de respostas NDJSON (um JSON por linha) a partir de um stream lazy.
+ *
+ * Cada item é serializado e escrito assim que chega; o heap não depende do
+ * tamanho total da resposta.
+ */
+final class NdjsonStreaming {
+
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int FLUSH_EVERY = 100;
+    private static final byte NEW_LINE = '\n';
+
+    private NdjsonStreaming() {
+    }
+
+    static <T> StreamingResponseBody body(ObjectMapper objectMapper, Stream<T> items) {
+        ObjectWriter writer = objectMapper.writer();
+        return outputStream -> {
+            try (items) {
+                Iterator<T> iterator = items.iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    outputStream.write(writer.writeValueAsBytes(iterator.next()));
+                    outputStream.write(NEW_LINE);
+                    if (++written % FLUSH_EVERY == 0) {
+                        outputStream.flush();
+                    }
+                }
+                outputStream.flush();
+            }
+        };
+    }
+}
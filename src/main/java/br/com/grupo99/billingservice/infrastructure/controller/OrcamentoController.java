@@ -1,13 +1,20 @@
 package br.com.grupo99.billingservice.infrastructure.controller;
 
 import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.dto.HistoricoStatusResponse;
 import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
 import br.com.grupo99.billingservice.application.service.OrcamentoApplicationService;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoJaExisteException;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -23,10 +30,16 @@ import java.util.UUID;
 @RequestMapping("/api/v1/orcamentos")
 public class OrcamentoController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+
     private final OrcamentoApplicationService service;
+    private final ObjectMapper objectMapper;
 
-    public OrcamentoController(OrcamentoApplicationService service) {
+    public OrcamentoController(OrcamentoApplicationService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -41,6 +54,12 @@ public class OrcamentoController {
         try {
             OrcamentoResponse response = service.criar(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (OrcamentoJaExisteException e) {
+            log.warn("Orçamento já existe para OS: {}", request.getOsId());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Requisição de orçamento inválida para OS {}: {}", request.getOsId(), e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Erro ao criar orçamento", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -65,6 +84,23 @@ public class OrcamentoController {
         }
     }
 
+    /**
+     * GET /api/v1/orcamentos/{id}/historico
+     * Obter histórico de status do orçamento (ordem cronológica)
+     */
+    @GetMapping("/{id}/historico")
+    public ResponseEntity<List<HistoricoStatusResponse>> obterHistorico(
+            @PathVariable UUID id) {
+        log.info("GET /orcamentos/{}/historico - obtendo histórico", id);
+
+        try {
+            return ResponseEntity.ok(service.obterHistorico(id));
+        } catch (Exception e) {
+            log.error("Erro ao obter histórico do orçamento", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * PUT /api/v1/orcamentos/{id}/aprovar
      * Aprovar orçamento
@@ -121,12 +157,59 @@ public class OrcamentoController {
     }
 
     /**
-     * GET /api/v1/orcamentos
-     * Listar todos os orçamentos
+     * POST /api/v1/orcamentos/batch-get
+     * Buscar vários orçamentos por ID (corpo: array de UUIDs, até {@value #MAX_LIMIT}).
+     * IDs inexistentes são ignorados; a ordem da resposta não é garantida.
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<OrcamentoResponse>> obterPorIds(@RequestBody List<UUID> ids) {
+        log.info("POST /orcamentos/batch-get - buscando {} orçamentos", ids != null ? ids.size() : 0);
+
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(service.obterPorIds(ids));
+    }
+
+    /**
+     * GET /api/v1/orcamentos?limit=&cursor=
+     * Listar orçamentos paginados. O cursor da próxima página volta no header
+     * X-Next-Cursor (ausente na última página).
      */
     @GetMapping
-    public ResponseEntity<java.util.List<OrcamentoResponse>> listarTodos() {
-        log.info("GET /orcamentos - listando todos");
-        return ResponseEntity.ok(service.listarTodos());
+    public ResponseEntity<List<OrcamentoResponse>> listar(
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String cursor) {
+        log.info("GET /orcamentos - listando. limit: {}", limit);
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            PageResult<OrcamentoResponse> page = service.listar(limit, cursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.hasNext()) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.items());
+        } catch (IllegalArgumentException e) {
+            log.warn("Cursor de paginação inválido: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /api/v1/orcamentos/stream
+     * Exportar todos os orçamentos em NDJSON, escritos conforme as páginas do
+     * scan chegam.
+     */
+    @GetMapping(value = "/stream", produces = NdjsonStreaming.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarTodos() {
+        log.info("GET /orcamentos/stream - exportando todos (NDJSON)");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonStreaming.APPLICATION_NDJSON_VALUE))
+                .body(NdjsonStreaming.body(objectMapper, service.exportarTodos()));
     }
 }
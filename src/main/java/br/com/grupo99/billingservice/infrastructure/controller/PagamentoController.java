@@ -3,11 +3,16 @@ package br.com.grupo99.billingservice.infrastructure.controller;
 import br.com.grupo99.billingservice.application.dto.CreatePagamentoRequest;
 import br.com.grupo99.billingservice.application.dto.PagamentoResponse;
 import br.com.grupo99.billingservice.application.service.PagamentoApplicationService;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,10 +27,16 @@ import java.util.UUID;
 @RequestMapping("/api/v1/pagamentos")
 public class PagamentoController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+
     private final PagamentoApplicationService service;
+    private final ObjectMapper objectMapper;
 
-    public PagamentoController(PagamentoApplicationService service) {
+    public PagamentoController(PagamentoApplicationService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -51,13 +62,60 @@ public class PagamentoController {
     }
 
     /**
-     * GET /api/v1/pagamentos
-     * Listar todos os pagamentos
+     * POST /api/v1/pagamentos/batch-get
+     * Buscar vários pagamentos por ID (corpo: array de UUIDs, até {@value #MAX_LIMIT}).
+     * IDs inexistentes são ignorados; a ordem da resposta não é garantida.
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<PagamentoResponse>> obterPorIds(@RequestBody List<UUID> ids) {
+        log.info("POST /pagamentos/batch-get - buscando {} pagamentos", ids != null ? ids.size() : 0);
+
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(service.obterPorIds(ids));
+    }
+
+    /**
+     * GET /api/v1/pagamentos?limit=&cursor=
+     * Listar pagamentos paginados. O cursor da próxima página volta no header
+     * X-Next-Cursor (ausente na última página).
      */
     @GetMapping
-    public ResponseEntity<java.util.List<PagamentoResponse>> listarTodos() {
-        log.info("GET /pagamentos - listando todos");
-        return ResponseEntity.ok(service.listarTodos());
+    public ResponseEntity<List<PagamentoResponse>> listar(
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String cursor) {
+        log.info("GET /pagamentos - listando. limit: {}", limit);
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            PageResult<PagamentoResponse> page = service.listar(limit, cursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.hasNext()) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.items());
+        } catch (IllegalArgumentException e) {
+            log.warn("Cursor de paginação inválido: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /api/v1/pagamentos/stream
+     * Exportar todos os pagamentos em NDJSON, escritos conforme as páginas do
+     * scan chegam.
+     */
+    @GetMapping(value = "/stream", produces = NdjsonStreaming.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarTodos() {
+        log.info("GET /pagamentos/stream - exportando todos (NDJSON)");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonStreaming.APPLICATION_NDJSON_VALUE))
+                .body(NdjsonStreaming.body(objectMapper, service.exportarTodos()));
     }
 
     /**
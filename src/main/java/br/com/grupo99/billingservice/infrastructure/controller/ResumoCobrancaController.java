@@ -0,0 +1,44 @@
+package br.com.grupo99.billingservice.infrastructure.controller;
+
+import br.com.grupo99.billingservice.application.dto.ResumoCobrancaResponse;
+import br.com.grupo99.billingservice.application.service.ResumoCobrancaApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST Controller para o resumo de cobrança de uma OS
+ * 
+ * ✅ CLEAN ARCHITECTURE: Controller chama Application Service
+ * - Não contém lógica de negócio
+ * - Apenas adapta HTTP para DTOs
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/cobrancas")
+public class ResumoCobrancaController {
+
+    private final ResumoCobrancaApplicationService service;
+
+    public ResumoCobrancaController(ResumoCobrancaApplicationService service) {
+        this.service = service;
+    }
+
+    /**
+     * GET /api/v1/cobrancas/os/{osId}
+     * Orçamento e pagamentos da OS (404 se a OS não tiver orçamento)
+     */
+    @GetMapping("/os/{osId}")
+    public ResponseEntity<ResumoCobrancaResponse> obterPorOs(@PathVariable UUID osId) {
+        log.info("GET /cobrancas/os/{} - obtendo resumo de cobrança", osId);
+
+        return service.obterPorOs(osId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoProntoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Monta o ProducerRecord de um evento do billing-events: chave osId e headers
+ * por tipo de evento (eventType, osId e os campos usados pelos consumidores
+ * para rotear sem desserializar o payload).
+ *
+ * Usado pelo envio direto (KafkaBillingEventPublisher) e pelo outbox, para
+ * as duas rotas produzirem a mesma mensagem.
+ */
+public final class BillingEventRecords {
+
+    private BillingEventRecords() {
+    }
+
+    public static ProducerRecord<String, Object> toRecord(BillingEvent event) {
+        String key = event.getOsId().toString();
+        ProducerRecord<String, Object> record = new ProducerRecord<>(KafkaConfig.TOPIC_BILLING_EVENTS, key, event);
+        Headers headers = record.headers();
+
+        switch (event) {
+            case OrcamentoProntoEvent pronto -> {
+                header(headers, "eventType", "ORCAMENTO_PRONTO");
+                header(headers, "osId", key);
+                header(headers, "orcamentoId", String.valueOf(pronto.getOrcamentoId()));
+            }
+            case OrcamentoAprovadoEvent aprovado -> {
+                header(headers, "eventType", "ORCAMENTO_APROVADO");
+                header(headers, "osId", key);
+                header(headers, "orcamentoId", String.valueOf(aprovado.getOrcamentoId()));
+                header(headers, "valorTotal", String.valueOf(aprovado.getValorTotal()));
+            }
+            case OrcamentoRejeitadoEvent rejeitado -> {
+                header(headers, "eventType", "ORCAMENTO_REJEITADO");
+                header(headers, "osId", key);
+                header(headers, "motivo", rejeitado.getMotivo());
+            }
+            case PagamentoFalhouEvent falhou -> {
+                header(headers, "eventType", "PAGAMENTO_FALHOU");
+                header(headers, "osId", key);
+                header(headers, "codigoErro", falhou.getCodigoErro());
+            }
+            default -> throw new IllegalArgumentException(
+                    "Evento sem mapeamento para billing-events: " + event.getClass().getName());
+        }
+        return record;
+    }
+
+    /**
+     * Headers opcionais nulos são omitidos.
+     */
+    private static void header(Headers headers, String name, String value) {
+        if (value != null) {
+            headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.service.OrcamentoApplicationService;
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Consumidor de eventos Kafka em lote (app.kafka.listener.mode=batch)
+ *
+ * Mesmos eventos do KafkaBillingEventListener, mas cada poll é tratado de uma
+ * vez: os registros são agrupados por tipo de evento, cada grupo faz uma
+ * leitura em lote das OS afetadas e uma escrita em lote, e o offset é
+ * confirmado uma vez por lote.
+ *
+ * Falha de um registro (payload que não desserializou, cancelamento que
+ * falhou) manda só esse registro para o DLT; falha do lote inteiro (ex.:
+ * BatchWriteItem) sobe para o error handler, que reenvia o lote e depois
+ * manda cada registro para o DLT. Os registros com falha só são publicados no DLT depois que o lote
+ * foi processado, logo antes da confirmação: uma nova tentativa do lote não
+ * os publica de novo.
+ *
+ * No mesmo lote, criações são processadas antes dos cancelamentos.
+ *
+ * Registros que alteram orçamentos e já foram processados (nova entrega após
+ * rebalance) são descartados no início do lote, com uma consulta em lote ao
+ * ProcessedEventStore; os registros tratados são registrados depois do lote.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "mode", havingValue = "batch", matchIfMissing = true)
+public class KafkaBillingBatchEventListener {
+
+    private final OrcamentoApplicationService orcamentoService;
+    private final ConsumerRecordRecoverer deadLetterRecoverer;
+    private final ProcessedEventStore processedEventStore;
+
+    public KafkaBillingBatchEventListener(
+            OrcamentoApplicationService orcamentoService,
+            ConsumerRecordRecoverer deadLetterRecoverer,
+            ProcessedEventStore processedEventStore) {
+        this.orcamentoService = orcamentoService;
+        this.deadLetterRecoverer = deadLetterRecoverer;
+        this.processedEventStore = processedEventStore;
+    }
+
+    /**
+     * Lote do tópico os-events: OS_CRIADA → criar orçamentos, OS_CANCELADA →
+     * cancelar orçamentos
+     */
+    @KafkaListener(topics = KafkaConfig.TOPIC_OS_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "batchKafkaListenerContainerFactory", concurrency = "3")
+    public void consumeOSEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        log.info("📥 Recebido lote do os-events: {} registros", records.size());
+
+        Lote lote = new Lote();
+        for (ConsumerRecord<String, Object> record : naoProcessados(records)) {
+            String eventType = KafkaBillingEventHandler.eventType(record);
+            try {
+                KafkaBillingEventHandler.verificarDesserializacao(record);
+                switch (eventType) {
+                    case "OS_CRIADA" -> lote.criar(record);
+                    case "STATUS_MUDADO" -> log.debug("Evento STATUS_MUDADO ignorado pelo billing-service");
+                    case "OS_CANCELADA" -> lote.cancelar(record, KafkaBillingEventHandler.motivo(record, "OS cancelada"));
+                    default -> log.warn("⚠️ Tipo de evento desconhecido do os-events: {}", eventType);
+                }
+            } catch (RuntimeException e) {
+                lote.falhar(record, e);
+            }
+        }
+
+        concluir(lote, acknowledgment);
+        log.debug("✅ Lote do os-events commitado: {} registros", records.size());
+    }
+
+    /**
+     * Lote do tópico execution-events: EXECUCAO_FALHOU sem retrabalho →
+     * cancelar orçamentos
+     */
+    @KafkaListener(topics = KafkaConfig.TOPIC_EXECUTION_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "batchKafkaListenerContainerFactory", concurrency = "2")
+    public void consumeExecutionEvents(List<ConsumerRecord<String, Object>> records,
+            Acknowledgment acknowledgment) {
+        log.info("📥 Recebido lote do execution-events: {} registros", records.size());
+
+        Lote lote = new Lote();
+        for (ConsumerRecord<String, Object> record : naoProcessados(records)) {
+            String eventType = KafkaBillingEventHandler.eventType(record);
+            try {
+                KafkaBillingEventHandler.verificarDesserializacao(record);
+                switch (eventType) {
+                    case "DIAGNOSTICO_CONCLUIDO" -> log.info("📊 Diagnóstico recebido para OS: {}", osId(record));
+                    case "EXECUCAO_CONCLUIDA" -> log.info("Execução concluída para OS: {}", record.key());
+                    case "EXECUCAO_FALHOU" -> {
+                        if (!KafkaBillingEventHandler.requerRetrabalho(record)) {
+                            lote.cancelar(record, "Execução falhou: "
+                                    + KafkaBillingEventHandler.motivo(record, "Falha na execução"));
+                        }
+                    }
+                    default -> log.warn("⚠️ Tipo de evento desconhecido do execution-events: {}", eventType);
+                }
+            } catch (RuntimeException e) {
+                lote.falhar(record, e);
+            }
+        }
+
+        concluir(lote, acknowledgment);
+        log.debug("✅ Lote do execution-events commitado: {} registros", records.size());
+    }
+
+    /**
+     * Registros do lote sem os que alteram orçamentos e já foram processados
+     */
+    private List<ConsumerRecord<String, Object>> naoProcessados(List<ConsumerRecord<String, Object>> records) {
+        Set<String> processados = processedEventStore.jaProcessados(records.stream()
+                .filter(KafkaBillingEventHandler::temEfeito)
+                .toList());
+        if (processados.isEmpty()) {
+            return records;
+        }
+        log.info("{} registros do lote já processados, ignorando nova entrega", processados.size());
+        return records.stream()
+                .filter(record -> !processados.contains(ProcessedEventStore.chave(record)))
+                .toList();
+    }
+
+    /**
+     * Processa o lote e, só se ele inteiro der certo, publica as falhas no
+     * DLT, registra os tratados e confirma o offset
+     */
+    private void concluir(Lote lote, Acknowledgment acknowledgment) {
+        processar(lote);
+        lote.falhas.forEach(falha -> sendToDeadLetter(falha.record(), falha.erro()));
+        processedEventStore.registrarTodos(lote.registros);
+        acknowledgment.acknowledge();
+    }
+
+    private void processar(Lote lote) {
+        if (!lote.criacoes.isEmpty()) {
+            List<CreateOrcamentoRequest> requests = lote.criacoes.stream()
+                    .map(osId -> CreateOrcamentoRequest.builder()
+                            .osId(osId)
+                            .observacao("Orçamento gerado automaticamente via Kafka para OS")
+                            .build())
+                    .toList();
+            int criados = orcamentoService.criarEmLote(requests).size();
+            log.info("✅ {} orçamentos criados para {} OS do lote", criados, requests.size());
+        }
+
+        if (!lote.cancelamentos.isEmpty()) {
+            orcamentoService.cancelarPorOsEmLote(lote.cancelamentos.keySet())
+                    .forEach((osId, e) -> lote.cancelamentos.get(osId)
+                            .forEach(record -> lote.falhar(record, e)));
+        }
+    }
+
+    private void sendToDeadLetter(ConsumerRecord<String, Object> record, Exception e) {
+        log.error("🔴 Erro no processamento de evento do lote. " +
+                "Topic: {}, Partition: {}, Offset: {}, Key: {}, Erro: {}",
+                record.topic(), record.partition(), record.offset(), record.key(), e.getMessage());
+        // Falha ao publicar no DLT sobe e o lote inteiro é reprocessado
+        deadLetterRecoverer.accept(record, e);
+    }
+
+    private static UUID osId(ConsumerRecord<String, Object> record) {
+        return UUID.fromString(record.key());
+    }
+
+    /**
+     * Registros do lote agrupados por operação e OS (mais de um registro da
+     * mesma OS vira uma única operação).
+     */
+    private static final class Lote {
+
+        private final Set<UUID> criacoes = new LinkedHashSet<>();
+        private final Map<UUID, List<ConsumerRecord<String, Object>>> cancelamentos = new LinkedHashMap<>();
+        private final List<ConsumerRecord<String, Object>> registros = new ArrayList<>();
+        private final List<Falha> falhas = new ArrayList<>();
+
+        void criar(ConsumerRecord<String, Object> record) {
+            UUID osId = osId(record);
+            log.info("📋 OS_CRIADA no lote. OS ID: {}", osId);
+            criacoes.add(osId);
+            registros.add(record);
+        }
+
+        void cancelar(ConsumerRecord<String, Object> record, String motivo) {
+            UUID osId = osId(record);
+            log.warn("🔄 Cancelamento no lote. OS ID: {}, Motivo: {}", osId, motivo);
+            cancelamentos.computeIfAbsent(osId, key -> new ArrayList<>()).add(record);
+            registros.add(record);
+        }
+
+        void falhar(ConsumerRecord<String, Object> record, Exception erro) {
+            falhas.add(new Falha(record, erro));
+        }
+    }
+
+    /**
+     * Registro a ser publicado no DLT ao fim do lote
+     */
+    private record Falha(ConsumerRecord<String, Object> record, Exception erro) {
+    }
+}
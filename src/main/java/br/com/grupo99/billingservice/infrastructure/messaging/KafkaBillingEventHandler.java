@@ -0,0 +1,267 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.service.OrcamentoApplicationService;
+import br.com.grupo99.billingservice.domain.events.DiagnosticoConcluidoEvent;
+import br.com.grupo99.billingservice.domain.events.ExecucaoFalhouEvent;
+import br.com.grupo99.billingservice.domain.events.OSCanceladaEvent;
+import br.com.grupo99.billingservice.domain.events.OSCriadaEvent;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoJaExisteException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Tratamento de um evento de os-events/execution-events, compartilhado pelos
+ * modos de consumo registro a registro e paralelo por OS.
+ *
+ * Exceções sobem para o listener (retry e DLT); cancelamentos de OS sem
+ * orçamento são ignorados aqui.
+ *
+ * O valor do registro é o evento tipado do BillingEventDeserializer; Map
+ * (JSON sem schema) continua aceito nos campos lidos. Registro que não
+ * desserializou falha com a DeserializationException (não retentável → DLT).
+ *
+ * Eventos que alteram orçamentos passam pelo ProcessedEventStore: uma nova
+ * entrega de um registro já processado é ignorada.
+ */
+@Slf4j
+@Component
+public class KafkaBillingEventHandler {
+
+    /** Eventos que alteram orçamentos (os demais só são logados). */
+    static final Set<String> EVENTOS_COM_EFEITO = Set.of("OS_CRIADA", "OS_CANCELADA", "EXECUCAO_FALHOU");
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(KafkaBillingEventHandler.class);
+
+    private final OrcamentoApplicationService orcamentoService;
+    private final ProcessedEventStore processedEventStore;
+
+    public KafkaBillingEventHandler(OrcamentoApplicationService orcamentoService,
+            ProcessedEventStore processedEventStore) {
+        this.orcamentoService = orcamentoService;
+        this.processedEventStore = processedEventStore;
+    }
+
+    /**
+     * Evento do os-events
+     */
+    public void handleOSEvent(ConsumerRecord<String, Object> record) {
+        verificarDesserializacao(record);
+        String eventType = eventType(record);
+        switch (eventType) {
+            case "OS_CRIADA" -> idempotente(record, this::handleOSCriada);
+            case "STATUS_MUDADO" -> log.debug("Evento STATUS_MUDADO ignorado pelo billing-service");
+            case "OS_CANCELADA" -> idempotente(record, this::handleOSCancelada);
+            default -> log.warn("⚠️ Tipo de evento desconhecido do os-events: {}", eventType);
+        }
+    }
+
+    /**
+     * Evento do execution-events
+     */
+    public void handleExecutionEvent(ConsumerRecord<String, Object> record) {
+        verificarDesserializacao(record);
+        String eventType = eventType(record);
+        switch (eventType) {
+            case "DIAGNOSTICO_CONCLUIDO" -> handleDiagnosticoConcluido(record);
+            case "EXECUCAO_CONCLUIDA" -> log.info("Execução concluída para OS: {}", record.key());
+            case "EXECUCAO_FALHOU" -> idempotente(record, this::handleExecucaoFalhou);
+            default -> log.warn("⚠️ Tipo de evento desconhecido do execution-events: {}", eventType);
+        }
+    }
+
+    /**
+     * Trata o registro só se ainda não foi processado e o registra depois do
+     * tratamento (falha sobe sem registrar, para o retry)
+     */
+    private void idempotente(ConsumerRecord<String, Object> record, Consumer<ConsumerRecord<String, Object>> handler) {
+        if (processedEventStore.jaProcessado(record)) {
+            log.info("Evento {} já processado, ignorando nova entrega. Topic: {}, Partition: {}, Offset: {}",
+                    eventType(record), record.topic(), record.partition(), record.offset());
+            return;
+        }
+        handler.accept(record);
+        processedEventStore.registrar(record);
+    }
+
+    /**
+     * Se o registro é de um evento que altera orçamentos
+     */
+    static boolean temEfeito(ConsumerRecord<String, Object> record) {
+        return EVENTOS_COM_EFEITO.contains(eventType(record));
+    }
+
+    /**
+     * Lança a falha do ErrorHandlingDeserializer, se o valor do registro não
+     * desserializou (em lotes o registro chega ao listener com valor nulo)
+     *
+     * @throws DeserializationException com os bytes originais
+     */
+    static void verificarDesserializacao(ConsumerRecord<String, Object> record) {
+        DeserializationException erro = SerializationUtils.getExceptionFromHeader(record,
+                SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+        if (erro != null) {
+            throw erro;
+        }
+    }
+
+    /**
+     * Header eventType do registro ("UNKNOWN" se ausente)
+     */
+    static String eventType(ConsumerRecord<String, Object> record) {
+        var header = record.headers().lastHeader("eventType");
+        if (header != null && header.value() != null) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        return "UNKNOWN";
+    }
+
+    /**
+     * Motivo de OS_CANCELADA/EXECUCAO_FALHOU (padrão se ausente)
+     */
+    static String motivo(ConsumerRecord<String, Object> record, String padrao) {
+        Object motivo = switch (record.value()) {
+            case OSCanceladaEvent evento -> evento.getMotivo();
+            case ExecucaoFalhouEvent evento -> evento.getMotivo();
+            case null, default -> campo(record, "motivo");
+        };
+        return motivo != null ? (String) motivo : padrao;
+    }
+
+    /**
+     * requerRetrabalho de EXECUCAO_FALHOU (false se ausente)
+     */
+    static boolean requerRetrabalho(ConsumerRecord<String, Object> record) {
+        Object requerRetrabalho = record.value() instanceof ExecucaoFalhouEvent evento
+                ? evento.getRequerRetrabalho()
+                : campo(record, "requerRetrabalho");
+        return Boolean.TRUE.equals(requerRetrabalho);
+    }
+
+    private static Object campo(ConsumerRecord<String, Object> record, String nome) {
+        return record.value() instanceof Map<?, ?> payload ? payload.get(nome) : null;
+    }
+
+    /**
+     * Saga Step 2: OS criada → Criar orçamento vazio
+     */
+    private void handleOSCriada(ConsumerRecord<String, Object> record) {
+        try {
+            UUID osId = UUID.fromString(record.key());
+            Object descricao = record.value() instanceof OSCriadaEvent evento
+                    ? evento.getDescricao()
+                    : campo(record, "descricao");
+            if (descricao == null) {
+                descricao = "";
+            }
+
+            log.info("📋 Processando OS_CRIADA. OS ID: {}, Descrição: {}", osId, descricao);
+
+            // Cria orçamento via Application Service
+            CreateOrcamentoRequest request = CreateOrcamentoRequest.builder()
+                    .osId(osId)
+                    .observacao("Orçamento gerado automaticamente via Kafka para OS")
+                    .build();
+
+            orcamentoService.criar(request);
+            log.info("✅ Orçamento criado com sucesso para OS: {}", osId);
+
+        } catch (OrcamentoJaExisteException e) {
+            log.warn("Orçamento já existe para OS. Ignorando evento duplicado.");
+        } catch (Exception e) {
+            log.error("❌ Erro ao criar orçamento: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Saga Step 3: Diagnóstico concluído → Calcular orçamento
+     */
+    private void handleDiagnosticoConcluido(ConsumerRecord<String, Object> record) {
+        try {
+            UUID osId = UUID.fromString(record.key());
+            Object diagnostico = record.value() instanceof DiagnosticoConcluidoEvent evento
+                    ? evento.getDiagnostico()
+                    : campo(record, "diagnostico");
+            if (diagnostico == null) {
+                diagnostico = "";
+            }
+
+            log.info("🔍 Processando DIAGNOSTICO_CONCLUIDO. OS ID: {}, Diagnóstico: {}",
+                    osId, diagnostico);
+
+            // Lógica de cálculo do orçamento baseado no diagnóstico
+            // Nota: O cálculo real depende de regras de negócio (custos de mão de obra,
+            // peças, etc.)
+            log.info("📊 Diagnóstico recebido para cálculo de orçamento. OS ID: {}, Diagnóstico: {}", osId,
+                    diagnostico);
+
+            log.info("✅ Diagnóstico processado para OS: {}", osId);
+
+        } catch (Exception e) {
+            log.error("❌ Erro ao processar diagnóstico: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Saga Compensação: OS cancelada → Cancelar orçamento
+     */
+    private void handleOSCancelada(ConsumerRecord<String, Object> record) {
+        try {
+            UUID osId = UUID.fromString(record.key());
+            String motivo = motivo(record, "OS cancelada");
+
+            log.warn("🔄 Processando OS_CANCELADA. OS ID: {}, Motivo: {}", osId, motivo);
+
+            // Cancela orçamento se existir
+            try {
+                orcamentoService.cancelarPorOs(osId, motivo);
+                log.info("✅ Orçamento cancelado para OS: {}", osId);
+            } catch (Exception e) {
+                log.warn("Orçamento não encontrado para OS cancelada: {}", osId);
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Erro ao cancelar orçamento: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Saga Compensação: Execução falhou → Reverter orçamento
+     */
+    private void handleExecucaoFalhou(ConsumerRecord<String, Object> record) {
+        try {
+            UUID osId = UUID.fromString(record.key());
+            String motivo = motivo(record, "Falha na execução");
+            boolean requerRetrabalho = requerRetrabalho(record);
+
+            log.error("💥 Processando EXECUCAO_FALHOU. OS ID: {}, Motivo: {}, Retrabalho: {}",
+                    osId, motivo, requerRetrabalho);
+
+            if (!requerRetrabalho) {
+                // Cancela orçamento se não houver retrabalho
+                try {
+                    orcamentoService.cancelarPorOs(osId, "Execução falhou: " + motivo);
+                } catch (Exception e) {
+                    log.warn("Orçamento não encontrado para OS com execução falha: {}", osId);
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Erro ao processar falha de execução: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -6,19 +6,16 @@ import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
 import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
 import br.com.grupo99.billingservice.domain.model.Pagamento;
-import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
@@ -50,17 +47,7 @@ public class KafkaBillingEventPublisher implements BillingEventPublisherPort {
     @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "publishOrcamentoProntoFallback")
     @Retry(name = CIRCUIT_BREAKER_NAME)
     public void publishOrcamentoPronto(OrcamentoProntoEvent event) {
-        String key = event.getOsId().toString();
-
-        ProducerRecord<String, Object> record = new ProducerRecord<>(
-                KafkaConfig.TOPIC_BILLING_EVENTS, key, event);
-
-        record.headers()
-                .add(new RecordHeader("eventType", "ORCAMENTO_PRONTO".getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("osId", key.getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("orcamentoId",
-                        event.getOrcamentoId().toString().getBytes(StandardCharsets.UTF_8)));
-
+        ProducerRecord<String, Object> record = BillingEventRecords.toRecord(event);
         sendAsync(record, "ORCAMENTO_PRONTO", event.getOrcamentoId().toString());
     }
 
@@ -73,18 +60,7 @@ public class KafkaBillingEventPublisher implements BillingEventPublisherPort {
     @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "publishOrcamentoAprovadoFallback")
     @Retry(name = CIRCUIT_BREAKER_NAME)
     public void publishOrcamentoAprovado(OrcamentoAprovadoEvent event) {
-        String key = event.getOsId().toString();
-
-        ProducerRecord<String, Object> record = new ProducerRecord<>(
-                KafkaConfig.TOPIC_BILLING_EVENTS, key, event);
-
-        record.headers()
-                .add(new RecordHeader("eventType", "ORCAMENTO_APROVADO".getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("osId", key.getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("orcamentoId",
-                        event.getOrcamentoId().toString().getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("valorTotal",
-                        String.valueOf(event.getValorTotal()).getBytes(StandardCharsets.UTF_8)));
+        ProducerRecord<String, Object> record = BillingEventRecords.toRecord(event);
 
         // Evento crítico - envio síncrono
         sendSync(record, "ORCAMENTO_APROVADO", event.getOrcamentoId().toString());
@@ -99,15 +75,7 @@ public class KafkaBillingEventPublisher implements BillingEventPublisherPort {
     @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "publishOrcamentoRejeitadoFallback")
     @Retry(name = CIRCUIT_BREAKER_NAME)
     public void publishOrcamentoRejeitado(OrcamentoRejeitadoEvent event) {
-        String key = event.getOsId().toString();
-
-        ProducerRecord<String, Object> record = new ProducerRecord<>(
-                KafkaConfig.TOPIC_BILLING_EVENTS, key, event);
-
-        record.headers()
-                .add(new RecordHeader("eventType", "ORCAMENTO_REJEITADO".getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("osId", key.getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("motivo", event.getMotivo().getBytes(StandardCharsets.UTF_8)));
+        ProducerRecord<String, Object> record = BillingEventRecords.toRecord(event);
 
         // Evento de compensação - envio síncrono
         sendSync(record, "ORCAMENTO_REJEITADO", event.getOrcamentoId().toString());
@@ -123,15 +91,7 @@ public class KafkaBillingEventPublisher implements BillingEventPublisherPort {
     @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "publishPagamentoFalhouFallback")
     @Retry(name = CIRCUIT_BREAKER_NAME)
     public void publishPagamentoFalhou(PagamentoFalhouEvent event) {
-        String key = event.getOsId().toString();
-
-        ProducerRecord<String, Object> record = new ProducerRecord<>(
-                KafkaConfig.TOPIC_BILLING_EVENTS, key, event);
-
-        record.headers()
-                .add(new RecordHeader("eventType", "PAGAMENTO_FALHOU".getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("osId", key.getBytes(StandardCharsets.UTF_8)))
-                .add(new RecordHeader("codigoErro", event.getCodigoErro().getBytes(StandardCharsets.UTF_8)));
+        ProducerRecord<String, Object> record = BillingEventRecords.toRecord(event);
 
         // Evento de compensação - envio síncrono
         sendSync(record, "PAGAMENTO_FALHOU", event.getPagamentoId().toString());
@@ -159,26 +119,14 @@ public class KafkaBillingEventPublisher implements BillingEventPublisherPort {
 
     @Override
     public void publicarOrcamentoAprovado(Orcamento orcamento) {
-        OrcamentoAprovadoEvent event = OrcamentoAprovadoEvent.builder()
-                .orcamentoId(orcamento.getId())
-                .osId(orcamento.getOsId())
-                .valorTotal(orcamento.getValorTotal())
-                .timestamp(LocalDateTime.now())
-                .eventType("ORCAMENTO_APROVADO")
-                .build();
+        OrcamentoAprovadoEvent event = OrcamentoAprovadoEvent.de(orcamento);
 
         publishOrcamentoAprovado(event);
     }
 
     @Override
     public void publicarOrcamentoRejeitado(Orcamento orcamento) {
-        OrcamentoRejeitadoEvent event = OrcamentoRejeitadoEvent.builder()
-                .orcamentoId(orcamento.getId())
-                .osId(orcamento.getOsId())
-                .motivo(orcamento.getMotivoRejeicao())
-                .timestamp(LocalDateTime.now())
-                .eventType("ORCAMENTO_REJEITADO")
-                .build();
+        OrcamentoRejeitadoEvent event = OrcamentoRejeitadoEvent.de(orcamento);
 
         publishOrcamentoRejeitado(event);
     }
@@ -199,15 +147,7 @@ public class KafkaBillingEventPublisher implements BillingEventPublisherPort {
 
     @Override
     public void publicarPagamentoEstornado(Pagamento pagamento) {
-        PagamentoFalhouEvent event = PagamentoFalhouEvent.builder()
-                .pagamentoId(pagamento.getId())
-                .osId(pagamento.getOsId())
-                .orcamentoId(pagamento.getOrcamentoId())
-                .codigoErro("ESTORNO")
-                .mensagemErro("Pagamento estornado")
-                .timestamp(LocalDateTime.now())
-                .eventType("PAGAMENTO_ESTORNADO")
-                .build();
+        PagamentoFalhouEvent event = PagamentoFalhouEvent.estorno(pagamento);
 
         publishPagamentoFalhou(event);
     }
@@ -0,0 +1,78 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Consumidor paralelo por OS (app.kafka.listener.mode=parallel)
+ *
+ * Recebe cada poll como lote e distribui os registros em lanes pela chave
+ * (osId): OS diferentes da mesma partição são processadas em paralelo e os
+ * eventos de uma OS continuam em ordem. O tratamento de cada evento é o mesmo
+ * do modo registro a registro.
+ *
+ * Com falha, o lote é encerrado com BatchListenerFailedException no menor
+ * índice que falhou: o error handler confirma só os offsets anteriores a ele
+ * e reentrega o resto (retry com backoff e, esgotado, DLT do registro). Eventos
+ * de outras OS já processados depois desse índice são reprocessados.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "mode", havingValue = "parallel")
+public class KafkaBillingParallelEventListener {
+
+    private final KafkaBillingEventHandler eventHandler;
+    private final KeyOrderedDispatcher dispatcher;
+
+    public KafkaBillingParallelEventListener(
+            KafkaBillingEventHandler eventHandler,
+            @Value("${app.kafka.listener.parallel.lanes:16}") int lanes) {
+        this.eventHandler = eventHandler;
+        this.dispatcher = new KeyOrderedDispatcher(lanes);
+    }
+
+    /**
+     * Lote do tópico os-events, paralelo por OS
+     */
+    @KafkaListener(topics = KafkaConfig.TOPIC_OS_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "batchKafkaListenerContainerFactory", concurrency = "3")
+    public void consumeOSEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        processar("os-events", records, eventHandler::handleOSEvent, acknowledgment);
+    }
+
+    /**
+     * Lote do tópico execution-events, paralelo por OS
+     */
+    @KafkaListener(topics = KafkaConfig.TOPIC_EXECUTION_EVENTS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "batchKafkaListenerContainerFactory", concurrency = "2")
+    public void consumeExecutionEvents(List<ConsumerRecord<String, Object>> records,
+            Acknowledgment acknowledgment) {
+        processar("execution-events", records, eventHandler::handleExecutionEvent, acknowledgment);
+    }
+
+    private void processar(String source, List<ConsumerRecord<String, Object>> records,
+            Consumer<ConsumerRecord<String, Object>> handler, Acknowledgment acknowledgment) {
+        log.info("📥 Recebido lote do {}: {} registros em até {} lanes", source, records.size(), dispatcher.lanes());
+
+        KeyOrderedDispatcher.Falha falha = dispatcher.dispatch(records, handler);
+        if (falha != null) {
+            ConsumerRecord<String, Object> record = records.get(falha.index());
+            log.error("❌ Erro ao processar evento do {}. Type: {}, OS ID: {}, Partition: {}, Offset: {}, Erro: {}",
+                    source, KafkaBillingEventHandler.eventType(record), record.key(), record.partition(),
+                    record.offset(), falha.cause().getMessage(), falha.cause());
+            // Offsets anteriores ao índice são confirmados pelo error handler
+            throw new BatchListenerFailedException("Falha no evento do " + source, falha.cause(), falha.index());
+        }
+
+        acknowledgment.acknowledge();
+        log.debug("✅ Lote do {} commitado: {} registros", source, records.size());
+    }
+}
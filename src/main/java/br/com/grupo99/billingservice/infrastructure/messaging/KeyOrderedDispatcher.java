@@ -0,0 +1,124 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Processa um lote de registros em paralelo mantendo a ordem por chave.
+ *
+ * Cada registro vai para uma de N lanes pelo hash da chave; cada lane roda em
+ * uma virtual thread e processa seus registros na ordem do lote, então
+ * registros da mesma chave nunca rodam em paralelo nem fora de ordem.
+ *
+ * Uma lane para no primeiro registro que falha (os seguintes podem ser da
+ * mesma chave). As demais lanes param ao chegar em um índice posterior à
+ * menor falha conhecida: esses registros serão reentregues de qualquer forma.
+ */
+final class KeyOrderedDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyOrderedDispatcher.class);
+
+    /**
+     * Primeiro registro do lote (na ordem recebida) que falhou.
+     *
+     * @param index posição do registro no lote
+     * @param cause exceção do handler
+     */
+    record Falha(int index, RuntimeException cause) {
+    }
+
+    private final int lanes;
+
+    KeyOrderedDispatcher(int lanes) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("lanes deve ser maior que zero");
+        }
+        this.lanes = lanes;
+    }
+
+    int lanes() {
+        return lanes;
+    }
+
+    /**
+     * Processa todos os registros e espera as lanes terminarem.
+     *
+     * Todo registro antes de {@link Falha#index()} foi processado com sucesso;
+     * a partir dele, alguns podem ter sido processados e outros não.
+     *
+     * @return menor falha do lote, ou null se todos os registros foram processados
+     */
+    <K, V> Falha dispatch(List<ConsumerRecord<K, V>> records, Consumer<ConsumerRecord<K, V>> handler) {
+        List<List<Integer>> porLane = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            porLane.add(new ArrayList<>());
+        }
+        for (int i = 0; i < records.size(); i++) {
+            porLane.get(lane(records.get(i).key())).add(i);
+        }
+        List<List<Integer>> ativas = porLane.stream().filter(indices -> !indices.isEmpty()).toList();
+
+        AtomicInteger menorFalha = new AtomicInteger(Integer.MAX_VALUE);
+        ConcurrentHashMap<Integer, RuntimeException> falhas = new ConcurrentHashMap<>();
+        if (ativas.size() <= 1) {
+            ativas.forEach(indices -> processarLane(records, indices, handler, menorFalha, falhas));
+        } else {
+            List<Future<?>> futures = new ArrayList<>(ativas.size());
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (List<Integer> indices : ativas) {
+                    futures.add(executor.submit(() -> processarLane(records, indices, handler, menorFalha, falhas)));
+                }
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Processamento do lote interrompido", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Falha inesperada em uma lane", e.getCause());
+                }
+            }
+        }
+
+        int index = menorFalha.get();
+        if (index == Integer.MAX_VALUE) {
+            log.debug("{} registros processados em {} lanes", records.size(), ativas.size());
+            return null;
+        }
+        return new Falha(index, falhas.get(index));
+    }
+
+    int lane(Object key) {
+        return Math.floorMod(Objects.hashCode(key), lanes);
+    }
+
+    private static <K, V> void processarLane(List<ConsumerRecord<K, V>> records, List<Integer> indices,
+            Consumer<ConsumerRecord<K, V>> handler, AtomicInteger menorFalha,
+            ConcurrentHashMap<Integer, RuntimeException> falhas) {
+        for (int index : indices) {
+            if (index > menorFalha.get()) {
+                return;
+            }
+            try {
+                handler.accept(records.get(index));
+            } catch (RuntimeException e) {
+                falhas.put(index, e);
+                menorFalha.accumulateAndGet(index, Math::min);
+                return;
+            }
+        }
+    }
+}
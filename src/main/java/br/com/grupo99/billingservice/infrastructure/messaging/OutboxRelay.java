@@ -0,0 +1,269 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.billingservice.infrastructure.persistence.adapter.OutboxEventMapper;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Relay do outbox do billing-events (app.outbox.relay.enabled)
+ *
+ * Publica os eventos gravados pelas transições de status junto com o
+ * agregado, tirando o envio ao Kafka do caminho da requisição. A cada ciclo,
+ * para cada shard com lease desta instância: lê um lote na ordem de gravação,
+ * envia todos sem bloquear entre eles (o producer idempotente mantém a ordem
+ * na partição) e espera as confirmações na ordem do lote.
+ *
+ * Entrega pelo menos uma vez: só a sequência confirmada até a primeira falha
+ * é removida do outbox, e o shard para no ciclo. Registros enviados depois da
+ * falha são reenviados no próximo ciclo (o header eventId permite deduplicar).
+ *
+ * O lease é conferido (e renovado na segunda metade) antes de cada lote e
+ * antes de cada remoção, e a espera pelas confirmações termina um quarto da
+ * validade antes de o lease expirar: o shard para assim que o lease não pode
+ * mais ser garantido.
+ *
+ * Um evento que falha de forma não retentável (payload ilegível, erro não
+ * retentável do producer) em max-tentativas ciclos seguidos é estacionado
+ * fora do shard (métrica outbox.relay.events.parked), para não travar os
+ * eventos seguintes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final DynamoDbOutboxRepository outboxRepository;
+    private final OutboxEventMapper mapper;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final int maxTentativas;
+    private final Counter estacionados;
+
+    /** Identifica esta instância nos leases. */
+    private final String dono = UUID.randomUUID().toString();
+
+    /** Validade dos leases desta instância, para renovar só na metade do prazo. */
+    private final Map<String, Instant> leases = new ConcurrentHashMap<>();
+
+    /** Falhas não retentáveis seguidas por eventId (só o evento que trava cada shard). */
+    private final Map<String, Integer> falhas = new ConcurrentHashMap<>();
+
+    public OutboxRelay(
+            DynamoDbOutboxRepository outboxRepository,
+            OutboxEventMapper mapper,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${app.outbox.relay.lease:10s}") Duration leaseDuration,
+            @Value("${app.outbox.relay.max-tentativas:5}") int maxTentativas) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch-size deve ser maior que zero");
+        }
+        if (maxTentativas <= 0) {
+            throw new IllegalArgumentException("max-tentativas deve ser maior que zero");
+        }
+        this.outboxRepository = outboxRepository;
+        this.mapper = mapper;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.leaseDuration = leaseDuration;
+        this.maxTentativas = maxTentativas;
+        this.estacionados = Counter.builder("outbox.relay.events.parked")
+                .description("Eventos do outbox estacionados por falha não retentável")
+                .tag("service", "billing-service")
+                .tag("topic", KafkaConfig.TOPIC_BILLING_EVENTS)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drena todos os shards; o próximo ciclo começa intervalo-ms depois do fim deste.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-ms:200}")
+    public void drenar() {
+        for (int i = 0; i < OutboxEventEntity.SHARDS; i++) {
+            String shard = String.valueOf(i);
+            try {
+                drenarShard(shard);
+            } catch (RuntimeException e) {
+                log.error("❌ Erro ao drenar shard {} do outbox: {}", shard, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Publica os eventos pendentes de um shard até esvaziá-lo, falhar ou
+     * perder o lease.
+     *
+     * @return quantidade de eventos publicados e removidos
+     */
+    int drenarShard(String shard) {
+        int total = 0;
+        List<OutboxEventEntity> pendentes;
+        do {
+            if (!possuiLease(shard)) {
+                break;
+            }
+            pendentes = outboxRepository.findPendentes(shard, batchSize);
+            Envio envio = publicar(pendentes, prazo(shard));
+            List<OutboxEventEntity> publicados = envio.publicados();
+            if (!publicados.isEmpty()) {
+                if (!possuiLease(shard)) {
+                    log.warn("Lease do shard {} perdido antes da remoção; {} eventos serão reenviados",
+                            shard, publicados.size());
+                    break;
+                }
+                outboxRepository.deleteAll(publicados);
+                publicados.forEach(evento -> falhas.remove(evento.getEventId()));
+                total += publicados.size();
+            }
+            if (publicados.size() < pendentes.size()) {
+                if (!estacionarSeDefinitiva(pendentes.get(publicados.size()), envio.erro())) {
+                    break;
+                }
+            }
+        } while (pendentes.size() == batchSize);
+
+        if (total > 0) {
+            log.info("📤 {} eventos do outbox publicados no {} (shard {})", total,
+                    KafkaConfig.TOPIC_BILLING_EVENTS, shard);
+        }
+        return total;
+    }
+
+    /**
+     * Envia o lote e devolve o prefixo confirmado pelo broker até o prazo,
+     * com o erro do primeiro evento não confirmado (null se não houve erro
+     * ou se só acabou o prazo).
+     */
+    private Envio publicar(List<OutboxEventEntity> pendentes, Instant prazo) {
+        List<CompletableFuture<SendResult<String, Object>>> envios = new ArrayList<>(pendentes.size());
+        Throwable erroEnvio = null;
+        try {
+            for (OutboxEventEntity evento : pendentes) {
+                envios.add(kafkaTemplate.send(mapper.toRecord(evento)));
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Erro ao enviar evento {} do outbox: {}",
+                    pendentes.get(envios.size()).getEventId(), e.getMessage(), e);
+            erroEnvio = e;
+        }
+
+        List<OutboxEventEntity> publicados = new ArrayList<>(envios.size());
+        for (int i = 0; i < envios.size(); i++) {
+            try {
+                envios.get(i).get(Math.max(0, Duration.between(Instant.now(), prazo).toMillis()),
+                        TimeUnit.MILLISECONDS);
+                publicados.add(pendentes.get(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Envio(publicados, null);
+            } catch (TimeoutException e) {
+                log.warn("Prazo do lease esgotado aguardando confirmação do evento {} do outbox",
+                        pendentes.get(i).getEventId());
+                return new Envio(publicados, null);
+            } catch (ExecutionException e) {
+                log.error("❌ Erro ao publicar evento {} do outbox: {}",
+                        pendentes.get(i).getEventId(), e.getCause().getMessage(), e.getCause());
+                return new Envio(publicados, e.getCause());
+            }
+        }
+        return new Envio(publicados, erroEnvio);
+    }
+
+    /**
+     * Conta a falha do evento que travou o shard e o estaciona quando ela é
+     * não retentável pela max-tentativas-ésima vez seguida.
+     *
+     * @return true se o evento foi estacionado e o shard pode seguir
+     */
+    private boolean estacionarSeDefinitiva(OutboxEventEntity evento, Throwable erro) {
+        if (erro == null || retentavel(erro)) {
+            return false;
+        }
+        int tentativas = falhas.merge(evento.getEventId(), 1, Integer::sum);
+        if (tentativas < maxTentativas) {
+            return false;
+        }
+        log.error("❌ Evento {} do outbox falhou {} vezes sem chance de retry; estacionando",
+                evento.getEventId(), tentativas);
+        outboxRepository.estacionar(evento);
+        falhas.remove(evento.getEventId());
+        estacionados.increment();
+        return true;
+    }
+
+    private static boolean retentavel(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Limite para aguardar confirmações: um quarto da validade antes de o
+     * lease expirar.
+     */
+    private Instant prazo(String shard) {
+        Instant validade = leases.get(shard);
+        return validade != null ? validade.minus(leaseDuration.dividedBy(4)) : Instant.now();
+    }
+
+    private boolean possuiLease(String shard) {
+        Instant agora = Instant.now();
+        Instant validade = leases.get(shard);
+        if (validade != null && agora.isBefore(validade.minus(leaseDuration.dividedBy(2)))) {
+            return true;
+        }
+        if (outboxRepository.adquirirLease(shard, dono, leaseDuration)) {
+            leases.put(shard, agora.plus(leaseDuration));
+            return true;
+        }
+        leases.remove(shard);
+        return false;
+    }
+
+    /**
+     * Eventos confirmados de um lote e o erro que interrompeu o resto.
+     */
+    private record Envio(List<OutboxEventEntity> publicados, Throwable erro) {
+    }
+
+    @PreDestroy
+    void liberarLeases() {
+        leases.keySet().forEach(shard -> {
+            try {
+                outboxRepository.liberarLease(shard, dono);
+            } catch (RuntimeException e) {
+                log.warn("Lease do shard {} não liberado (expira sozinho): {}", shard, e.getMessage());
+            }
+        });
+        leases.clear();
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbProcessedEventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Registro dos eventos Kafka já processados, para o consumo ser idempotente
+ * (app.kafka.dedup).
+ *
+ * Depois de um rebalance, os registros processados mas ainda não confirmados
+ * são entregues de novo; com o registro, cada um custa uma consulta ao cache
+ * (Caffeine, LRU) em vez de reprocessar. O cache fica na frente da tabela
+ * processed-events do DynamoDB (com TTL), que cobre as entregas em outra
+ * instância e depois de um restart.
+ *
+ * A chave é o header eventId ou, na falta dele, topic:partition:offset.
+ *
+ * Falha no registro nunca bloqueia o consumo: na leitura o evento é tratado
+ * como novo (os casos de uso já toleram duplicatas) e na escrita só é logada.
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+    static final String CACHE_NAME = "eventos-processados";
+    static final String EVENT_ID_HEADER = "eventId";
+
+    private final DynamoDbProcessedEventRepository repository;
+    private final Cache<String, Boolean> cache;
+    private final Duration ttl;
+    private final boolean enabled;
+
+    @Autowired
+    public ProcessedEventStore(
+            DynamoDbProcessedEventRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${app.kafka.dedup.enabled:true}") boolean enabled,
+            @Value("${app.kafka.dedup.ttl:24h}") Duration ttl,
+            @Value("${app.kafka.dedup.cache-maximum-size:100000}") long cacheMaximumSize) {
+        this(repository,
+                Caffeine.newBuilder()
+                        .maximumSize(cacheMaximumSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build(),
+                ttl, enabled);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    ProcessedEventStore(DynamoDbProcessedEventRepository repository, Cache<String, Boolean> cache,
+            Duration ttl, boolean enabled) {
+        this.repository = repository;
+        this.cache = cache;
+        this.ttl = ttl;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Chave de deduplicação do registro
+     */
+    static String chave(ConsumerRecord<String, Object> record) {
+        var header = record.headers().lastHeader(EVENT_ID_HEADER);
+        if (header != null && header.value() != null && header.value().length > 0) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        return record.topic() + ":" + record.partition() + ":" + record.offset();
+    }
+
+    /**
+     * Se o registro já foi processado
+     */
+    public boolean jaProcessado(ConsumerRecord<String, Object> record) {
+        return !jaProcessados(List.of(record)).isEmpty();
+    }
+
+    /**
+     * Chaves dos registros já processados: primeiro o cache, e as restantes em
+     * uma leitura em lote no DynamoDB.
+     */
+    public Set<String> jaProcessados(Collection<ConsumerRecord<String, Object>> records) {
+        if (!enabled || records.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> processados = new HashSet<>();
+        Set<String> consultar = new HashSet<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            String chave = chave(record);
+            if (cache.getIfPresent(chave) != null) {
+                processados.add(chave);
+            } else {
+                consultar.add(chave);
+            }
+        }
+        if (consultar.isEmpty()) {
+            return processados;
+        }
+
+        try {
+            Set<String> existentes = repository.findExistentes(consultar);
+            existentes.forEach(chave -> cache.put(chave, Boolean.TRUE));
+            processados.addAll(existentes);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Falha ao consultar eventos processados, tratando {} como novos: {}",
+                    consultar.size(), e.getMessage());
+        }
+        return processados;
+    }
+
+    /**
+     * Registra o registro como processado
+     */
+    public void registrar(ConsumerRecord<String, Object> record) {
+        registrarTodos(List.of(record));
+    }
+
+    /**
+     * Registra os registros como processados (escrita em lote no DynamoDB,
+     * depois o cache).
+     */
+    public void registrarTodos(Collection<ConsumerRecord<String, Object>> records) {
+        if (!enabled || records.isEmpty()) {
+            return;
+        }
+
+        List<String> chaves = records.stream().map(ProcessedEventStore::chave).distinct().toList();
+        try {
+            repository.saveAll(chaves, ttl);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Falha ao registrar {} eventos processados: {}", chaves.size(), e.getMessage());
+        }
+        chaves.forEach(chave -> cache.put(chave, Boolean.TRUE));
+    }
+}
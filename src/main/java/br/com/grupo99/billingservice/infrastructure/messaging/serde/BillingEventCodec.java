@@ -0,0 +1,56 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Formato binário compacto dos eventos: cabeçalho de 3 bytes (magic 0xBE, id
+ * do schema, versão do schema) seguido dos campos do {@link EventSchema}.
+ *
+ * O magic não é um primeiro byte possível em JSON UTF-8, então o mesmo tópico
+ * pode ter mensagens JSON e binárias durante a migração dos produtores.
+ */
+public final class BillingEventCodec {
+
+    static final int MAGIC = 0xBE;
+
+    private BillingEventCodec() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && (data[0] & 0xFF) == MAGIC;
+    }
+
+    public static <T> byte[] toBinary(EventSchema<T> schema, T event) {
+        BinaryOutput out = new BinaryOutput(128);
+        out.writeByte(MAGIC);
+        out.writeByte(schema.id());
+        out.writeByte(schema.version());
+        schema.writeBinary(out, event);
+        return out.toByteArray();
+    }
+
+    /**
+     * Lê um evento binário de qualquer versão do schema.
+     *
+     * @throws SerializationException se o magic ou o id do schema forem
+     *                                desconhecidos ou a mensagem estiver corrompida
+     */
+    public static Object fromBinary(byte[] data) {
+        if (!isBinary(data)) {
+            throw new SerializationException("Mensagem não está no formato binário de eventos");
+        }
+        BinaryInput in = new BinaryInput(data);
+        in.readByte();
+        int id = in.readByte();
+        in.readByte();
+        EventSchema<?> schema = BillingEventSchemas.porId(id);
+        if (schema == null) {
+            throw new SerializationException("Schema de evento desconhecido: " + id);
+        }
+        Object event = schema.readBinary(in);
+        if (in.hasRemaining()) {
+            throw new SerializationException("Bytes sobrando no evento binário " + schema.eventType());
+        }
+        return event;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Deserializer dos eventos consumidos, tipado pelo schema:
+ * - binário ({@link BillingEventCodec#isBinary}): schema pelo id da mensagem
+ * - JSON com header eventType conhecido: JsonParser direto na classe do evento
+ * - demais JSON (eventType sem schema ou ausente): Map, como o
+ * JsonDeserializer com spring.json.value.default.type=java.util.Map
+ */
+public class BillingEventDeserializer implements Deserializer<Object> {
+
+    public static final String EVENT_TYPE_HEADER = "eventType";
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (BillingEventCodec.isBinary(data)) {
+            return BillingEventCodec.fromBinary(data);
+        }
+
+        EventSchema<?> schema = BillingEventSchemas.porEventType(eventType(headers));
+        if (schema != null) {
+            return schema.fromJson(data);
+        }
+        try {
+            return OBJECT_MAPPER.readValue(data, Map.class);
+        } catch (IOException e) {
+            throw new SerializationException("Erro ao desserializar mensagem do " + topic, e);
+        }
+    }
+
+    private static String eventType(Headers headers) {
+        Header header = headers != null ? headers.lastHeader(EVENT_TYPE_HEADER) : null;
+        return header != null && header.value() != null
+                ? new String(header.value(), StandardCharsets.UTF_8)
+                : null;
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import br.com.grupo99.billingservice.domain.events.DiagnosticoConcluidoEvent;
+import br.com.grupo99.billingservice.domain.events.ExecucaoFalhouEvent;
+import br.com.grupo99.billingservice.domain.events.OSCanceladaEvent;
+import br.com.grupo99.billingservice.domain.events.OSCriadaEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoProntoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schemas dos eventos do billing-events (produzidos) e do os-events e
+ * execution-events (consumidos).
+ *
+ * Os ids são fixos no formato binário: não reutilizar nem renumerar. Campos
+ * seguem a ordem de declaração das classes (ordem do JSON do ObjectMapper).
+ */
+public final class BillingEventSchemas {
+
+    // ===================== billing-events =====================
+
+    public static final EventSchema<OrcamentoProntoEvent> ORCAMENTO_PRONTO = EventSchema
+            .builder(1, "ORCAMENTO_PRONTO", OrcamentoProntoEvent.class, OrcamentoProntoEvent::new)
+            .field("orcamentoId", FieldType.ID, OrcamentoProntoEvent::getOrcamentoId, OrcamentoProntoEvent::setOrcamentoId)
+            .field("osId", FieldType.ID, OrcamentoProntoEvent::getOsId, OrcamentoProntoEvent::setOsId)
+            .field("valorTotal", FieldType.DECIMAL, OrcamentoProntoEvent::getValorTotal, OrcamentoProntoEvent::setValorTotal)
+            .field("prazoValidadeDias", FieldType.INTEIRO, OrcamentoProntoEvent::getPrazoValidadeDias,
+                    OrcamentoProntoEvent::setPrazoValidadeDias)
+            .field("timestamp", FieldType.DATA_HORA, OrcamentoProntoEvent::getTimestamp, OrcamentoProntoEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, OrcamentoProntoEvent::getEventType, OrcamentoProntoEvent::setEventType)
+            .build();
+
+    public static final EventSchema<OrcamentoAprovadoEvent> ORCAMENTO_APROVADO = EventSchema
+            .builder(2, "ORCAMENTO_APROVADO", OrcamentoAprovadoEvent.class, OrcamentoAprovadoEvent::new)
+            .field("orcamentoId", FieldType.ID, OrcamentoAprovadoEvent::getOrcamentoId, OrcamentoAprovadoEvent::setOrcamentoId)
+            .field("osId", FieldType.ID, OrcamentoAprovadoEvent::getOsId, OrcamentoAprovadoEvent::setOsId)
+            .field("valorTotal", FieldType.DECIMAL, OrcamentoAprovadoEvent::getValorTotal,
+                    OrcamentoAprovadoEvent::setValorTotal)
+            .field("aprovadoPor", FieldType.TEXTO, OrcamentoAprovadoEvent::getAprovadoPor,
+                    OrcamentoAprovadoEvent::setAprovadoPor)
+            .field("timestamp", FieldType.DATA_HORA, OrcamentoAprovadoEvent::getTimestamp,
+                    OrcamentoAprovadoEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, OrcamentoAprovadoEvent::getEventType, OrcamentoAprovadoEvent::setEventType)
+            .build();
+
+    public static final EventSchema<OrcamentoRejeitadoEvent> ORCAMENTO_REJEITADO = EventSchema
+            .builder(3, "ORCAMENTO_REJEITADO", OrcamentoRejeitadoEvent.class, OrcamentoRejeitadoEvent::new)
+            .field("orcamentoId", FieldType.ID, OrcamentoRejeitadoEvent::getOrcamentoId,
+                    OrcamentoRejeitadoEvent::setOrcamentoId)
+            .field("osId", FieldType.ID, OrcamentoRejeitadoEvent::getOsId, OrcamentoRejeitadoEvent::setOsId)
+            .field("motivo", FieldType.TEXTO, OrcamentoRejeitadoEvent::getMotivo, OrcamentoRejeitadoEvent::setMotivo)
+            .field("rejeitadoPor", FieldType.TEXTO, OrcamentoRejeitadoEvent::getRejeitadoPor,
+                    OrcamentoRejeitadoEvent::setRejeitadoPor)
+            .field("timestamp", FieldType.DATA_HORA, OrcamentoRejeitadoEvent::getTimestamp,
+                    OrcamentoRejeitadoEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, OrcamentoRejeitadoEvent::getEventType,
+                    OrcamentoRejeitadoEvent::setEventType)
+            .build();
+
+    public static final EventSchema<PagamentoFalhouEvent> PAGAMENTO_FALHOU = EventSchema
+            .builder(4, "PAGAMENTO_FALHOU", PagamentoFalhouEvent.class, PagamentoFalhouEvent::new)
+            .field("pagamentoId", FieldType.ID, PagamentoFalhouEvent::getPagamentoId, PagamentoFalhouEvent::setPagamentoId)
+            .field("orcamentoId", FieldType.ID, PagamentoFalhouEvent::getOrcamentoId, PagamentoFalhouEvent::setOrcamentoId)
+            .field("osId", FieldType.ID, PagamentoFalhouEvent::getOsId, PagamentoFalhouEvent::setOsId)
+            .field("motivo", FieldType.TEXTO, PagamentoFalhouEvent::getMotivo, PagamentoFalhouEvent::setMotivo)
+            .field("mensagemErro", FieldType.TEXTO, PagamentoFalhouEvent::getMensagemErro,
+                    PagamentoFalhouEvent::setMensagemErro)
+            .field("codigoErro", FieldType.TEXTO, PagamentoFalhouEvent::getCodigoErro, PagamentoFalhouEvent::setCodigoErro)
+            .field("valorTentado", FieldType.DECIMAL, PagamentoFalhouEvent::getValorTentado,
+                    PagamentoFalhouEvent::setValorTentado)
+            .field("timestamp", FieldType.DATA_HORA, PagamentoFalhouEvent::getTimestamp, PagamentoFalhouEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, PagamentoFalhouEvent::getEventType, PagamentoFalhouEvent::setEventType)
+            .build();
+
+    // ===================== os-events =====================
+
+    public static final EventSchema<OSCriadaEvent> OS_CRIADA = EventSchema
+            .builder(10, "OS_CRIADA", OSCriadaEvent.class, OSCriadaEvent::new)
+            .field("osId", FieldType.ID, OSCriadaEvent::getOsId, OSCriadaEvent::setOsId)
+            .field("clienteId", FieldType.ID, OSCriadaEvent::getClienteId, OSCriadaEvent::setClienteId)
+            .field("veiculoId", FieldType.ID, OSCriadaEvent::getVeiculoId, OSCriadaEvent::setVeiculoId)
+            .field("descricao", FieldType.TEXTO, OSCriadaEvent::getDescricao, OSCriadaEvent::setDescricao)
+            .field("timestamp", FieldType.DATA_HORA, OSCriadaEvent::getTimestamp, OSCriadaEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, OSCriadaEvent::getEventType, OSCriadaEvent::setEventType)
+            .build();
+
+    public static final EventSchema<OSCanceladaEvent> OS_CANCELADA = EventSchema
+            .builder(11, "OS_CANCELADA", OSCanceladaEvent.class, OSCanceladaEvent::new)
+            .field("osId", FieldType.ID, OSCanceladaEvent::getOsId, OSCanceladaEvent::setOsId)
+            .field("motivo", FieldType.TEXTO, OSCanceladaEvent::getMotivo, OSCanceladaEvent::setMotivo)
+            .field("timestamp", FieldType.DATA_HORA, OSCanceladaEvent::getTimestamp, OSCanceladaEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, OSCanceladaEvent::getEventType, OSCanceladaEvent::setEventType)
+            .build();
+
+    // ===================== execution-events =====================
+
+    public static final EventSchema<DiagnosticoConcluidoEvent> DIAGNOSTICO_CONCLUIDO = EventSchema
+            .builder(20, "DIAGNOSTICO_CONCLUIDO", DiagnosticoConcluidoEvent.class, DiagnosticoConcluidoEvent::new)
+            .field("osId", FieldType.ID, DiagnosticoConcluidoEvent::getOsId, DiagnosticoConcluidoEvent::setOsId)
+            .field("execucaoId", FieldType.ID, DiagnosticoConcluidoEvent::getExecucaoId,
+                    DiagnosticoConcluidoEvent::setExecucaoId)
+            .field("diagnostico", FieldType.TEXTO, DiagnosticoConcluidoEvent::getDiagnostico,
+                    DiagnosticoConcluidoEvent::setDiagnostico)
+            .field("valorEstimado", FieldType.DECIMAL, DiagnosticoConcluidoEvent::getValorEstimado,
+                    DiagnosticoConcluidoEvent::setValorEstimado)
+            .field("timestamp", FieldType.DATA_HORA, DiagnosticoConcluidoEvent::getTimestamp,
+                    DiagnosticoConcluidoEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, DiagnosticoConcluidoEvent::getEventType,
+                    DiagnosticoConcluidoEvent::setEventType)
+            .build();
+
+    public static final EventSchema<ExecucaoFalhouEvent> EXECUCAO_FALHOU = EventSchema
+            .builder(21, "EXECUCAO_FALHOU", ExecucaoFalhouEvent.class, ExecucaoFalhouEvent::new)
+            .field("osId", FieldType.ID, ExecucaoFalhouEvent::getOsId, ExecucaoFalhouEvent::setOsId)
+            .field("execucaoId", FieldType.ID, ExecucaoFalhouEvent::getExecucaoId, ExecucaoFalhouEvent::setExecucaoId)
+            .field("motivo", FieldType.TEXTO, ExecucaoFalhouEvent::getMotivo, ExecucaoFalhouEvent::setMotivo)
+            .field("requerRetrabalho", FieldType.BOOLEANO, ExecucaoFalhouEvent::getRequerRetrabalho,
+                    ExecucaoFalhouEvent::setRequerRetrabalho)
+            .field("timestamp", FieldType.DATA_HORA, ExecucaoFalhouEvent::getTimestamp, ExecucaoFalhouEvent::setTimestamp)
+            .field("eventType", FieldType.TEXTO, ExecucaoFalhouEvent::getEventType, ExecucaoFalhouEvent::setEventType)
+            .build();
+
+    public static final List<EventSchema<?>> TODOS = List.of(
+            ORCAMENTO_PRONTO, ORCAMENTO_APROVADO, ORCAMENTO_REJEITADO, PAGAMENTO_FALHOU,
+            OS_CRIADA, OS_CANCELADA, DIAGNOSTICO_CONCLUIDO, EXECUCAO_FALHOU);
+
+    private static final EventSchema<?>[] POR_ID = new EventSchema<?>[256];
+    private static final Map<String, EventSchema<?>> POR_EVENT_TYPE = new HashMap<>();
+    private static final Map<Class<?>, EventSchema<?>> POR_CLASSE = new HashMap<>();
+
+    static {
+        for (EventSchema<?> schema : TODOS) {
+            if (POR_ID[schema.id()] != null || POR_EVENT_TYPE.put(schema.eventType(), schema) != null
+                    || POR_CLASSE.put(schema.type(), schema) != null) {
+                throw new IllegalStateException("Schema repetido: " + schema.eventType());
+            }
+            POR_ID[schema.id()] = schema;
+        }
+    }
+
+    private BillingEventSchemas() {
+    }
+
+    /**
+     * Schema pelo id do formato binário (null se desconhecido).
+     */
+    public static EventSchema<?> porId(int id) {
+        return id >= 0 && id < POR_ID.length ? POR_ID[id] : null;
+    }
+
+    /**
+     * Schema pelo header eventType (null se o evento não tem schema).
+     */
+    public static EventSchema<?> porEventType(String eventType) {
+        return eventType != null ? POR_EVENT_TYPE.get(eventType) : null;
+    }
+
+    /**
+     * Schema pela classe exata do evento (null se não tem schema).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EventSchema<T> porClasse(Class<T> type) {
+        return (EventSchema<T>) POR_CLASSE.get(type);
+    }
+}
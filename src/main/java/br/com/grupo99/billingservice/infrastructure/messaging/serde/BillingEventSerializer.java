@@ -0,0 +1,97 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Serializer dos eventos com schema ({@link BillingEventSchemas}).
+ *
+ * Formato pela propriedade {@value #FORMAT_CONFIG} do producer:
+ * - json (padrão): JSON via JsonGenerator, no mesmo formato e com o mesmo
+ * header de tipo do JsonSerializer do spring-kafka
+ * - binary: {@link BillingEventCodec}, sem header de tipo
+ *
+ * Valores sem schema (ex.: Map reenviado ao DLT) vão em JSON pelo ObjectMapper;
+ * byte[] (payload que não desserializou, reenviado ao DLT) vai sem alteração.
+ */
+public class BillingEventSerializer implements Serializer<Object> {
+
+    public static final String FORMAT_CONFIG = "billing.serde.format";
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_BINARY = "binary";
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonUtils.enhancedObjectMapper();
+
+    private boolean binary;
+
+    public BillingEventSerializer() {
+    }
+
+    public BillingEventSerializer(String format) {
+        this.binary = isBinary(format);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object format = configs.get(FORMAT_CONFIG);
+        if (format != null) {
+            this.binary = isBinary(format.toString());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        // Valor que falhou na desserialização, reenviado ao DLT como veio
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        EventSchema schema = BillingEventSchemas.porClasse(data.getClass());
+        if (schema != null && binary) {
+            if (headers != null) {
+                headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+            }
+            return BillingEventCodec.toBinary(schema, data);
+        }
+
+        if (headers != null) {
+            headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+            headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                    data.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        }
+        if (schema != null) {
+            return schema.toJson(data);
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Erro ao serializar " + data.getClass().getName() + " em JSON", e);
+        }
+    }
+
+    private static boolean isBinary(String format) {
+        return switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case FORMAT_JSON -> false;
+            case FORMAT_BINARY -> true;
+            default -> throw new ConfigException(FORMAT_CONFIG, format, "use json ou binary");
+        };
+    }
+}
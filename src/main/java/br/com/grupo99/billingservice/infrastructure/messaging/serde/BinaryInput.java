@@ -0,0 +1,89 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Leitura do formato binário (ver {@link BinaryOutput}).
+ *
+ * @throws SerializationException em leituras além do fim ou varints inválidos
+ */
+final class BinaryInput {
+
+    private final byte[] data;
+    private int position;
+
+    BinaryInput(byte[] data) {
+        this.data = data;
+    }
+
+    int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(data, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    long readFixedLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Varint inválido no evento binário");
+    }
+
+    long readZigZag() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readLength() {
+        long length = readVarLong();
+        if (length < 0 || length > data.length - position) {
+            throw new SerializationException("Evento binário truncado");
+        }
+        return (int) length;
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    void skip(int length) {
+        require(length);
+        position += length;
+    }
+
+    boolean hasRemaining() {
+        return position < data.length;
+    }
+
+    private void require(int length) {
+        if (length > data.length - position) {
+            throw new SerializationException("Evento binário truncado");
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Schema versionado de um evento: id no formato binário, eventType do header,
+ * classe e a lista ordenada de campos (getter/setter, sem reflexão).
+ *
+ * Evolução: campos novos só entram no fim da lista, com a versão
+ * incrementada; nome, tipo e posição de um campo existente não mudam. Leitores
+ * antigos pulam os campos extras (binário, pela tag; JSON, pelo nome) e
+ * leitores novos mantêm o valor padrão da classe nos campos ausentes.
+ */
+public final class EventSchema<T> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final int id;
+    private final int version;
+    private final String eventType;
+    private final Class<T> type;
+    private final Supplier<T> factory;
+    private final List<Field<T, ?>> fields;
+    private final Map<String, Field<T, ?>> fieldsByName;
+
+    private EventSchema(Builder<T> builder) {
+        this.id = builder.id;
+        this.version = builder.version;
+        this.eventType = builder.eventType;
+        this.type = builder.type;
+        this.factory = builder.factory;
+        this.fields = List.copyOf(builder.fields);
+        this.fieldsByName = new HashMap<>();
+        for (Field<T, ?> field : fields) {
+            if (fieldsByName.put(field.name, field) != null) {
+                throw new IllegalArgumentException("Campo repetido no schema " + eventType + ": " + field.name);
+            }
+        }
+    }
+
+    public static <T> Builder<T> builder(int id, String eventType, Class<T> type, Supplier<T> factory) {
+        return new Builder<>(id, eventType, type, factory);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public String eventType() {
+        return eventType;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Nomes dos campos, na ordem do schema.
+     */
+    List<String> fieldNames() {
+        return fields.stream().map(field -> field.name).toList();
+    }
+
+    /**
+     * Campos do corpo binário: quantidade (varint) e, para cada campo, tag +
+     * valor (ou só a tag {@link FieldType#NULO}). O cabeçalho fica com o
+     * {@link BillingEventCodec}.
+     */
+    void writeBinary(BinaryOutput out, T event) {
+        out.writeVarLong(fields.size());
+        for (Field<T, ?> field : fields) {
+            field.writeBinary(out, event);
+        }
+    }
+
+    T readBinary(BinaryInput in) {
+        long count = in.readVarLong();
+        T event = factory.get();
+        for (long i = 0; i < count; i++) {
+            int tag = in.readByte();
+            if (i < fields.size()) {
+                fields.get((int) i).readBinary(in, tag, event);
+            } else {
+                FieldType.skip(tag, in);
+            }
+        }
+        return event;
+    }
+
+    /**
+     * JSON via JsonGenerator, com os campos na ordem declarada (a mesma do
+     * ObjectMapper para as classes Lombok de domain.events) e nulos explícitos.
+     */
+    public byte[] toJson(T event) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(out)) {
+            gen.writeStartObject();
+            for (Field<T, ?> field : fields) {
+                field.writeJson(gen, event);
+            }
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new SerializationException("Erro ao serializar " + eventType + " em JSON", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Lê JSON via JsonParser, ignorando propriedades desconhecidas.
+     *
+     * @throws SerializationException se o JSON não for um objeto do schema
+     */
+    public T fromJson(byte[] data) {
+        try (JsonParser parser = JSON_FACTORY.createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Objeto JSON esperado para " + eventType);
+            }
+            T event = factory.get();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Field<T, ?> field = fieldsByName.get(parser.currentName());
+                parser.nextToken();
+                if (field == null) {
+                    parser.skipChildren();
+                } else {
+                    field.readJson(parser, event);
+                }
+            }
+            return event;
+        } catch (IOException e) {
+            throw new SerializationException("Erro ao desserializar " + eventType + " de JSON", e);
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final int id;
+        private final String eventType;
+        private final Class<T> type;
+        private final Supplier<T> factory;
+        private final List<Field<T, ?>> fields = new ArrayList<>();
+        private int version = 1;
+
+        private Builder(int id, String eventType, Class<T> type, Supplier<T> factory) {
+            if (id <= 0 || id > 255) {
+                throw new IllegalArgumentException("id do schema deve estar entre 1 e 255");
+            }
+            this.id = id;
+            this.eventType = eventType;
+            this.type = type;
+            this.factory = factory;
+        }
+
+        public Builder<T> version(int version) {
+            if (version <= 0 || version > 255) {
+                throw new IllegalArgumentException("versão do schema deve estar entre 1 e 255");
+            }
+            this.version = version;
+            return this;
+        }
+
+        public <V> Builder<T> field(String name, FieldType<V> fieldType, Function<T, V> getter,
+                BiConsumer<T, V> setter) {
+            fields.add(new Field<>(name, fieldType, getter, setter));
+            return this;
+        }
+
+        public EventSchema<T> build() {
+            return new EventSchema<>(this);
+        }
+    }
+
+    private static final class Field<T, V> {
+
+        private final String name;
+        private final FieldType<V> fieldType;
+        private final Function<T, V> getter;
+        private final BiConsumer<T, V> setter;
+
+        private Field(String name, FieldType<V> fieldType, Function<T, V> getter, BiConsumer<T, V> setter) {
+            this.name = name;
+            this.fieldType = fieldType;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        void writeBinary(BinaryOutput out, T event) {
+            V value = getter.apply(event);
+            if (value == null) {
+                out.writeByte(FieldType.NULO);
+            } else {
+                out.writeByte(fieldType.tag());
+                fieldType.write(out, value);
+            }
+        }
+
+        void readBinary(BinaryInput in, int tag, T event) {
+            if (tag == FieldType.NULO) {
+                setter.accept(event, null);
+            } else if (tag == fieldType.tag()) {
+                setter.accept(event, fieldType.read(in));
+            } else {
+                throw new SerializationException("Tipo incompatível no campo " + name + ": tag " + tag);
+            }
+        }
+
+        void writeJson(JsonGenerator gen, T event) throws IOException {
+            V value = getter.apply(event);
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                fieldType.writeJson(gen, value);
+            }
+        }
+
+        void readJson(JsonParser parser, T event) throws IOException {
+            setter.accept(event, parser.currentToken() == JsonToken.VALUE_NULL ? null : fieldType.readJson(parser));
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Tipo de um campo de evento: codificação binária (precedida de uma tag, que
+ * permite pular campos desconhecidos) e JSON (no mesmo formato do ObjectMapper
+ * do spring-kafka, para compatibilidade com o JsonSerializer/JsonDeserializer).
+ */
+public abstract class FieldType<V> {
+
+    /** Tag de campo nulo no formato binário. */
+    static final int NULO = 0;
+
+    private static final int TAG_ID = 1;
+    private static final int TAG_TEXTO = 2;
+    private static final int TAG_DECIMAL = 3;
+    private static final int TAG_DATA_HORA = 4;
+    private static final int TAG_INTEIRO = 5;
+    private static final int TAG_BOOLEANO = 6;
+
+    /** UUID: 16 bytes / string. */
+    public static final FieldType<UUID> ID = new FieldType<>(TAG_ID) {
+        @Override
+        void write(BinaryOutput out, UUID value) {
+            out.writeFixedLong(value.getMostSignificantBits());
+            out.writeFixedLong(value.getLeastSignificantBits());
+        }
+
+        @Override
+        UUID read(BinaryInput in) {
+            return new UUID(in.readFixedLong(), in.readFixedLong());
+        }
+
+        @Override
+        void writeJson(JsonGenerator gen, UUID value) throws IOException {
+            gen.writeString(value.toString());
+        }
+
+        @Override
+        UUID readJson(JsonParser parser) throws IOException {
+            try {
+                return UUID.fromString(parser.getValueAsString());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new JsonParseException(parser, "UUID inválido: " + parser.getText());
+            }
+        }
+    };
+
+    /** String: tamanho (varint) + UTF-8 / string. */
+    public static final FieldType<String> TEXTO = new FieldType<>(TAG_TEXTO) {
+        @Override
+        void write(BinaryOutput out, String value) {
+            out.writeString(value);
+        }
+
+        @Override
+        String read(BinaryInput in) {
+            return in.readString();
+        }
+
+        @Override
+        void writeJson(JsonGenerator gen, String value) throws IOException {
+            gen.writeString(value);
+        }
+
+        @Override
+        String readJson(JsonParser parser) throws IOException {
+            return parser.getValueAsString();
+        }
+    };
+
+    /** BigDecimal: escala (zigzag) + valor sem escala em complemento de dois / número. */
+    public static final FieldType<BigDecimal> DECIMAL = new FieldType<>(TAG_DECIMAL) {
+        @Override
+        void write(BinaryOutput out, BigDecimal value) {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            out.writeZigZag(value.scale());
+            out.writeVarLong(unscaled.length);
+            out.writeBytes(unscaled);
+        }
+
+        @Override
+        BigDecimal read(BinaryInput in) {
+            int scale = (int) in.readZigZag();
+            return new BigDecimal(new BigInteger(in.readBytes(in.readLength())), scale);
+        }
+
+        @Override
+        void writeJson(JsonGenerator gen, BigDecimal value) throws IOException {
+            gen.writeNumber(value);
+        }
+
+        @Override
+        BigDecimal readJson(JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                try {
+                    return new BigDecimal(parser.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw new JsonParseException(parser, "Decimal inválido: " + parser.getText());
+                }
+            }
+            return parser.getDecimalValue();
+        }
+    };
+
+    /**
+     * LocalDateTime: segundos (zigzag, tomando UTC como referência) + nanos /
+     * array [ano, mês, dia, hora, minuto(, segundo(, nanos))] como o
+     * JavaTimeModule; na leitura também aceita string ISO-8601.
+     */
+    public static final FieldType<LocalDateTime> DATA_HORA = new FieldType<>(TAG_DATA_HORA) {
+        @Override
+        void write(BinaryOutput out, LocalDateTime value) {
+            out.writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeVarLong(value.getNano());
+        }
+
+        @Override
+        LocalDateTime read(BinaryInput in) {
+            long epochSecond = in.readZigZag();
+            long nano = in.readVarLong();
+            if (nano < 0 || nano > 999_999_999L) {
+                throw new SerializationException("Nanos inválidos no evento binário: " + nano);
+            }
+            return LocalDateTime.ofEpochSecond(epochSecond, (int) nano, ZoneOffset.UTC);
+        }
+
+        @Override
+        void writeJson(JsonGenerator gen, LocalDateTime value) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.getYear());
+            gen.writeNumber(value.getMonthValue());
+            gen.writeNumber(value.getDayOfMonth());
+            gen.writeNumber(value.getHour());
+            gen.writeNumber(value.getMinute());
+            if (value.getSecond() > 0 || value.getNano() > 0) {
+                gen.writeNumber(value.getSecond());
+                if (value.getNano() > 0) {
+                    gen.writeNumber(value.getNano());
+                }
+            }
+            gen.writeEndArray();
+        }
+
+        @Override
+        LocalDateTime readJson(JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                try {
+                    return LocalDateTime.from(DateTimeFormatter.ISO_DATE_TIME.parse(parser.getText().trim()));
+                } catch (DateTimeParseException e) {
+                    throw new JsonParseException(parser, "Data/hora inválida: " + parser.getText());
+                }
+            }
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Data/hora esperada como array ou string");
+            }
+            int[] partes = new int[7];
+            int quantidade = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (quantidade == partes.length || !parser.currentToken().isNumeric()) {
+                    throw new JsonParseException(parser, "Data/hora inválida");
+                }
+                partes[quantidade++] = parser.getIntValue();
+            }
+            if (quantidade < 5) {
+                throw new JsonParseException(parser, "Data/hora inválida");
+            }
+            try {
+                return LocalDateTime.of(partes[0], partes[1], partes[2], partes[3], partes[4], partes[5], partes[6]);
+            } catch (DateTimeException e) {
+                throw new JsonParseException(parser, "Data/hora inválida: " + e.getMessage());
+            }
+        }
+    };
+
+    /** Integer: zigzag / número. */
+    public static final FieldType<Integer> INTEIRO = new FieldType<>(TAG_INTEIRO) {
+        @Override
+        void write(BinaryOutput out, Integer value) {
+            out.writeZigZag(value);
+        }
+
+        @Override
+        Integer read(BinaryInput in) {
+            return Math.toIntExact(in.readZigZag());
+        }
+
+        @Override
+        void writeJson(JsonGenerator gen, Integer value) throws IOException {
+            gen.writeNumber(value);
+        }
+
+        @Override
+        Integer readJson(JsonParser parser) throws IOException {
+            return parser.getValueAsInt();
+        }
+    };
+
+    /** Boolean: 1 byte / boolean. */
+    public static final FieldType<Boolean> BOOLEANO = new FieldType<>(TAG_BOOLEANO) {
+        @Override
+        void write(BinaryOutput out, Boolean value) {
+            out.writeByte(value ? 1 : 0);
+        }
+
+        @Override
+        Boolean read(BinaryInput in) {
+            return in.readByte() != 0;
+        }
+
+        @Override
+        void writeJson(JsonGenerator gen, Boolean value) throws IOException {
+            gen.writeBoolean(value);
+        }
+
+        @Override
+        Boolean readJson(JsonParser parser) throws IOException {
+            return parser.getValueAsBoolean();
+        }
+    };
+
+    private final int tag;
+
+    private FieldType(int tag) {
+        this.tag = tag;
+    }
+
+    int tag() {
+        return tag;
+    }
+
+    abstract void write(BinaryOutput out, V value);
+
+    abstract V read(BinaryInput in);
+
+    abstract void writeJson(JsonGenerator gen, V value) throws IOException;
+
+    /**
+     * Lê o valor a partir do token atual do parser (não nulo).
+     */
+    abstract V readJson(JsonParser parser) throws IOException;
+
+    /**
+     * Pula um valor binário pela tag (campos de uma versão mais nova do schema).
+     */
+    static void skip(int tag, BinaryInput in) {
+        switch (tag) {
+            case NULO -> {
+            }
+            case TAG_ID -> in.skip(16);
+            case TAG_TEXTO -> in.skip(in.readLength());
+            case TAG_DECIMAL -> {
+                in.readZigZag();
+                in.skip(in.readLength());
+            }
+            case TAG_DATA_HORA -> {
+                in.readZigZag();
+                in.readVarLong();
+            }
+            case TAG_INTEIRO -> in.readVarLong();
+            case TAG_BOOLEANO -> in.skip(1);
+            default -> throw new SerializationException("Tag desconhecida no evento binário: " + tag);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache read-through (Caffeine) de findById na frente do OrcamentoRepositoryAdapter,
+ * mais um cache negativo de curta duração para OS sem orçamento.
+ * 
+ * ✅ CLEAN ARCHITECTURE - DECORATOR PATTERN:
+ * - Implementa a mesma interface de domínio (OrcamentoRepository)
+ * - Application services não sabem que existe cache
+ * 
+ * O Orcamento é mutável, então o cache guarda um snapshot (OrcamentoEntity) e
+ * cada leitura devolve uma instância nova. save e deleteById invalidam a chave
+ * mesmo quando falham (ex.: conflito de versão);
+ * as demais consultas vão direto ao DynamoDB.
+ * 
+ * O cache negativo responde "não há orçamento" para findByOsId/existsByOsId
+ * (eventos OS_CANCELADA/EXECUCAO_FALHOU de OS que nunca tiveram orçamento).
+ * save invalida o osId salvo; um orçamento criado por outra instância só é
+ * visto aqui depois do TTL negativo, por isso ele é curto.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingOrcamentoRepository implements OrcamentoRepository, OrcamentoSnapshotReader {
+
+    static final String CACHE_NAME = "orcamentos";
+    static final String NEGATIVE_OS_CACHE_NAME = "orcamentos-os-sem-orcamento";
+
+    private final OrcamentoRepository delegate;
+    private final OrcamentoEntityMapper mapper;
+    private final Cache<UUID, OrcamentoEntity> cache;
+    private final Cache<UUID, Boolean> osIdsSemOrcamento;
+
+    @Autowired
+    public CachingOrcamentoRepository(
+            OrcamentoRepositoryAdapter delegate,
+            OrcamentoEntityMapper mapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.orcamentos.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.orcamentos.expire-after-write:60s}") Duration expireAfterWrite,
+            @Value("${app.cache.orcamentos.negative-os-maximum-size:100000}") long negativeMaximumSize,
+            @Value("${app.cache.orcamentos.negative-os-ttl:10s}") Duration negativeTtl) {
+        this(delegate, mapper,
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+                        .build(),
+                Caffeine.newBuilder()
+                        .maximumSize(negativeMaximumSize)
+                        .expireAfterWrite(negativeTtl)
+                        .recordStats()
+                        .build());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, osIdsSemOrcamento, NEGATIVE_OS_CACHE_NAME);
+    }
+
+    CachingOrcamentoRepository(OrcamentoRepository delegate, OrcamentoEntityMapper mapper,
+            Cache<UUID, OrcamentoEntity> cache, Cache<UUID, Boolean> osIdsSemOrcamento) {
+        this.delegate = delegate;
+        this.mapper = mapper;
+        this.cache = cache;
+        this.osIdsSemOrcamento = osIdsSemOrcamento;
+    }
+
+    @Override
+    public Orcamento save(Orcamento orcamento) {
+        // Invalida também em falha: após um conflito de versão a releitura deve ir ao DynamoDB
+        try {
+            return delegate.save(orcamento);
+        } finally {
+            cache.invalidate(orcamento.getId());
+            invalidateOsId(orcamento.getOsId());
+        }
+    }
+
+    @Override
+    public Orcamento updateStatus(Orcamento orcamento, StatusOrcamento statusAnterior) {
+        try {
+            return delegate.updateStatus(orcamento, statusAnterior);
+        } finally {
+            cache.invalidate(orcamento.getId());
+        }
+    }
+
+    @Override
+    public Orcamento updateStatus(Orcamento orcamento, StatusOrcamento statusAnterior, BillingEvent evento) {
+        try {
+            return delegate.updateStatus(orcamento, statusAnterior, evento);
+        } finally {
+            cache.invalidate(orcamento.getId());
+        }
+    }
+
+    @Override
+    public List<Orcamento> saveAll(List<Orcamento> orcamentos) {
+        try {
+            return delegate.saveAll(orcamentos);
+        } finally {
+            cache.invalidateAll(orcamentos.stream().map(Orcamento::getId).collect(Collectors.toList()));
+            orcamentos.forEach(orcamento -> invalidateOsId(orcamento.getOsId()));
+        }
+    }
+
+    /**
+     * Histórico não passa pelo cache: é lido raramente e cresce sem limite.
+     */
+    @Override
+    public List<HistoricoStatus> findHistorico(UUID orcamentoId) {
+        return delegate.findHistorico(orcamentoId);
+    }
+
+    /**
+     * Busca por ID passando pelo cache. Ausências não são cacheadas.
+     */
+    @Override
+    public Optional<Orcamento> findById(UUID id) {
+        return findSnapshot(id).map(mapper::toDomain);
+    }
+
+    /**
+     * Snapshot cacheado do orçamento, para o read model montar a resposta sem
+     * passar pelo domínio. A instância é compartilhada: só leitura.
+     */
+    @Override
+    public Optional<OrcamentoEntity> findSnapshot(UUID id) {
+        // Carga atômica por chave: uma invalidação concorrente espera a carga e a descarta
+        OrcamentoEntity snapshot = cache.get(id, key -> delegate.findById(key)
+                .map(mapper::toEntity)
+                .orElse(null));
+        return Optional.ofNullable(snapshot);
+    }
+
+    @Override
+    public List<Orcamento> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    /**
+     * Busca por osId; uma OS sabidamente sem orçamento não vai ao DynamoDB.
+     */
+    @Override
+    public Optional<Orcamento> findByOsId(UUID osId) {
+        AtomicReference<Orcamento> found = new AtomicReference<>();
+        // Carga atômica por chave, como em findById: o save do osId espera a carga e a descarta
+        Boolean semOrcamento = osIdsSemOrcamento.get(osId, key -> {
+            Optional<Orcamento> orcamento = delegate.findByOsId(key);
+            orcamento.ifPresent(found::set);
+            return orcamento.isPresent() ? null : Boolean.TRUE;
+        });
+        if (semOrcamento != null) {
+            log.debug("OS {} sem orçamento (cache negativo)", osId);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(found.get());
+    }
+
+    /**
+     * Busca em lote por osId: OS sabidamente sem orçamento não vão ao DynamoDB
+     * e as que continuam sem orçamento entram no cache negativo.
+     *
+     * Diferente de findByOsId, a marcação não é atômica com a leitura: um save
+     * do mesmo osId entre as duas pode ficar escondido até o TTL negativo.
+     */
+    @Override
+    public List<Orcamento> findAllByOsId(Collection<UUID> osIds) {
+        Set<UUID> semOrcamento = osIdsSemOrcamento.getAllPresent(osIds).keySet();
+        List<UUID> pendentes = osIds.stream()
+                .distinct()
+                .filter(osId -> !semOrcamento.contains(osId))
+                .collect(Collectors.toList());
+        if (pendentes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Orcamento> encontrados = delegate.findAllByOsId(pendentes);
+        Set<UUID> comOrcamento = encontrados.stream().map(Orcamento::getOsId).collect(Collectors.toSet());
+        pendentes.stream()
+                .filter(osId -> !comOrcamento.contains(osId))
+                .forEach(osId -> osIdsSemOrcamento.put(osId, Boolean.TRUE));
+        return encontrados;
+    }
+
+    @Override
+    public List<Orcamento> findByStatus(StatusOrcamento status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public PageResult<Orcamento> findByStatus(StatusOrcamento status, int pageSize, String cursor) {
+        return delegate.findByStatus(status, pageSize, cursor);
+    }
+
+    @Override
+    public boolean existsByOsId(UUID osId) {
+        return findByOsId(osId).isPresent();
+    }
+
+    @Override
+    public List<Orcamento> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public PageResult<Orcamento> findAll(int pageSize, String cursor) {
+        return delegate.findAll(pageSize, cursor);
+    }
+
+    @Override
+    public Stream<Orcamento> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        try {
+            delegate.deleteAllById(ids);
+        } finally {
+            cache.invalidateAll(ids);
+        }
+    }
+
+    private void invalidateOsId(UUID osId) {
+        if (osId != null) {
+            osIdsSemOrcamento.invalidate(osId);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoAsyncRepository;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbOrcamentoAsyncRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adapter assíncrono implementando OrcamentoAsyncRepository sobre o
+ * DynamoDbEnhancedAsyncClient (Netty NIO).
+ * 
+ * ✅ CLEAN ARCHITECTURE - ADAPTER PATTERN:
+ * - Implementa a interface de domínio (OrcamentoAsyncRepository)
+ * - Nenhuma thread fica bloqueada esperando o DynamoDB
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "true")
+public class OrcamentoAsyncRepositoryAdapter implements OrcamentoAsyncRepository {
+
+    private final DynamoDbOrcamentoAsyncRepository dynamoDbRepository;
+    private final OrcamentoEntityMapper mapper;
+
+    public OrcamentoAsyncRepositoryAdapter(
+            DynamoDbOrcamentoAsyncRepository dynamoDbRepository,
+            OrcamentoEntityMapper mapper) {
+        this.dynamoDbRepository = dynamoDbRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Orcamento>> findById(UUID id) {
+        log.debug("Buscando orçamento (async) por id: {}", id);
+        return dynamoDbRepository.findById(id.toString())
+                .thenApply(entity -> entity.map(mapper::toDomain));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Orcamento>> findByOsId(UUID osId) {
+        log.debug("Buscando orçamento (async) por osId: {}", osId);
+        return dynamoDbRepository.findByOsId(osId.toString())
+                .thenApply(entity -> entity.map(mapper::toDomain));
+    }
+}
@@ -4,6 +4,7 @@ import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
 import br.com.grupo99.billingservice.domain.model.ItemOrcamento;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
 import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.HistoricoOrcamentoEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
 import org.springframework.stereotype.Component;
 
@@ -16,6 +17,10 @@ import java.util.UUID;
  * 
  * ✅ CLEAN ARCHITECTURE: Mapper na infrastructure layer
  * Converte: Domain Model ↔ Persistence Entity
+ *
+ * O histórico não faz parte do OrcamentoEntity: as entradas novas viram
+ * HistoricoOrcamentoEntity (tabela filha) e o item pai guarda só o contador.
+ * Itens antigos ainda não migrados contam as entradas do histórico legado.
  */
 @Component
 public class OrcamentoEntityMapper {
@@ -40,18 +45,6 @@ public class OrcamentoEntityMapper {
                     .build()));
         }
 
-        // Converter histórico
-        List<OrcamentoEntity.HistoricoStatusEntity> historicoEntity = new ArrayList<>();
-        if (orcamento.getHistorico() != null) {
-            orcamento.getHistorico().forEach(hist -> historicoEntity.add(OrcamentoEntity.HistoricoStatusEntity.builder()
-                    .statusAnterior(hist.getStatusAnterior() != null ? hist.getStatusAnterior().name() : null)
-                    .novoStatus(hist.getNovoStatus() != null ? hist.getNovoStatus().name() : null)
-                    .usuario(hist.getUsuario())
-                    .observacao(hist.getObservacao())
-                    .data(hist.getData())
-                    .build()));
-        }
-
         return OrcamentoEntity.builder()
                 .id(orcamento.getId() != null ? orcamento.getId().toString() : null)
                 .osId(orcamento.getOsId() != null ? orcamento.getOsId().toString() : null)
@@ -63,7 +56,8 @@ public class OrcamentoEntityMapper {
                 .dataRejeicao(orcamento.getDataRejeicao())
                 .observacao(orcamento.getObservacao())
                 .motivoRejeicao(orcamento.getMotivoRejeicao())
-                .historico(historicoEntity)
+                .historicoCount(orcamento.getHistoricoCount())
+                .version(orcamento.getVersion())
                 .build();
     }
 
@@ -88,21 +82,6 @@ public class OrcamentoEntityMapper {
                     .build()));
         }
 
-        // Converter histórico
-        List<HistoricoStatus> historico = new ArrayList<>();
-        if (entity.getHistorico() != null) {
-            entity.getHistorico().forEach(histEntity -> historico.add(HistoricoStatus.builder()
-                    .statusAnterior(histEntity.getStatusAnterior() != null
-                            ? StatusOrcamento.valueOf(histEntity.getStatusAnterior())
-                            : null)
-                    .novoStatus(histEntity.getNovoStatus() != null ? StatusOrcamento.valueOf(histEntity.getNovoStatus())
-                            : null)
-                    .usuario(histEntity.getUsuario())
-                    .observacao(histEntity.getObservacao())
-                    .data(histEntity.getData())
-                    .build()));
-        }
-
         return Orcamento.builder()
                 .id(entity.getId() != null ? UUID.fromString(entity.getId()) : null)
                 .osId(entity.getOsId() != null ? UUID.fromString(entity.getOsId()) : null)
@@ -115,7 +94,71 @@ public class OrcamentoEntityMapper {
                 .dataRejeicao(entity.getDataRejeicao())
                 .observacao(entity.getObservacao())
                 .motivoRejeicao(entity.getMotivoRejeicao())
-                .historico(historico)
+                .historico(new ArrayList<>())
+                .historicoCount(historicoCount(entity))
+                .version(entity.getVersion())
+                .build();
+    }
+
+    /**
+     * Contador do histórico; itens anteriores à tabela filha não têm
+     * historicoCount e contam as entradas da lista legada.
+     */
+    private static int historicoCount(OrcamentoEntity entity) {
+        if (entity.getHistoricoCount() != null) {
+            return entity.getHistoricoCount();
+        }
+        return entity.getHistoricoLegado() != null ? entity.getHistoricoLegado().size() : 0;
+    }
+
+    /**
+     * Converte as entradas novas do histórico → HistoricoOrcamentoEntity.
+     *
+     * A posição de cada entrada continua a contagem já persistida
+     * (historicoCount - entradas novas). O orcamentoId é preenchido pelo
+     * repositório, que gera o ID de orçamentos novos.
+     */
+    public List<HistoricoOrcamentoEntity> toHistoricoEntities(Orcamento orcamento) {
+        if (orcamento == null || orcamento.getHistorico() == null || orcamento.getHistorico().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<HistoricoStatus> novas = orcamento.getHistorico();
+        int primeiraSequencia = orcamento.getHistoricoCount() - novas.size();
+        List<HistoricoOrcamentoEntity> entities = new ArrayList<>(novas.size());
+        for (int i = 0; i < novas.size(); i++) {
+            HistoricoStatus hist = novas.get(i);
+            int sequencia = primeiraSequencia + i;
+            entities.add(HistoricoOrcamentoEntity.builder()
+                    .orcamentoId(orcamento.getId() != null ? orcamento.getId().toString() : null)
+                    .timestamp(HistoricoOrcamentoEntity.timestamp(hist.getData(), sequencia))
+                    .sequencia(sequencia)
+                    .statusAnterior(hist.getStatusAnterior() != null ? hist.getStatusAnterior().name() : null)
+                    .novoStatus(hist.getNovoStatus() != null ? hist.getNovoStatus().name() : null)
+                    .usuario(hist.getUsuario())
+                    .observacao(hist.getObservacao())
+                    .data(hist.getData())
+                    .build());
+        }
+        return entities;
+    }
+
+    /**
+     * Converte HistoricoOrcamentoEntity → HistoricoStatus (domain)
+     */
+    public HistoricoStatus toHistoricoDomain(HistoricoOrcamentoEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return HistoricoStatus.builder()
+                .statusAnterior(entity.getStatusAnterior() != null
+                        ? StatusOrcamento.valueOf(entity.getStatusAnterior())
+                        : null)
+                .novoStatus(entity.getNovoStatus() != null ? StatusOrcamento.valueOf(entity.getNovoStatus()) : null)
+                .usuario(entity.getUsuario())
+                .observacao(entity.getObservacao())
+                .data(entity.getData())
                 .build();
     }
 }
@@ -0,0 +1,144 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.application.query.OrcamentoReadModel;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbCursorCodec;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbProjectedReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Adapter do read model de Orçamento sobre o DynamoDB.
+ *
+ * ✅ CLEAN ARCHITECTURE - ADAPTER PATTERN:
+ * - Implementa o port de leitura da application layer (OrcamentoReadModel)
+ * - Converte o item do DynamoDB direto em OrcamentoResponse
+ *
+ * findById passa pelo cache do CachingOrcamentoRepository (mesmo snapshot
+ * das escritas); lotes, páginas e o stream vão direto ao DynamoDB, como no
+ * repositório, com Scan/BatchGetItem projetados só nos atributos do DTO e o
+ * item cru convertido por OrcamentoResponseProjection.
+ *
+ * Itens não migrados (sem historicoCount) contam a lista legada do histórico
+ * em um BatchGetItem à parte, só na primeira leitura: o contador fica em
+ * cache e não muda enquanto o item não ganhar historicoCount (o save e a
+ * migração o gravam). Com o fallback do legado desligado
+ * (aws.dynamodb.orcamentos.historico-legado.leitura=false), a lista não é lida.
+ */
+@Slf4j
+@Component
+public class OrcamentoReadModelAdapter implements OrcamentoReadModel {
+
+    private final DynamoDbProjectedReader reader;
+    private final DynamoDbProjectedReader historicoLegadoReader;
+    private final OrcamentoSnapshotReader snapshotReader;
+    private final boolean historicoLegadoLeitura;
+    private final Cache<String, Integer> historicoLegadoCounts;
+
+    public OrcamentoReadModelAdapter(
+            DynamoDbClient dynamoDbClient,
+            OrcamentoSnapshotReader snapshotReader,
+            @Value("${aws.dynamodb.table-prefix:}") String tablePrefix,
+            @Value("${aws.dynamodb.orcamentos.historico-legado.leitura:true}") boolean historicoLegadoLeitura,
+            @Value("${app.cache.orcamentos.historico-legado-count-maximum-size:10000}") long historicoLegadoCountMaximumSize) {
+        this.snapshotReader = snapshotReader;
+        this.historicoLegadoLeitura = historicoLegadoLeitura;
+        String tableName = (tablePrefix != null && !tablePrefix.isBlank())
+                ? tablePrefix + "orcamentos"
+                : "orcamentos";
+        this.reader = new DynamoDbProjectedReader(dynamoDbClient, tableName, OrcamentoResponseProjection.ATTRIBUTES);
+        this.historicoLegadoReader = new DynamoDbProjectedReader(dynamoDbClient, tableName,
+                OrcamentoResponseProjection.HISTORICO_LEGADO_ATTRIBUTES);
+        this.historicoLegadoCounts = Caffeine.newBuilder()
+                .maximumSize(historicoLegadoCountMaximumSize)
+                .build();
+    }
+
+    @Override
+    public Optional<OrcamentoResponse> findById(UUID id) {
+        log.debug("Lendo orcamento (read model): {}", id);
+        return snapshotReader.findSnapshot(id).map(OrcamentoResponseProjection::fromEntity);
+    }
+
+    @Override
+    public List<OrcamentoResponse> findAllById(Collection<UUID> ids) {
+        log.debug("Lendo {} orcamentos por ID (read model)", ids.size());
+        return toResponses(reader.getAll(ids.stream()
+                        .distinct()
+                        .map(id -> Map.of("id", AttributeValue.builder().s(id.toString()).build()))
+                        .toList()));
+    }
+
+    @Override
+    public PageResult<OrcamentoResponse> findAll(int pageSize, String cursor) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize deve ser maior que zero");
+        }
+        log.debug("Lendo página de orcamentos (read model), pageSize: {}", pageSize);
+        ScanResponse page = reader.scan(pageSize, DynamoDbCursorCodec.requireKey(DynamoDbCursorCodec.decode(cursor),
+                OrcamentoEntity.TABLE_KEY));
+        return new PageResult<>(
+                toResponses(page.items()),
+                DynamoDbCursorCodec.encode(page.hasLastEvaluatedKey() ? page.lastEvaluatedKey() : null));
+    }
+
+    @Override
+    public Stream<OrcamentoResponse> streamAll() {
+        return reader.scanAll()
+                .map(item -> OrcamentoResponseProjection.fromItem(item, historicoLegadoCounts(List.of(item))));
+    }
+
+    private List<OrcamentoResponse> toResponses(List<Map<String, AttributeValue>> items) {
+        Map<String, Integer> legado = historicoLegadoCounts(items);
+        return items.stream()
+                .map(item -> OrcamentoResponseProjection.fromItem(item, legado))
+                .toList();
+    }
+
+    /**
+     * Contador do histórico legado dos itens sem historicoCount, pelo cache
+     * ou, para os que faltam, em um BatchGetItem projetado na lista legada
+     */
+    private Map<String, Integer> historicoLegadoCounts(List<Map<String, AttributeValue>> items) {
+        if (!historicoLegadoLeitura) {
+            return Map.of();
+        }
+        List<String> ids = items.stream()
+                .filter(OrcamentoResponseProjection::semHistoricoCount)
+                .map(item -> item.get("id").s())
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return historicoLegadoCounts.getAll(ids, this::lerHistoricoLegadoCounts);
+    }
+
+    private Map<String, Integer> lerHistoricoLegadoCounts(Set<? extends String> ids) {
+        log.debug("Contando histórico legado de {} orcamentos sem historicoCount", ids.size());
+        Map<String, Integer> counts = new HashMap<>();
+        ids.forEach(id -> counts.put(id, 0));
+        historicoLegadoReader.getAll(ids.stream()
+                        .map(id -> Map.of("id", AttributeValue.builder().s(id).build()))
+                        .toList())
+                .forEach(item -> counts.put(item.get("id").s(), OrcamentoResponseProjection.historicoLegadoCount(item)));
+        return counts;
+    }
+}
@@ -1,16 +1,25 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
 
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
 import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
 import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbCursorCodec;
 import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbOrcamentoRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter Repository implementando OrcamentoRepository (domain interface)
@@ -27,12 +36,15 @@ public class OrcamentoRepositoryAdapter implements OrcamentoRepository {
 
     private final DynamoDbOrcamentoRepository dynamoDbRepository;
     private final OrcamentoEntityMapper mapper;
+    private final OutboxEventMapper outboxMapper;
 
     public OrcamentoRepositoryAdapter(
             DynamoDbOrcamentoRepository dynamoDbRepository,
-            OrcamentoEntityMapper mapper) {
+            OrcamentoEntityMapper mapper,
+            OutboxEventMapper outboxMapper) {
         this.dynamoDbRepository = dynamoDbRepository;
         this.mapper = mapper;
+        this.outboxMapper = outboxMapper;
     }
 
     /**
@@ -44,16 +56,94 @@ public class OrcamentoRepositoryAdapter implements OrcamentoRepository {
     public Orcamento save(Orcamento orcamento) {
         log.debug("Salvando orcamento: {}", orcamento.getId());
 
-        // 1. Domain → Entity
+        // 1. Domain → Entity (+ entradas novas do histórico)
         var entity = mapper.toEntity(orcamento);
+        var novasEntradas = mapper.toHistoricoEntities(orcamento);
 
-        // 2. Entity → DynamoDB
-        var saved = dynamoDbRepository.save(entity);
+        // 2. Entity → DynamoDB (condicional na versão)
+        OrcamentoEntity saved;
+        try {
+            saved = dynamoDbRepository.save(entity, novasEntradas);
+        } catch (ConditionalCheckFailedException e) {
+            throw new ConflitoDeVersaoException(
+                    "Orçamento " + orcamento.getId() + " alterado por outro escritor (versão " + orcamento.getVersion() + ")",
+                    e);
+        }
 
         // 3. Entity → Domain (retornar domínio)
         return mapper.toDomain(saved);
     }
 
+    /**
+     * Grava a transição de status via UpdateItem parcial
+     */
+    @Override
+    public Orcamento updateStatus(Orcamento orcamento, StatusOrcamento statusAnterior) {
+        log.debug("Atualizando status do orcamento {}: {} → {}", orcamento.getId(), statusAnterior,
+                orcamento.getStatus());
+
+        var entity = mapper.toEntity(orcamento);
+        var novasEntradas = mapper.toHistoricoEntities(orcamento);
+        try {
+            return mapper.toDomain(dynamoDbRepository.updateStatus(entity, statusAnterior.name(), novasEntradas));
+        } catch (ConditionalCheckFailedException e) {
+            throw conflito(orcamento, statusAnterior, e);
+        }
+    }
+
+    /**
+     * Grava a transição de status e o evento no outbox na mesma transação
+     */
+    @Override
+    public Orcamento updateStatus(Orcamento orcamento, StatusOrcamento statusAnterior, BillingEvent evento) {
+        log.debug("Atualizando status do orcamento {}: {} → {} (evento no outbox)", orcamento.getId(),
+                statusAnterior, orcamento.getStatus());
+
+        var entity = mapper.toEntity(orcamento);
+        var novasEntradas = mapper.toHistoricoEntities(orcamento);
+        var eventos = List.of(outboxMapper.toEntity(evento));
+        try {
+            return mapper.toDomain(
+                    dynamoDbRepository.updateStatus(entity, statusAnterior.name(), novasEntradas, eventos));
+        } catch (ConditionalCheckFailedException e) {
+            throw conflito(orcamento, statusAnterior, e);
+        }
+    }
+
+    private static ConflitoDeVersaoException conflito(Orcamento orcamento, StatusOrcamento statusAnterior,
+            ConditionalCheckFailedException e) {
+        return new ConflitoDeVersaoException(
+                "Orçamento " + orcamento.getId() + " alterado por outro escritor (status esperado "
+                        + statusAnterior + ", versão " + orcamento.getVersion() + ")",
+                e);
+    }
+
+    /**
+     * Salva vários Orcamentos em lote
+     */
+    @Override
+    public List<Orcamento> saveAll(List<Orcamento> orcamentos) {
+        log.debug("Salvando {} orcamentos em lote", orcamentos.size());
+
+        var entities = orcamentos.stream().map(mapper::toEntity).collect(Collectors.toList());
+        var novasEntradas = orcamentos.stream().map(mapper::toHistoricoEntities).collect(Collectors.toList());
+
+        return dynamoDbRepository.saveAll(entities, novasEntradas).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Busca o histórico de um Orcamento (tabela filha, sob demanda)
+     */
+    @Override
+    public List<HistoricoStatus> findHistorico(UUID orcamentoId) {
+        log.debug("Buscando histórico do orcamento: {}", orcamentoId);
+        return dynamoDbRepository.findHistorico(orcamentoId.toString()).stream()
+                .map(mapper::toHistoricoDomain)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Busca um Orcamento por ID
      */
@@ -68,6 +158,18 @@ public class OrcamentoRepositoryAdapter implements OrcamentoRepository {
         return entity.map(mapper::toDomain);
     }
 
+    /**
+     * Busca vários Orcamentos por ID em lote
+     */
+    @Override
+    public List<Orcamento> findAllById(Collection<UUID> ids) {
+        log.debug("Buscando {} orcamentos por id em lote", ids.size());
+        return dynamoDbRepository.findAllById(ids.stream().map(UUID::toString).collect(Collectors.toList()))
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Busca um Orcamento por OS ID
      */
@@ -82,6 +184,18 @@ public class OrcamentoRepositoryAdapter implements OrcamentoRepository {
         return entity.map(mapper::toDomain);
     }
 
+    /**
+     * Busca Orcamentos de várias OS (uma query no GSI osId-index por OS, em paralelo)
+     */
+    @Override
+    public List<Orcamento> findAllByOsId(Collection<UUID> osIds) {
+        log.debug("Buscando orcamentos de {} OS", osIds.size());
+        return dynamoDbRepository.findAllByOsId(osIds.stream().map(UUID::toString).collect(Collectors.toList()))
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Busca Orcamentos por Status
      */
@@ -93,6 +207,18 @@ public class OrcamentoRepositoryAdapter implements OrcamentoRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca uma página de Orcamentos por Status
+     */
+    @Override
+    public PageResult<Orcamento> findByStatus(StatusOrcamento status, int pageSize, String cursor) {
+        log.debug("Buscando página de orcamentos por status: {}, pageSize: {}", status, pageSize);
+        var page = dynamoDbRepository.findByStatus(status.name(), pageSize, DynamoDbCursorCodec.decode(cursor));
+        return new PageResult<>(
+                page.items().stream().map(mapper::toDomain).collect(Collectors.toList()),
+                DynamoDbCursorCodec.encode(page.lastEvaluatedKey()));
+    }
+
     /**
      * Verifica se existe Orcamento para uma OS
      */
@@ -113,6 +239,27 @@ public class OrcamentoRepositoryAdapter implements OrcamentoRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca uma página de Orcamentos
+     */
+    @Override
+    public PageResult<Orcamento> findAll(int pageSize, String cursor) {
+        log.debug("Buscando página de orcamentos, pageSize: {}", pageSize);
+        var page = dynamoDbRepository.findAll(pageSize, DynamoDbCursorCodec.decode(cursor));
+        return new PageResult<>(
+                page.items().stream().map(mapper::toDomain).collect(Collectors.toList()),
+                DynamoDbCursorCodec.encode(page.lastEvaluatedKey()));
+    }
+
+    /**
+     * Percorre todos os Orcamentos sob demanda
+     */
+    @Override
+    public Stream<Orcamento> streamAll() {
+        log.debug("Percorrendo todos os orcamentos (stream)");
+        return dynamoDbRepository.streamAll().map(mapper::toDomain);
+    }
+
     /**
      * Deleta um Orcamento
      */
@@ -121,4 +268,13 @@ public class OrcamentoRepositoryAdapter implements OrcamentoRepository {
         log.debug("Deletando orcamento: {}", id);
         dynamoDbRepository.deleteById(id.toString());
     }
+
+    /**
+     * Deleta vários Orcamentos em lote
+     */
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        log.debug("Deletando {} orcamentos em lote", ids.size());
+        dynamoDbRepository.deleteAllById(ids.stream().map(UUID::toString).collect(Collectors.toList()));
+    }
 }
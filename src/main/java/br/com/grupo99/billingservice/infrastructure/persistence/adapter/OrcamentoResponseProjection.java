@@ -0,0 +1,191 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse.ItemOrcamentoResponse;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Projeção do item de orçamento direto para OrcamentoResponse.
+ *
+ * Produz o mesmo DTO que OrcamentoEntityMapper.toDomain seguido de
+ * OrcamentoMapper.toResponse, sem montar a entity nem o agregado: o status
+ * vai como está gravado e os itens de lista (L de M) são lidos campo a campo.
+ * Itens em binário passam pelo converter da entity.
+ */
+final class OrcamentoResponseProjection {
+
+    /**
+     * Atributos lidos pela projeção (os demais não precisam vir do DynamoDB).
+     * O histórico legado fica de fora: só itens ainda não migrados não têm
+     * historicoCount, e para eles o contador vem à parte (historicoLegadoCount).
+     */
+    static final String[] ATTRIBUTES = {
+            "id", "osId", "status", "valorTotal", "itens", "observacao", "dataGeracao", "dataAprovacao",
+            "dataRejeicao", "historicoCount" };
+
+    /** Atributos lidos para contar o histórico legado de um item sem historicoCount. */
+    static final String[] HISTORICO_LEGADO_ATTRIBUTES = { "id", OrcamentoEntity.HISTORICO_LEGADO };
+
+    /** Mesmo default do OrcamentoEntityMapper para itens sem status. */
+    private static final String STATUS_PADRAO = "PENDENTE";
+
+    private static final ItensOrcamentoAttributeConverter ITENS_CONVERTER = new ItensOrcamentoAttributeConverter();
+
+    private OrcamentoResponseProjection() {
+    }
+
+    /**
+     * Converte o item cru do DynamoDB → OrcamentoResponse.
+     */
+    static OrcamentoResponse fromItem(Map<String, AttributeValue> item) {
+        return fromItem(item, Map.of());
+    }
+
+    /**
+     * Como {@link #fromItem(Map)}, com o contador dos itens sem historicoCount
+     * já lido à parte.
+     *
+     * @param historicoLegadoCounts contador do histórico legado por id
+     */
+    static OrcamentoResponse fromItem(Map<String, AttributeValue> item, Map<String, Integer> historicoLegadoCounts) {
+        Integer historicoLegadoCount = historicoLegadoCounts.get(string(item.get("id")));
+        return OrcamentoResponse.builder()
+                .id(uuid(item.get("id")))
+                .osId(uuid(item.get("osId")))
+                .status(statusOrPadrao(string(item.get("status"))))
+                .valorTotal(decimal(item.get("valorTotal")))
+                .itens(itens(item.get("itens")))
+                .observacao(string(item.get("observacao")))
+                .dataGeracao(instant(item.get("dataGeracao")))
+                .dataAprovacao(instant(item.get("dataAprovacao")))
+                .dataRejeicao(instant(item.get("dataRejeicao")))
+                .historicoCount(historicoLegadoCount != null && semHistoricoCount(item)
+                        ? historicoLegadoCount
+                        : historicoCount(item.get("historicoCount"), item.get(OrcamentoEntity.HISTORICO_LEGADO)))
+                .build();
+    }
+
+    /**
+     * Se o item ainda não tem historicoCount (não migrado)
+     */
+    static boolean semHistoricoCount(Map<String, AttributeValue> item) {
+        return integer(item.get("historicoCount")) == null;
+    }
+
+    /**
+     * Entradas da lista legada de um item lido com HISTORICO_LEGADO_ATTRIBUTES
+     */
+    static int historicoLegadoCount(Map<String, AttributeValue> item) {
+        return historicoCount(null, item.get(OrcamentoEntity.HISTORICO_LEGADO));
+    }
+
+    /**
+     * Converte um snapshot já carregado (ex.: do cache) → OrcamentoResponse.
+     * A entity só é lida.
+     */
+    static OrcamentoResponse fromEntity(OrcamentoEntity entity) {
+        List<ItemOrcamentoResponse> itens = new ArrayList<>();
+        if (entity.getItens() != null) {
+            entity.getItens().forEach(item -> itens.add(ItemOrcamentoResponse.builder()
+                    .descricao(item.getDescricao())
+                    .valor(item.getValorUnitario())
+                    .quantidade(item.getQuantidade())
+                    .build()));
+        }
+
+        return OrcamentoResponse.builder()
+                .id(entity.getId() != null ? UUID.fromString(entity.getId()) : null)
+                .osId(entity.getOsId() != null ? UUID.fromString(entity.getOsId()) : null)
+                .status(statusOrPadrao(entity.getStatus()))
+                .valorTotal(entity.getValorTotal())
+                .itens(itens)
+                .observacao(entity.getObservacao())
+                .dataGeracao(entity.getDataGeracao())
+                .dataAprovacao(entity.getDataAprovacao())
+                .dataRejeicao(entity.getDataRejeicao())
+                .historicoCount(historicoCount(entity))
+                .build();
+    }
+
+    private static List<ItemOrcamentoResponse> itens(AttributeValue value) {
+        List<ItemOrcamentoResponse> itens = new ArrayList<>();
+        if (isNull(value)) {
+            return itens;
+        }
+        if (value.b() != null) {
+            ITENS_CONVERTER.transformTo(value).forEach(item -> itens.add(ItemOrcamentoResponse.builder()
+                    .descricao(item.getDescricao())
+                    .valor(item.getValorUnitario())
+                    .quantidade(item.getQuantidade())
+                    .build()));
+            return itens;
+        }
+        for (AttributeValue element : value.l()) {
+            Map<String, AttributeValue> campos = element.m();
+            itens.add(ItemOrcamentoResponse.builder()
+                    .descricao(string(campos.get("descricao")))
+                    .valor(decimal(campos.get("valorUnitario")))
+                    .quantidade(integer(campos.get("quantidade")))
+                    .build());
+        }
+        return itens;
+    }
+
+    private static String statusOrPadrao(String status) {
+        return status != null ? status : STATUS_PADRAO;
+    }
+
+    /**
+     * Mesmo fallback do OrcamentoEntityMapper: sem historicoCount, conta as
+     * entradas da lista legada.
+     */
+    private static Integer historicoCount(AttributeValue value, AttributeValue legado) {
+        Integer count = integer(value);
+        if (count != null) {
+            return count;
+        }
+        return isNull(legado) || !legado.hasL() ? 0 : legado.l().size();
+    }
+
+    private static int historicoCount(OrcamentoEntity entity) {
+        if (entity.getHistoricoCount() != null) {
+            return entity.getHistoricoCount();
+        }
+        return entity.getHistoricoLegado() != null ? entity.getHistoricoLegado().size() : 0;
+    }
+
+    private static boolean isNull(AttributeValue value) {
+        return value == null || Boolean.TRUE.equals(value.nul());
+    }
+
+    private static String string(AttributeValue value) {
+        return isNull(value) ? null : value.s();
+    }
+
+    private static UUID uuid(AttributeValue value) {
+        String s = string(value);
+        return s != null ? UUID.fromString(s) : null;
+    }
+
+    private static Instant instant(AttributeValue value) {
+        String s = string(value);
+        return s != null ? Instant.parse(s) : null;
+    }
+
+    private static BigDecimal decimal(AttributeValue value) {
+        return isNull(value) || value.n() == null ? null : new BigDecimal(value.n());
+    }
+
+    private static Integer integer(AttributeValue value) {
+        return isNull(value) || value.n() == null ? null : Integer.valueOf(value.n());
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Leitura do snapshot persistido (OrcamentoEntity) de um orçamento, para
+ * read models que montam a resposta sem passar pelo domínio.
+ *
+ * Implementado pelo CachingOrcamentoRepository (snapshot do cache).
+ */
+public interface OrcamentoSnapshotReader {
+
+    /**
+     * Snapshot do orçamento. A instância pode ser compartilhada: só leitura.
+     */
+    Optional<OrcamentoEntity> findSnapshot(UUID id);
+}
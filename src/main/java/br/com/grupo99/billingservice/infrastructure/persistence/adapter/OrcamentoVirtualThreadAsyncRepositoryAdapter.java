@@ -0,0 +1,45 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoAsyncRepository;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * OrcamentoAsyncRepository padrão (aws.dynamodb.async.enabled=false): executa
+ * o repositório síncrono em virtual threads, uma por leitura.
+ */
+@Component
+@ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class OrcamentoVirtualThreadAsyncRepositoryAdapter implements OrcamentoAsyncRepository {
+
+    private final OrcamentoRepository orcamentoRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OrcamentoVirtualThreadAsyncRepositoryAdapter(OrcamentoRepository orcamentoRepository) {
+        this.orcamentoRepository = orcamentoRepository;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Orcamento>> findById(UUID id) {
+        return CompletableFuture.supplyAsync(() -> orcamentoRepository.findById(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Orcamento>> findByOsId(UUID osId) {
+        return CompletableFuture.supplyAsync(() -> orcamentoRepository.findByOsId(osId), executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+}
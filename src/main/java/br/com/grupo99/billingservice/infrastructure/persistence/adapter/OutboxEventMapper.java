@@ -0,0 +1,115 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
+import br.com.grupo99.billingservice.infrastructure.messaging.BillingEventRecords;
+import br.com.grupo99.billingservice.infrastructure.messaging.serde.BillingEventSchemas;
+import br.com.grupo99.billingservice.infrastructure.messaging.serde.EventSchema;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Mapper para converter entre eventos do billing-events e OutboxEventEntity
+ *
+ * ✅ CLEAN ARCHITECTURE: Mapper na infrastructure layer
+ *
+ * Guarda o ProducerRecord montado por BillingEventRecords (tópico, chave e
+ * headers) com o payload em JSON. O payload é serializado com o mesmo
+ * ObjectMapper do JsonSerializer e volta à classe original na leitura, então
+ * a mensagem publicada pelo relay é igual à do envio direto (mais o header
+ * eventId).
+ *
+ * payloadType guarda o eventType do schema do evento (BillingEventSchemas),
+ * que não muda com renomeação ou troca de pacote da classe. Linhas antigas,
+ * com o nome da classe, continuam legíveis.
+ */
+@Component
+public class OutboxEventMapper {
+
+    public static final String EVENT_ID_HEADER = "eventId";
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonUtils.enhancedObjectMapper();
+
+    /**
+     * Converte evento → Entity pendente no outbox
+     */
+    public OutboxEventEntity toEntity(BillingEvent event) {
+        ProducerRecord<String, Object> record = BillingEventRecords.toRecord(event);
+        EventSchema<?> schema = BillingEventSchemas.porClasse(event.getClass());
+        if (schema == null) {
+            throw new IllegalArgumentException("Evento sem schema: " + event.getClass().getName());
+        }
+        UUID eventId = UUID.randomUUID();
+        Instant createdAt = Instant.now();
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : record.headers()) {
+            headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+        }
+        headers.put(EVENT_ID_HEADER, eventId.toString());
+
+        try {
+            return OutboxEventEntity.builder()
+                    .shard(OutboxEventEntity.shard(record.key()))
+                    .sequencia(OutboxEventEntity.sequencia(createdAt, eventId))
+                    .eventId(eventId.toString())
+                    .topic(record.topic())
+                    .messageKey(record.key())
+                    .headers(headers)
+                    .payloadType(schema.eventType())
+                    .payload(OBJECT_MAPPER.writeValueAsString(event))
+                    .createdAt(createdAt)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Falha ao serializar evento " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Converte Entity → ProducerRecord a publicar
+     */
+    public ProducerRecord<String, Object> toRecord(OutboxEventEntity entity) {
+        RecordHeaders headers = new RecordHeaders();
+        if (entity.getHeaders() != null) {
+            entity.getHeaders().forEach((key, value) -> headers.add(key, value.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        EventSchema<?> schema = schema(entity.getPayloadType());
+        if (schema == null || !BillingEvent.class.isAssignableFrom(schema.type())) {
+            throw new IllegalStateException("Evento do outbox com tipo desconhecido: " + entity.getEventId()
+                    + " (" + entity.getPayloadType() + ")");
+        }
+
+        try {
+            Object payload = OBJECT_MAPPER.readValue(entity.getPayload(), schema.type());
+            return new ProducerRecord<>(entity.getTopic(), null, entity.getMessageKey(), payload, headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Evento do outbox ilegível: " + entity.getEventId(), e);
+        }
+    }
+
+    /**
+     * Schema pelo eventType ou, em linhas antigas, pelo nome da classe.
+     */
+    private static EventSchema<?> schema(String payloadType) {
+        EventSchema<?> schema = BillingEventSchemas.porEventType(payloadType);
+        if (schema != null) {
+            return schema;
+        }
+        return BillingEventSchemas.TODOS.stream()
+                .filter(candidato -> candidato.type().getName().equals(payloadType))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.model.Pagamento;
+import br.com.grupo99.billingservice.domain.repository.PagamentoAsyncRepository;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbPagamentoAsyncRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter assíncrono implementando PagamentoAsyncRepository sobre o
+ * DynamoDbEnhancedAsyncClient (Netty NIO).
+ * 
+ * ✅ CLEAN ARCHITECTURE - ADAPTER PATTERN:
+ * - Implementa a interface de domínio (PagamentoAsyncRepository)
+ * - Nenhuma thread fica bloqueada esperando o DynamoDB
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "true")
+public class PagamentoAsyncRepositoryAdapter implements PagamentoAsyncRepository {
+
+    private final DynamoDbPagamentoAsyncRepository dynamoDbRepository;
+    private final PagamentoEntityMapper mapper;
+
+    public PagamentoAsyncRepositoryAdapter(
+            DynamoDbPagamentoAsyncRepository dynamoDbRepository,
+            PagamentoEntityMapper mapper) {
+        this.dynamoDbRepository = dynamoDbRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Pagamento>> findById(UUID id) {
+        log.debug("Buscando pagamento (async) por id: {}", id);
+        return dynamoDbRepository.findById(id.toString())
+                .thenApply(entity -> entity.map(mapper::toDomain));
+    }
+
+    @Override
+    public CompletableFuture<List<Pagamento>> findByOsId(UUID osId) {
+        log.debug("Buscando pagamentos (async) por osId: {}", osId);
+        return dynamoDbRepository.findByOsId(osId.toString())
+                .thenApply(entities -> entities.stream()
+                        .map(mapper::toDomain)
+                        .collect(Collectors.toList()));
+    }
+}
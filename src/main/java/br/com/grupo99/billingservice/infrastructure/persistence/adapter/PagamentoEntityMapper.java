@@ -38,6 +38,7 @@ public class PagamentoEntityMapper {
                 .dataPagamento(pagamento.getDataPagamento())
                 .dataEstorno(pagamento.getDataEstorno())
                 .motivoEstorno(pagamento.getMotivoEstorno())
+                .version(pagamento.getVersion())
                 .build();
     }
 
@@ -65,6 +66,7 @@ public class PagamentoEntityMapper {
                 .dataPagamento(entity.getDataPagamento())
                 .dataEstorno(entity.getDataEstorno())
                 .motivoEstorno(entity.getMotivoEstorno())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -1,16 +1,23 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
 
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
 import br.com.grupo99.billingservice.domain.model.Pagamento;
 import br.com.grupo99.billingservice.domain.model.StatusPagamento;
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
 import br.com.grupo99.billingservice.domain.repository.PagamentoRepository;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbCursorCodec;
 import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbPagamentoRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter Repository implementando PagamentoRepository (domain interface)
@@ -27,12 +34,15 @@ public class PagamentoRepositoryAdapter implements PagamentoRepository {
 
     private final DynamoDbPagamentoRepository dynamoDbRepository;
     private final PagamentoEntityMapper mapper;
+    private final OutboxEventMapper outboxMapper;
 
     public PagamentoRepositoryAdapter(
             DynamoDbPagamentoRepository dynamoDbRepository,
-            PagamentoEntityMapper mapper) {
+            PagamentoEntityMapper mapper,
+            OutboxEventMapper outboxMapper) {
         this.dynamoDbRepository = dynamoDbRepository;
         this.mapper = mapper;
+        this.outboxMapper = outboxMapper;
     }
 
     /**
@@ -42,10 +52,70 @@ public class PagamentoRepositoryAdapter implements PagamentoRepository {
     public Pagamento save(Pagamento pagamento) {
         log.debug("Salvando pagamento: {}", pagamento.getId());
 
-        // Domain → Entity → DynamoDB → Entity → Domain
+        // Domain → Entity → DynamoDB (condicional na versão) → Entity → Domain
         var entity = mapper.toEntity(pagamento);
-        var saved = dynamoDbRepository.save(entity);
-        return mapper.toDomain(saved);
+        try {
+            return mapper.toDomain(dynamoDbRepository.save(entity));
+        } catch (ConditionalCheckFailedException e) {
+            throw new ConflitoDeVersaoException(
+                    "Pagamento " + pagamento.getId() + " alterado por outro escritor (versão " + pagamento.getVersion() + ")",
+                    e);
+        }
+    }
+
+    /**
+     * Grava a transição de status via UpdateItem parcial
+     */
+    @Override
+    public Pagamento updateStatus(Pagamento pagamento, StatusPagamento statusAnterior) {
+        log.debug("Atualizando status do pagamento {}: {} → {}", pagamento.getId(), statusAnterior,
+                pagamento.getStatus());
+
+        var entity = mapper.toEntity(pagamento);
+        try {
+            return mapper.toDomain(dynamoDbRepository.updateStatus(entity, statusAnterior.name()));
+        } catch (ConditionalCheckFailedException e) {
+            throw conflito(pagamento, statusAnterior, e);
+        }
+    }
+
+    /**
+     * Grava a transição de status e o evento no outbox na mesma transação
+     */
+    @Override
+    public Pagamento updateStatus(Pagamento pagamento, StatusPagamento statusAnterior, BillingEvent evento) {
+        log.debug("Atualizando status do pagamento {}: {} → {} (evento no outbox)", pagamento.getId(),
+                statusAnterior, pagamento.getStatus());
+
+        var entity = mapper.toEntity(pagamento);
+        var eventos = List.of(outboxMapper.toEntity(evento));
+        try {
+            return mapper.toDomain(dynamoDbRepository.updateStatus(entity, statusAnterior.name(), eventos));
+        } catch (ConditionalCheckFailedException e) {
+            throw conflito(pagamento, statusAnterior, e);
+        }
+    }
+
+    private static ConflitoDeVersaoException conflito(Pagamento pagamento, StatusPagamento statusAnterior,
+            ConditionalCheckFailedException e) {
+        return new ConflitoDeVersaoException(
+                "Pagamento " + pagamento.getId() + " alterado por outro escritor (status esperado "
+                        + statusAnterior + ", versão " + pagamento.getVersion() + ")",
+                e);
+    }
+
+    /**
+     * Salva vários Pagamentos em lote
+     */
+    @Override
+    public List<Pagamento> saveAll(List<Pagamento> pagamentos) {
+        log.debug("Salvando {} pagamentos em lote", pagamentos.size());
+
+        var entities = pagamentos.stream().map(mapper::toEntity).collect(Collectors.toList());
+
+        return dynamoDbRepository.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -58,6 +128,18 @@ public class PagamentoRepositoryAdapter implements PagamentoRepository {
         return entity.map(mapper::toDomain);
     }
 
+    /**
+     * Busca vários Pagamentos por ID em lote
+     */
+    @Override
+    public List<Pagamento> findAllById(Collection<UUID> ids) {
+        log.debug("Buscando {} pagamentos por id em lote", ids.size());
+        return dynamoDbRepository.findAllById(ids.stream().map(UUID::toString).collect(Collectors.toList()))
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Busca Pagamento por Orcamento ID
      */
@@ -92,6 +174,18 @@ public class PagamentoRepositoryAdapter implements PagamentoRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca uma página de Pagamentos por Status
+     */
+    @Override
+    public PageResult<Pagamento> findByStatus(StatusPagamento status, int pageSize, String cursor) {
+        log.debug("Buscando página de pagamentos por status: {}, pageSize: {}", status, pageSize);
+        var page = dynamoDbRepository.findByStatus(status.name(), pageSize, DynamoDbCursorCodec.decode(cursor));
+        return new PageResult<>(
+                page.items().stream().map(mapper::toDomain).collect(Collectors.toList()),
+                DynamoDbCursorCodec.encode(page.lastEvaluatedKey()));
+    }
+
     /**
      * Verifica se existe Pagamento com status específico
      */
@@ -123,6 +217,27 @@ public class PagamentoRepositoryAdapter implements PagamentoRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca uma página de Pagamentos
+     */
+    @Override
+    public PageResult<Pagamento> findAll(int pageSize, String cursor) {
+        log.debug("Buscando página de pagamentos, pageSize: {}", pageSize);
+        var page = dynamoDbRepository.findAll(pageSize, DynamoDbCursorCodec.decode(cursor));
+        return new PageResult<>(
+                page.items().stream().map(mapper::toDomain).collect(Collectors.toList()),
+                DynamoDbCursorCodec.encode(page.lastEvaluatedKey()));
+    }
+
+    /**
+     * Percorre todos os Pagamentos sob demanda
+     */
+    @Override
+    public Stream<Pagamento> streamAll() {
+        log.debug("Percorrendo todos os pagamentos (stream)");
+        return dynamoDbRepository.streamAll().map(mapper::toDomain);
+    }
+
     /**
      * Deleta um Pagamento
      */
@@ -131,4 +246,13 @@ public class PagamentoRepositoryAdapter implements PagamentoRepository {
         log.debug("Deletando pagamento: {}", id);
         dynamoDbRepository.deleteById(id.toString());
     }
+
+    /**
+     * Deleta vários Pagamentos em lote
+     */
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        log.debug("Deletando {} pagamentos em lote", ids.size());
+        dynamoDbRepository.deleteAllById(ids.stream().map(UUID::toString).collect(Collectors.toList()));
+    }
 }
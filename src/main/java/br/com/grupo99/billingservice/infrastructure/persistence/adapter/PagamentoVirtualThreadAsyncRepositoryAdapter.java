@@ -0,0 +1,46 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.model.Pagamento;
+import br.com.grupo99.billingservice.domain.repository.PagamentoAsyncRepository;
+import br.com.grupo99.billingservice.domain.repository.PagamentoRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * PagamentoAsyncRepository padrão (aws.dynamodb.async.enabled=false): executa
+ * o repositório síncrono em virtual threads, uma por leitura.
+ */
+@Component
+@ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class PagamentoVirtualThreadAsyncRepositoryAdapter implements PagamentoAsyncRepository {
+
+    private final PagamentoRepository pagamentoRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PagamentoVirtualThreadAsyncRepositoryAdapter(PagamentoRepository pagamentoRepository) {
+        this.pagamentoRepository = pagamentoRepository;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Pagamento>> findById(UUID id) {
+        return CompletableFuture.supplyAsync(() -> pagamentoRepository.findById(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Pagamento>> findByOsId(UUID osId) {
+        return CompletableFuture.supplyAsync(() -> pagamentoRepository.findByOsId(osId), executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+}
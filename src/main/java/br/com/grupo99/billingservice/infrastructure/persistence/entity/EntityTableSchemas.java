@@ -0,0 +1,281 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity.HistoricoStatusEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity.ItemOrcamentoEntity;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.VersionedRecordExtension;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondarySortKey;
+
+/**
+ * TableSchemas estáticos das entities DynamoDB.
+ *
+ * Equivalentes aos gerados por TableSchema.fromBean a partir das anotações
+ * (mesmos atributos, chaves, índices, versão e converters), mas montados com
+ * getters/setters por referência de método: sem introspecção de bean nem
+ * LambdaMetafactory na subida e sem reflexão por item mapeado.
+ *
+ * Ao adicionar um campo em uma entity, adicione o atributo aqui também
+ * (EntityTableSchemasTest compara com o schema das anotações).
+ */
+public final class EntityTableSchemas {
+
+    public static final TableSchema<ItemOrcamentoEntity> ITEM_ORCAMENTO = StaticTableSchema
+            .builder(ItemOrcamentoEntity.class)
+            .newItemSupplier(ItemOrcamentoEntity::new)
+            .addAttribute(String.class, a -> a.name("tipo")
+                    .getter(ItemOrcamentoEntity::getTipo)
+                    .setter(ItemOrcamentoEntity::setTipo))
+            .addAttribute(String.class, a -> a.name("descricao")
+                    .getter(ItemOrcamentoEntity::getDescricao)
+                    .setter(ItemOrcamentoEntity::setDescricao))
+            .addAttribute(BigDecimal.class, a -> a.name("valorUnitario")
+                    .getter(ItemOrcamentoEntity::getValorUnitario)
+                    .setter(ItemOrcamentoEntity::setValorUnitario))
+            .addAttribute(BigDecimal.class, a -> a.name("valorTotal")
+                    .getter(ItemOrcamentoEntity::getValorTotal)
+                    .setter(ItemOrcamentoEntity::setValorTotal))
+            .addAttribute(Integer.class, a -> a.name("quantidade")
+                    .getter(ItemOrcamentoEntity::getQuantidade)
+                    .setter(ItemOrcamentoEntity::setQuantidade))
+            .build();
+
+    public static final TableSchema<HistoricoStatusEntity> HISTORICO_STATUS_LEGADO = StaticTableSchema
+            .builder(HistoricoStatusEntity.class)
+            .newItemSupplier(HistoricoStatusEntity::new)
+            .addAttribute(String.class, a -> a.name("statusAnterior")
+                    .getter(HistoricoStatusEntity::getStatusAnterior)
+                    .setter(HistoricoStatusEntity::setStatusAnterior))
+            .addAttribute(String.class, a -> a.name("novoStatus")
+                    .getter(HistoricoStatusEntity::getNovoStatus)
+                    .setter(HistoricoStatusEntity::setNovoStatus))
+            .addAttribute(String.class, a -> a.name("usuario")
+                    .getter(HistoricoStatusEntity::getUsuario)
+                    .setter(HistoricoStatusEntity::setUsuario))
+            .addAttribute(String.class, a -> a.name("observacao")
+                    .getter(HistoricoStatusEntity::getObservacao)
+                    .setter(HistoricoStatusEntity::setObservacao))
+            .addAttribute(Instant.class, a -> a.name("data")
+                    .getter(HistoricoStatusEntity::getData)
+                    .setter(HistoricoStatusEntity::setData))
+            .build();
+
+    public static final TableSchema<HistoricoOrcamentoEntity> HISTORICO_ORCAMENTO = StaticTableSchema
+            .builder(HistoricoOrcamentoEntity.class)
+            .newItemSupplier(HistoricoOrcamentoEntity::new)
+            .addAttribute(String.class, a -> a.name(HistoricoOrcamentoEntity.ORCAMENTO_ID)
+                    .getter(HistoricoOrcamentoEntity::getOrcamentoId)
+                    .setter(HistoricoOrcamentoEntity::setOrcamentoId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name(HistoricoOrcamentoEntity.TIMESTAMP)
+                    .getter(HistoricoOrcamentoEntity::getTimestamp)
+                    .setter(HistoricoOrcamentoEntity::setTimestamp)
+                    .tags(primarySortKey()))
+            .addAttribute(Integer.class, a -> a.name("sequencia")
+                    .getter(HistoricoOrcamentoEntity::getSequencia)
+                    .setter(HistoricoOrcamentoEntity::setSequencia))
+            .addAttribute(String.class, a -> a.name("statusAnterior")
+                    .getter(HistoricoOrcamentoEntity::getStatusAnterior)
+                    .setter(HistoricoOrcamentoEntity::setStatusAnterior))
+            .addAttribute(String.class, a -> a.name("novoStatus")
+                    .getter(HistoricoOrcamentoEntity::getNovoStatus)
+                    .setter(HistoricoOrcamentoEntity::setNovoStatus))
+            .addAttribute(String.class, a -> a.name("usuario")
+                    .getter(HistoricoOrcamentoEntity::getUsuario)
+                    .setter(HistoricoOrcamentoEntity::setUsuario))
+            .addAttribute(String.class, a -> a.name("observacao")
+                    .getter(HistoricoOrcamentoEntity::getObservacao)
+                    .setter(HistoricoOrcamentoEntity::setObservacao))
+            .addAttribute(Instant.class, a -> a.name("data")
+                    .getter(HistoricoOrcamentoEntity::getData)
+                    .setter(HistoricoOrcamentoEntity::setData))
+            .build();
+
+    public static final TableSchema<OutboxEventEntity> OUTBOX_EVENT = StaticTableSchema
+            .builder(OutboxEventEntity.class)
+            .newItemSupplier(OutboxEventEntity::new)
+            .addAttribute(String.class, a -> a.name(OutboxEventEntity.SHARD)
+                    .getter(OutboxEventEntity::getShard)
+                    .setter(OutboxEventEntity::setShard)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name(OutboxEventEntity.SEQUENCIA)
+                    .getter(OutboxEventEntity::getSequencia)
+                    .setter(OutboxEventEntity::setSequencia)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, a -> a.name("eventId")
+                    .getter(OutboxEventEntity::getEventId)
+                    .setter(OutboxEventEntity::setEventId))
+            .addAttribute(String.class, a -> a.name("topic")
+                    .getter(OutboxEventEntity::getTopic)
+                    .setter(OutboxEventEntity::setTopic))
+            .addAttribute(String.class, a -> a.name("messageKey")
+                    .getter(OutboxEventEntity::getMessageKey)
+                    .setter(OutboxEventEntity::setMessageKey))
+            .addAttribute(EnhancedType.mapOf(String.class, String.class), a -> a.name("headers")
+                    .getter(OutboxEventEntity::getHeaders)
+                    .setter(OutboxEventEntity::setHeaders))
+            .addAttribute(String.class, a -> a.name("payloadType")
+                    .getter(OutboxEventEntity::getPayloadType)
+                    .setter(OutboxEventEntity::setPayloadType))
+            .addAttribute(String.class, a -> a.name("payload")
+                    .getter(OutboxEventEntity::getPayload)
+                    .setter(OutboxEventEntity::setPayload))
+            .addAttribute(Instant.class, a -> a.name("createdAt")
+                    .getter(OutboxEventEntity::getCreatedAt)
+                    .setter(OutboxEventEntity::setCreatedAt))
+            .build();
+
+    public static final TableSchema<ProcessedEventEntity> PROCESSED_EVENT = StaticTableSchema
+            .builder(ProcessedEventEntity.class)
+            .newItemSupplier(ProcessedEventEntity::new)
+            .addAttribute(String.class, a -> a.name(ProcessedEventEntity.CHAVE)
+                    .getter(ProcessedEventEntity::getChave)
+                    .setter(ProcessedEventEntity::setChave)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(Instant.class, a -> a.name("processedAt")
+                    .getter(ProcessedEventEntity::getProcessedAt)
+                    .setter(ProcessedEventEntity::setProcessedAt))
+            .addAttribute(Long.class, a -> a.name(ProcessedEventEntity.EXPIRES_AT)
+                    .getter(ProcessedEventEntity::getExpiresAt)
+                    .setter(ProcessedEventEntity::setExpiresAt))
+            .build();
+
+    public static final TableSchema<PagamentoEntity> PAGAMENTO = StaticTableSchema
+            .builder(PagamentoEntity.class)
+            .newItemSupplier(PagamentoEntity::new)
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(PagamentoEntity::getId)
+                    .setter(PagamentoEntity::setId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("orcamentoId")
+                    .getter(PagamentoEntity::getOrcamentoId)
+                    .setter(PagamentoEntity::setOrcamentoId)
+                    .tags(secondaryPartitionKey(PagamentoEntity.ORCAMENTO_ID_STATUS_INDEX)))
+            .addAttribute(String.class, a -> a.name("osId")
+                    .getter(PagamentoEntity::getOsId)
+                    .setter(PagamentoEntity::setOsId)
+                    .tags(secondaryPartitionKey(PagamentoEntity.OS_ID_INDEX)))
+            .addAttribute(String.class, a -> a.name("status")
+                    .getter(PagamentoEntity::getStatus)
+                    .setter(PagamentoEntity::setStatus)
+                    .tags(secondaryPartitionKey(PagamentoEntity.STATUS_CREATED_AT_INDEX),
+                            secondarySortKey(PagamentoEntity.ORCAMENTO_ID_STATUS_INDEX)))
+            .addAttribute(BigDecimal.class, a -> a.name("valor")
+                    .getter(PagamentoEntity::getValor)
+                    .setter(PagamentoEntity::setValor))
+            .addAttribute(String.class, a -> a.name("formaPagamento")
+                    .getter(PagamentoEntity::getFormaPagamento)
+                    .setter(PagamentoEntity::setFormaPagamento))
+            .addAttribute(String.class, a -> a.name("comprovante")
+                    .getter(PagamentoEntity::getComprovante)
+                    .setter(PagamentoEntity::setComprovante))
+            .addAttribute(Long.class, a -> a.name("mercadoPagoPaymentId")
+                    .getter(PagamentoEntity::getMercadoPagoPaymentId)
+                    .setter(PagamentoEntity::setMercadoPagoPaymentId)
+                    .tags(secondaryPartitionKey(PagamentoEntity.MERCADO_PAGO_PAYMENT_ID_INDEX)))
+            .addAttribute(String.class, a -> a.name("mercadoPagoPreferenceId")
+                    .getter(PagamentoEntity::getMercadoPagoPreferenceId)
+                    .setter(PagamentoEntity::setMercadoPagoPreferenceId))
+            .addAttribute(String.class, a -> a.name("initPoint")
+                    .getter(PagamentoEntity::getInitPoint)
+                    .setter(PagamentoEntity::setInitPoint))
+            .addAttribute(Instant.class, a -> a.name("dataPagamento")
+                    .getter(PagamentoEntity::getDataPagamento)
+                    .setter(PagamentoEntity::setDataPagamento))
+            .addAttribute(Instant.class, a -> a.name("dataEstorno")
+                    .getter(PagamentoEntity::getDataEstorno)
+                    .setter(PagamentoEntity::setDataEstorno))
+            .addAttribute(String.class, a -> a.name("motivoEstorno")
+                    .getter(PagamentoEntity::getMotivoEstorno)
+                    .setter(PagamentoEntity::setMotivoEstorno))
+            .addAttribute(Instant.class, a -> a.name("createdAt")
+                    .getter(PagamentoEntity::getCreatedAt)
+                    .setter(PagamentoEntity::setCreatedAt)
+                    .attributeConverter(new SortableInstantAttributeConverter())
+                    .tags(secondarySortKey(PagamentoEntity.STATUS_CREATED_AT_INDEX)))
+            .addAttribute(Instant.class, a -> a.name("updatedAt")
+                    .getter(PagamentoEntity::getUpdatedAt)
+                    .setter(PagamentoEntity::setUpdatedAt))
+            .addAttribute(Long.class, a -> a.name("version")
+                    .getter(PagamentoEntity::getVersion)
+                    .setter(PagamentoEntity::setVersion)
+                    .tags(VersionedRecordExtension.AttributeTags.versionAttribute()))
+            .build();
+
+    private EntityTableSchemas() {
+    }
+
+    /**
+     * Schema da tabela de orçamentos com os itens gravados no formato
+     * informado (a leitura aceita os dois).
+     */
+    public static TableSchema<OrcamentoEntity> orcamento(ItensOrcamentoAttributeConverter.Formato itensFormato) {
+        return StaticTableSchema.builder(OrcamentoEntity.class)
+                .newItemSupplier(OrcamentoEntity::new)
+                .addAttribute(String.class, a -> a.name("id")
+                        .getter(OrcamentoEntity::getId)
+                        .setter(OrcamentoEntity::setId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("osId")
+                        .getter(OrcamentoEntity::getOsId)
+                        .setter(OrcamentoEntity::setOsId)
+                        .tags(secondaryPartitionKey(OrcamentoEntity.OS_ID_INDEX)))
+                .addAttribute(String.class, a -> a.name("status")
+                        .getter(OrcamentoEntity::getStatus)
+                        .setter(OrcamentoEntity::setStatus)
+                        .tags(secondaryPartitionKey(OrcamentoEntity.STATUS_CREATED_AT_INDEX)))
+                .addAttribute(new EnhancedType<List<ItemOrcamentoEntity>>() {
+                }, a -> a.name("itens")
+                        .getter(OrcamentoEntity::getItens)
+                        .setter(OrcamentoEntity::setItens)
+                        .attributeConverter(new ItensOrcamentoAttributeConverter(itensFormato)))
+                .addAttribute(BigDecimal.class, a -> a.name("valorTotal")
+                        .getter(OrcamentoEntity::getValorTotal)
+                        .setter(OrcamentoEntity::setValorTotal))
+                .addAttribute(Instant.class, a -> a.name("dataGeracao")
+                        .getter(OrcamentoEntity::getDataGeracao)
+                        .setter(OrcamentoEntity::setDataGeracao))
+                .addAttribute(Instant.class, a -> a.name("dataAprovacao")
+                        .getter(OrcamentoEntity::getDataAprovacao)
+                        .setter(OrcamentoEntity::setDataAprovacao))
+                .addAttribute(Instant.class, a -> a.name("dataRejeicao")
+                        .getter(OrcamentoEntity::getDataRejeicao)
+                        .setter(OrcamentoEntity::setDataRejeicao))
+                .addAttribute(String.class, a -> a.name("observacao")
+                        .getter(OrcamentoEntity::getObservacao)
+                        .setter(OrcamentoEntity::setObservacao))
+                .addAttribute(String.class, a -> a.name("motivoRejeicao")
+                        .getter(OrcamentoEntity::getMotivoRejeicao)
+                        .setter(OrcamentoEntity::setMotivoRejeicao))
+                .addAttribute(Integer.class, a -> a.name("historicoCount")
+                        .getter(OrcamentoEntity::getHistoricoCount)
+                        .setter(OrcamentoEntity::setHistoricoCount))
+                .addAttribute(EnhancedType.listOf(
+                        EnhancedType.documentOf(HistoricoStatusEntity.class, HISTORICO_STATUS_LEGADO)),
+                        a -> a.name(OrcamentoEntity.HISTORICO_LEGADO)
+                                .getter(OrcamentoEntity::getHistoricoLegado)
+                                .setter(OrcamentoEntity::setHistoricoLegado))
+                .addAttribute(Instant.class, a -> a.name("createdAt")
+                        .getter(OrcamentoEntity::getCreatedAt)
+                        .setter(OrcamentoEntity::setCreatedAt)
+                        .attributeConverter(new SortableInstantAttributeConverter())
+                        .tags(secondarySortKey(OrcamentoEntity.STATUS_CREATED_AT_INDEX)))
+                .addAttribute(Instant.class, a -> a.name("updatedAt")
+                        .getter(OrcamentoEntity::getUpdatedAt)
+                        .setter(OrcamentoEntity::setUpdatedAt))
+                .addAttribute(Long.class, a -> a.name("version")
+                        .getter(OrcamentoEntity::getVersion)
+                        .setter(OrcamentoEntity::setVersion)
+                        .tags(VersionedRecordExtension.AttributeTags.versionAttribute()))
+                .build();
+    }
+}
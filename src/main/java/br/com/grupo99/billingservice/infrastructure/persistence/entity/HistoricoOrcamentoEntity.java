@@ -0,0 +1,78 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entity DynamoDB para uma entrada do histórico de status de um Orcamento.
+ *
+ * ✅ CLEAN ARCHITECTURE: Entity fica na infrastructure layer
+ *
+ * Fica em tabela própria (orcamentoId + timestamp), fora do item do orçamento:
+ * o item pai guarda só o contador (historicoCount) e o histórico é lido sob
+ * demanda com uma query na partição do orçamento.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class HistoricoOrcamentoEntity {
+
+    public static final String ORCAMENTO_ID = "orcamentoId";
+    public static final String TIMESTAMP = "timestamp";
+
+    /** ISO-8601 UTC com largura fixa, para a ordem lexicográfica ser a cronológica. */
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private String orcamentoId;
+
+    /**
+     * Sort key: data da transição + "#" + posição no histórico. A posição
+     * desempata entradas no mesmo instante e torna o put idempotente.
+     */
+    private String timestamp;
+
+    private Integer sequencia;
+
+    private String statusAnterior;
+
+    private String novoStatus;
+
+    private String usuario;
+
+    private String observacao;
+
+    private Instant data;
+
+    @DynamoDbPartitionKey
+    public String getOrcamentoId() {
+        return this.orcamentoId;
+    }
+
+    @DynamoDbSortKey
+    public String getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Monta a sort key de uma entrada.
+     *
+     * @param data      data da transição
+     * @param sequencia posição da entrada no histórico (0 = primeira)
+     */
+    public static String timestamp(Instant data, int sequencia) {
+        return TIMESTAMP_FORMAT.format(data) + "#" + String.format("%06d", sequencia);
+    }
+}
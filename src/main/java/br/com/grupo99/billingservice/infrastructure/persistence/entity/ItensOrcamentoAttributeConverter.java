@@ -0,0 +1,251 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity.ItemOrcamentoEntity;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converter do atributo itens do OrcamentoEntity.
+ *
+ * Lê os dois formatos (lista de maps e binário compacto) e grava no formato
+ * escolhido para a tabela, o que permite migrar os itens gravados aos poucos:
+ * cada put reescreve o item no formato configurado.
+ *
+ * Formato binário (versão 1):
+ * <pre>
+ * versão (1 byte) | quantidade de itens (varint) | itens...
+ * item = presença (1 byte, um bit por campo; bits fora dos 5 campos são rejeitados)
+ *        | tipo (string) | descricao (string)
+ *        | valorUnitario (decimal) | valorTotal (decimal) | quantidade (zigzag varint)
+ * string  = tamanho em bytes (varint) + UTF-8
+ * decimal = escala (zigzag varint) + valor sem escala (zigzag varint, cabe em long)
+ * </pre>
+ * Campos nulos não ocupam bytes; nomes de atributo não são repetidos por item.
+ */
+public class ItensOrcamentoAttributeConverter implements AttributeConverter<List<ItemOrcamentoEntity>> {
+
+    /**
+     * Formato de escrita dos itens.
+     */
+    public enum Formato {
+        /** Lista de maps (L de M), formato original. */
+        LISTA,
+        /** Binário compacto versionado (B). */
+        BINARIO
+    }
+
+    static final byte VERSAO_BINARIA = 1;
+
+    private static final int TIPO = 1;
+    private static final int DESCRICAO = 1 << 1;
+    private static final int VALOR_UNITARIO = 1 << 2;
+    private static final int VALOR_TOTAL = 1 << 3;
+    private static final int QUANTIDADE = 1 << 4;
+    /** Bits de presença da versão 1; qualquer outro indica valor corrompido ou de versão futura. */
+    private static final int CAMPOS_CONHECIDOS = TIPO | DESCRICAO | VALOR_UNITARIO | VALOR_TOTAL | QUANTIDADE;
+
+    /** Mesmo converter que o mapeamento padrão usa para a lista de beans aninhados. */
+    private static final AttributeConverter<List<ItemOrcamentoEntity>> LISTA_CONVERTER = DefaultAttributeConverterProvider
+            .create()
+            .converterFor(EnhancedType.listOf(EnhancedType.documentOf(ItemOrcamentoEntity.class,
+                    EntityTableSchemas.ITEM_ORCAMENTO)));
+
+    private final Formato formato;
+
+    /**
+     * Usado pelo @DynamoDbConvertedBy: grava no formato original.
+     */
+    public ItensOrcamentoAttributeConverter() {
+        this(Formato.LISTA);
+    }
+
+    public ItensOrcamentoAttributeConverter(Formato formato) {
+        this.formato = formato;
+    }
+
+    public Formato formato() {
+        return formato;
+    }
+
+    @Override
+    public AttributeValue transformFrom(List<ItemOrcamentoEntity> itens) {
+        if (formato == Formato.LISTA) {
+            return LISTA_CONVERTER.transformFrom(itens);
+        }
+        return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(encode(itens))).build();
+    }
+
+    @Override
+    public List<ItemOrcamentoEntity> transformTo(AttributeValue value) {
+        if (value.b() != null) {
+            return decode(value.b().asByteBuffer());
+        }
+        return LISTA_CONVERTER.transformTo(value);
+    }
+
+    @Override
+    public EnhancedType<List<ItemOrcamentoEntity>> type() {
+        return EnhancedType.listOf(ItemOrcamentoEntity.class);
+    }
+
+    @Override
+    public AttributeValueType attributeValueType() {
+        return formato == Formato.LISTA ? AttributeValueType.L : AttributeValueType.B;
+    }
+
+    static byte[] encode(List<ItemOrcamentoEntity> itens) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + itens.size() * 32);
+        out.write(VERSAO_BINARIA);
+        writeVarint(out, itens.size());
+        for (ItemOrcamentoEntity item : itens) {
+            int presenca = (item.getTipo() != null ? TIPO : 0)
+                    | (item.getDescricao() != null ? DESCRICAO : 0)
+                    | (item.getValorUnitario() != null ? VALOR_UNITARIO : 0)
+                    | (item.getValorTotal() != null ? VALOR_TOTAL : 0)
+                    | (item.getQuantidade() != null ? QUANTIDADE : 0);
+            out.write(presenca);
+            if (item.getTipo() != null) {
+                writeString(out, item.getTipo());
+            }
+            if (item.getDescricao() != null) {
+                writeString(out, item.getDescricao());
+            }
+            if (item.getValorUnitario() != null) {
+                writeDecimal(out, item.getValorUnitario());
+            }
+            if (item.getValorTotal() != null) {
+                writeDecimal(out, item.getValorTotal());
+            }
+            if (item.getQuantidade() != null) {
+                writeVarint(out, zigzag(item.getQuantidade()));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    static List<ItemOrcamentoEntity> decode(ByteBuffer in) {
+        try {
+            byte versao = in.get();
+            if (versao != VERSAO_BINARIA) {
+                throw new IllegalStateException("Versão desconhecida do formato binário de itens: " + versao);
+            }
+            // Cada item ocupa ao menos o byte de presença
+            int size = readLength(in);
+            List<ItemOrcamentoEntity> itens = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int presenca = in.get() & 0xFF;
+                if ((presenca & ~CAMPOS_CONHECIDOS) != 0) {
+                    throw new IllegalStateException("Bits de presença desconhecidos no formato binário de itens: "
+                            + Integer.toBinaryString(presenca));
+                }
+                ItemOrcamentoEntity item = new ItemOrcamentoEntity();
+                if ((presenca & TIPO) != 0) {
+                    item.setTipo(readString(in));
+                }
+                if ((presenca & DESCRICAO) != 0) {
+                    item.setDescricao(readString(in));
+                }
+                if ((presenca & VALOR_UNITARIO) != 0) {
+                    item.setValorUnitario(readDecimal(in));
+                }
+                if ((presenca & VALOR_TOTAL) != 0) {
+                    item.setValorTotal(readDecimal(in));
+                }
+                if ((presenca & QUANTIDADE) != 0) {
+                    item.setQuantidade(Math.toIntExact(unzigzag(readVarint(in))));
+                }
+                itens.add(item);
+            }
+            if (in.hasRemaining()) {
+                throw new IllegalStateException("Bytes sobrando no formato binário de itens: " + in.remaining());
+            }
+            return itens;
+        } catch (BufferUnderflowException | ArithmeticException e) {
+            throw new IllegalStateException("Formato binário de itens inválido", e);
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readLength(in);
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tamanho (de lista ou string) limitado aos bytes restantes, para um valor
+     * corrompido não alocar além do próprio item.
+     */
+    private static int readLength(ByteBuffer in) {
+        long length = readVarint(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return (int) length;
+    }
+
+    /**
+     * Valor monetário como long escalado; a escala original é mantida para a
+     * leitura devolver o mesmo BigDecimal (equals incluído).
+     */
+    private static void writeDecimal(ByteArrayOutputStream out, BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            throw new IllegalArgumentException("Valor fora da faixa do formato binário de itens: " + value);
+        }
+        writeVarint(out, zigzag(value.scale()));
+        writeVarint(out, zigzag(unscaled.longValue()));
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        int scale = Math.toIntExact(unzigzag(readVarint(in)));
+        return BigDecimal.valueOf(unzigzag(readVarint(in)), scale);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Varint inválido no formato binário de itens");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -4,13 +4,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Entity DynamoDB para Orcamento
@@ -27,6 +33,25 @@ import java.util.List;
 @DynamoDbBean
 public class OrcamentoEntity {
 
+    /**
+     * GSI osId → orçamento (lookup por OS sem scan).
+     */
+    public static final String OS_ID_INDEX = "osId-index";
+
+    /**
+     * GSI status + createdAt → listagem paginada por status.
+     */
+    public static final String STATUS_CREATED_AT_INDEX = "status-createdAt-index";
+
+    /** Atributo do histórico gravado dentro do item (antes de orcamentos-historico). */
+    public static final String HISTORICO_LEGADO = "historico";
+
+    /** Atributos do lastEvaluatedKey de um scan na tabela. */
+    public static final Set<String> TABLE_KEY = Set.of("id");
+
+    /** Atributos do lastEvaluatedKey de uma query no GSI status-createdAt-index. */
+    public static final Set<String> STATUS_CREATED_AT_INDEX_KEY = Set.of("id", "status", "createdAt");
+
     private String id;
 
     private String osId;
@@ -49,18 +74,70 @@ public class OrcamentoEntity {
 
     private String motivoRejeicao;
 
-    @Builder.Default
-    private List<HistoricoStatusEntity> historico = new ArrayList<>();
+    /**
+     * Quantidade de entradas do histórico. As entradas ficam na tabela
+     * orcamentos-historico (HistoricoOrcamentoEntity), fora deste item.
+     */
+    private Integer historicoCount;
+
+    /**
+     * Histórico de itens gravados antes da tabela orcamentos-historico. Só
+     * leitura: o save de um item existente não grava nem remove o atributo;
+     * a migração (DynamoDbOrcamentoRepository.migrarHistoricoLegado) copia as
+     * entradas para a tabela filha e o remove.
+     */
+    private List<HistoricoStatusEntity> historicoLegado;
 
     private Instant createdAt;
 
     private Instant updatedAt;
 
+    /**
+     * Versão para optimistic locking: putItem só grava se a versão no DynamoDB
+     * ainda for a lida (VersionedRecordExtension).
+     */
+    private Long version;
+
     @DynamoDbPartitionKey
     public String getId() {
         return this.id;
     }
 
+    @DynamoDbVersionAttribute
+    public Long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Lê lista de maps ou binário compacto; o formato de escrita é definido
+     * por tabela (EntityTableSchemas.orcamento).
+     */
+    @DynamoDbConvertedBy(ItensOrcamentoAttributeConverter.class)
+    public List<ItemOrcamentoEntity> getItens() {
+        return this.itens;
+    }
+
+    @DynamoDbAttribute(HISTORICO_LEGADO)
+    public List<HistoricoStatusEntity> getHistoricoLegado() {
+        return this.historicoLegado;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = OS_ID_INDEX)
+    public String getOsId() {
+        return this.osId;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = STATUS_CREATED_AT_INDEX)
+    public String getStatus() {
+        return this.status;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = STATUS_CREATED_AT_INDEX)
+    @DynamoDbConvertedBy(SortableInstantAttributeConverter.class)
+    public Instant getCreatedAt() {
+        return this.createdAt;
+    }
+
     /**
      * Item do Orcamento (nested DynamoDbBean)
      */
@@ -78,7 +155,7 @@ public class OrcamentoEntity {
     }
 
     /**
-     * Histórico de status (nested DynamoDbBean)
+     * Entrada do histórico legado (nested DynamoDbBean)
      */
     @Data
     @Builder
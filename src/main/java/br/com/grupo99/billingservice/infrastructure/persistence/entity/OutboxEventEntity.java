@@ -0,0 +1,92 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Entity DynamoDB para um evento pendente no outbox do billing-events.
+ *
+ * ✅ CLEAN ARCHITECTURE: Entity fica na infrastructure layer
+ *
+ * Gravado na mesma transação da transição de status que gerou o evento e
+ * removido pelo relay depois de publicado. A partição é um shard derivado do
+ * osId: os eventos de uma OS ficam sempre no mesmo shard, ordenados pela sort
+ * key, e o relay publica cada shard nessa ordem.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class OutboxEventEntity {
+
+    public static final String TABLE = "billing-outbox";
+    public static final String SHARD = "shard";
+    public static final String SEQUENCIA = "sequencia";
+
+    /**
+     * Quantidade fixa de shards. Mudar redistribui as OS entre shards e só é
+     * seguro com o outbox vazio.
+     */
+    public static final int SHARDS = 8;
+
+    private String shard;
+
+    /**
+     * Sort key: epoch em milissegundos com largura fixa + "#" + eventId, para a
+     * ordem lexicográfica ser a de gravação.
+     */
+    private String sequencia;
+
+    private String eventId;
+
+    private String topic;
+
+    private String messageKey;
+
+    /** Headers do ProducerRecord (todos texto UTF-8). */
+    private Map<String, String> headers;
+
+    /**
+     * eventType do schema do payload (BillingEventSchemas), para desserializar
+     * o JSON de volta ao evento. Linhas antigas guardam o nome da classe.
+     */
+    private String payloadType;
+
+    private String payload;
+
+    private Instant createdAt;
+
+    @DynamoDbPartitionKey
+    public String getShard() {
+        return this.shard;
+    }
+
+    @DynamoDbSortKey
+    public String getSequencia() {
+        return this.sequencia;
+    }
+
+    /**
+     * Shard de uma chave de mensagem (osId).
+     */
+    public static String shard(String messageKey) {
+        return String.valueOf(Math.floorMod(messageKey.hashCode(), SHARDS));
+    }
+
+    /**
+     * Monta a sort key de um evento.
+     */
+    public static String sequencia(Instant createdAt, UUID eventId) {
+        return String.format("%015d", createdAt.toEpochMilli()) + "#" + eventId;
+    }
+}
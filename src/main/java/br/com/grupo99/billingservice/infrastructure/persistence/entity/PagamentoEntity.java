@@ -4,11 +4,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Set;
 
 /**
  * Entity DynamoDB para Pagamento
@@ -23,6 +28,33 @@ import java.time.Instant;
 @DynamoDbBean
 public class PagamentoEntity {
 
+    /**
+     * GSI esparso mercadoPagoPaymentId → pagamento (webhook do Mercado Pago).
+     * Só contém pagamentos que já receberam um payment_id do MP.
+     */
+    public static final String MERCADO_PAGO_PAYMENT_ID_INDEX = "mercadoPagoPaymentId-index";
+
+    /**
+     * GSI osId → pagamentos da OS (resumo de cobrança sem scan).
+     */
+    public static final String OS_ID_INDEX = "osId-index";
+
+    /**
+     * GSI orcamentoId + status → pagamentos do orçamento (checagem de duplicidade).
+     */
+    public static final String ORCAMENTO_ID_STATUS_INDEX = "orcamentoId-status-index";
+
+    /**
+     * GSI status + createdAt → listagem paginada por status.
+     */
+    public static final String STATUS_CREATED_AT_INDEX = "status-createdAt-index";
+
+    /** Atributos do lastEvaluatedKey de um scan na tabela. */
+    public static final Set<String> TABLE_KEY = Set.of("id");
+
+    /** Atributos do lastEvaluatedKey de uma query no GSI status-createdAt-index. */
+    public static final Set<String> STATUS_CREATED_AT_INDEX_KEY = Set.of("id", "status", "createdAt");
+
     private String id;
 
     private String orcamentoId;
@@ -54,8 +86,46 @@ public class PagamentoEntity {
 
     private Instant updatedAt;
 
+    /**
+     * Versão para optimistic locking: putItem só grava se a versão no DynamoDB
+     * ainda for a lida (VersionedRecordExtension).
+     */
+    private Long version;
+
     @DynamoDbPartitionKey
     public String getId() {
         return this.id;
     }
+
+    @DynamoDbVersionAttribute
+    public Long getVersion() {
+        return this.version;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = ORCAMENTO_ID_STATUS_INDEX)
+    public String getOrcamentoId() {
+        return this.orcamentoId;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = OS_ID_INDEX)
+    public String getOsId() {
+        return this.osId;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = STATUS_CREATED_AT_INDEX)
+    @DynamoDbSecondarySortKey(indexNames = ORCAMENTO_ID_STATUS_INDEX)
+    public String getStatus() {
+        return this.status;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = STATUS_CREATED_AT_INDEX)
+    @DynamoDbConvertedBy(SortableInstantAttributeConverter.class)
+    public Instant getCreatedAt() {
+        return this.createdAt;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = MERCADO_PAGO_PAYMENT_ID_INDEX)
+    public Long getMercadoPagoPaymentId() {
+        return this.mercadoPagoPaymentId;
+    }
 }
@@ -0,0 +1,50 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+import java.time.Instant;
+
+/**
+ * Entity DynamoDB para um evento Kafka já processado pelo billing-service.
+ *
+ * ✅ CLEAN ARCHITECTURE: Entity fica na infrastructure layer
+ *
+ * A chave é o eventId do header ou, na falta dele, topic:partition:offset. O
+ * item expira pelo TTL do DynamoDB (atributo expiresAt, epoch em segundos); a
+ * remoção é assíncrona, então quem lê também confere expiresAt.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class ProcessedEventEntity {
+
+    public static final String TABLE = "processed-events";
+    public static final String CHAVE = "chave";
+    public static final String EXPIRES_AT = "expiresAt";
+
+    private String chave;
+
+    private Instant processedAt;
+
+    /** Atributo de TTL (epoch em segundos). */
+    private Long expiresAt;
+
+    @DynamoDbPartitionKey
+    public String getChave() {
+        return this.chave;
+    }
+
+    /**
+     * Se o item já passou do TTL (e só não foi removido ainda).
+     */
+    public boolean expirado(Instant agora) {
+        return expiresAt != null && expiresAt <= agora.getEpochSecond();
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter de Instant para atributos usados como sort key de índice
+ * (createdAt do GSI status-createdAt-index).
+ *
+ * O converter padrão grava Instant.toString(), que omite os zeros finais da
+ * fração ("...:00Z", "...:00.5Z", "...:00.123Z"): a ordem lexicográfica não
+ * é a cronológica dentro do mesmo segundo. Aqui a gravação é ISO-8601 UTC com
+ * largura fixa (nanossegundos), como a sort key do histórico. A leitura
+ * aceita os dois formatos, então itens antigos continuam legíveis e passam
+ * para o novo formato no próximo put.
+ */
+public class SortableInstantAttributeConverter implements AttributeConverter<Instant> {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    /**
+     * Formata o instante com largura fixa.
+     */
+    public static String format(Instant instant) {
+        return FORMAT.format(instant);
+    }
+
+    @Override
+    public AttributeValue transformFrom(Instant instant) {
+        return AttributeValue.builder().s(format(instant)).build();
+    }
+
+    @Override
+    public Instant transformTo(AttributeValue value) {
+        return Instant.parse(value.s());
+    }
+
+    @Override
+    public EnhancedType<Instant> type() {
+        return EnhancedType.of(Instant.class);
+    }
+
+    @Override
+    public AttributeValueType attributeValueType() {
+        return AttributeValueType.S;
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Leitura em lote (BatchGetItem) de uma tabela DynamoDB.
+ *
+ * Divide as chaves em lotes de 100 (limite do DynamoDB). Cada página extra
+ * retornada pelo BatchGetItem corresponde ao reenvio das chaves não
+ * processadas; entre elas aplica backoff exponencial com jitter.
+ */
+public final class DynamoDbBatchReader<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamoDbBatchReader.class);
+
+    /** Limite do DynamoDB para chaves em um BatchGetItem. */
+    static final int MAX_BATCH_SIZE = 100;
+    static final int MAX_ATTEMPTS = 8;
+    static final Duration DEFAULT_BASE_BACKOFF = Duration.ofMillis(50);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(2);
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbTable<T> table;
+    private final Class<T> itemClass;
+    private final Duration baseBackoff;
+
+    public DynamoDbBatchReader(DynamoDbEnhancedClient enhancedClient, DynamoDbTable<T> table, Class<T> itemClass) {
+        this(enhancedClient, table, itemClass, DEFAULT_BASE_BACKOFF);
+    }
+
+    DynamoDbBatchReader(DynamoDbEnhancedClient enhancedClient, DynamoDbTable<T> table, Class<T> itemClass,
+            Duration baseBackoff) {
+        this.enhancedClient = enhancedClient;
+        this.table = table;
+        this.itemClass = itemClass;
+        this.baseBackoff = baseBackoff;
+    }
+
+    /**
+     * Busca os itens pelas chaves. Chaves inexistentes são ignoradas e a ordem
+     * do resultado não é garantida.
+     *
+     * @param keys chaves distintas
+     * @return itens encontrados
+     * @throws IllegalStateException se ainda houver chaves não processadas após
+     *                               {@value #MAX_ATTEMPTS} tentativas
+     */
+    public List<T> getAll(List<Key> keys) {
+        List<T> items = new ArrayList<>(keys.size());
+        for (int start = 0; start < keys.size(); start += MAX_BATCH_SIZE) {
+            items.addAll(readChunk(keys.subList(start, Math.min(start + MAX_BATCH_SIZE, keys.size()))));
+        }
+        log.debug("Leitura em lote concluída: {} de {} chaves encontradas", items.size(), keys.size());
+        return items;
+    }
+
+    private List<T> readChunk(List<Key> chunk) {
+        ReadBatch.Builder<T> batch = ReadBatch.builder(itemClass).mappedTableResource(table);
+        chunk.forEach(batch::addGetItem);
+
+        Iterator<BatchGetResultPage> pages = enhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder()
+                .addReadBatch(batch.build())
+                .build()).iterator();
+
+        // O paginador só busca a próxima página (chaves não processadas) em next()
+        List<T> items = new ArrayList<>(chunk.size());
+        for (int attempt = 1; pages.hasNext(); attempt++) {
+            if (attempt > MAX_ATTEMPTS) {
+                throw new IllegalStateException("Chaves não processadas após " + MAX_ATTEMPTS + " tentativas");
+            }
+            if (attempt > 1) {
+                log.warn("Chaves não processadas no BatchGetItem (tentativa {}), reenviando", attempt);
+                sleep(backoff(baseBackoff, attempt - 1));
+            }
+            items.addAll(pages.next().resultsForTable(table));
+        }
+        return items;
+    }
+
+    /**
+     * Backoff exponencial com full jitter: aleatório em [0, base * 2^(tentativa-1)],
+     * limitado a {@link #MAX_BACKOFF}.
+     */
+    static long backoff(Duration baseBackoff, int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF.toMillis(), baseBackoff.toMillis() << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Leitura em lote interrompida", e);
+        }
+    }
+}
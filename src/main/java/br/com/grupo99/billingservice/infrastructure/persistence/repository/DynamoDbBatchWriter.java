@@ -0,0 +1,209 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Escrita em lote (BatchWriteItem) de uma tabela DynamoDB.
+ *
+ * Divide os itens em lotes de 25 (limite do DynamoDB), envia os lotes em
+ * paralelo (virtual threads, no máximo maxConcurrency em voo) e reenvia os
+ * itens não processados com backoff exponencial e jitter.
+ *
+ * O BatchWriteItem não aceita condições: as extensões do mapper (ex.: a
+ * VersionedRecordExtension, que gera a condição de versão) são ignoradas e a
+ * escrita é "cega" (último escritor vence).
+ */
+public final class DynamoDbBatchWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamoDbBatchWriter.class);
+
+    /** Limite do DynamoDB para itens em um BatchWriteItem. */
+    static final int MAX_BATCH_SIZE = 25;
+    static final int MAX_ATTEMPTS = 8;
+    static final int DEFAULT_MAX_CONCURRENCY = 8;
+    static final Duration DEFAULT_BASE_BACKOFF = Duration.ofMillis(50);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(2);
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final MappedTableResource<T> table;
+    private final Class<T> itemClass;
+    private final int maxConcurrency;
+    private final Duration baseBackoff;
+
+    public DynamoDbBatchWriter(DynamoDbEnhancedClient enhancedClient, DynamoDbTable<T> table, Class<T> itemClass) {
+        this(enhancedClient, table, itemClass, DEFAULT_MAX_CONCURRENCY, DEFAULT_BASE_BACKOFF);
+    }
+
+    DynamoDbBatchWriter(DynamoDbEnhancedClient enhancedClient, DynamoDbTable<T> table, Class<T> itemClass,
+            int maxConcurrency, Duration baseBackoff) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency deve ser maior que zero");
+        }
+        this.enhancedClient = enhancedClient;
+        this.table = new SemExtensoes<>(table);
+        this.itemClass = itemClass;
+        this.maxConcurrency = maxConcurrency;
+        this.baseBackoff = baseBackoff;
+    }
+
+    /**
+     * Grava (PutItem) todos os itens.
+     *
+     * Itens com a mesma chave não podem aparecer na mesma chamada.
+     *
+     * @throws IllegalStateException se algum lote continuar com itens não
+     *                               processados após {@value #MAX_ATTEMPTS} tentativas
+     */
+    public void putAll(List<T> items) {
+        write(items, WriteBatch.Builder::addPutItem, result -> result.unprocessedPutItemsForTable(table));
+    }
+
+    /**
+     * Remove (DeleteItem) todos os itens pelas chaves informadas.
+     *
+     * @throws IllegalStateException se algum lote continuar com chaves não
+     *                               processadas após {@value #MAX_ATTEMPTS} tentativas
+     */
+    public void deleteAll(List<Key> keys) {
+        write(keys, WriteBatch.Builder::addDeleteItem, result -> result.unprocessedDeleteItemsForTable(table));
+    }
+
+    private <E> void write(List<E> elements, BiConsumer<WriteBatch.Builder<T>, E> addToBatch,
+            Function<BatchWriteResult, List<E>> unprocessed) {
+        List<List<E>> chunks = partition(elements);
+        if (chunks.isEmpty()) {
+            return;
+        }
+        if (chunks.size() == 1) {
+            writeChunk(chunks.get(0), addToBatch, unprocessed);
+            return;
+        }
+
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        List<Future<?>> futures = new ArrayList<>(chunks.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<E> chunk : chunks) {
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        writeChunk(chunk, addToBatch, unprocessed);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Escrita em lote interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Falha na escrita em lote", e.getCause());
+        }
+        log.debug("Escrita em lote concluída: {} itens em {} lotes", elements.size(), chunks.size());
+    }
+
+    private <E> void writeChunk(List<E> chunk, BiConsumer<WriteBatch.Builder<T>, E> addToBatch,
+            Function<BatchWriteResult, List<E>> unprocessed) {
+        List<E> pending = chunk;
+        for (int attempt = 1; ; attempt++) {
+            WriteBatch.Builder<T> batch = WriteBatch.builder(itemClass).mappedTableResource(table);
+            pending.forEach(element -> addToBatch.accept(batch, element));
+
+            BatchWriteResult result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                    .addWriteBatch(batch.build())
+                    .build());
+
+            pending = unprocessed.apply(result);
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (attempt == MAX_ATTEMPTS) {
+                throw new IllegalStateException(
+                        pending.size() + " itens não processados após " + MAX_ATTEMPTS + " tentativas");
+            }
+            log.warn("{} itens não processados no BatchWriteItem (tentativa {}), reenviando",
+                    pending.size(), attempt);
+            sleep(backoff(attempt));
+        }
+    }
+
+    /**
+     * Backoff exponencial com full jitter: aleatório em [0, base * 2^(tentativa-1)],
+     * limitado a {@link #MAX_BACKOFF}.
+     */
+    private long backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF.toMillis(), baseBackoff.toMillis() << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Escrita em lote interrompida", e);
+        }
+    }
+
+    /**
+     * Visão da tabela sem extensões do mapper, para que o WriteBatch não gere
+     * conditionExpression (rejeitada pelo BatchWriteItem).
+     */
+    private record SemExtensoes<T>(DynamoDbTable<T> table) implements MappedTableResource<T> {
+
+        @Override
+        public DynamoDbEnhancedClientExtension mapperExtension() {
+            return null;
+        }
+
+        @Override
+        public TableSchema<T> tableSchema() {
+            return table.tableSchema();
+        }
+
+        @Override
+        public String tableName() {
+            return table.tableName();
+        }
+
+        @Override
+        public Key keyFrom(T item) {
+            return table.keyFrom(item);
+        }
+    }
+
+    static <E> List<List<E>> partition(List<E> elements) {
+        List<List<E>> chunks = new ArrayList<>((elements.size() + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE);
+        for (int start = 0; start < elements.size(); start += MAX_BATCH_SIZE) {
+            chunks.add(elements.subList(start, Math.min(start + MAX_BATCH_SIZE, elements.size())));
+        }
+        return chunks;
+    }
+}
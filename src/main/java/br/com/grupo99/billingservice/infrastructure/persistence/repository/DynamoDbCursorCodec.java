@@ -0,0 +1,117 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Codifica o lastEvaluatedKey do DynamoDB como cursor opaco (Base64 URL-safe)
+ * e o decodifica de volta para exclusiveStartKey.
+ *
+ * Chaves de tabela/índice deste serviço usam apenas atributos S e N.
+ */
+public final class DynamoDbCursorCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Map<String, String>>> CURSOR_TYPE = new TypeReference<>() {
+    };
+    private static final String STRING = "S";
+    private static final String NUMBER = "N";
+
+    private DynamoDbCursorCodec() {
+    }
+
+    /**
+     * Converte lastEvaluatedKey em cursor.
+     *
+     * @param lastEvaluatedKey chave retornada pelo DynamoDB (pode ser null/vazia)
+     * @return cursor opaco ou null quando não há próxima página
+     */
+    public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Map<String, String>> raw = new LinkedHashMap<>();
+        lastEvaluatedKey.forEach((name, value) -> {
+            if (value.s() != null) {
+                raw.put(name, Map.of(STRING, value.s()));
+            } else if (value.n() != null) {
+                raw.put(name, Map.of(NUMBER, value.n()));
+            } else {
+                throw new IllegalArgumentException("Tipo de chave não suportado no cursor: " + name);
+            }
+        });
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(raw));
+        } catch (Exception e) {
+            throw new IllegalStateException("Falha ao gerar cursor de paginação", e);
+        }
+    }
+
+    /**
+     * Converte cursor em exclusiveStartKey.
+     *
+     * @param cursor cursor recebido do cliente (pode ser null/vazio)
+     * @return exclusiveStartKey ou null para começar do início
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static Map<String, AttributeValue> decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        Map<String, Map<String, String>> raw;
+        try {
+            raw = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), CURSOR_TYPE);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+        if (raw == null || raw.isEmpty()) {
+            throw new IllegalArgumentException("Cursor de paginação inválido");
+        }
+
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        raw.forEach((name, typed) -> {
+            if (typed == null) {
+                throw new IllegalArgumentException("Cursor de paginação inválido");
+            } else if (typed.containsKey(STRING)) {
+                key.put(name, AttributeValue.builder().s(typed.get(STRING)).build());
+            } else if (typed.containsKey(NUMBER)) {
+                key.put(name, AttributeValue.builder().n(typed.get(NUMBER)).build());
+            } else {
+                throw new IllegalArgumentException("Cursor de paginação inválido");
+            }
+        });
+        return key;
+    }
+
+    /**
+     * Confere se a chave de início tem exatamente os atributos (todos S) da
+     * chave da tabela/índice paginado. Um cursor adulterado mas decodificável
+     * vira IllegalArgumentException aqui, e não um ValidationException do
+     * DynamoDB.
+     *
+     * @param exclusiveStartKey chave decodificada (null = primeira página)
+     * @param keyAttributes     atributos da chave (tabela + índice)
+     * @return a própria chave
+     * @throws IllegalArgumentException se os atributos não forem os esperados
+     */
+    public static Map<String, AttributeValue> requireKey(Map<String, AttributeValue> exclusiveStartKey,
+            Set<String> keyAttributes) {
+        if (exclusiveStartKey == null) {
+            return null;
+        }
+        if (!exclusiveStartKey.keySet().equals(keyAttributes)
+                || exclusiveStartKey.values().stream().anyMatch(value -> value.s() == null)) {
+            throw new IllegalArgumentException("Cursor de paginação inválido");
+        }
+        return exclusiveStartKey;
+    }
+}
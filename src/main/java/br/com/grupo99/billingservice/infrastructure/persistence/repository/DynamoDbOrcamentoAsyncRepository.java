@@ -0,0 +1,72 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DynamoDB Repository assíncrono (Netty NIO) para OrcamentoEntity.
+ *
+ * ✅ CLEAN ARCHITECTURE: Repository específico do DynamoDB fica na
+ * infrastructure
+ * Ativo apenas com aws.dynamodb.async.enabled=true
+ */
+@Repository
+@ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "true")
+public class DynamoDbOrcamentoAsyncRepository {
+
+    private final DynamoDbAsyncTable<OrcamentoEntity> table;
+    private final DynamoDbAsyncIndex<OrcamentoEntity> osIdIndex;
+
+    public DynamoDbOrcamentoAsyncRepository(
+            DynamoDbEnhancedAsyncClient enhancedAsyncClient,
+            @Value("${aws.dynamodb.table-prefix:}") String tablePrefix) {
+        String tableName = (tablePrefix != null && !tablePrefix.isBlank())
+                ? tablePrefix + "orcamentos"
+                : "orcamentos";
+        // Só leitura: o converter dos itens lê os dois formatos
+        this.table = enhancedAsyncClient.table(tableName,
+                EntityTableSchemas.orcamento(ItensOrcamentoAttributeConverter.Formato.LISTA));
+        this.osIdIndex = table.index(OrcamentoEntity.OS_ID_INDEX);
+    }
+
+    /**
+     * Busca OrcamentoEntity por ID (GetItem).
+     */
+    public CompletableFuture<Optional<OrcamentoEntity>> findById(String id) {
+        return table.getItem(Key.builder().partitionValue(id).build())
+                .thenApply(Optional::ofNullable);
+    }
+
+    /**
+     * Busca OrcamentoEntity por osId (query no GSI osId-index, apenas a
+     * primeira página).
+     */
+    public CompletableFuture<Optional<OrcamentoEntity>> findByOsId(String osId) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(osId).build()))
+                .limit(1)
+                .build();
+
+        // O publisher entrega as páginas em sequência (nunca em paralelo)
+        List<OrcamentoEntity> items = new ArrayList<>(1);
+        return osIdIndex.query(request)
+                .limit(1)
+                .subscribe(page -> items.addAll(page.items()))
+                .thenApply(done -> items.stream().findFirst());
+    }
+}
@@ -1,23 +1,49 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.repository;
 
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.HistoricoOrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * DynamoDB Repository para OrcamentoEntity.
@@ -25,40 +51,218 @@ import java.util.stream.Collectors;
  * ✅ CLEAN ARCHITECTURE: Repository específico do DynamoDB fica na
  * infrastructure
  * Substitui MongoOrcamentoRepository (Spring Data MongoDB)
+ *
+ * Os itens são gravados como lista de maps ou binário compacto conforme
+ * aws.dynamodb.orcamentos.itens-formato; a leitura aceita os dois.
+ *
+ * Itens gravados antes da tabela orcamentos-historico guardam o histórico no
+ * atributo legado "historico": o save nunca o apaga, findHistorico o lê como
+ * fallback (aws.dynamodb.orcamentos.historico-legado.leitura) e
+ * migrarHistoricoLegado o copia para a tabela filha.
  */
 @Repository
 public class DynamoDbOrcamentoRepository {
 
     private static final Logger log = LoggerFactory.getLogger(DynamoDbOrcamentoRepository.class);
+
+    /** Itens em trânsito entre os segmentos do scan paralelo e o consumidor. */
+    static final int PARALLEL_SCAN_BUFFER_SIZE = 1_000;
+    static final int DELETE_ALL_SEGMENTS = 4;
+    /** Queries no GSI osId-index em voo ao mesmo tempo em findAllByOsId. */
+    static final int OS_ID_QUERY_CONCURRENCY = 16;
+
+    /** Atributos alterados por uma transição de status (além da versão). */
+    static final String[] STATUS_TRANSITION_ATTRIBUTES = {
+            "status", "dataAprovacao", "dataRejeicao", "observacao", "motivoRejeicao", "historicoCount",
+            "updatedAt" };
+
+    /**
+     * Atributos gravados pelo save de um item existente: todos menos a chave,
+     * a versão (condição) e o histórico legado.
+     */
+    static final String[] SAVE_ATTRIBUTES = {
+            "osId", "status", "itens", "valorTotal", "dataGeracao", "dataAprovacao", "dataRejeicao", "observacao",
+            "motivoRejeicao", "historicoCount", "createdAt", "updatedAt" };
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbClient dynamoDbClient;
     private final DynamoDbTable<OrcamentoEntity> table;
+    private final DynamoDbTable<HistoricoOrcamentoEntity> historicoTable;
+    private final DynamoDbTable<OutboxEventEntity> outboxTable;
+    private final DynamoDbBatchWriter<OrcamentoEntity> batchWriter;
+    private final DynamoDbBatchWriter<HistoricoOrcamentoEntity> historicoBatchWriter;
+    private final DynamoDbBatchReader<OrcamentoEntity> batchReader;
+    private final DynamoDbIndex<OrcamentoEntity> statusIndex;
+    private final DynamoDbIndex<OrcamentoEntity> osIdIndex;
+    private final boolean historicoLegadoLeitura;
 
     public DynamoDbOrcamentoRepository(
             DynamoDbEnhancedClient enhancedClient,
-            @Value("${aws.dynamodb.table-prefix:}") String tablePrefix) {
+            DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-prefix:}") String tablePrefix,
+            @Value("${aws.dynamodb.orcamentos.itens-formato:LISTA}") ItensOrcamentoAttributeConverter.Formato itensFormato,
+            @Value("${aws.dynamodb.orcamentos.historico-legado.leitura:true}") boolean historicoLegadoLeitura) {
+        this.enhancedClient = enhancedClient;
+        this.dynamoDbClient = dynamoDbClient;
+        this.historicoLegadoLeitura = historicoLegadoLeitura;
         String tableName = (tablePrefix != null && !tablePrefix.isBlank())
                 ? tablePrefix + "orcamentos"
                 : "orcamentos";
-        this.table = enhancedClient.table(tableName, TableSchema.fromBean(OrcamentoEntity.class));
+        this.table = enhancedClient.table(tableName, EntityTableSchemas.orcamento(itensFormato));
+        this.historicoTable = enhancedClient.table(tableName + "-historico", EntityTableSchemas.HISTORICO_ORCAMENTO);
+        this.outboxTable = enhancedClient.table((tablePrefix != null && !tablePrefix.isBlank())
+                ? tablePrefix + OutboxEventEntity.TABLE
+                : OutboxEventEntity.TABLE, EntityTableSchemas.OUTBOX_EVENT);
+        this.batchWriter = new DynamoDbBatchWriter<>(enhancedClient, table, OrcamentoEntity.class);
+        this.historicoBatchWriter = new DynamoDbBatchWriter<>(enhancedClient, historicoTable,
+                HistoricoOrcamentoEntity.class);
+        this.batchReader = new DynamoDbBatchReader<>(enhancedClient, table, OrcamentoEntity.class);
+        this.osIdIndex = table.index(OrcamentoEntity.OS_ID_INDEX);
+        this.statusIndex = table.index(OrcamentoEntity.STATUS_CREATED_AT_INDEX);
     }
 
     /**
      * Salva ou atualiza um OrcamentoEntity.
      * Gera ID e timestamps automaticamente.
+     *
+     * Item novo (versão nula): PutItem condicional na ausência do item
+     * (VersionedRecordExtension). Item existente: UpdateItem de
+     * {@link #SAVE_ATTRIBUTES} condicional na versão lida, que preserva o
+     * histórico legado ainda não migrado (um put substituiria o item inteiro).
+     *
+     * @throws ConditionalCheckFailedException se outro escritor gravou antes
      */
     public OrcamentoEntity save(OrcamentoEntity entity) {
-        if (entity.getId() == null || entity.getId().isBlank()) {
-            entity.setId(UUID.randomUUID().toString());
-        }
-        if (entity.getCreatedAt() == null) {
-            entity.setCreatedAt(Instant.now());
+        return save(entity, List.of());
+    }
+
+    /**
+     * Salva ou atualiza um OrcamentoEntity junto com as entradas novas do
+     * histórico. Com entradas, o put do orçamento e os das entradas vão em um
+     * único TransactWriteItems (contador e histórico nunca divergem).
+     *
+     * @param novasEntradas entradas do histórico ainda não gravadas
+     * @throws ConditionalCheckFailedException se outro escritor gravou antes
+     */
+    public OrcamentoEntity save(OrcamentoEntity entity, List<HistoricoOrcamentoEntity> novasEntradas) {
+        prepareForSave(entity, Instant.now());
+
+        if (entity.getVersion() != null) {
+            write(new DynamoDbPartialUpdate<>(table, entity)
+                    .set(SAVE_ATTRIBUTES)
+                    .version("version", entity.getVersion()), entity, novasEntradas, List.of());
+        } else if (novasEntradas.isEmpty()) {
+            table.putItem(entity);
+        } else {
+            TransactWriteItemsEnhancedRequest.Builder request = TransactWriteItemsEnhancedRequest.builder()
+                    .addPutItem(table, entity);
+            novasEntradas.forEach(entrada -> request.addPutItem(historicoTable, withOrcamentoId(entrada, entity)));
+            DynamoDbTransactions.transact(() -> enhancedClient.transactWriteItems(request.build()));
         }
+        // O update/a extensão gravam versão + 1, mas não atualizam o objeto
+        entity.setVersion(nextVersion(entity.getVersion()));
+        log.debug("OrcamentoEntity salvo: {} (versão {}, {} entradas de histórico)",
+                entity.getId(), entity.getVersion(), novasEntradas.size());
+        return entity;
+    }
+
+    /**
+     * Grava uma transição de status via UpdateItem parcial: status, datas,
+     * observação, contador do histórico, updatedAt e versão. Itens não são
+     * reenviados e as entradas novas do histórico vão para a tabela filha na
+     * mesma transação, então o custo da escrita não cresce com o tamanho do
+     * item nem com o histórico.
+     *
+     * Condicional no status anterior e na versão lida.
+     *
+     * @param entity         estado após a transição
+     * @param statusAnterior status lido antes da transição
+     * @param novasEntradas  entradas do histórico geradas pela transição
+     * @throws ConditionalCheckFailedException se o status ou a versão mudaram
+     *                                         (ou o item não existe)
+     */
+    public OrcamentoEntity updateStatus(OrcamentoEntity entity, String statusAnterior,
+            List<HistoricoOrcamentoEntity> novasEntradas) {
+        return updateStatus(entity, statusAnterior, novasEntradas, List.of());
+    }
+
+    /**
+     * Como {@link #updateStatus(OrcamentoEntity, String, List)}, gravando
+     * também eventos no outbox na mesma transação: o evento só existe se a
+     * transição foi gravada.
+     *
+     * @param eventos eventos a publicar pelo relay do outbox
+     */
+    public OrcamentoEntity updateStatus(OrcamentoEntity entity, String statusAnterior,
+            List<HistoricoOrcamentoEntity> novasEntradas, List<OutboxEventEntity> eventos) {
         entity.setUpdatedAt(Instant.now());
 
-        table.putItem(entity);
-        log.debug("OrcamentoEntity salvo: {}", entity.getId());
+        write(new DynamoDbPartialUpdate<>(table, entity)
+                .set(STATUS_TRANSITION_ATTRIBUTES)
+                .expect("status", AttributeValue.builder().s(statusAnterior).build())
+                .version("version", entity.getVersion()), entity, novasEntradas, eventos);
+        entity.setVersion(nextVersion(entity.getVersion()));
+        log.debug("OrcamentoEntity {}: status {} → {} (versão {}, {} eventos no outbox)",
+                entity.getId(), statusAnterior, entity.getStatus(), entity.getVersion(), eventos.size());
         return entity;
     }
 
+    /**
+     * UpdateItem do orçamento; com entradas de histórico ou eventos, vai em um
+     * TransactWriteItems junto com os puts deles.
+     */
+    private void write(DynamoDbPartialUpdate<OrcamentoEntity> update, OrcamentoEntity entity,
+            List<HistoricoOrcamentoEntity> novasEntradas, List<OutboxEventEntity> eventos) {
+        if (novasEntradas.isEmpty() && eventos.isEmpty()) {
+            dynamoDbClient.updateItem(update.build());
+            return;
+        }
+        List<TransactWriteItem> items = new ArrayList<>(novasEntradas.size() + eventos.size() + 1);
+        items.add(TransactWriteItem.builder().update(update.buildForTransaction()).build());
+        novasEntradas.forEach(entrada -> items.add(
+                DynamoDbTransactions.put(historicoTable, withOrcamentoId(entrada, entity))));
+        eventos.forEach(evento -> items.add(DynamoDbTransactions.put(outboxTable, evento)));
+        DynamoDbTransactions.transact(() -> dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                .transactItems(items)
+                .build()));
+    }
+
+    /**
+     * Salva ou atualiza vários OrcamentoEntitys via BatchWriteItem (lotes de 25,
+     * enviados em paralelo, com retry dos itens não processados).
+     * Gera ID e timestamps automaticamente.
+     *
+     * BatchWriteItem não aceita condições: a versão é incrementada sem checagem
+     * (escrita cega, para cargas em lote de orçamentos novos; o put substitui o
+     * item inteiro, inclusive um histórico legado não migrado).
+     */
+    public List<OrcamentoEntity> saveAll(List<OrcamentoEntity> entities) {
+        return saveAll(entities, List.of());
+    }
+
+    /**
+     * Como {@link #saveAll(List)}, gravando também as entradas novas do
+     * histórico de cada orçamento (mesma posição na lista) na tabela filha.
+     */
+    public List<OrcamentoEntity> saveAll(List<OrcamentoEntity> entities,
+            List<List<HistoricoOrcamentoEntity>> novasEntradas) {
+        Instant now = Instant.now();
+        entities.forEach(entity -> {
+            prepareForSave(entity, now);
+            entity.setVersion(nextVersion(entity.getVersion()));
+        });
+
+        batchWriter.putAll(entities);
+        List<HistoricoOrcamentoEntity> entradas = new ArrayList<>();
+        for (int i = 0; i < novasEntradas.size(); i++) {
+            OrcamentoEntity entity = entities.get(i);
+            novasEntradas.get(i).forEach(entrada -> entradas.add(withOrcamentoId(entrada, entity)));
+        }
+        historicoBatchWriter.putAll(entradas);
+        log.debug("{} OrcamentoEntitys salvos em lote ({} entradas de histórico)", entities.size(), entradas.size());
+        return entities;
+    }
+
     /**
      * Busca OrcamentoEntity por ID (partition key).
      */
@@ -68,36 +272,237 @@ public class DynamoDbOrcamentoRepository {
     }
 
     /**
-     * Busca OrcamentoEntity por osId (scan com filtro).
+     * Busca vários OrcamentoEntitys por ID via BatchGetItem (lotes de 100).
+     * IDs inexistentes são ignorados; a ordem do resultado não é garantida.
+     */
+    public List<OrcamentoEntity> findAllById(Collection<String> ids) {
+        List<Key> keys = ids.stream()
+                .distinct()
+                .map(id -> Key.builder().partitionValue(id).build())
+                .collect(Collectors.toList());
+
+        return batchReader.getAll(keys);
+    }
+
+    /**
+     * Busca OrcamentoEntity por osId (query no GSI osId-index).
      */
     public Optional<OrcamentoEntity> findByOsId(String osId) {
-        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .filterExpression(Expression.builder()
-                        .expression("osId = :osId")
-                        .putExpressionValue(":osId", AttributeValue.builder().s(osId).build())
-                        .build())
-                .build();
+        return osIdIndex.query(queryByOsId(osId)).stream()
+                .flatMap(page -> page.items().stream())
+                .findFirst();
+    }
+
+    /**
+     * Busca os OrcamentoEntities de várias OS.
+     *
+     * GSI não aceita BatchGetItem: é uma query no osId-index por OS, enviadas
+     * em paralelo (virtual threads, no máximo {@value #OS_ID_QUERY_CONCURRENCY}
+     * em voo). OS sem orçamento são ignoradas; a ordem do resultado não é
+     * garantida.
+     */
+    public List<OrcamentoEntity> findAllByOsId(Collection<String> osIds) {
+        List<String> distinctOsIds = osIds.stream().distinct().collect(Collectors.toList());
+        if (distinctOsIds.size() <= 1) {
+            return distinctOsIds.stream()
+                    .flatMap(osId -> findByOsId(osId).stream())
+                    .collect(Collectors.toList());
+        }
 
-        return table.scan(request).items().stream().findFirst();
+        Semaphore inFlight = new Semaphore(OS_ID_QUERY_CONCURRENCY);
+        List<Future<Optional<OrcamentoEntity>>> futures = new ArrayList<>(distinctOsIds.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String osId : distinctOsIds) {
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return findByOsId(osId);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            List<OrcamentoEntity> entities = new ArrayList<>(futures.size());
+            for (Future<Optional<OrcamentoEntity>> future : futures) {
+                future.get().ifPresent(entities::add);
+            }
+            log.debug("{} OrcamentoEntitys encontrados para {} OS", entities.size(), distinctOsIds.size());
+            return entities;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Busca por osId em lote interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Falha na busca por osId em lote", e.getCause());
+        }
     }
 
     /**
-     * Busca OrcamentoEntities por status (scan com filtro).
+     * Busca OrcamentoEntities por status (query no GSI status-createdAt-index,
+     * lendo todas as páginas).
      */
     public List<OrcamentoEntity> findByStatus(String status) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(status).build()))
+                .build();
+
+        return statusIndex.query(request).stream()
+                .flatMap(page -> page.items().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Busca uma página de OrcamentoEntities por status, ordenada por createdAt
+     * (query no GSI status-createdAt-index).
+     *
+     * @param status            status
+     * @param pageSize          quantidade máxima de itens na página
+     * @param exclusiveStartKey lastEvaluatedKey da página anterior (null na primeira)
+     * @return página com itens e lastEvaluatedKey (null na última página)
+     */
+    public Page<OrcamentoEntity> findByStatus(String status, int pageSize,
+            Map<String, AttributeValue> exclusiveStartKey) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize deve ser maior que zero");
+        }
+        DynamoDbCursorCodec.requireKey(exclusiveStartKey, OrcamentoEntity.STATUS_CREATED_AT_INDEX_KEY);
+        if (exclusiveStartKey != null && !status.equals(exclusiveStartKey.get("status").s())) {
+            throw new IllegalArgumentException("Cursor de paginação inválido");
+        }
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(status).build()))
+                .limit(pageSize)
+                .exclusiveStartKey(exclusiveStartKey)
+                .build();
+
+        return statusIndex.query(request).iterator().next();
+    }
+
+    /**
+     * Busca o histórico de um orçamento em ordem cronológica (query na
+     * partição da tabela filha, lendo todas as páginas).
+     *
+     * Com aws.dynamodb.orcamentos.historico-legado.leitura, lê também a lista
+     * legada do item (GetItem só desse atributo) e junta as duas pela sort key:
+     * as entradas legadas recebem a mesma chave da migração, então uma entrada
+     * já copiada não aparece duas vezes.
+     */
+    public List<HistoricoOrcamentoEntity> findHistorico(String orcamentoId) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(orcamentoId).build()))
+                .build();
+
+        List<HistoricoOrcamentoEntity> historico = historicoTable.query(request).items().stream()
+                .collect(Collectors.toList());
+        if (!historicoLegadoLeitura) {
+            return historico;
+        }
+        List<HistoricoOrcamentoEntity> legado = findHistoricoLegado(orcamentoId);
+        if (legado.isEmpty()) {
+            return historico;
+        }
+        TreeMap<String, HistoricoOrcamentoEntity> porTimestamp = new TreeMap<>();
+        legado.forEach(entrada -> porTimestamp.put(entrada.getTimestamp(), entrada));
+        historico.forEach(entrada -> porTimestamp.put(entrada.getTimestamp(), entrada));
+        return new ArrayList<>(porTimestamp.values());
+    }
+
+    /**
+     * Migra o histórico legado: para cada item com o atributo "historico",
+     * copia as entradas para a tabela filha, grava historicoCount (legadas +
+     * entradas que já estavam na tabela filha) e remove o atributo.
+     *
+     * Os puts são idempotentes (mesma sort key do fallback de leitura) e o
+     * UpdateItem é condicional na versão lida: itens alterados durante a
+     * migração são pulados e migrados na próxima execução.
+     *
+     * @return quantidade de orçamentos migrados
+     */
+    public int migrarHistoricoLegado() {
         ScanEnhancedRequest request = ScanEnhancedRequest.builder()
                 .filterExpression(Expression.builder()
-                        .expression("#st = :status")
-                        .putExpressionName("#st", "status")
-                        .putExpressionValue(":status", AttributeValue.builder().s(status).build())
+                        .expression("attribute_exists(#historico)")
+                        .putExpressionName("#historico", OrcamentoEntity.HISTORICO_LEGADO)
                         .build())
                 .build();
 
-        return table.scan(request).items().stream().collect(Collectors.toList());
+        int migrados = 0;
+        int pulados = 0;
+        for (OrcamentoEntity entity : table.scan(request).items()) {
+            List<HistoricoOrcamentoEntity> legado = historicoLegado(entity.getId(), entity);
+            Set<String> chavesLegado = legado.stream()
+                    .map(HistoricoOrcamentoEntity::getTimestamp)
+                    .collect(Collectors.toSet());
+            long novas = historicoKeys(entity.getId()).stream()
+                    .filter(key -> !chavesLegado.contains(key.sortKeyValue().map(AttributeValue::s).orElse(null)))
+                    .count();
+            historicoBatchWriter.putAll(legado);
+
+            entity.setHistoricoCount(legado.size() + (int) novas);
+            entity.setHistoricoLegado(null);
+            try {
+                dynamoDbClient.updateItem(new DynamoDbPartialUpdate<>(table, entity)
+                        .set("historicoCount", OrcamentoEntity.HISTORICO_LEGADO)
+                        .version("version", entity.getVersion())
+                        .build());
+                migrados++;
+            } catch (ConditionalCheckFailedException e) {
+                pulados++;
+                log.warn("Orçamento {} alterado durante a migração do histórico; fica para a próxima execução",
+                        entity.getId());
+            }
+        }
+        log.info("Histórico legado migrado: {} orçamentos ({} pulados)", migrados, pulados);
+        return migrados;
+    }
+
+    /**
+     * Histórico legado de um orçamento (GetItem projetado no atributo).
+     */
+    private List<HistoricoOrcamentoEntity> findHistoricoLegado(String orcamentoId) {
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(table.tableName())
+                .key(Map.of("id", AttributeValue.builder().s(orcamentoId).build()))
+                .projectionExpression("#historico")
+                .expressionAttributeNames(Map.of("#historico", OrcamentoEntity.HISTORICO_LEGADO))
+                .build());
+        if (!response.hasItem() || response.item().isEmpty()) {
+            return List.of();
+        }
+        return historicoLegado(orcamentoId, table.tableSchema().mapToItem(response.item()));
+    }
+
+    /**
+     * Converte a lista legada em entradas da tabela filha, com a posição na
+     * lista como sequência.
+     */
+    static List<HistoricoOrcamentoEntity> historicoLegado(String orcamentoId, OrcamentoEntity entity) {
+        if (entity.getHistoricoLegado() == null) {
+            return List.of();
+        }
+        List<OrcamentoEntity.HistoricoStatusEntity> legado = entity.getHistoricoLegado();
+        List<HistoricoOrcamentoEntity> entradas = new ArrayList<>(legado.size());
+        for (int i = 0; i < legado.size(); i++) {
+            OrcamentoEntity.HistoricoStatusEntity hist = legado.get(i);
+            Instant data = hist.getData() != null ? hist.getData() : Instant.EPOCH;
+            entradas.add(HistoricoOrcamentoEntity.builder()
+                    .orcamentoId(orcamentoId)
+                    .timestamp(HistoricoOrcamentoEntity.timestamp(data, i))
+                    .sequencia(i)
+                    .statusAnterior(hist.getStatusAnterior())
+                    .novoStatus(hist.getNovoStatus())
+                    .usuario(hist.getUsuario())
+                    .observacao(hist.getObservacao())
+                    .data(hist.getData())
+                    .build());
+        }
+        return entradas;
     }
 
     /**
-     * Verifica se existe um OrcamentoEntity para a OS.
+     * Verifica se existe um OrcamentoEntity para a OS (query no GSI osId-index).
      */
     public boolean existsByOsId(String osId) {
         return findByOsId(osId).isPresent();
@@ -111,18 +516,122 @@ public class DynamoDbOrcamentoRepository {
     }
 
     /**
-     * Deleta OrcamentoEntity por ID.
+     * Busca uma página de OrcamentoEntitys (scan com limit e exclusiveStartKey).
+     *
+     * @param pageSize          quantidade máxima de itens na página
+     * @param exclusiveStartKey lastEvaluatedKey da página anterior (null na primeira)
+     * @return página com itens e lastEvaluatedKey (null na última página)
+     */
+    public Page<OrcamentoEntity> findAll(int pageSize, Map<String, AttributeValue> exclusiveStartKey) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize deve ser maior que zero");
+        }
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .limit(pageSize)
+                .exclusiveStartKey(DynamoDbCursorCodec.requireKey(exclusiveStartKey, OrcamentoEntity.TABLE_KEY))
+                .build();
+
+        return table.scan(request).iterator().next();
+    }
+
+    /**
+     * Percorre todos os OrcamentoEntitys de forma lazy: cada página do scan só é
+     * buscada quando o stream chega nela, sem materializar a tabela em memória.
+     */
+    public Stream<OrcamentoEntity> streamAll() {
+        return table.scan().items().stream();
+    }
+
+    /**
+     * Percorre todos os OrcamentoEntitys com scan paralelo por segmentos.
+     *
+     * O consumidor roda na thread chamadora e recebe os itens sem ordem
+     * definida; os segmentos aguardam enquanto o buffer estiver cheio.
+     *
+     * @param totalSegments quantidade de segmentos lidos em paralelo
+     * @param consumer      consumidor dos itens
+     * @return quantidade de itens consumidos
+     */
+    public long scanInParallel(int totalSegments, Consumer<? super OrcamentoEntity> consumer) {
+        return new DynamoDbSegmentedScanner<>(table, totalSegments, PARALLEL_SCAN_BUFFER_SIZE).forEach(consumer);
+    }
+
+    /**
+     * Deleta OrcamentoEntity por ID, junto com o histórico.
      */
     public void deleteById(String id) {
         table.deleteItem(Key.builder().partitionValue(id).build());
+        historicoBatchWriter.deleteAll(historicoKeys(id));
         log.debug("OrcamentoEntity deletado: {}", id);
     }
 
+    /**
+     * Deleta vários OrcamentoEntitys por ID via BatchWriteItem, junto com o
+     * histórico (uma query de chaves por orçamento).
+     */
+    public void deleteAllById(Collection<String> ids) {
+        List<String> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+        List<Key> keys = distinctIds.stream()
+                .map(id -> Key.builder().partitionValue(id).build())
+                .collect(Collectors.toList());
+
+        batchWriter.deleteAll(keys);
+        historicoBatchWriter.deleteAll(distinctIds.stream()
+                .flatMap(id -> historicoKeys(id).stream())
+                .collect(Collectors.toList()));
+        log.debug("{} OrcamentoEntitys deletados em lote", keys.size());
+    }
+
     /**
      * Deleta todos os OrcamentoEntities (para uso em testes).
      */
     public void deleteAll() {
-        findAll().forEach(entity -> deleteById(entity.getId()));
-        log.debug("Todos os OrcamentoEntities deletados");
+        List<String> ids = new ArrayList<>();
+        scanInParallel(DELETE_ALL_SEGMENTS, entity -> ids.add(entity.getId()));
+        deleteAllById(ids);
+        log.debug("Todos os OrcamentoEntities deletados: {}", ids.size());
+    }
+
+    /**
+     * Chaves do histórico de um orçamento (projeção só das chaves).
+     */
+    private List<Key> historicoKeys(String orcamentoId) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(orcamentoId).build()))
+                .attributesToProject(HistoricoOrcamentoEntity.ORCAMENTO_ID, HistoricoOrcamentoEntity.TIMESTAMP)
+                .build();
+
+        return historicoTable.query(request).items().stream()
+                .map(entrada -> Key.builder()
+                        .partitionValue(entrada.getOrcamentoId())
+                        .sortValue(entrada.getTimestamp())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private QueryEnhancedRequest queryByOsId(String osId) {
+        return QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(osId).build()))
+                .limit(1)
+                .build();
+    }
+
+    private static void prepareForSave(OrcamentoEntity entity, Instant now) {
+        if (entity.getId() == null || entity.getId().isBlank()) {
+            entity.setId(UUID.randomUUID().toString());
+        }
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(now);
+        }
+        entity.setUpdatedAt(now);
+    }
+
+    private static HistoricoOrcamentoEntity withOrcamentoId(HistoricoOrcamentoEntity entrada, OrcamentoEntity entity) {
+        entrada.setOrcamentoId(entity.getId());
+        return entrada;
+    }
+
+    private static Long nextVersion(Long version) {
+        return version == null ? 1L : version + 1;
     }
 }
@@ -0,0 +1,196 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * DynamoDB Repository para o outbox do billing-events (OutboxEventEntity).
+ *
+ * ✅ CLEAN ARCHITECTURE: Repository específico do DynamoDB fica na
+ * infrastructure
+ *
+ * Os eventos são gravados pelas transições de status (mesma transação do
+ * agregado); aqui ficam a leitura e a remoção feitas pelo relay, o lease por
+ * shard, que garante um único relay publicando cada shard, e o estacionamento
+ * de eventos que não podem ser publicados.
+ */
+@Repository
+public class DynamoDbOutboxRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamoDbOutboxRepository.class);
+
+    /** Itens de lease ficam na mesma tabela, em partições próprias. */
+    static final String LEASE_PREFIX = "lease#";
+    static final String LEASE_SORT_KEY = "lease";
+
+    /** Eventos estacionados ficam em estacionado#<shard>, fora da leitura do relay. */
+    public static final String PARKED_PREFIX = "estacionado#";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbTable<OutboxEventEntity> table;
+    private final DynamoDbBatchWriter<OutboxEventEntity> batchWriter;
+
+    public DynamoDbOutboxRepository(
+            DynamoDbEnhancedClient enhancedClient,
+            DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-prefix:}") String tablePrefix) {
+        this.dynamoDbClient = dynamoDbClient;
+        String tableName = (tablePrefix != null && !tablePrefix.isBlank())
+                ? tablePrefix + OutboxEventEntity.TABLE
+                : OutboxEventEntity.TABLE;
+        this.table = enhancedClient.table(tableName, EntityTableSchemas.OUTBOX_EVENT);
+        this.batchWriter = new DynamoDbBatchWriter<>(enhancedClient, table, OutboxEventEntity.class);
+    }
+
+    /**
+     * Busca os eventos mais antigos de um shard, na ordem de gravação (query
+     * com leitura consistente, para não pular eventos recém-gravados).
+     *
+     * @param shard shard (ver {@link OutboxEventEntity#shard(String)})
+     * @param limit quantidade máxima de eventos
+     */
+    public List<OutboxEventEntity> findPendentes(String shard, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit deve ser maior que zero");
+        }
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(shard).build()))
+                .consistentRead(true)
+                .limit(limit)
+                .build();
+
+        return table.query(request).stream()
+                .findFirst()
+                .map(Page::items)
+                .orElse(List.of());
+    }
+
+    /**
+     * Remove eventos já publicados via BatchWriteItem.
+     */
+    public void deleteAll(List<OutboxEventEntity> eventos) {
+        List<Key> keys = eventos.stream()
+                .map(evento -> Key.builder()
+                        .partitionValue(evento.getShard())
+                        .sortValue(evento.getSequencia())
+                        .build())
+                .collect(Collectors.toList());
+
+        batchWriter.deleteAll(keys);
+        log.debug("{} eventos removidos do outbox", keys.size());
+    }
+
+    /**
+     * Move um evento que não pode ser publicado para estacionado#&lt;shard&gt;,
+     * no mesmo TransactWriteItems que o remove do shard, para não travar os
+     * eventos seguintes. Continua na tabela para análise e reenvio manual.
+     */
+    public void estacionar(OutboxEventEntity evento) {
+        OutboxEventEntity estacionado = OutboxEventEntity.builder()
+                .shard(PARKED_PREFIX + evento.getShard())
+                .sequencia(evento.getSequencia())
+                .eventId(evento.getEventId())
+                .topic(evento.getTopic())
+                .messageKey(evento.getMessageKey())
+                .headers(evento.getHeaders())
+                .payloadType(evento.getPayloadType())
+                .payload(evento.getPayload())
+                .createdAt(evento.getCreatedAt())
+                .build();
+
+        dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                .transactItems(
+                        DynamoDbTransactions.put(table, estacionado),
+                        TransactWriteItem.builder()
+                                .delete(Delete.builder()
+                                        .tableName(table.tableName())
+                                        .key(Map.of(
+                                                OutboxEventEntity.SHARD, s(evento.getShard()),
+                                                OutboxEventEntity.SEQUENCIA, s(evento.getSequencia())))
+                                        .build())
+                                .build())
+                .build());
+        log.warn("Evento {} do outbox estacionado em {}", evento.getEventId(), estacionado.getShard());
+    }
+
+    /**
+     * Adquire ou renova o lease de um shard via PutItem condicional: grava se
+     * não há lease, se já é do dono ou se o anterior expirou.
+     *
+     * @param shard   shard
+     * @param dono    identificador da instância do relay
+     * @param duracao validade do lease
+     * @return true se o lease é do dono até agora + duracao
+     */
+    public boolean adquirirLease(String shard, String dono, Duration duracao) {
+        long agora = Instant.now().toEpochMilli();
+        try {
+            dynamoDbClient.putItem(PutItemRequest.builder()
+                    .tableName(table.tableName())
+                    .item(Map.of(
+                            OutboxEventEntity.SHARD, s(LEASE_PREFIX + shard),
+                            OutboxEventEntity.SEQUENCIA, s(LEASE_SORT_KEY),
+                            "dono", s(dono),
+                            "expiraEm", n(agora + duracao.toMillis())))
+                    .conditionExpression("attribute_not_exists(#shard) OR #dono = :dono OR #expiraEm < :agora")
+                    .expressionAttributeNames(Map.of(
+                            "#shard", OutboxEventEntity.SHARD, "#dono", "dono", "#expiraEm", "expiraEm"))
+                    .expressionAttributeValues(Map.of(":dono", s(dono), ":agora", n(agora)))
+                    .build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Libera o lease de um shard, se ainda for do dono.
+     */
+    public void liberarLease(String shard, String dono) {
+        try {
+            dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                    .tableName(table.tableName())
+                    .key(Map.of(
+                            OutboxEventEntity.SHARD, s(LEASE_PREFIX + shard),
+                            OutboxEventEntity.SEQUENCIA, s(LEASE_SORT_KEY)))
+                    .conditionExpression("#dono = :dono")
+                    .expressionAttributeNames(Map.of("#dono", "dono"))
+                    .expressionAttributeValues(Map.of(":dono", s(dono)))
+                    .build());
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Lease do shard {} já não era de {}", shard, dono);
+        }
+    }
+
+    private static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    private static AttributeValue n(long value) {
+        return AttributeValue.builder().n(Long.toString(value)).build();
+    }
+}
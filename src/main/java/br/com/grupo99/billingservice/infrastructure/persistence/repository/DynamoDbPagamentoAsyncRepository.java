@@ -0,0 +1,67 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DynamoDB Repository assíncrono (Netty NIO) para PagamentoEntity.
+ *
+ * ✅ CLEAN ARCHITECTURE: Repository específico do DynamoDB fica na
+ * infrastructure
+ * Ativo apenas com aws.dynamodb.async.enabled=true
+ */
+@Repository
+@ConditionalOnProperty(prefix = "aws.dynamodb.async", name = "enabled", havingValue = "true")
+public class DynamoDbPagamentoAsyncRepository {
+
+    private final DynamoDbAsyncTable<PagamentoEntity> table;
+    private final DynamoDbAsyncIndex<PagamentoEntity> osIdIndex;
+
+    public DynamoDbPagamentoAsyncRepository(
+            DynamoDbEnhancedAsyncClient enhancedAsyncClient,
+            @Value("${aws.dynamodb.table-prefix:}") String tablePrefix) {
+        String tableName = (tablePrefix != null && !tablePrefix.isBlank())
+                ? tablePrefix + "pagamentos"
+                : "pagamentos";
+        this.table = enhancedAsyncClient.table(tableName, EntityTableSchemas.PAGAMENTO);
+        this.osIdIndex = table.index(PagamentoEntity.OS_ID_INDEX);
+    }
+
+    /**
+     * Busca PagamentoEntity por ID (GetItem).
+     */
+    public CompletableFuture<Optional<PagamentoEntity>> findById(String id) {
+        return table.getItem(Key.builder().partitionValue(id).build())
+                .thenApply(Optional::ofNullable);
+    }
+
+    /**
+     * Busca PagamentoEntities por osId (query no GSI osId-index, todas as
+     * páginas).
+     */
+    public CompletableFuture<List<PagamentoEntity>> findByOsId(String osId) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(osId).build()))
+                .build();
+
+        // O publisher entrega as páginas em sequência (nunca em paralelo)
+        List<PagamentoEntity> items = new ArrayList<>();
+        return osIdIndex.query(request)
+                .subscribe(page -> items.addAll(page.items()))
+                .thenApply(done -> items);
+    }
+}
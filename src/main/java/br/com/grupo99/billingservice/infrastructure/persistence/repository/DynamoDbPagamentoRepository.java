@@ -1,23 +1,36 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.repository;
 
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
-import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * DynamoDB Repository para PagamentoEntity.
@@ -30,35 +43,130 @@ import java.util.stream.Collectors;
 public class DynamoDbPagamentoRepository {
 
     private static final Logger log = LoggerFactory.getLogger(DynamoDbPagamentoRepository.class);
+
+    /** Itens em trânsito entre os segmentos do scan paralelo e o consumidor. */
+    static final int PARALLEL_SCAN_BUFFER_SIZE = 1_000;
+
+    /** Atributos alterados por uma transição de status (além da versão). */
+    static final String[] STATUS_TRANSITION_ATTRIBUTES = {
+            "status", "mercadoPagoPaymentId", "dataPagamento", "dataEstorno", "motivoEstorno", "updatedAt" };
+
+    private final DynamoDbClient dynamoDbClient;
     private final DynamoDbTable<PagamentoEntity> table;
+    private final DynamoDbTable<OutboxEventEntity> outboxTable;
+    private final DynamoDbBatchWriter<PagamentoEntity> batchWriter;
+    private final DynamoDbBatchReader<PagamentoEntity> batchReader;
+    private final DynamoDbIndex<PagamentoEntity> statusIndex;
+    private final DynamoDbIndex<PagamentoEntity> mercadoPagoPaymentIdIndex;
+    private final DynamoDbIndex<PagamentoEntity> orcamentoIdStatusIndex;
+    private final DynamoDbIndex<PagamentoEntity> osIdIndex;
 
     public DynamoDbPagamentoRepository(
             DynamoDbEnhancedClient enhancedClient,
+            DynamoDbClient dynamoDbClient,
             @Value("${aws.dynamodb.table-prefix:}") String tablePrefix) {
+        this.dynamoDbClient = dynamoDbClient;
         String tableName = (tablePrefix != null && !tablePrefix.isBlank())
                 ? tablePrefix + "pagamentos"
                 : "pagamentos";
-        this.table = enhancedClient.table(tableName, TableSchema.fromBean(PagamentoEntity.class));
+        this.table = enhancedClient.table(tableName, EntityTableSchemas.PAGAMENTO);
+        this.outboxTable = enhancedClient.table((tablePrefix != null && !tablePrefix.isBlank())
+                ? tablePrefix + OutboxEventEntity.TABLE
+                : OutboxEventEntity.TABLE, EntityTableSchemas.OUTBOX_EVENT);
+        this.batchWriter = new DynamoDbBatchWriter<>(enhancedClient, table, PagamentoEntity.class);
+        this.batchReader = new DynamoDbBatchReader<>(enhancedClient, table, PagamentoEntity.class);
+        this.mercadoPagoPaymentIdIndex = table.index(PagamentoEntity.MERCADO_PAGO_PAYMENT_ID_INDEX);
+        this.orcamentoIdStatusIndex = table.index(PagamentoEntity.ORCAMENTO_ID_STATUS_INDEX);
+        this.osIdIndex = table.index(PagamentoEntity.OS_ID_INDEX);
+        this.statusIndex = table.index(PagamentoEntity.STATUS_CREATED_AT_INDEX);
     }
 
     /**
      * Salva ou atualiza um PagamentoEntity.
      * Gera ID e timestamps automaticamente.
+     *
+     * PutItem condicional na versão (VersionedRecordExtension): grava só se o
+     * item não existe (versão nula) ou ainda está na versão lida.
+     *
+     * @throws ConditionalCheckFailedException se outro escritor gravou antes
      */
     public PagamentoEntity save(PagamentoEntity entity) {
-        if (entity.getId() == null || entity.getId().isBlank()) {
-            entity.setId(UUID.randomUUID().toString());
-        }
-        if (entity.getCreatedAt() == null) {
-            entity.setCreatedAt(Instant.now());
-        }
-        entity.setUpdatedAt(Instant.now());
+        prepareForSave(entity, Instant.now());
 
         table.putItem(entity);
-        log.debug("PagamentoEntity salvo: {}", entity.getId());
+        // A extensão grava versão + 1, mas não atualiza o objeto
+        entity.setVersion(nextVersion(entity.getVersion()));
+        log.debug("PagamentoEntity salvo: {} (versão {})", entity.getId(), entity.getVersion());
+        return entity;
+    }
+
+    /**
+     * Grava uma transição de status via UpdateItem parcial (status, payment_id
+     * do Mercado Pago, datas, motivo, updatedAt e versão), sem reenviar o item.
+     *
+     * Condicional no status anterior e na versão lida.
+     *
+     * @param entity         estado após a transição
+     * @param statusAnterior status lido antes da transição
+     * @throws ConditionalCheckFailedException se o status ou a versão mudaram
+     *                                         (ou o item não existe)
+     */
+    public PagamentoEntity updateStatus(PagamentoEntity entity, String statusAnterior) {
+        return updateStatus(entity, statusAnterior, List.of());
+    }
+
+    /**
+     * Como {@link #updateStatus(PagamentoEntity, String)}, gravando também
+     * eventos no outbox: com eventos, o update e os puts vão em um único
+     * TransactWriteItems e o evento só existe se a transição foi gravada.
+     *
+     * @param eventos eventos a publicar pelo relay do outbox
+     */
+    public PagamentoEntity updateStatus(PagamentoEntity entity, String statusAnterior,
+            List<OutboxEventEntity> eventos) {
+        entity.setUpdatedAt(Instant.now());
+
+        DynamoDbPartialUpdate<PagamentoEntity> update = new DynamoDbPartialUpdate<>(table, entity)
+                .set(STATUS_TRANSITION_ATTRIBUTES)
+                .expect("status", AttributeValue.builder().s(statusAnterior).build())
+                .version("version", entity.getVersion());
+
+        if (eventos.isEmpty()) {
+            dynamoDbClient.updateItem(update.build());
+        } else {
+            List<TransactWriteItem> items = new ArrayList<>(eventos.size() + 1);
+            items.add(TransactWriteItem.builder().update(update.buildForTransaction()).build());
+            eventos.forEach(evento -> items.add(DynamoDbTransactions.put(outboxTable, evento)));
+            DynamoDbTransactions.transact(() -> dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(items)
+                    .build()));
+        }
+        entity.setVersion(nextVersion(entity.getVersion()));
+        log.debug("PagamentoEntity {}: status {} → {} (versão {}, {} eventos no outbox)",
+                entity.getId(), statusAnterior, entity.getStatus(), entity.getVersion(), eventos.size());
         return entity;
     }
 
+    /**
+     * Salva ou atualiza vários PagamentoEntitys via BatchWriteItem (lotes de 25,
+     * enviados em paralelo, com retry dos itens não processados).
+     * Gera ID e timestamps automaticamente.
+     *
+     * BatchWriteItem não aceita condições: a versão é incrementada sem checagem
+     * (escrita cega, para cargas em lote).
+     */
+    public List<PagamentoEntity> saveAll(List<PagamentoEntity> entities) {
+        Instant now = Instant.now();
+        entities.forEach(entity -> {
+            prepareForSave(entity, now);
+            entity.setVersion(nextVersion(entity.getVersion()));
+        });
+
+        batchWriter.putAll(entities);
+        log.debug("{} PagamentoEntitys salvos em lote", entities.size());
+        return entities;
+    }
+
     /**
      * Busca PagamentoEntity por ID (partition key).
      */
@@ -68,77 +176,119 @@ public class DynamoDbPagamentoRepository {
     }
 
     /**
-     * Busca PagamentoEntity por orcamentoId (scan com filtro).
+     * Busca vários PagamentoEntitys por ID via BatchGetItem (lotes de 100).
+     * IDs inexistentes são ignorados; a ordem do resultado não é garantida.
+     */
+    public List<PagamentoEntity> findAllById(Collection<String> ids) {
+        List<Key> keys = ids.stream()
+                .distinct()
+                .map(id -> Key.builder().partitionValue(id).build())
+                .collect(Collectors.toList());
+
+        return batchReader.getAll(keys);
+    }
+
+    /**
+     * Busca PagamentoEntity por orcamentoId (query no GSI orcamentoId-status-index).
      */
     public Optional<PagamentoEntity> findByOrcamentoId(String orcamentoId) {
-        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .filterExpression(Expression.builder()
-                        .expression("orcamentoId = :orcamentoId")
-                        .putExpressionValue(":orcamentoId", AttributeValue.builder().s(orcamentoId).build())
-                        .build())
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(
+                        Key.builder().partitionValue(orcamentoId).build()))
+                .limit(1)
                 .build();
 
-        return table.scan(request).items().stream().findFirst();
+        return orcamentoIdStatusIndex.query(request).stream()
+                .flatMap(page -> page.items().stream())
+                .findFirst();
     }
 
     /**
-     * Busca PagamentoEntities por osId (scan com filtro).
+     * Busca PagamentoEntities por osId (query no GSI osId-index, lendo todas
+     * as páginas).
      */
     public List<PagamentoEntity> findByOsId(String osId) {
-        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .filterExpression(Expression.builder()
-                        .expression("osId = :osId")
-                        .putExpressionValue(":osId", AttributeValue.builder().s(osId).build())
-                        .build())
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(osId).build()))
                 .build();
 
-        return table.scan(request).items().stream().collect(Collectors.toList());
+        return osIdIndex.query(request).stream()
+                .flatMap(page -> page.items().stream())
+                .collect(Collectors.toList());
     }
 
     /**
-     * Busca PagamentoEntities por status (scan com filtro).
+     * Busca PagamentoEntities por status (query no GSI status-createdAt-index,
+     * lendo todas as páginas).
      */
     public List<PagamentoEntity> findByStatus(String status) {
-        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .filterExpression(Expression.builder()
-                        .expression("#st = :status")
-                        .putExpressionName("#st", "status")
-                        .putExpressionValue(":status", AttributeValue.builder().s(status).build())
-                        .build())
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(status).build()))
+                .build();
+
+        return statusIndex.query(request).stream()
+                .flatMap(page -> page.items().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Busca uma página de PagamentoEntities por status, ordenada por createdAt
+     * (query no GSI status-createdAt-index).
+     *
+     * @param status            status
+     * @param pageSize          quantidade máxima de itens na página
+     * @param exclusiveStartKey lastEvaluatedKey da página anterior (null na primeira)
+     * @return página com itens e lastEvaluatedKey (null na última página)
+     */
+    public Page<PagamentoEntity> findByStatus(String status, int pageSize,
+            Map<String, AttributeValue> exclusiveStartKey) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize deve ser maior que zero");
+        }
+        DynamoDbCursorCodec.requireKey(exclusiveStartKey, PagamentoEntity.STATUS_CREATED_AT_INDEX_KEY);
+        if (exclusiveStartKey != null && !status.equals(exclusiveStartKey.get("status").s())) {
+            throw new IllegalArgumentException("Cursor de paginação inválido");
+        }
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(status).build()))
+                .limit(pageSize)
+                .exclusiveStartKey(exclusiveStartKey)
                 .build();
 
-        return table.scan(request).items().stream().collect(Collectors.toList());
+        return statusIndex.query(request).iterator().next();
     }
 
     /**
      * Verifica se existe PagamentoEntity com orcamentoId e status específicos.
+     * Query na chave completa do GSI orcamentoId-status-index, lendo no máximo
+     * um item e projetando apenas o id.
      */
     public boolean existsByOrcamentoIdAndStatus(String orcamentoId, String status) {
-        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .filterExpression(Expression.builder()
-                        .expression("orcamentoId = :orcamentoId AND #st = :status")
-                        .putExpressionName("#st", "status")
-                        .putExpressionValue(":orcamentoId", AttributeValue.builder().s(orcamentoId).build())
-                        .putExpressionValue(":status", AttributeValue.builder().s(status).build())
-                        .build())
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(
+                        Key.builder().partitionValue(orcamentoId).sortValue(status).build()))
+                .attributesToProject("id")
+                .limit(1)
                 .build();
 
-        return table.scan(request).items().stream().findFirst().isPresent();
+        return orcamentoIdStatusIndex.query(request).stream()
+                .anyMatch(page -> !page.items().isEmpty());
     }
 
     /**
-     * Busca PagamentoEntity por mercadoPagoPaymentId (scan com filtro).
+     * Busca PagamentoEntity por mercadoPagoPaymentId (query no GSI esparso
+     * mercadoPagoPaymentId-index).
      */
     public Optional<PagamentoEntity> findByMercadoPagoPaymentId(Long mercadoPagoPaymentId) {
-        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .filterExpression(Expression.builder()
-                        .expression("mercadoPagoPaymentId = :mpId")
-                        .putExpressionValue(":mpId",
-                                AttributeValue.builder().n(mercadoPagoPaymentId.toString()).build())
-                        .build())
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(
+                        Key.builder().partitionValue(mercadoPagoPaymentId).build()))
+                .limit(1)
                 .build();
 
-        return table.scan(request).items().stream().findFirst();
+        return mercadoPagoPaymentIdIndex.query(request).stream()
+                .flatMap(page -> page.items().stream())
+                .findFirst();
     }
 
     /**
@@ -148,6 +298,47 @@ public class DynamoDbPagamentoRepository {
         return table.scan().items().stream().collect(Collectors.toList());
     }
 
+    /**
+     * Busca uma página de PagamentoEntitys (scan com limit e exclusiveStartKey).
+     *
+     * @param pageSize          quantidade máxima de itens na página
+     * @param exclusiveStartKey lastEvaluatedKey da página anterior (null na primeira)
+     * @return página com itens e lastEvaluatedKey (null na última página)
+     */
+    public Page<PagamentoEntity> findAll(int pageSize, Map<String, AttributeValue> exclusiveStartKey) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize deve ser maior que zero");
+        }
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .limit(pageSize)
+                .exclusiveStartKey(DynamoDbCursorCodec.requireKey(exclusiveStartKey, PagamentoEntity.TABLE_KEY))
+                .build();
+
+        return table.scan(request).iterator().next();
+    }
+
+    /**
+     * Percorre todos os PagamentoEntitys de forma lazy: cada página do scan só é
+     * buscada quando o stream chega nela, sem materializar a tabela em memória.
+     */
+    public Stream<PagamentoEntity> streamAll() {
+        return table.scan().items().stream();
+    }
+
+    /**
+     * Percorre todos os PagamentoEntitys com scan paralelo por segmentos.
+     *
+     * O consumidor roda na thread chamadora e recebe os itens sem ordem
+     * definida; os segmentos aguardam enquanto o buffer estiver cheio.
+     *
+     * @param totalSegments quantidade de segmentos lidos em paralelo
+     * @param consumer      consumidor dos itens
+     * @return quantidade de itens consumidos
+     */
+    public long scanInParallel(int totalSegments, Consumer<? super PagamentoEntity> consumer) {
+        return new DynamoDbSegmentedScanner<>(table, totalSegments, PARALLEL_SCAN_BUFFER_SIZE).forEach(consumer);
+    }
+
     /**
      * Deleta PagamentoEntity por ID.
      */
@@ -155,4 +346,31 @@ public class DynamoDbPagamentoRepository {
         table.deleteItem(Key.builder().partitionValue(id).build());
         log.debug("PagamentoEntity deletado: {}", id);
     }
+
+    /**
+     * Deleta vários PagamentoEntitys por ID via BatchWriteItem.
+     */
+    public void deleteAllById(Collection<String> ids) {
+        List<Key> keys = ids.stream()
+                .distinct()
+                .map(id -> Key.builder().partitionValue(id).build())
+                .collect(Collectors.toList());
+
+        batchWriter.deleteAll(keys);
+        log.debug("{} PagamentoEntitys deletados em lote", keys.size());
+    }
+
+    private static void prepareForSave(PagamentoEntity entity, Instant now) {
+        if (entity.getId() == null || entity.getId().isBlank()) {
+            entity.setId(UUID.randomUUID().toString());
+        }
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(now);
+        }
+        entity.setUpdatedAt(now);
+    }
+
+    private static Long nextVersion(Long version) {
+        return version == null ? 1L : version + 1;
+    }
 }
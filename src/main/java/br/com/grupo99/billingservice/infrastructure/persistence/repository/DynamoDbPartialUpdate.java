@@ -0,0 +1,138 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UpdateItem parcial montado a partir do schema da tabela.
+ *
+ * Só os atributos informados vão na requisição (SET, ou REMOVE quando nulos)
+ * e as condições protegem contra escritores concorrentes. Os valores passam pelos mesmos
+ * converters do putItem, então o item gravado é idêntico ao de um save.
+ */
+final class DynamoDbPartialUpdate<T> {
+
+    private final DynamoDbTable<T> table;
+    private final T item;
+    private final List<String> sets = new ArrayList<>();
+    private final List<String> removes = new ArrayList<>();
+    private final List<String> conditions = new ArrayList<>();
+    private final Map<String, String> names = new HashMap<>();
+    private final Map<String, AttributeValue> values = new HashMap<>();
+
+    DynamoDbPartialUpdate(DynamoDbTable<T> table, T item) {
+        this.table = table;
+        this.item = item;
+    }
+
+    /**
+     * SET de cada atributo com o valor atual do item; nulos são removidos.
+     */
+    DynamoDbPartialUpdate<T> set(String... attributes) {
+        for (String attribute : attributes) {
+            AttributeValue value = table.tableSchema().attributeValue(item, attribute);
+            if (isNull(value)) {
+                removes.add(name(attribute));
+            } else {
+                sets.add(name(attribute) + " = " + value(attribute, value));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Condição: o atributo ainda tem o valor esperado.
+     */
+    DynamoDbPartialUpdate<T> expect(String attribute, AttributeValue expected) {
+        conditions.add(name(attribute) + " = " + value(attribute + "_esperado", expected));
+        return this;
+    }
+
+    /**
+     * Optimistic locking com a mesma semântica da VersionedRecordExtension:
+     * exige a versão lida (ou ausência de versão) e grava a próxima.
+     */
+    DynamoDbPartialUpdate<T> version(String attribute, Long read) {
+        String name = name(attribute);
+        conditions.add(read == null
+                ? "attribute_not_exists(" + name + ")"
+                : name + " = " + value(attribute + "_esperado", number(read)));
+        sets.add(name + " = " + value(attribute, number(read == null ? 1L : read + 1)));
+        return this;
+    }
+
+    /**
+     * O mesmo update como ação de um TransactWriteItems.
+     */
+    Update buildForTransaction() {
+        UpdateItemRequest request = build();
+        return Update.builder()
+                .tableName(request.tableName())
+                .key(request.key())
+                .updateExpression(request.updateExpression())
+                .conditionExpression(request.conditionExpression())
+                .expressionAttributeNames(request.expressionAttributeNames())
+                .expressionAttributeValues(request.hasExpressionAttributeValues()
+                        ? request.expressionAttributeValues()
+                        : null)
+                .build();
+    }
+
+    UpdateItemRequest build() {
+        if (sets.isEmpty() && removes.isEmpty()) {
+            throw new IllegalStateException("UpdateItem sem atributos para gravar");
+        }
+        List<String> clauses = new ArrayList<>(2);
+        if (!sets.isEmpty()) {
+            clauses.add("SET " + String.join(", ", sets));
+        }
+        if (!removes.isEmpty()) {
+            clauses.add("REMOVE " + String.join(", ", removes));
+        }
+        return UpdateItemRequest.builder()
+                .tableName(table.tableName())
+                .key(primaryKey())
+                .updateExpression(String.join(" ", clauses))
+                .conditionExpression(conditions.isEmpty() ? null : String.join(" AND ", conditions))
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values.isEmpty() ? null : values)
+                .build();
+    }
+
+    private Map<String, AttributeValue> primaryKey() {
+        TableSchema<T> schema = table.tableSchema();
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        schema.tableMetadata().primaryKeys()
+                .forEach(attribute -> key.put(attribute, schema.attributeValue(item, attribute)));
+        return key;
+    }
+
+    private String name(String attribute) {
+        String placeholder = "#" + attribute;
+        names.put(placeholder, attribute);
+        return placeholder;
+    }
+
+    private String value(String key, AttributeValue value) {
+        String placeholder = ":" + key;
+        values.put(placeholder, value);
+        return placeholder;
+    }
+
+    private static AttributeValue number(long value) {
+        return AttributeValue.builder().n(Long.toString(value)).build();
+    }
+
+    private static boolean isNull(AttributeValue value) {
+        return value == null || Boolean.TRUE.equals(value.nul());
+    }
+}
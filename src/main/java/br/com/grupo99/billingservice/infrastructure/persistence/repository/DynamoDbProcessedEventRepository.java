@@ -0,0 +1,89 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ProcessedEventEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * DynamoDB Repository para os eventos Kafka já processados
+ * (ProcessedEventEntity).
+ *
+ * ✅ CLEAN ARCHITECTURE: Repository específico do DynamoDB fica na
+ * infrastructure
+ *
+ * Leituras e escritas são sempre em lote (um poll inteiro por vez). Os itens
+ * expiram pelo TTL da tabela.
+ */
+@Repository
+public class DynamoDbProcessedEventRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamoDbProcessedEventRepository.class);
+
+    private final DynamoDbBatchReader<ProcessedEventEntity> batchReader;
+    private final DynamoDbBatchWriter<ProcessedEventEntity> batchWriter;
+
+    public DynamoDbProcessedEventRepository(
+            DynamoDbEnhancedClient enhancedClient,
+            @Value("${aws.dynamodb.table-prefix:}") String tablePrefix) {
+        String tableName = (tablePrefix != null && !tablePrefix.isBlank())
+                ? tablePrefix + ProcessedEventEntity.TABLE
+                : ProcessedEventEntity.TABLE;
+        DynamoDbTable<ProcessedEventEntity> table = enhancedClient.table(tableName,
+                EntityTableSchemas.PROCESSED_EVENT);
+        this.batchReader = new DynamoDbBatchReader<>(enhancedClient, table, ProcessedEventEntity.class);
+        this.batchWriter = new DynamoDbBatchWriter<>(enhancedClient, table, ProcessedEventEntity.class);
+    }
+
+    /**
+     * Chaves já registradas e ainda dentro do TTL (itens expirados que o
+     * DynamoDB ainda não removeu são ignorados).
+     */
+    public Set<String> findExistentes(Collection<String> chaves) {
+        if (chaves.isEmpty()) {
+            return Set.of();
+        }
+        List<Key> keys = chaves.stream()
+                .distinct()
+                .map(chave -> Key.builder().partitionValue(chave).build())
+                .toList();
+        Instant agora = Instant.now();
+        Set<String> existentes = batchReader.getAll(keys).stream()
+                .filter(entity -> !entity.expirado(agora))
+                .map(ProcessedEventEntity::getChave)
+                .collect(Collectors.toSet());
+        log.debug("{} de {} eventos já processados", existentes.size(), keys.size());
+        return existentes;
+    }
+
+    /**
+     * Registra as chaves como processadas agora, expirando após o TTL.
+     */
+    public void saveAll(Collection<String> chaves, Duration ttl) {
+        if (chaves.isEmpty()) {
+            return;
+        }
+        Instant agora = Instant.now();
+        long expiresAt = agora.plus(ttl).getEpochSecond();
+        batchWriter.putAll(chaves.stream()
+                .distinct()
+                .map(chave -> ProcessedEventEntity.builder()
+                        .chave(chave)
+                        .processedAt(agora)
+                        .expiresAt(expiresAt)
+                        .build())
+                .toList());
+    }
+}
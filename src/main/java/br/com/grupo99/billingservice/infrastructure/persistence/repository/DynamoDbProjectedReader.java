@@ -0,0 +1,131 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+/**
+ * Leituras projetadas (Scan e BatchGetItem) no client de baixo nível, para
+ * read models que montam o DTO direto do item cru, sem TableSchema.
+ *
+ * Só os atributos informados vêm do DynamoDB (ProjectionExpression). O
+ * BatchGetItem segue o {@link DynamoDbBatchReader}: lotes de 100 chaves e
+ * reenvio das não processadas com backoff exponencial e jitter.
+ */
+public final class DynamoDbProjectedReader {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamoDbProjectedReader.class);
+
+    private final DynamoDbClient client;
+    private final String tableName;
+    private final String projectionExpression;
+    private final Map<String, String> names;
+    private final Duration baseBackoff;
+
+    public DynamoDbProjectedReader(DynamoDbClient client, String tableName, String... attributes) {
+        this(client, tableName, DynamoDbBatchReader.DEFAULT_BASE_BACKOFF, attributes);
+    }
+
+    DynamoDbProjectedReader(DynamoDbClient client, String tableName, Duration baseBackoff, String... attributes) {
+        this.client = client;
+        this.tableName = tableName;
+        this.baseBackoff = baseBackoff;
+        // Placeholders para todos: status, data etc. são palavras reservadas
+        StringJoiner projection = new StringJoiner(", ");
+        Map<String, String> names = new HashMap<>();
+        for (String attribute : attributes) {
+            projection.add("#" + attribute);
+            names.put("#" + attribute, attribute);
+        }
+        this.projectionExpression = projection.toString();
+        this.names = Map.copyOf(names);
+    }
+
+    /**
+     * Busca os itens pelas chaves. Chaves inexistentes são ignoradas e a ordem
+     * do resultado não é garantida.
+     *
+     * @param keys chaves distintas
+     * @return itens encontrados, só com os atributos projetados
+     * @throws IllegalStateException se ainda houver chaves não processadas após
+     *                               {@value DynamoDbBatchReader#MAX_ATTEMPTS}
+     *                               tentativas
+     */
+    public List<Map<String, AttributeValue>> getAll(List<Map<String, AttributeValue>> keys) {
+        List<Map<String, AttributeValue>> items = new ArrayList<>(keys.size());
+        for (int start = 0; start < keys.size(); start += DynamoDbBatchReader.MAX_BATCH_SIZE) {
+            items.addAll(readChunk(keys.subList(start,
+                    Math.min(start + DynamoDbBatchReader.MAX_BATCH_SIZE, keys.size()))));
+        }
+        log.debug("Leitura projetada em lote concluída: {} de {} chaves encontradas", items.size(), keys.size());
+        return items;
+    }
+
+    /**
+     * Uma página do scan.
+     *
+     * @param limit             quantidade máxima de itens avaliados
+     * @param exclusiveStartKey lastEvaluatedKey da página anterior (null na primeira)
+     */
+    public ScanResponse scan(int limit, Map<String, AttributeValue> exclusiveStartKey) {
+        return client.scan(scanRequest()
+                .limit(limit)
+                .exclusiveStartKey(exclusiveStartKey)
+                .build());
+    }
+
+    /**
+     * Percorre a tabela de forma lazy: cada página só é buscada quando o
+     * stream chega nela.
+     */
+    public Stream<Map<String, AttributeValue>> scanAll() {
+        return client.scanPaginator(scanRequest().build()).items().stream();
+    }
+
+    private ScanRequest.Builder scanRequest() {
+        return ScanRequest.builder()
+                .tableName(tableName)
+                .projectionExpression(projectionExpression)
+                .expressionAttributeNames(names);
+    }
+
+    private List<Map<String, AttributeValue>> readChunk(List<Map<String, AttributeValue>> chunk) {
+        Map<String, KeysAndAttributes> pending = Map.of(tableName, KeysAndAttributes.builder()
+                .keys(chunk)
+                .projectionExpression(projectionExpression)
+                .expressionAttributeNames(names)
+                .build());
+
+        List<Map<String, AttributeValue>> items = new ArrayList<>(chunk.size());
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > DynamoDbBatchReader.MAX_ATTEMPTS) {
+                throw new IllegalStateException(
+                        "Chaves não processadas após " + DynamoDbBatchReader.MAX_ATTEMPTS + " tentativas");
+            }
+            if (attempt > 1) {
+                log.warn("Chaves não processadas no BatchGetItem (tentativa {}), reenviando", attempt);
+                DynamoDbBatchReader.sleep(DynamoDbBatchReader.backoff(baseBackoff, attempt - 1));
+            }
+            BatchGetItemResponse response = client.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(pending)
+                    .build());
+            items.addAll(response.responses().getOrDefault(tableName, List.of()));
+            pending = response.unprocessedKeys();
+        }
+        return items;
+    }
+}
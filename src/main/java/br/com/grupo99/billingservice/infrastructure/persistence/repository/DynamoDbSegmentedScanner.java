@@ -0,0 +1,156 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Scan paralelo por segmentos (segment/totalSegments) de uma tabela DynamoDB.
+ *
+ * Cada segmento é lido em uma virtual thread própria; os itens passam por um
+ * buffer limitado até o consumidor, que roda na thread chamadora. Quando o
+ * consumidor fica para trás, os segmentos bloqueiam no buffer (backpressure)
+ * em vez de acumular a tabela em memória.
+ *
+ * Uso: passadas completas (reconciliação, backfill, deleteAll em testes).
+ * A ordem dos itens não é garantida.
+ */
+public final class DynamoDbSegmentedScanner<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamoDbSegmentedScanner.class);
+
+    /** Limite do DynamoDB para totalSegments. */
+    static final int MAX_SEGMENTS = 1_000_000;
+
+    private static final Object END_OF_SEGMENT = new Object();
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    private final DynamoDbTable<T> table;
+    private final int totalSegments;
+    private final int bufferSize;
+
+    /**
+     * @param table         tabela a ser lida
+     * @param totalSegments quantidade de segmentos (e de leitores concorrentes)
+     * @param bufferSize    itens em trânsito entre os segmentos e o consumidor
+     */
+    public DynamoDbSegmentedScanner(DynamoDbTable<T> table, int totalSegments, int bufferSize) {
+        if (totalSegments < 1 || totalSegments > MAX_SEGMENTS) {
+            throw new IllegalArgumentException("totalSegments deve estar entre 1 e " + MAX_SEGMENTS);
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize deve ser maior que zero");
+        }
+        this.table = table;
+        this.totalSegments = totalSegments;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Lê todos os segmentos em paralelo entregando cada item ao consumidor.
+     *
+     * O consumidor é chamado sempre na thread chamadora (nunca concorrentemente).
+     * Se um segmento ou o consumidor falhar, os demais segmentos são cancelados
+     * e a exceção é propagada.
+     *
+     * @param consumer consumidor dos itens
+     * @return quantidade de itens consumidos
+     */
+    public long forEach(Consumer<? super T> consumer) {
+        BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        List<Future<?>> segments = new ArrayList<>(totalSegments);
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int segment = 0; segment < totalSegments; segment++) {
+                int current = segment;
+                segments.add(executor.submit(() -> {
+                    scanSegment(current, buffer, cancelled);
+                    return null;
+                }));
+            }
+
+            try {
+                long consumed = drain(buffer, consumer);
+                log.debug("Scan paralelo concluído: {} itens em {} segmentos", consumed, totalSegments);
+                return consumed;
+            } catch (RuntimeException e) {
+                cancelled.set(true);
+                segments.forEach(future -> future.cancel(true));
+                throw e;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private long drain(BlockingQueue<Object> buffer, Consumer<? super T> consumer) {
+        long consumed = 0;
+        int finished = 0;
+        try {
+            while (finished < totalSegments) {
+                Object next = buffer.take();
+                if (next == END_OF_SEGMENT) {
+                    finished++;
+                } else if (next instanceof SegmentFailure failure) {
+                    log.error("Falha no scan do segmento {}/{}", failure.segment(), totalSegments, failure.cause());
+                    throw failure.cause();
+                } else {
+                    consumer.accept((T) next);
+                    consumed++;
+                }
+            }
+            return consumed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Scan paralelo interrompido", e);
+        }
+    }
+
+    private void scanSegment(int segment, BlockingQueue<Object> buffer, AtomicBoolean cancelled)
+            throws InterruptedException {
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .build();
+        try {
+            for (T item : table.scan(request).items()) {
+                if (!publish(buffer, item, cancelled)) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            publish(buffer, new SegmentFailure(segment, e), cancelled);
+            return;
+        }
+        publish(buffer, END_OF_SEGMENT, cancelled);
+    }
+
+    /**
+     * Bloqueia enquanto o buffer estiver cheio; desiste se o scan foi cancelado
+     * (o consumidor não vai mais esvaziar o buffer).
+     */
+    private static boolean publish(BlockingQueue<Object> buffer, Object element, AtomicBoolean cancelled)
+            throws InterruptedException {
+        while (!cancelled.get()) {
+            if (buffer.offer(element, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record SegmentFailure(int segment, RuntimeException cause) {
+    }
+}
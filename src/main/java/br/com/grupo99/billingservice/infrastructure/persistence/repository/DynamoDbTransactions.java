@@ -0,0 +1,48 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Auxiliares para TransactWriteItems no client de baixo nível, usados pelas
+ * transições de status que gravam histórico e outbox junto com o agregado.
+ */
+final class DynamoDbTransactions {
+
+    private DynamoDbTransactions() {
+    }
+
+    /**
+     * Put incondicional de um item na transação.
+     */
+    static <T> TransactWriteItem put(DynamoDbTable<T> table, T item) {
+        return TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(table.tableName())
+                        .item(table.tableSchema().itemToMap(item, true))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Executa um TransactWriteItems traduzindo o cancelamento por condição
+     * (versão/status) para ConditionalCheckFailedException, como no PutItem.
+     */
+    static void transact(Runnable write) {
+        try {
+            write.run();
+        } catch (TransactionCanceledException e) {
+            if (e.hasCancellationReasons() && e.cancellationReasons().stream()
+                    .anyMatch(reason -> "ConditionalCheckFailed".equals(reason.code()))) {
+                throw ConditionalCheckFailedException.builder()
+                        .message(e.getMessage())
+                        .cause(e)
+                        .build();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migração do histórico legado dos orçamentos na subida
+ * (aws.dynamodb.orcamentos.historico-legado.migrar=true).
+ *
+ * Pode rodar com a aplicação no ar e ser repetida; depois de uma execução sem
+ * itens pulados, desligue o fallback de leitura
+ * (aws.dynamodb.orcamentos.historico-legado.leitura=false).
+ */
+@Component
+@ConditionalOnProperty(prefix = "aws.dynamodb.orcamentos.historico-legado", name = "migrar", havingValue = "true")
+public class HistoricoLegadoMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoricoLegadoMigration.class);
+
+    private final DynamoDbOrcamentoRepository repository;
+
+    public HistoricoLegadoMigration(DynamoDbOrcamentoRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Migrando histórico legado dos orçamentos para orcamentos-historico");
+        repository.migrarHistoricoLegado();
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.grupo99.billingservice;
+
+import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import br.com.grupo99.billingservice.infrastructure.messaging.ProcessedEventStore;
+import br.com.grupo99.billingservice.infrastructure.persistence.adapter.CachingOrcamentoRepository;
+import br.com.grupo99.billingservice.infrastructure.persistence.adapter.OrcamentoSnapshotReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe o contexto Spring completo (DynamoDB mockado, Kafka embarcado).
+ * Pega erros de wiring que os testes unitários não veem, como beans com
+ * mais de um construtor sem @Autowired.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1)
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "aws.dynamodb.endpoint=",
+        "mercadopago.access-token=TEST-fake-token",
+        "mercadopago.notification-url=http://localhost:8080/pagamentos/webhook"
+})
+class BillingServiceApplicationTest {
+
+    @MockBean
+    private DynamoDbClient dynamoDbClient;
+
+    // Deep stubs: os repositórios resolvem tabelas e índices no construtor
+    @MockBean(answer = Answers.RETURNS_DEEP_STUBS)
+    private DynamoDbEnhancedClient dynamoDbEnhancedClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("Deve carregar o contexto com o cache como OrcamentoRepository primário")
+    void deveCarregarContexto() {
+        assertThat(context.getBean(OrcamentoRepository.class)).isInstanceOf(CachingOrcamentoRepository.class);
+        assertThat(context.getBean(OrcamentoSnapshotReader.class)).isInstanceOf(CachingOrcamentoRepository.class);
+        assertThat(context.getBean(ProcessedEventStore.class)).isNotNull();
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.grupo99.billingservice.application.mapper;
 
 import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.dto.HistoricoStatusResponse;
 import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
 import br.com.grupo99.billingservice.domain.model.ItemOrcamento;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -122,6 +125,36 @@ class OrcamentoMapperTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    @DisplayName("Deve usar o contador do histórico não carregado no response")
+    void deveUsarContadorDoHistoricoNoResponse() {
+        Orcamento orcamento = Orcamento.builder()
+                .id(UUID.randomUUID())
+                .status(StatusOrcamento.APROVADO)
+                .historicoCount(7)
+                .build();
+
+        OrcamentoResponse result = mapper.toResponse(orcamento);
+
+        assertThat(result.getHistoricoCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Deve converter entrada do histórico para response")
+    void deveConverterHistoricoParaResponse() {
+        HistoricoStatus historico = HistoricoStatus.criar(StatusOrcamento.PENDENTE, StatusOrcamento.REJEITADO,
+                "cliente", "Muito caro");
+
+        HistoricoStatusResponse result = mapper.toHistoricoResponse(historico);
+
+        assertThat(result.getStatusAnterior()).isEqualTo("PENDENTE");
+        assertThat(result.getNovoStatus()).isEqualTo("REJEITADO");
+        assertThat(result.getUsuario()).isEqualTo("cliente");
+        assertThat(result.getObservacao()).isEqualTo("Muito caro");
+        assertThat(result.getData()).isEqualTo(historico.getData());
+        assertThat(mapper.toHistoricoResponse(null)).isNull();
+    }
+
     @Test
     @DisplayName("Deve converter orcamento sem itens para response")
     void deveConverterOrcamentoSemItensParaResponse() {
@@ -1,18 +1,28 @@
 package br.com.grupo99.billingservice.application.service;
 
 import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.dto.HistoricoStatusResponse;
 import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
 import br.com.grupo99.billingservice.application.mapper.OrcamentoMapper;
+import br.com.grupo99.billingservice.application.query.OrcamentoReadModel;
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
 import br.com.grupo99.billingservice.domain.model.ItemOrcamento;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
 import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoJaExisteException;
 import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
 import br.com.grupo99.billingservice.infrastructure.messaging.BillingEventPublisherPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,8 +31,11 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,6 +49,9 @@ class OrcamentoApplicationServiceTest {
     @Mock
     private OrcamentoRepository orcamentoRepository;
 
+    @Mock
+    private OrcamentoReadModel readModel;
+
     @Mock
     private BillingEventPublisherPort eventPublisher;
 
@@ -108,6 +124,19 @@ class OrcamentoApplicationServiceTest {
             verify(eventPublisher).publicarOrcamentoCriado(orcamento);
             verify(mapper).toResponse(orcamento);
         }
+
+        @Test
+        @DisplayName("Deve rejeitar orçamento duplicado para a mesma OS")
+        void deveRejeitarOrcamentoDuplicado() {
+            when(orcamentoRepository.existsByOsId(osId)).thenReturn(true);
+
+            assertThatThrownBy(() -> service.criar(createRequest))
+                    .isInstanceOf(OrcamentoJaExisteException.class)
+                    .hasMessageContaining("Orçamento já existe");
+
+            verify(orcamentoRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
     }
 
     @Nested
@@ -115,22 +144,22 @@ class OrcamentoApplicationServiceTest {
     class ObterPorId {
 
         @Test
-        @DisplayName("Deve retornar orçamento quando encontrado")
+        @DisplayName("Deve retornar orçamento do read model quando encontrado")
         void deveRetornarOrcamentoQuandoEncontrado() {
-            when(orcamentoRepository.findById(orcamentoId)).thenReturn(Optional.of(orcamento));
-            when(mapper.toResponse(orcamento)).thenReturn(orcamentoResponse);
+            when(readModel.findById(orcamentoId)).thenReturn(Optional.of(orcamentoResponse));
 
             OrcamentoResponse result = service.obterPorId(orcamentoId);
 
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(orcamentoId);
-            verify(orcamentoRepository).findById(orcamentoId);
+            verify(readModel).findById(orcamentoId);
+            verifyNoInteractions(orcamentoRepository, mapper);
         }
 
         @Test
         @DisplayName("Deve lançar exceção quando não encontrado")
         void deveLancarExcecaoQuandoNaoEncontrado() {
-            when(orcamentoRepository.findById(orcamentoId)).thenReturn(Optional.empty());
+            when(readModel.findById(orcamentoId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> service.obterPorId(orcamentoId))
                     .isInstanceOf(RuntimeException.class)
@@ -138,6 +167,37 @@ class OrcamentoApplicationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Obter Histórico")
+    class ObterHistorico {
+
+        @Test
+        @DisplayName("Deve buscar o histórico sob demanda")
+        void deveBuscarHistoricoSobDemanda() {
+            HistoricoStatus entrada = HistoricoStatus.criar(null, StatusOrcamento.PENDENTE, "system", "Orçamento gerado");
+            HistoricoStatusResponse response = HistoricoStatusResponse.builder().novoStatus("PENDENTE").build();
+            when(orcamentoRepository.findById(orcamentoId)).thenReturn(Optional.of(orcamento));
+            when(orcamentoRepository.findHistorico(orcamentoId)).thenReturn(List.of(entrada));
+            when(mapper.toHistoricoResponse(entrada)).thenReturn(response);
+
+            List<HistoricoStatusResponse> result = service.obterHistorico(orcamentoId);
+
+            assertThat(result).containsExactly(response);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando orçamento não encontrado")
+        void deveLancarExcecaoQuandoNaoEncontrado() {
+            when(orcamentoRepository.findById(orcamentoId)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.obterHistorico(orcamentoId))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Orçamento não encontrado");
+
+            verify(orcamentoRepository, never()).findHistorico(any());
+        }
+    }
+
     @Nested
     @DisplayName("Aprovar Orçamento")
     class AprovarOrcamento {
@@ -162,14 +222,61 @@ class OrcamentoApplicationServiceTest {
 
             when(orcamentoRepository.findById(orcamentoPendente.getId()))
                     .thenReturn(Optional.of(orcamentoPendente));
-            when(orcamentoRepository.save(any(Orcamento.class))).thenReturn(orcamentoPendente);
+            when(orcamentoRepository.updateStatus(any(Orcamento.class), any(StatusOrcamento.class),
+                    any(BillingEvent.class))).thenReturn(orcamentoPendente);
             when(mapper.toResponse(any(Orcamento.class))).thenReturn(aprovadoResponse);
 
             OrcamentoResponse result = service.aprovar(orcamentoPendente.getId());
 
             assertThat(result).isNotNull();
             assertThat(result.getStatus()).isEqualTo("APROVADO");
-            verify(eventPublisher).publicarOrcamentoAprovado(any(Orcamento.class));
+            ArgumentCaptor<BillingEvent> evento = ArgumentCaptor.forClass(BillingEvent.class);
+            verify(orcamentoRepository).updateStatus(eq(orcamentoPendente), eq(StatusOrcamento.PENDENTE),
+                    evento.capture());
+            assertThat(evento.getValue()).isInstanceOf(OrcamentoAprovadoEvent.class);
+            assertThat(((OrcamentoAprovadoEvent) evento.getValue()).getOrcamentoId())
+                    .isEqualTo(orcamentoPendente.getId());
+            verify(orcamentoRepository, never()).save(any(Orcamento.class));
+            // Publicação fica com o relay do outbox, fora da requisição
+            verify(eventPublisher, never()).publicarOrcamentoAprovado(any());
+        }
+
+        @Test
+        @DisplayName("Deve reler e aprovar de novo após conflito de versão")
+        void deveRelerEAprovarAposConflito() {
+            Orcamento lido = orcamentoPendente(1L);
+            Orcamento relido = orcamentoPendente(2L);
+
+            when(orcamentoRepository.findById(orcamentoId))
+                    .thenReturn(Optional.of(lido), Optional.of(relido));
+            when(orcamentoRepository.updateStatus(any(Orcamento.class), any(StatusOrcamento.class),
+                    any(BillingEvent.class)))
+                    .thenThrow(new ConflitoDeVersaoException("conflito", null))
+                    .thenReturn(relido);
+            when(mapper.toResponse(relido)).thenReturn(orcamentoResponse);
+
+            OrcamentoResponse result = service.aprovar(orcamentoId);
+
+            assertThat(result).isEqualTo(orcamentoResponse);
+            assertThat(relido.getStatus()).isEqualTo(StatusOrcamento.APROVADO);
+            verify(orcamentoRepository, times(2)).findById(orcamentoId);
+            verify(orcamentoRepository).updateStatus(eq(relido), eq(StatusOrcamento.PENDENTE),
+                    any(OrcamentoAprovadoEvent.class));
+        }
+
+        @Test
+        @DisplayName("Deve desistir após o limite de tentativas em conflito")
+        void deveDesistirAposLimiteDeTentativas() {
+            when(orcamentoRepository.findById(orcamentoId))
+                    .thenAnswer(invocation -> Optional.of(orcamentoPendente(1L)));
+            when(orcamentoRepository.updateStatus(any(Orcamento.class), any(StatusOrcamento.class),
+                    any(BillingEvent.class)))
+                    .thenThrow(new ConflitoDeVersaoException("conflito", null));
+
+            assertThatThrownBy(() -> service.aprovar(orcamentoId))
+                    .isInstanceOf(ConflitoDeVersaoException.class);
+            verify(orcamentoRepository, times(RetryOnConflict.MAX_ATTEMPTS)).findById(orcamentoId);
+            verify(eventPublisher, never()).publicarOrcamentoAprovado(any());
         }
 
         @Test
@@ -207,14 +314,17 @@ class OrcamentoApplicationServiceTest {
 
             when(orcamentoRepository.findById(orcamentoPendente.getId()))
                     .thenReturn(Optional.of(orcamentoPendente));
-            when(orcamentoRepository.save(any(Orcamento.class))).thenReturn(orcamentoPendente);
+            when(orcamentoRepository.updateStatus(any(Orcamento.class), any(StatusOrcamento.class),
+                    any(BillingEvent.class))).thenReturn(orcamentoPendente);
             when(mapper.toResponse(any(Orcamento.class))).thenReturn(rejeitadoResponse);
 
             OrcamentoResponse result = service.rejeitar(orcamentoPendente.getId(), "Preço alto");
 
             assertThat(result).isNotNull();
             assertThat(result.getStatus()).isEqualTo("REJEITADO");
-            verify(eventPublisher).publicarOrcamentoRejeitado(any(Orcamento.class));
+            verify(orcamentoRepository).updateStatus(eq(orcamentoPendente), eq(StatusOrcamento.PENDENTE),
+                    any(OrcamentoRejeitadoEvent.class));
+            verify(eventPublisher, never()).publicarOrcamentoRejeitado(any());
         }
 
         @Test
@@ -246,11 +356,11 @@ class OrcamentoApplicationServiceTest {
 
             when(orcamentoRepository.findById(orcamentoPendente.getId()))
                     .thenReturn(Optional.of(orcamentoPendente));
-            when(orcamentoRepository.save(any(Orcamento.class))).thenReturn(orcamentoPendente);
+            when(orcamentoRepository.updateStatus(any(Orcamento.class), any(StatusOrcamento.class))).thenReturn(orcamentoPendente);
 
             service.cancelar(orcamentoPendente.getId());
 
-            verify(orcamentoRepository).save(any(Orcamento.class));
+            verify(orcamentoRepository).updateStatus(any(Orcamento.class), any(StatusOrcamento.class));
         }
 
         @Test
@@ -281,11 +391,11 @@ class OrcamentoApplicationServiceTest {
             ));
 
             when(orcamentoRepository.findByOsId(osId)).thenReturn(Optional.of(orcamentoPendente));
-            when(orcamentoRepository.save(any(Orcamento.class))).thenReturn(orcamentoPendente);
+            when(orcamentoRepository.updateStatus(any(Orcamento.class), any(StatusOrcamento.class))).thenReturn(orcamentoPendente);
 
             service.cancelarPorOs(osId, "OS cancelada");
 
-            verify(orcamentoRepository).save(any(Orcamento.class));
+            verify(orcamentoRepository).updateStatus(any(Orcamento.class), any(StatusOrcamento.class));
         }
 
         @Test
@@ -300,30 +410,187 @@ class OrcamentoApplicationServiceTest {
     }
 
     @Nested
-    @DisplayName("Listar Todos")
-    class ListarTodos {
+    @DisplayName("Criar em Lote")
+    class CriarEmLote {
 
         @Test
-        @DisplayName("Deve listar todos os orçamentos")
-        void deveListarTodosOsOrcamentos() {
-            when(orcamentoRepository.findAll()).thenReturn(List.of(orcamento));
+        @DisplayName("Deve criar só os orçamentos de OS sem orçamento, uma vez por OS")
+        void deveCriarSoOsNovos() {
+            UUID osExistente = UUID.randomUUID();
+            CreateOrcamentoRequest existente = CreateOrcamentoRequest.builder().osId(osExistente).build();
+            Orcamento jaCriado = Orcamento.builder().id(UUID.randomUUID()).osId(osExistente).build();
+            when(orcamentoRepository.findAllByOsId(any())).thenReturn(List.of(jaCriado));
+            when(mapper.toDomain(createRequest)).thenReturn(orcamento);
+            when(orcamentoRepository.saveAll(List.of(orcamento))).thenReturn(List.of(orcamento));
             when(mapper.toResponse(orcamento)).thenReturn(orcamentoResponse);
 
-            List<OrcamentoResponse> result = service.listarTodos();
+            List<OrcamentoResponse> result = service.criarEmLote(List.of(createRequest, existente, createRequest));
 
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getId()).isEqualTo(orcamentoId);
-            verify(orcamentoRepository).findAll();
+            assertThat(result).containsExactly(orcamentoResponse);
+            verify(orcamentoRepository).findAllByOsId(Set.of(osId, osExistente));
+            verify(mapper, times(1)).toDomain(createRequest);
+            verify(eventPublisher).publicarOrcamentoCriado(orcamento);
+            verify(orcamentoRepository, never()).save(any());
         }
 
         @Test
-        @DisplayName("Deve retornar lista vazia quando não há orçamentos")
-        void deveRetornarListaVaziaQuandoNaoHaOrcamentos() {
-            when(orcamentoRepository.findAll()).thenReturn(List.of());
+        @DisplayName("Não deve gravar nem publicar quando todas as OS já têm orçamento")
+        void naoDeveGravarQuandoTodasExistem() {
+            when(orcamentoRepository.findAllByOsId(any())).thenReturn(List.of(orcamento));
 
-            List<OrcamentoResponse> result = service.listarTodos();
+            List<OrcamentoResponse> result = service.criarEmLote(List.of(createRequest));
 
             assertThat(result).isEmpty();
+            verify(orcamentoRepository, never()).saveAll(any());
+            verifyNoInteractions(eventPublisher);
         }
     }
+
+    @Nested
+    @DisplayName("Cancelar por OS em Lote")
+    class CancelarPorOsEmLote {
+
+        @Test
+        @DisplayName("Deve cancelar a partir da leitura em lote, sem reler cada OS")
+        void deveCancelarComLeituraEmLote() {
+            when(orcamentoRepository.findAllByOsId(List.of(osId))).thenReturn(List.of(orcamento));
+            when(orcamentoRepository.updateStatus(orcamento, StatusOrcamento.PENDENTE)).thenReturn(orcamento);
+
+            Map<UUID, RuntimeException> falhas = service.cancelarPorOsEmLote(List.of(osId));
+
+            assertThat(falhas).isEmpty();
+            assertThat(orcamento.getStatus()).isEqualTo(StatusOrcamento.CANCELADO);
+            verify(orcamentoRepository, never()).findByOsId(any());
+        }
+
+        @Test
+        @DisplayName("Deve ignorar OS sem orçamento e orçamentos já cancelados")
+        void deveIgnorarSemOrcamentoEJaCancelados() {
+            UUID osCancelada = UUID.randomUUID();
+            Orcamento cancelado = Orcamento.builder()
+                    .id(UUID.randomUUID())
+                    .osId(osCancelada)
+                    .status(StatusOrcamento.CANCELADO)
+                    .build();
+            when(orcamentoRepository.findAllByOsId(any())).thenReturn(List.of(cancelado));
+
+            Map<UUID, RuntimeException> falhas = service.cancelarPorOsEmLote(List.of(osId, osCancelada));
+
+            assertThat(falhas).isEmpty();
+            verify(orcamentoRepository, never()).updateStatus(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve reler a OS só depois de um conflito de versão")
+        void deveRelerAposConflito() {
+            Orcamento relido = Orcamento.builder()
+                    .id(orcamentoId)
+                    .osId(osId)
+                    .status(StatusOrcamento.PENDENTE)
+                    .build();
+            when(orcamentoRepository.findAllByOsId(List.of(osId))).thenReturn(List.of(orcamento));
+            when(orcamentoRepository.updateStatus(orcamento, StatusOrcamento.PENDENTE))
+                    .thenThrow(new ConflitoDeVersaoException("conflito", null));
+            when(orcamentoRepository.findByOsId(osId)).thenReturn(Optional.of(relido));
+            when(orcamentoRepository.updateStatus(relido, StatusOrcamento.PENDENTE)).thenReturn(relido);
+
+            Map<UUID, RuntimeException> falhas = service.cancelarPorOsEmLote(List.of(osId));
+
+            assertThat(falhas).isEmpty();
+            assertThat(relido.getStatus()).isEqualTo(StatusOrcamento.CANCELADO);
+            verify(orcamentoRepository, times(1)).findByOsId(osId);
+        }
+
+        @Test
+        @DisplayName("Deve devolver a falha de uma OS e continuar com as demais")
+        void deveDevolverFalhaPorOs() {
+            UUID outraOs = UUID.randomUUID();
+            Orcamento outro = Orcamento.builder()
+                    .id(UUID.randomUUID())
+                    .osId(outraOs)
+                    .status(StatusOrcamento.PENDENTE)
+                    .build();
+            RuntimeException erro = new RuntimeException("DynamoDB indisponível");
+            when(orcamentoRepository.findAllByOsId(List.of(osId, outraOs))).thenReturn(List.of(orcamento, outro));
+            when(orcamentoRepository.updateStatus(orcamento, StatusOrcamento.PENDENTE)).thenThrow(erro);
+            when(orcamentoRepository.updateStatus(outro, StatusOrcamento.PENDENTE)).thenReturn(outro);
+
+            Map<UUID, RuntimeException> falhas = service.cancelarPorOsEmLote(List.of(osId, outraOs));
+
+            assertThat(falhas).containsExactly(Map.entry(osId, erro));
+            assertThat(outro.getStatus()).isEqualTo(StatusOrcamento.CANCELADO);
+        }
+    }
+
+    @Nested
+    @DisplayName("Buscar Por IDs")
+    class BuscarPorIds {
+
+        @Test
+        @DisplayName("Deve buscar vários orçamentos em uma leitura em lote")
+        void deveBuscarVariosPorIds() {
+            List<UUID> ids = List.of(orcamentoId, UUID.randomUUID());
+            when(readModel.findAllById(ids)).thenReturn(List.of(orcamentoResponse));
+
+            List<OrcamentoResponse> result = service.obterPorIds(ids);
+
+            assertThat(result).containsExactly(orcamentoResponse);
+            verify(readModel).findAllById(ids);
+            verify(readModel, never()).findById(any());
+            verifyNoInteractions(orcamentoRepository, mapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("Listar Paginado")
+    class ListarPaginado {
+
+        @Test
+        @DisplayName("Deve listar uma página de orçamentos com cursor")
+        void deveListarPaginaDeOrcamentos() {
+            when(readModel.findAll(50, "cur-1")).thenReturn(new PageResult<>(List.of(orcamentoResponse), "cur-2"));
+
+            PageResult<OrcamentoResponse> result = service.listar(50, "cur-1");
+
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.items().get(0).getId()).isEqualTo(orcamentoId);
+            assertThat(result.nextCursor()).isEqualTo("cur-2");
+            verify(readModel).findAll(50, "cur-1");
+            verifyNoInteractions(orcamentoRepository, mapper);
+        }
+
+        @Test
+        @DisplayName("Deve retornar página vazia quando não há orçamentos")
+        void deveRetornarPaginaVaziaQuandoNaoHaOrcamentos() {
+            when(readModel.findAll(50, null)).thenReturn(new PageResult<>(List.of(), null));
+
+            PageResult<OrcamentoResponse> result = service.listar(50, null);
+
+            assertThat(result.items()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve exportar todos os orçamentos como stream")
+        void deveExportarTodosOsOrcamentos() {
+            when(readModel.streamAll()).thenReturn(Stream.of(orcamentoResponse));
+
+            try (Stream<OrcamentoResponse> result = service.exportarTodos()) {
+                assertThat(result).containsExactly(orcamentoResponse);
+            }
+        }
+    }
+
+    private Orcamento orcamentoPendente(Long version) {
+        return Orcamento.builder()
+                .id(orcamentoId)
+                .osId(osId)
+                .status(StatusOrcamento.PENDENTE)
+                .itens(new ArrayList<>())
+                .historico(new ArrayList<>())
+                .valorTotal(new BigDecimal("500.00"))
+                .dataGeracao(Instant.now())
+                .version(version)
+                .build();
+    }
 }
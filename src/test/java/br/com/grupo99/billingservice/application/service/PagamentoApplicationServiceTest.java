@@ -3,19 +3,24 @@ package br.com.grupo99.billingservice.application.service;
 import br.com.grupo99.billingservice.application.dto.CreatePagamentoRequest;
 import br.com.grupo99.billingservice.application.dto.PagamentoResponse;
 import br.com.grupo99.billingservice.application.mapper.PagamentoMapper;
+import br.com.grupo99.billingservice.domain.events.BillingEvent;
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
 import br.com.grupo99.billingservice.domain.gateway.MercadoPagoPort;
 import br.com.grupo99.billingservice.domain.gateway.MercadoPagoPort.MercadoPagoPaymentResult;
 import br.com.grupo99.billingservice.domain.gateway.MercadoPagoPort.MercadoPagoPreferenceResult;
 import br.com.grupo99.billingservice.domain.model.FormaPagamento;
 import br.com.grupo99.billingservice.domain.model.Pagamento;
 import br.com.grupo99.billingservice.domain.model.StatusPagamento;
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
 import br.com.grupo99.billingservice.domain.repository.PagamentoRepository;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
 import br.com.grupo99.billingservice.infrastructure.messaging.BillingEventPublisherPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +29,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -175,13 +181,13 @@ class PagamentoApplicationServiceTest {
 
             when(pagamentoRepository.findById(pagamentoId)).thenReturn(Optional.of(pagamento));
             when(mercadoPagoPort.buscarPagamentoPorReferencia(pagamentoId.toString())).thenReturn(mpResult);
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagamento);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class))).thenReturn(pagamento);
             when(mapper.toResponse(any(Pagamento.class))).thenReturn(pagamentoResponse);
 
             PagamentoResponse result = service.checarPagamento(pagamentoId);
 
             assertThat(result).isNotNull();
-            verify(pagamentoRepository).save(any(Pagamento.class));
+            verify(pagamentoRepository).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
             verify(eventPublisher).publicarPagamentoConfirmado(any(Pagamento.class));
         }
 
@@ -193,13 +199,13 @@ class PagamentoApplicationServiceTest {
 
             when(pagamentoRepository.findById(pagamentoId)).thenReturn(Optional.of(pagamento));
             when(mercadoPagoPort.buscarPagamentoPorReferencia(pagamentoId.toString())).thenReturn(mpResult);
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagamento);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class))).thenReturn(pagamento);
             when(mapper.toResponse(any(Pagamento.class))).thenReturn(pagamentoResponse);
 
             PagamentoResponse result = service.checarPagamento(pagamentoId);
 
             assertThat(result).isNotNull();
-            verify(pagamentoRepository).save(any(Pagamento.class));
+            verify(pagamentoRepository).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
         }
 
         @Test
@@ -210,13 +216,13 @@ class PagamentoApplicationServiceTest {
 
             when(pagamentoRepository.findById(pagamentoId)).thenReturn(Optional.of(pagamento));
             when(mercadoPagoPort.buscarPagamentoPorReferencia(pagamentoId.toString())).thenReturn(mpResult);
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagamento);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class))).thenReturn(pagamento);
             when(mapper.toResponse(any(Pagamento.class))).thenReturn(pagamentoResponse);
 
             PagamentoResponse result = service.checarPagamento(pagamentoId);
 
             assertThat(result).isNotNull();
-            verify(pagamentoRepository).save(any(Pagamento.class));
+            verify(pagamentoRepository).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
         }
 
         @Test
@@ -236,13 +242,16 @@ class PagamentoApplicationServiceTest {
 
             when(pagamentoRepository.findById(pagamentoId)).thenReturn(Optional.of(pagConfirmado));
             when(mercadoPagoPort.buscarPagamentoPorReferencia(pagamentoId.toString())).thenReturn(mpResult);
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagConfirmado);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class),
+                    any(BillingEvent.class))).thenReturn(pagConfirmado);
             when(mapper.toResponse(any(Pagamento.class))).thenReturn(pagamentoResponse);
 
             PagamentoResponse result = service.checarPagamento(pagamentoId);
 
             assertThat(result).isNotNull();
-            verify(eventPublisher).publicarPagamentoEstornado(any(Pagamento.class));
+            verify(pagamentoRepository).updateStatus(eq(pagConfirmado), eq(StatusPagamento.PROCESSANDO),
+                    any(PagamentoFalhouEvent.class));
+            verify(eventPublisher, never()).publicarPagamentoEstornado(any());
         }
 
         @Test
@@ -258,7 +267,7 @@ class PagamentoApplicationServiceTest {
             PagamentoResponse result = service.checarPagamento(pagamentoId);
 
             assertThat(result).isNotNull();
-            verify(pagamentoRepository, never()).save(any(Pagamento.class));
+            verify(pagamentoRepository, never()).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
         }
 
         @Test
@@ -285,11 +294,11 @@ class PagamentoApplicationServiceTest {
 
             when(mercadoPagoPort.consultarPagamento(mpPaymentId)).thenReturn(mpResult);
             when(pagamentoRepository.findByMercadoPagoPaymentId(mpPaymentId)).thenReturn(Optional.of(pagamento));
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagamento);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class))).thenReturn(pagamento);
 
             service.processarWebhook(mpPaymentId);
 
-            verify(pagamentoRepository).save(any(Pagamento.class));
+            verify(pagamentoRepository).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
             verify(eventPublisher).publicarPagamentoConfirmado(any(Pagamento.class));
         }
 
@@ -302,11 +311,34 @@ class PagamentoApplicationServiceTest {
 
             when(mercadoPagoPort.consultarPagamento(mpPaymentId)).thenReturn(mpResult);
             when(pagamentoRepository.findByMercadoPagoPaymentId(mpPaymentId)).thenReturn(Optional.of(pagamento));
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagamento);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class))).thenReturn(pagamento);
 
             service.processarWebhook(mpPaymentId);
 
-            verify(pagamentoRepository).save(any(Pagamento.class));
+            verify(pagamentoRepository).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
+        }
+
+        @Test
+        @DisplayName("Deve refazer só a atualização local após conflito de versão")
+        void deveRefazerAtualizacaoLocalAposConflito() {
+            Long mpPaymentId = 12345L;
+            MercadoPagoPaymentResult mpResult = new MercadoPagoPaymentResult(
+                    mpPaymentId, "approved", "accredited", null, null, null);
+            Pagamento relido = pagamentoPendente(2L);
+
+            when(mercadoPagoPort.consultarPagamento(mpPaymentId)).thenReturn(mpResult);
+            when(pagamentoRepository.findByMercadoPagoPaymentId(mpPaymentId))
+                    .thenReturn(Optional.of(pagamentoPendente(1L)), Optional.of(relido));
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class)))
+                    .thenThrow(new ConflitoDeVersaoException("conflito", null))
+                    .thenReturn(relido);
+
+            service.processarWebhook(mpPaymentId);
+
+            assertThat(relido.getStatus()).isEqualTo(StatusPagamento.CONFIRMADO);
+            verify(mercadoPagoPort, times(1)).consultarPagamento(mpPaymentId);
+            verify(pagamentoRepository, times(2)).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
+            verify(eventPublisher, times(1)).publicarPagamentoConfirmado(relido);
         }
 
         @Test
@@ -333,15 +365,50 @@ class PagamentoApplicationServiceTest {
         @DisplayName("Deve confirmar pagamento manualmente com sucesso")
         void deveConfirmarPagamentoComSucesso() {
             when(pagamentoRepository.findById(pagamentoId)).thenReturn(Optional.of(pagamento));
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagamento);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class))).thenReturn(pagamento);
             when(mapper.toResponse(any(Pagamento.class))).thenReturn(pagamentoResponse);
 
             PagamentoResponse result = service.confirmar(pagamentoId);
 
             assertThat(result).isNotNull();
+            verify(pagamentoRepository).updateStatus(pagamento, StatusPagamento.PENDENTE);
+            verify(pagamentoRepository, never()).save(any(Pagamento.class));
             verify(eventPublisher).publicarPagamentoConfirmado(any(Pagamento.class));
         }
 
+        @Test
+        @DisplayName("Deve reler e confirmar de novo após conflito de versão")
+        void deveRelerEConfirmarAposConflito() {
+            Pagamento relido = pagamentoPendente(2L);
+
+            when(pagamentoRepository.findById(pagamentoId))
+                    .thenReturn(Optional.of(pagamentoPendente(1L)), Optional.of(relido));
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class)))
+                    .thenThrow(new ConflitoDeVersaoException("conflito", null))
+                    .thenReturn(relido);
+            when(mapper.toResponse(relido)).thenReturn(pagamentoResponse);
+
+            PagamentoResponse result = service.confirmar(pagamentoId);
+
+            assertThat(result).isEqualTo(pagamentoResponse);
+            verify(pagamentoRepository, times(2)).findById(pagamentoId);
+            verify(eventPublisher, times(1)).publicarPagamentoConfirmado(relido);
+        }
+
+        @Test
+        @DisplayName("Deve desistir após o limite de tentativas em conflito")
+        void deveDesistirAposLimiteDeTentativas() {
+            when(pagamentoRepository.findById(pagamentoId))
+                    .thenAnswer(invocation -> Optional.of(pagamentoPendente(1L)));
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class)))
+                    .thenThrow(new ConflitoDeVersaoException("conflito", null));
+
+            assertThatThrownBy(() -> service.confirmar(pagamentoId))
+                    .isInstanceOf(ConflitoDeVersaoException.class);
+            verify(pagamentoRepository, times(RetryOnConflict.MAX_ATTEMPTS)).findById(pagamentoId);
+            verify(eventPublisher, never()).publicarPagamentoConfirmado(any());
+        }
+
         @Test
         @DisplayName("Deve lançar exceção quando não encontrado")
         void deveLancarExcecaoQuandoNaoEncontrado() {
@@ -370,13 +437,22 @@ class PagamentoApplicationServiceTest {
                     .build();
 
             when(pagamentoRepository.findById(pagamentoId)).thenReturn(Optional.of(pagConfirmado));
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagConfirmado);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class),
+                    any(BillingEvent.class))).thenReturn(pagConfirmado);
             when(mapper.toResponse(any(Pagamento.class))).thenReturn(pagamentoResponse);
 
             PagamentoResponse result = service.estornar(pagamentoId, "Erro no serviço");
 
             assertThat(result).isNotNull();
-            verify(eventPublisher).publicarPagamentoEstornado(any(Pagamento.class));
+            ArgumentCaptor<BillingEvent> evento = ArgumentCaptor.forClass(BillingEvent.class);
+            verify(pagamentoRepository).updateStatus(eq(pagConfirmado), eq(StatusPagamento.CONFIRMADO),
+                    evento.capture());
+            assertThat(evento.getValue()).isInstanceOf(PagamentoFalhouEvent.class);
+            PagamentoFalhouEvent estorno = (PagamentoFalhouEvent) evento.getValue();
+            assertThat(estorno.getPagamentoId()).isEqualTo(pagamentoId);
+            assertThat(estorno.getCodigoErro()).isEqualTo("ESTORNO");
+            // Publicação fica com o relay do outbox, fora da requisição
+            verify(eventPublisher, never()).publicarPagamentoEstornado(any());
         }
     }
 
@@ -388,11 +464,11 @@ class PagamentoApplicationServiceTest {
         @DisplayName("Deve cancelar pagamento com sucesso")
         void deveCancelarPagamentoComSucesso() {
             when(pagamentoRepository.findById(pagamentoId)).thenReturn(Optional.of(pagamento));
-            when(pagamentoRepository.save(any(Pagamento.class))).thenReturn(pagamento);
+            when(pagamentoRepository.updateStatus(any(Pagamento.class), any(StatusPagamento.class))).thenReturn(pagamento);
 
             service.cancelar(pagamentoId);
 
-            verify(pagamentoRepository).save(any(Pagamento.class));
+            verify(pagamentoRepository).updateStatus(any(Pagamento.class), any(StatusPagamento.class));
         }
 
         @Test
@@ -407,19 +483,62 @@ class PagamentoApplicationServiceTest {
     }
 
     @Nested
-    @DisplayName("Listar Todos")
-    class ListarTodos {
+    @DisplayName("Buscar Por IDs")
+    class BuscarPorIds {
+
+        @Test
+        @DisplayName("Deve buscar vários pagamentos em uma leitura em lote")
+        void deveBuscarVariosPorIds() {
+            List<UUID> ids = List.of(pagamentoId, UUID.randomUUID());
+            when(pagamentoRepository.findAllById(ids)).thenReturn(List.of(pagamento));
+            when(mapper.toResponse(pagamento)).thenReturn(pagamentoResponse);
+
+            List<PagamentoResponse> result = service.obterPorIds(ids);
+
+            assertThat(result).containsExactly(pagamentoResponse);
+            verify(pagamentoRepository).findAllById(ids);
+            verify(pagamentoRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Listar Paginado")
+    class ListarPaginado {
 
         @Test
-        @DisplayName("Deve listar todos os pagamentos")
-        void deveListarTodosOsPagamentos() {
-            when(pagamentoRepository.findAll()).thenReturn(List.of(pagamento));
+        @DisplayName("Deve listar uma página de pagamentos com cursor")
+        void deveListarPaginaDePagamentos() {
+            when(pagamentoRepository.findAll(50, null)).thenReturn(new PageResult<>(List.of(pagamento), "cur-1"));
             when(mapper.toResponse(pagamento)).thenReturn(pagamentoResponse);
 
-            List<PagamentoResponse> result = service.listarTodos();
+            PageResult<PagamentoResponse> result = service.listar(50, null);
+
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.nextCursor()).isEqualTo("cur-1");
+            verify(pagamentoRepository).findAll(50, null);
+        }
+
+        @Test
+        @DisplayName("Deve exportar todos os pagamentos como stream")
+        void deveExportarTodosOsPagamentos() {
+            when(pagamentoRepository.streamAll()).thenReturn(Stream.of(pagamento));
+            when(mapper.toResponse(pagamento)).thenReturn(pagamentoResponse);
 
-            assertThat(result).hasSize(1);
-            verify(pagamentoRepository).findAll();
+            try (Stream<PagamentoResponse> result = service.exportarTodos()) {
+                assertThat(result).containsExactly(pagamentoResponse);
+            }
         }
     }
+
+    private Pagamento pagamentoPendente(Long version) {
+        return Pagamento.builder()
+                .id(pagamentoId)
+                .orcamentoId(orcamentoId)
+                .osId(osId)
+                .status(StatusPagamento.PENDENTE)
+                .valor(new BigDecimal("500.00"))
+                .formaPagamento(FormaPagamento.PIX)
+                .version(version)
+                .build();
+    }
 }
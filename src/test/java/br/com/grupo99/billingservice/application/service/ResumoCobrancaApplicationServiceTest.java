@@ -0,0 +1,112 @@
+package br.com.grupo99.billingservice.application.service;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.application.dto.PagamentoResponse;
+import br.com.grupo99.billingservice.application.dto.ResumoCobrancaResponse;
+import br.com.grupo99.billingservice.application.mapper.OrcamentoMapper;
+import br.com.grupo99.billingservice.application.mapper.PagamentoMapper;
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.model.Pagamento;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoAsyncRepository;
+import br.com.grupo99.billingservice.domain.repository.PagamentoAsyncRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumoCobrancaApplicationService - Testes unitários")
+class ResumoCobrancaApplicationServiceTest {
+
+    @Mock
+    private OrcamentoAsyncRepository orcamentoRepository;
+
+    @Mock
+    private PagamentoAsyncRepository pagamentoRepository;
+
+    @Mock
+    private OrcamentoMapper orcamentoMapper;
+
+    @Mock
+    private PagamentoMapper pagamentoMapper;
+
+    @InjectMocks
+    private ResumoCobrancaApplicationService service;
+
+    private UUID osId;
+    private Orcamento orcamento;
+    private Pagamento pagamento;
+
+    @BeforeEach
+    void setUp() {
+        osId = UUID.randomUUID();
+        orcamento = Orcamento.builder().id(UUID.randomUUID()).osId(osId).build();
+        pagamento = Pagamento.builder().id(UUID.randomUUID()).osId(osId).build();
+    }
+
+    @Nested
+    @DisplayName("Obter Resumo por OS")
+    class ObterPorOs {
+
+        @Test
+        @DisplayName("Deve disparar as duas leituras antes de esperar por qualquer uma")
+        void deveDispararLeiturasEmParalelo() {
+            CompletableFuture<Optional<Orcamento>> orcamentoFuture = new CompletableFuture<>();
+            when(orcamentoRepository.findByOsId(osId)).thenReturn(orcamentoFuture);
+            // Só completa o orçamento depois que a leitura dos pagamentos foi disparada
+            when(pagamentoRepository.findByOsId(osId)).thenAnswer(invocation -> {
+                orcamentoFuture.complete(Optional.of(orcamento));
+                return CompletableFuture.completedFuture(List.of(pagamento));
+            });
+            OrcamentoResponse orcamentoResponse = OrcamentoResponse.builder().id(orcamento.getId()).build();
+            PagamentoResponse pagamentoResponse = PagamentoResponse.builder().id(pagamento.getId()).build();
+            when(orcamentoMapper.toResponse(orcamento)).thenReturn(orcamentoResponse);
+            when(pagamentoMapper.toResponse(pagamento)).thenReturn(pagamentoResponse);
+
+            Optional<ResumoCobrancaResponse> result = service.obterPorOs(osId);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getOsId()).isEqualTo(osId);
+            assertThat(result.get().getOrcamento()).isEqualTo(orcamentoResponse);
+            assertThat(result.get().getPagamentos()).containsExactly(pagamentoResponse);
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio quando a OS não tem orçamento")
+        void deveRetornarVazioSemOrcamento() {
+            when(orcamentoRepository.findByOsId(osId))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+            when(pagamentoRepository.findByOsId(osId))
+                    .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+            assertThat(service.obterPorOs(osId)).isEmpty();
+            verifyNoInteractions(orcamentoMapper, pagamentoMapper);
+        }
+
+        @Test
+        @DisplayName("Deve propagar a falha original de uma das leituras")
+        void devePropagarFalhaOriginal() {
+            when(orcamentoRepository.findByOsId(osId))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("throttled")));
+            when(pagamentoRepository.findByOsId(osId))
+                    .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+            assertThatThrownBy(() -> service.obterPorOs(osId))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("throttled");
+        }
+    }
+}
@@ -4,12 +4,14 @@ import br.com.grupo99.billingservice.domain.model.Orcamento;
 import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
 import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
 import br.com.grupo99.billingservice.infrastructure.messaging.BillingEventPublisherPort;
+import br.com.grupo99.billingservice.infrastructure.persistence.adapter.OrcamentoSnapshotReader;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.Before;
 import io.cucumber.java.pt.Dado;
 import io.cucumber.java.pt.Então;
 import io.cucumber.java.pt.Quando;
 import io.cucumber.spring.CucumberContextConfiguration;
+import org.mockito.Answers;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -41,12 +43,17 @@ public class SagaOrcamentoSteps {
     @MockBean
     private DynamoDbClient dynamoDbClient;
 
-    @MockBean
+    // Deep stubs: os repositórios resolvem tabelas e índices no construtor
+    @MockBean(answer = Answers.RETURNS_DEEP_STUBS)
     private DynamoDbEnhancedClient dynamoDbEnhancedClient;
 
     @MockBean
     private OrcamentoRepository orcamentoRepository;
 
+    // O mock acima substitui o CachingOrcamentoRepository, que também é o leitor de snapshots
+    @MockBean
+    private OrcamentoSnapshotReader orcamentoSnapshotReader;
+
     @SpyBean
     private BillingEventPublisherPort eventPublisher;
 
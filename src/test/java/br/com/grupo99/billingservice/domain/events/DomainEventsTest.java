@@ -161,6 +161,40 @@ class DomainEventsTest {
         }
     }
 
+    @Nested
+    @DisplayName("OSCanceladaEvent")
+    class OSCanceladaEventTests {
+
+        @Test
+        @DisplayName("Deve criar evento vazio com eventType padrão")
+        void deveCriarEventoVazioComEventTypePadrao() {
+            OSCanceladaEvent event = new OSCanceladaEvent();
+            event.setMotivo("Cliente desistiu");
+
+            assertThat(event.getMotivo()).isEqualTo("Cliente desistiu");
+            assertThat(event.getEventType()).isEqualTo("OS_CANCELADA");
+        }
+    }
+
+    @Nested
+    @DisplayName("ExecucaoFalhouEvent")
+    class ExecucaoFalhouEventTests {
+
+        @Test
+        @DisplayName("Deve criar evento com todos os campos")
+        void deveCriarEventoComTodosCampos() {
+            UUID osId = UUID.randomUUID();
+
+            ExecucaoFalhouEvent event = new ExecucaoFalhouEvent(
+                    osId, UUID.randomUUID(), "Peça indisponível", true, LocalDateTime.now(), "EXECUCAO_FALHOU");
+
+            assertThat(event.getOsId()).isEqualTo(osId);
+            assertThat(event.getMotivo()).isEqualTo("Peça indisponível");
+            assertThat(event.getRequerRetrabalho()).isTrue();
+            assertThat(new ExecucaoFalhouEvent().getEventType()).isEqualTo("EXECUCAO_FALHOU");
+        }
+    }
+
     @Nested
     @DisplayName("PagamentoFalhouEvent")
     class PagamentoFalhouEventTests {
@@ -177,6 +177,77 @@ class OrcamentoTest {
         assertEquals(new BigDecimal("175.00"), orcamento.getValorTotal());
     }
 
+    @Test
+    @DisplayName("Deve atualizar valor total ao remover item")
+    void deveAtualizarValorTotalAoRemoverItem() {
+        // Arrange
+        Orcamento orcamento = Orcamento.criar(UUID.randomUUID(), "Teste");
+        ItemOrcamento item1 = new ItemOrcamento(TipoItem.SERVICO, "Serviço 1", 1, new BigDecimal("100.00"));
+        ItemOrcamento item2 = new ItemOrcamento(TipoItem.PECA, "Peça 1", 3, new BigDecimal("25.00"));
+        orcamento.adicionarItem(item1);
+        orcamento.adicionarItem(item2);
+
+        // Act
+        boolean removido = orcamento.removerItem(item1);
+
+        // Assert
+        assertTrue(removido);
+        assertFalse(orcamento.removerItem(item1));
+        assertEquals(1, orcamento.getItens().size());
+        assertEquals(new BigDecimal("75.00"), orcamento.getValorTotal());
+    }
+
+    @Test
+    @DisplayName("Deve manter total incremental igual ao recálculo com centenas de itens")
+    void deveManterTotalIncrementalComCentenasDeItens() {
+        // Arrange
+        Orcamento orcamento = Orcamento.criar(UUID.randomUUID(), "Frota");
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            orcamento.adicionarItem(new ItemOrcamento(TipoItem.PECA, "Peça " + i, 1 + i % 4,
+                    new BigDecimal("12.34").add(BigDecimal.valueOf(i, 2))));
+        }
+        BigDecimal incremental = orcamento.getValorTotal();
+        orcamento.calcularValorTotal();
+
+        // Assert
+        assertEquals(orcamento.getValorTotal(), incremental);
+        assertEquals(new BigDecimal("18550.00"), incremental);
+    }
+
+    @Test
+    @DisplayName("Deve preservar a escala e valores com mais de 2 casas decimais")
+    void devePreservarEscalaEValoresForaDosCentavos() {
+        // Arrange
+        Orcamento semCasas = Orcamento.criar(UUID.randomUUID(), "Sem casas");
+        Orcamento tresCasas = Orcamento.criar(UUID.randomUUID(), "Três casas");
+
+        // Act
+        semCasas.adicionarItem(new ItemOrcamento(TipoItem.SERVICO, "Serviço", 2, new BigDecimal("50")));
+        tresCasas.adicionarItem(new ItemOrcamento(TipoItem.PECA, "Parafuso", 3, new BigDecimal("0.005")));
+        tresCasas.adicionarItem(new ItemOrcamento(TipoItem.PECA, "Porca", 1, new BigDecimal("1.10")));
+
+        // Assert
+        assertEquals(new BigDecimal("100"), semCasas.getValorTotal());
+        assertEquals(new BigDecimal("1.115"), tresCasas.getValorTotal());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular quando a lista de itens é alterada diretamente")
+    void deveRecalcularQuandoListaAlteradaDiretamente() {
+        // Arrange
+        Orcamento orcamento = Orcamento.criar(UUID.randomUUID(), "Teste");
+        orcamento.adicionarItem(new ItemOrcamento(TipoItem.SERVICO, "Serviço 1", 1, new BigDecimal("100.00")));
+        orcamento.getItens().add(new ItemOrcamento(TipoItem.PECA, "Peça 1", 2, new BigDecimal("10.00")));
+
+        // Act
+        orcamento.adicionarItem(new ItemOrcamento(TipoItem.PECA, "Peça 2", 1, new BigDecimal("5.00")));
+
+        // Assert
+        assertEquals(new BigDecimal("125.00"), orcamento.getValorTotal());
+    }
+
     @Test
     @DisplayName("Deve manter histórico de mudanças")
     void deveManterHistoricoDeMudancas() {
@@ -194,6 +265,25 @@ class OrcamentoTest {
         assertEquals(StatusOrcamento.APROVADO, hist.getStatusNovo());
     }
 
+    @Test
+    @DisplayName("Deve continuar o contador do histórico não carregado")
+    void deveContinuarContadorDoHistoricoNaoCarregado() {
+        // Arrange: orçamento lido do repositório, histórico persistido não carregado
+        Orcamento orcamento = Orcamento.builder()
+                .id(UUID.randomUUID())
+                .status(StatusOrcamento.PENDENTE)
+                .historicoCount(3)
+                .build();
+
+        // Act
+        orcamento.cancelar();
+
+        // Assert
+        assertEquals(4, orcamento.getHistoricoCount());
+        assertEquals(1, orcamento.getHistorico().size()); // só a entrada nova
+        assertEquals(StatusOrcamento.CANCELADO, orcamento.getHistorico().get(0).getStatusNovo());
+    }
+
     @Test
     @DisplayName("Deve validar osId obrigatório")
     void deveValidarOsIdObrigatorio() {
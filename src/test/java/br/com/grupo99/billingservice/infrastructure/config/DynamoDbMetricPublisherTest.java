@@ -0,0 +1,87 @@
+package br.com.grupo99.billingservice.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DynamoDbMetricPublisher - Testes Unitários")
+class DynamoDbMetricPublisherTest {
+
+    private SimpleMeterRegistry registry;
+    private DynamoDbMetricPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        publisher = new DynamoDbMetricPublisher(registry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar latência e retries por operação")
+    void deveRegistrarLatenciaPorOperacao() {
+        publisher.publish(apiCall("GetItem", true, 1, 3, 0));
+
+        assertEquals(1, registry.get("aws.dynamodb.api.call.latency")
+                .tag("operation", "GetItem").tag("outcome", "success").timer().count());
+        assertEquals(120, registry.get("aws.dynamodb.api.call.latency")
+                .tag("operation", "GetItem").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get("aws.dynamodb.api.call.retries")
+                .tag("operation", "GetItem").counter().count(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Deve separar chamadas com falha")
+    void deveSepararChamadasComFalha() {
+        publisher.publish(apiCall("PutItem", false, 0, 1, 0));
+
+        assertEquals(1, registry.get("aws.dynamodb.api.call.latency")
+                .tag("operation", "PutItem").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve expor espera e estado do pool de conexões")
+    void deveExporEstadoDoPool() {
+        publisher.publish(apiCall("Query", true, 0, 7, 2));
+        publisher.publish(apiCall("Query", true, 0, 4, 0));
+
+        assertEquals(2, registry.get("aws.dynamodb.http.acquire.latency")
+                .tag("http_client", "Apache").timer().count());
+        // Gauges refletem a última chamada
+        assertEquals(4, registry.get("aws.dynamodb.http.connections.leased")
+                .tag("http_client", "Apache").gauge().value(), 0.001);
+        assertEquals(0, registry.get("aws.dynamodb.http.connections.pending").gauge().value(), 0.001);
+        assertEquals(96, registry.get("aws.dynamodb.http.connections.available").gauge().value(), 0.001);
+        assertEquals(100, registry.get("aws.dynamodb.http.connections.max").gauge().value(), 0.001);
+    }
+
+    /**
+     * Helper: monta a árvore ApiCall → ApiCallAttempt → HttpClient como o SDK
+     */
+    private static MetricCollection apiCall(String operation, boolean success, int retries, int leased,
+            int pending) {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, operation);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, success);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(120));
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, retries);
+
+        MetricCollector http = apiCall.createChild("ApiCallAttempt").createChild("HttpClient");
+        http.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        http.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(5));
+        http.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased);
+        http.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pending);
+        http.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 100 - leased);
+        http.reportMetric(HttpMetric.MAX_CONCURRENCY, 100);
+        return apiCall.collect();
+    }
+}
@@ -1,8 +1,11 @@
 package br.com.grupo99.billingservice.infrastructure.controller;
 
 import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.dto.HistoricoStatusResponse;
 import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
 import br.com.grupo99.billingservice.application.service.OrcamentoApplicationService;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoJaExisteException;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +17,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -112,6 +119,30 @@ class OrcamentoControllerTest {
                     .content(objectMapper.writeValueAsString(createRequest)))
                     .andExpect(status().isInternalServerError());
         }
+
+        @Test
+        @DisplayName("Deve retornar 409 quando a OS já tem orçamento")
+        void deveRetornar409QuandoDuplicado() throws Exception {
+            when(service.criar(any(CreateOrcamentoRequest.class)))
+                    .thenThrow(new OrcamentoJaExisteException(UUID.randomUUID()));
+
+            mockMvc.perform(post("/api/v1/orcamentos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createRequest)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 quando a requisição é inválida")
+        void deveRetornar400QuandoInvalido() throws Exception {
+            when(service.criar(any(CreateOrcamentoRequest.class)))
+                    .thenThrow(new IllegalArgumentException("OS ID não pode ser nulo"));
+
+            mockMvc.perform(post("/api/v1/orcamentos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createRequest)))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -142,6 +173,36 @@ class OrcamentoControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/orcamentos/{id}/historico")
+    class ObterHistorico {
+
+        @Test
+        @DisplayName("Deve obter histórico do orçamento")
+        void deveObterHistorico() throws Exception {
+            when(service.obterHistorico(orcamentoId)).thenReturn(List.of(
+                    HistoricoStatusResponse.builder().novoStatus("PENDENTE").usuario("system").build(),
+                    HistoricoStatusResponse.builder().statusAnterior("PENDENTE").novoStatus("APROVADO").build()));
+
+            mockMvc.perform(get("/api/v1/orcamentos/{id}/historico", orcamentoId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[1].novoStatus").value("APROVADO"));
+
+            verify(service).obterHistorico(orcamentoId);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 500 quando não encontrado")
+        void deveRetornar500QuandoNaoEncontrado() throws Exception {
+            when(service.obterHistorico(orcamentoId))
+                    .thenThrow(new RuntimeException("Orçamento não encontrado"));
+
+            mockMvc.perform(get("/api/v1/orcamentos/{id}/historico", orcamentoId))
+                    .andExpect(status().isInternalServerError());
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/v1/orcamentos/{id}/aprovar")
     class AprovarOrcamento {
@@ -212,14 +273,100 @@ class OrcamentoControllerTest {
         @Test
         @DisplayName("Deve listar todos os orçamentos com sucesso")
         void deveListarTodosComSucesso() throws Exception {
-            when(service.listarTodos()).thenReturn(List.of(orcamentoResponse));
+            when(service.listar(100, null)).thenReturn(new PageResult<>(List.of(orcamentoResponse), "cur-1"));
 
             mockMvc.perform(get("/api/v1/orcamentos"))
                     .andExpect(status().isOk())
+                    .andExpect(header().string("X-Next-Cursor", "cur-1"))
                     .andExpect(jsonPath("$").isArray())
                     .andExpect(jsonPath("$[0].id").value(orcamentoId.toString()));
 
-            verify(service).listarTodos();
+            verify(service).listar(100, null);
+        }
+
+        @Test
+        @DisplayName("Deve repassar limit e cursor e omitir header na última página")
+        void deveRepassarLimitECursor() throws Exception {
+            when(service.listar(10, "cur-1")).thenReturn(new PageResult<>(List.of(orcamentoResponse), null));
+
+            mockMvc.perform(get("/api/v1/orcamentos").param("limit", "10").param("cursor", "cur-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("X-Next-Cursor"))
+                    .andExpect(jsonPath("$[0].id").value(orcamentoId.toString()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 quando limit está fora da faixa permitida")
+        void deveRetornar400ParaLimitInvalido() throws Exception {
+            mockMvc.perform(get("/api/v1/orcamentos").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/orcamentos").param("limit", "1001"))
+                    .andExpect(status().isBadRequest());
+
+            verify(service, never()).listar(anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 quando cursor é inválido")
+        void deveRetornar400ParaCursorInvalido() throws Exception {
+            when(service.listar(100, "lixo")).thenThrow(new IllegalArgumentException("Cursor de paginação inválido"));
+
+            mockMvc.perform(get("/api/v1/orcamentos").param("cursor", "lixo"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/orcamentos/batch-get")
+    class BuscarPorIds {
+
+        @Test
+        @DisplayName("Deve buscar vários orçamentos por ID")
+        void deveBuscarVariosPorIds() throws Exception {
+            UUID outroId = UUID.randomUUID();
+            when(service.obterPorIds(List.of(orcamentoId, outroId))).thenReturn(List.of(orcamentoResponse));
+
+            mockMvc.perform(post("/api/v1/orcamentos/batch-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(orcamentoId, outroId))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].id").value(orcamentoId.toString()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para lista de IDs vazia")
+        void deveRetornar400ParaListaVazia() throws Exception {
+            mockMvc.perform(post("/api/v1/orcamentos/batch-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                    .andExpect(status().isBadRequest());
+
+            verify(service, never()).obterPorIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/orcamentos/stream")
+    class ExportarTodos {
+
+        @Test
+        @DisplayName("Deve exportar todos em NDJSON")
+        void deveExportarEmNdjson() throws Exception {
+            when(service.exportarTodos()).thenReturn(Stream.of(orcamentoResponse, orcamentoResponse));
+
+            MvcResult result = mockMvc.perform(get("/api/v1/orcamentos/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("id").asText())
+                    .isEqualTo(orcamentoId.toString());
         }
     }
 }
@@ -3,6 +3,7 @@ package br.com.grupo99.billingservice.infrastructure.controller;
 import br.com.grupo99.billingservice.application.dto.CreatePagamentoRequest;
 import br.com.grupo99.billingservice.application.dto.PagamentoResponse;
 import br.com.grupo99.billingservice.application.service.PagamentoApplicationService;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +15,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -115,14 +120,100 @@ class PagamentoControllerTest {
         @Test
         @DisplayName("Deve listar todos os pagamentos")
         void deveListarTodosComSucesso() throws Exception {
-            when(service.listarTodos()).thenReturn(List.of(pagamentoResponse));
+            when(service.listar(100, null)).thenReturn(new PageResult<>(List.of(pagamentoResponse), "cur-1"));
 
             mockMvc.perform(get("/api/v1/pagamentos"))
                     .andExpect(status().isOk())
+                    .andExpect(header().string("X-Next-Cursor", "cur-1"))
                     .andExpect(jsonPath("$").isArray())
                     .andExpect(jsonPath("$[0].id").value(pagamentoId.toString()));
 
-            verify(service).listarTodos();
+            verify(service).listar(100, null);
+        }
+
+        @Test
+        @DisplayName("Deve repassar limit e cursor e omitir header na última página")
+        void deveRepassarLimitECursor() throws Exception {
+            when(service.listar(10, "cur-1")).thenReturn(new PageResult<>(List.of(pagamentoResponse), null));
+
+            mockMvc.perform(get("/api/v1/pagamentos").param("limit", "10").param("cursor", "cur-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("X-Next-Cursor"))
+                    .andExpect(jsonPath("$[0].id").value(pagamentoId.toString()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 quando limit está fora da faixa permitida")
+        void deveRetornar400ParaLimitInvalido() throws Exception {
+            mockMvc.perform(get("/api/v1/pagamentos").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/pagamentos").param("limit", "1001"))
+                    .andExpect(status().isBadRequest());
+
+            verify(service, never()).listar(anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 quando cursor é inválido")
+        void deveRetornar400ParaCursorInvalido() throws Exception {
+            when(service.listar(100, "lixo")).thenThrow(new IllegalArgumentException("Cursor de paginação inválido"));
+
+            mockMvc.perform(get("/api/v1/pagamentos").param("cursor", "lixo"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/pagamentos/batch-get")
+    class BuscarPorIds {
+
+        @Test
+        @DisplayName("Deve buscar vários pagamentos por ID")
+        void deveBuscarVariosPorIds() throws Exception {
+            UUID outroId = UUID.randomUUID();
+            when(service.obterPorIds(List.of(pagamentoId, outroId))).thenReturn(List.of(pagamentoResponse));
+
+            mockMvc.perform(post("/api/v1/pagamentos/batch-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(pagamentoId, outroId))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].id").value(pagamentoId.toString()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para lista de IDs vazia")
+        void deveRetornar400ParaListaVazia() throws Exception {
+            mockMvc.perform(post("/api/v1/pagamentos/batch-get")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                    .andExpect(status().isBadRequest());
+
+            verify(service, never()).obterPorIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/pagamentos/stream")
+    class ExportarTodos {
+
+        @Test
+        @DisplayName("Deve exportar todos em NDJSON")
+        void deveExportarEmNdjson() throws Exception {
+            when(service.exportarTodos()).thenReturn(Stream.of(pagamentoResponse, pagamentoResponse));
+
+            MvcResult result = mockMvc.perform(get("/api/v1/pagamentos/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("id").asText())
+                    .isEqualTo(pagamentoId.toString());
         }
     }
 
@@ -0,0 +1,65 @@
+package br.com.grupo99.billingservice.infrastructure.controller;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.application.dto.PagamentoResponse;
+import br.com.grupo99.billingservice.application.dto.ResumoCobrancaResponse;
+import br.com.grupo99.billingservice.application.service.ResumoCobrancaApplicationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ResumoCobrancaController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("ResumoCobrancaController - Testes unitários @WebMvcTest")
+class ResumoCobrancaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ResumoCobrancaApplicationService service;
+
+    @MockBean
+    private br.com.grupo99.billingservice.infrastructure.security.jwt.JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("Deve retornar 200 com orçamento e pagamentos da OS")
+    void deveRetornarResumo() throws Exception {
+        UUID osId = UUID.randomUUID();
+        UUID orcamentoId = UUID.randomUUID();
+        UUID pagamentoId = UUID.randomUUID();
+        when(service.obterPorOs(osId)).thenReturn(Optional.of(ResumoCobrancaResponse.builder()
+                .osId(osId)
+                .orcamento(OrcamentoResponse.builder().id(orcamentoId).build())
+                .pagamentos(List.of(PagamentoResponse.builder().id(pagamentoId).build()))
+                .build()));
+
+        mockMvc.perform(get("/api/v1/cobrancas/os/{osId}", osId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.osId").value(osId.toString()))
+                .andExpect(jsonPath("$.orcamento.id").value(orcamentoId.toString()))
+                .andExpect(jsonPath("$.pagamentos[0].id").value(pagamentoId.toString()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 quando a OS não tem orçamento")
+    void deveRetornar404SemOrcamento() throws Exception {
+        UUID osId = UUID.randomUUID();
+        when(service.obterPorOs(osId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/cobrancas/os/{osId}", osId))
+                .andExpect(status().isNotFound());
+    }
+}
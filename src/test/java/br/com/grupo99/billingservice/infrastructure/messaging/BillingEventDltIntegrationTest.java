@@ -0,0 +1,102 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload que não desserializa (ex.: clienteId que não é UUID) não pode travar
+ * a partição: o registro vai para o DLT com os bytes originais.
+ * Mesma configuração do KafkaBillingEventPublisherTest (contexto reaproveitado).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {
+        KafkaConfig.TOPIC_BILLING_EVENTS, KafkaConfig.TOPIC_OS_EVENTS, KafkaConfig.TOPIC_EXECUTION_EVENTS })
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "aws.dynamodb.endpoint=",
+        "mercadopago.access-token=TEST-fake-token",
+        "mercadopago.notification-url=http://localhost:8080/pagamentos/webhook"
+})
+class BillingEventDltIntegrationTest {
+
+    @MockBean
+    private DynamoDbClient dynamoDbClient;
+
+    // Deep stubs: os repositórios resolvem tabelas e índices no construtor
+    @MockBean(answer = Answers.RETURNS_DEEP_STUBS)
+    private DynamoDbEnhancedClient dynamoDbEnhancedClient;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Test
+    @DisplayName("Deve mandar para o DLT o OS_CRIADA com clienteId inválido")
+    void deveMandarClienteIdInvalidoParaDlt() {
+        String osId = UUID.randomUUID().toString();
+        byte[] payload = ("{\"osId\":\"" + osId + "\",\"clienteId\":\"nao-e-uuid\",\"eventType\":\"OS_CRIADA\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        try (Consumer<String, byte[]> dlt = dltConsumer();
+                KafkaProducer<String, byte[]> producer = new KafkaProducer<>(
+                        KafkaTestUtils.producerProps(embeddedKafkaBroker),
+                        new StringSerializer(), new ByteArraySerializer())) {
+            ProducerRecord<String, byte[]> record = new ProducerRecord<>(KafkaConfig.TOPIC_OS_EVENTS, osId, payload);
+            record.headers().add("eventType", "OS_CRIADA".getBytes(StandardCharsets.UTF_8));
+            producer.send(record);
+            producer.flush();
+
+            ConsumerRecord<String, byte[]> naDlt = KafkaTestUtils.getSingleRecord(dlt, KafkaConfig.DLT_OS_EVENTS,
+                    Duration.ofSeconds(30));
+
+            assertThat(naDlt.key()).isEqualTo(osId);
+            assertThat(naDlt.value()).isEqualTo(payload);
+            assertThat(new String(naDlt.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_FQCN).value(),
+                    StandardCharsets.UTF_8)).isEqualTo(DeserializationException.class.getName());
+        }
+    }
+
+    private Consumer<String, byte[]> dltConsumer() {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("dlt-" + UUID.randomUUID(), "true",
+                embeddedKafkaBroker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<String, byte[]>(props).createConsumer();
+        consumer.subscribe(List.of(KafkaConfig.DLT_OS_EVENTS));
+        return consumer;
+    }
+}
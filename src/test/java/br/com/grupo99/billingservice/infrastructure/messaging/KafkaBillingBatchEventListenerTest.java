@@ -0,0 +1,254 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.service.OrcamentoApplicationService;
+import br.com.grupo99.billingservice.domain.events.ExecucaoFalhouEvent;
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.billingservice.infrastructure.messaging.serde.BillingEventDeserializer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaBillingBatchEventListener - Testes unitários")
+class KafkaBillingBatchEventListenerTest {
+
+    @Mock
+    private OrcamentoApplicationService orcamentoService;
+
+    @Mock
+    private ConsumerRecordRecoverer deadLetterRecoverer;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private KafkaBillingBatchEventListener listener;
+
+    private long offset;
+
+    @Test
+    @DisplayName("Deve criar os orçamentos do lote em uma chamada e confirmar uma vez")
+    @SuppressWarnings("unchecked")
+    void deveCriarOrcamentosDoLoteEmUmaChamada() {
+        UUID os1 = UUID.randomUUID();
+        UUID os2 = UUID.randomUUID();
+
+        listener.consumeOSEvents(List.of(
+                record(KafkaConfig.TOPIC_OS_EVENTS, os1, "OS_CRIADA", Map.of()),
+                record(KafkaConfig.TOPIC_OS_EVENTS, os2, "OS_CRIADA", Map.of()),
+                record(KafkaConfig.TOPIC_OS_EVENTS, os1, "OS_CRIADA", Map.of()),
+                record(KafkaConfig.TOPIC_OS_EVENTS, os2, "STATUS_MUDADO", Map.of())), acknowledgment);
+
+        ArgumentCaptor<List<CreateOrcamentoRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orcamentoService).criarEmLote(captor.capture());
+        assertEquals(List.of(os1, os2), captor.getValue().stream().map(CreateOrcamentoRequest::getOsId).toList());
+        verify(orcamentoService, never()).cancelarPorOsEmLote(any());
+        verify(acknowledgment, times(1)).acknowledge();
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    @DisplayName("Deve mandar só o registro inválido para o DLT e processar o resto do lote")
+    void deveMandarRegistroInvalidoParaDlt() {
+        UUID osId = UUID.randomUUID();
+        ConsumerRecord<String, Object> invalido = new ConsumerRecord<>(KafkaConfig.TOPIC_OS_EVENTS, 0, offset++,
+                "nao-e-uuid", Map.of());
+        invalido.headers().add("eventType", "OS_CANCELADA".getBytes(StandardCharsets.UTF_8));
+        when(orcamentoService.cancelarPorOsEmLote(Set.of(osId))).thenReturn(Map.of());
+
+        listener.consumeOSEvents(List.of(
+                invalido,
+                record(KafkaConfig.TOPIC_OS_EVENTS, osId, "OS_CANCELADA", Map.of("motivo", "Cliente desistiu"))),
+                acknowledgment);
+
+        verify(deadLetterRecoverer).accept(eq(invalido), any(IllegalArgumentException.class));
+        verify(orcamentoService).cancelarPorOsEmLote(Set.of(osId));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve mandar para o DLT todos os registros da OS cujo cancelamento falhou")
+    void deveMandarRegistrosDaOsComFalhaParaDlt() {
+        UUID osComFalha = UUID.randomUUID();
+        UUID osOk = UUID.randomUUID();
+        ConsumerRecord<String, Object> falha1 = record(KafkaConfig.TOPIC_EXECUTION_EVENTS, osComFalha,
+                "EXECUCAO_FALHOU", Map.of("motivo", "Peça indisponível"));
+        ConsumerRecord<String, Object> falha2 = record(KafkaConfig.TOPIC_EXECUTION_EVENTS, osComFalha,
+                "EXECUCAO_FALHOU", Map.of());
+        ConsumerRecord<String, Object> ok = record(KafkaConfig.TOPIC_EXECUTION_EVENTS, osOk,
+                "EXECUCAO_FALHOU", Map.of());
+        RuntimeException erro = new RuntimeException("DynamoDB indisponível");
+        when(orcamentoService.cancelarPorOsEmLote(Set.of(osComFalha, osOk))).thenReturn(Map.of(osComFalha, erro));
+
+        listener.consumeExecutionEvents(List.of(falha1, ok, falha2), acknowledgment);
+
+        verify(deadLetterRecoverer).accept(falha1, erro);
+        verify(deadLetterRecoverer).accept(falha2, erro);
+        verify(deadLetterRecoverer, never()).accept(eq(ok), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Não deve cancelar quando a execução falhou com retrabalho")
+    void naoDeveCancelarQuandoRequerRetrabalho() {
+        UUID osId = UUID.randomUUID();
+
+        listener.consumeExecutionEvents(List.of(
+                record(KafkaConfig.TOPIC_EXECUTION_EVENTS, osId, "EXECUCAO_FALHOU", Map.of("requerRetrabalho", true)),
+                record(KafkaConfig.TOPIC_EXECUTION_EVENTS, osId, "EXECUCAO_CONCLUIDA", Map.of())), acknowledgment);
+
+        verifyNoInteractions(orcamentoService, deadLetterRecoverer);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve ler requerRetrabalho do evento tipado do deserializer")
+    void deveLerRetrabalhoDoEventoTipado() {
+        UUID comRetrabalho = UUID.randomUUID();
+        UUID semRetrabalho = UUID.randomUUID();
+        when(orcamentoService.cancelarPorOsEmLote(Set.of(semRetrabalho))).thenReturn(Map.of());
+
+        listener.consumeExecutionEvents(List.of(
+                record(KafkaConfig.TOPIC_EXECUTION_EVENTS, comRetrabalho, "EXECUCAO_FALHOU",
+                        new ExecucaoFalhouEvent(comRetrabalho, null, "Peça errada", true, null, "EXECUCAO_FALHOU")),
+                record(KafkaConfig.TOPIC_EXECUTION_EVENTS, semRetrabalho, "EXECUCAO_FALHOU",
+                        new ExecucaoFalhouEvent(semRetrabalho, null, "Sem peça", false, null, "EXECUCAO_FALHOU"))),
+                acknowledgment);
+
+        verify(orcamentoService).cancelarPorOsEmLote(Set.of(semRetrabalho));
+        verifyNoInteractions(deadLetterRecoverer);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar o lote quando a escrita em lote falha")
+    void naoDeveConfirmarQuandoEscritaEmLoteFalha() {
+        when(orcamentoService.criarEmLote(any())).thenThrow(new IllegalStateException("itens não processados"));
+        List<ConsumerRecord<String, Object>> records = List.of(
+                record(KafkaConfig.TOPIC_OS_EVENTS, UUID.randomUUID(), "OS_CRIADA", Map.of()));
+
+        assertThrows(IllegalStateException.class, () -> listener.consumeOSEvents(records, acknowledgment));
+
+        verify(acknowledgment, never()).acknowledge();
+        verify(processedEventStore, never()).registrarTodos(any());
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    @DisplayName("Não deve publicar no DLT quando o lote falha depois de um registro inválido")
+    void naoDevePublicarNoDltQuandoLoteFalha() {
+        ConsumerRecord<String, Object> invalido = new ConsumerRecord<>(KafkaConfig.TOPIC_OS_EVENTS, 0, offset++,
+                "nao-e-uuid", Map.of());
+        invalido.headers().add("eventType", "OS_CRIADA".getBytes(StandardCharsets.UTF_8));
+        when(orcamentoService.criarEmLote(any())).thenThrow(new IllegalStateException("itens não processados"))
+                .thenReturn(List.of());
+        List<ConsumerRecord<String, Object>> records = List.of(invalido,
+                record(KafkaConfig.TOPIC_OS_EVENTS, UUID.randomUUID(), "OS_CRIADA", Map.of()));
+
+        assertThrows(IllegalStateException.class, () -> listener.consumeOSEvents(records, acknowledgment));
+        verifyNoInteractions(deadLetterRecoverer);
+
+        // Nova tentativa do lote pelo error handler: o inválido vai uma única vez
+        listener.consumeOSEvents(records, acknowledgment);
+
+        verify(deadLetterRecoverer, times(1)).accept(eq(invalido), any(IllegalArgumentException.class));
+        InOrder ordem = inOrder(deadLetterRecoverer, acknowledgment);
+        ordem.verify(deadLetterRecoverer).accept(eq(invalido), any());
+        ordem.verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve mandar para o DLT o registro que não desserializou, sem criar orçamento")
+    @SuppressWarnings("unchecked")
+    void deveMandarRegistroNaoDesserializadoParaDlt() {
+        UUID osInvalida = UUID.randomUUID();
+        UUID osValida = UUID.randomUUID();
+        ConsumerRecord<String, Object> invalido = desserializado(KafkaConfig.TOPIC_OS_EVENTS, osInvalida, "OS_CRIADA",
+                "{\"osId\":\"" + osInvalida + "\",\"clienteId\":\"nao-e-uuid\"}");
+        ConsumerRecord<String, Object> valido = desserializado(KafkaConfig.TOPIC_OS_EVENTS, osValida, "OS_CRIADA",
+                "{\"osId\":\"" + osValida + "\",\"clienteId\":\"" + UUID.randomUUID() + "\"}");
+        assertNull(invalido.value());
+
+        listener.consumeOSEvents(List.of(invalido, valido), acknowledgment);
+
+        verify(deadLetterRecoverer).accept(eq(invalido), any(DeserializationException.class));
+        ArgumentCaptor<List<CreateOrcamentoRequest>> criados = ArgumentCaptor.forClass(List.class);
+        verify(orcamentoService).criarEmLote(criados.capture());
+        assertEquals(List.of(osValida), criados.getValue().stream().map(CreateOrcamentoRequest::getOsId).toList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar registros já processados e registrar os tratados no lote")
+    @SuppressWarnings("unchecked")
+    void deveIgnorarRegistrosJaProcessados() {
+        UUID osProcessada = UUID.randomUUID();
+        UUID osNova = UUID.randomUUID();
+        ConsumerRecord<String, Object> reentregue = record(KafkaConfig.TOPIC_OS_EVENTS, osProcessada, "OS_CRIADA", Map.of());
+        ConsumerRecord<String, Object> novo = record(KafkaConfig.TOPIC_OS_EVENTS, osNova, "OS_CRIADA", Map.of());
+        ConsumerRecord<String, Object> status = record(KafkaConfig.TOPIC_OS_EVENTS, osNova, "STATUS_MUDADO", Map.of());
+        when(processedEventStore.jaProcessados(anyCollection()))
+                .thenReturn(Set.of(ProcessedEventStore.chave(reentregue)));
+
+        listener.consumeOSEvents(List.of(reentregue, novo, status), acknowledgment);
+
+        ArgumentCaptor<List<ConsumerRecord<String, Object>>> consultados = ArgumentCaptor.forClass(List.class);
+        verify(processedEventStore).jaProcessados(consultados.capture());
+        assertEquals(List.of(reentregue, novo), consultados.getValue());
+        ArgumentCaptor<List<CreateOrcamentoRequest>> criados = ArgumentCaptor.forClass(List.class);
+        verify(orcamentoService).criarEmLote(criados.capture());
+        assertEquals(List.of(osNova), criados.getValue().stream().map(CreateOrcamentoRequest::getOsId).toList());
+        verify(processedEventStore).registrarTodos(List.of(novo));
+        verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * Registro com o valor passado pelo deserializer do consumer
+     * (ErrorHandlingDeserializer + BillingEventDeserializer)
+     */
+    private ConsumerRecord<String, Object> desserializado(String topic, UUID osId, String eventType, String json) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("eventType", eventType.getBytes(StandardCharsets.UTF_8));
+        try (ErrorHandlingDeserializer<Object> deserializer =
+                new ErrorHandlingDeserializer<>(new BillingEventDeserializer())) {
+            Object value = deserializer.deserialize(topic, headers, json.getBytes(StandardCharsets.UTF_8));
+            return new ConsumerRecord<>(topic, 0, offset++, ConsumerRecord.NO_TIMESTAMP, TimestampType.NO_TIMESTAMP_TYPE,
+                    ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE, osId.toString(), value, headers, Optional.empty());
+        }
+    }
+
+    private ConsumerRecord<String, Object> record(String topic, UUID osId, String eventType, Object payload) {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(topic, 0, offset++, osId.toString(), payload);
+        record.headers().add("eventType", eventType.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.application.dto.CreateOrcamentoRequest;
+import br.com.grupo99.billingservice.application.service.OrcamentoApplicationService;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoJaExisteException;
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaBillingEventHandler - Testes unitários")
+class KafkaBillingEventHandlerTest {
+
+    @Mock
+    private OrcamentoApplicationService orcamentoService;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @InjectMocks
+    private KafkaBillingEventHandler handler;
+
+    @Test
+    @DisplayName("Deve criar o orçamento e registrar o evento como processado")
+    void deveCriarERegistrar() {
+        ConsumerRecord<String, Object> record = record(KafkaConfig.TOPIC_OS_EVENTS, "OS_CRIADA");
+
+        handler.handleOSEvent(record);
+
+        verify(orcamentoService).criar(any(CreateOrcamentoRequest.class));
+        verify(processedEventStore).registrar(record);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar nova entrega de evento já processado")
+    void deveIgnorarEventoJaProcessado() {
+        ConsumerRecord<String, Object> record = record(KafkaConfig.TOPIC_OS_EVENTS, "OS_CRIADA");
+        when(processedEventStore.jaProcessado(record)).thenReturn(true);
+
+        handler.handleOSEvent(record);
+
+        verifyNoInteractions(orcamentoService);
+        verify(processedEventStore, never()).registrar(any());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar o evento quando o tratamento falha")
+    void naoDeveRegistrarQuandoTratamentoFalha() {
+        ConsumerRecord<String, Object> record = record(KafkaConfig.TOPIC_OS_EVENTS, "OS_CRIADA");
+        when(orcamentoService.criar(any(CreateOrcamentoRequest.class)))
+                .thenThrow(new IllegalStateException("DynamoDB indisponível"));
+
+        assertThrows(IllegalStateException.class, () -> handler.handleOSEvent(record));
+
+        verify(processedEventStore, never()).registrar(any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar OS_CRIADA de OS que já tem orçamento e registrar o evento")
+    void deveIgnorarOrcamentoJaExistente() {
+        ConsumerRecord<String, Object> record = record(KafkaConfig.TOPIC_OS_EVENTS, "OS_CRIADA");
+        when(orcamentoService.criar(any(CreateOrcamentoRequest.class)))
+                .thenThrow(new OrcamentoJaExisteException(UUID.fromString(record.key())));
+
+        assertDoesNotThrow(() -> handler.handleOSEvent(record));
+
+        verify(processedEventStore).registrar(record);
+    }
+
+    @Test
+    @DisplayName("Não deve tratar outro IllegalArgumentException como duplicado")
+    void naoDeveTratarOutroIllegalArgumentComoDuplicado() {
+        ConsumerRecord<String, Object> record = record(KafkaConfig.TOPIC_OS_EVENTS, "OS_CRIADA");
+        when(orcamentoService.criar(any(CreateOrcamentoRequest.class)))
+                .thenThrow(new IllegalArgumentException("OS ID não pode ser nulo"));
+
+        assertThrows(IllegalArgumentException.class, () -> handler.handleOSEvent(record));
+
+        verify(processedEventStore, never()).registrar(any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha de execução tratada")
+    void deveRegistrarFalhaDeExecucao() {
+        UUID osId = UUID.randomUUID();
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(KafkaConfig.TOPIC_EXECUTION_EVENTS, 0, 0L,
+                osId.toString(), Map.of("motivo", "Peça indisponível"));
+        record.headers().add("eventType", "EXECUCAO_FALHOU".getBytes(StandardCharsets.UTF_8));
+
+        handler.handleExecutionEvent(record);
+
+        verify(orcamentoService).cancelarPorOs(osId, "Execução falhou: Peça indisponível");
+        verify(processedEventStore).registrar(record);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o registro para eventos sem efeito")
+    void naoDeveConsultarParaEventosSemEfeito() {
+        handler.handleOSEvent(record(KafkaConfig.TOPIC_OS_EVENTS, "STATUS_MUDADO"));
+        handler.handleExecutionEvent(record(KafkaConfig.TOPIC_EXECUTION_EVENTS, "EXECUCAO_CONCLUIDA"));
+
+        verifyNoInteractions(processedEventStore, orcamentoService);
+    }
+
+    private static ConsumerRecord<String, Object> record(String topic, String eventType) {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(topic, 0, 0L, UUID.randomUUID().toString(),
+                Map.of());
+        record.headers().add("eventType", eventType.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -43,7 +44,7 @@ import static org.awaitility.Awaitility.await;
  */
 @SpringBootTest
 @ActiveProfiles("test")
-@EmbeddedKafka(partitions = 1, brokerProperties = { "listeners=PLAINTEXT://localhost:9092", "port=9092" }, topics = {
+@EmbeddedKafka(partitions = 1, topics = {
                 KafkaConfig.TOPIC_BILLING_EVENTS, KafkaConfig.TOPIC_OS_EVENTS, KafkaConfig.TOPIC_EXECUTION_EVENTS })
 @TestPropertySource(properties = {
                 "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
@@ -57,7 +58,8 @@ class KafkaBillingEventPublisherTest {
         @MockBean
         private DynamoDbClient dynamoDbClient;
 
-        @MockBean
+        // Deep stubs: os repositórios resolvem tabelas e índices no construtor
+        @MockBean(answer = Answers.RETURNS_DEEP_STUBS)
         private DynamoDbEnhancedClient dynamoDbEnhancedClient;
 
         @Autowired
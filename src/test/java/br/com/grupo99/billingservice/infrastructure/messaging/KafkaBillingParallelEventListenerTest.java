@@ -0,0 +1,112 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaBillingParallelEventListener - Testes unitários")
+class KafkaBillingParallelEventListenerTest {
+
+    private static final int LANES = 4;
+
+    // Chaves fixas em lanes distintas com 4 lanes (ver deveUsarChavesEmLanesDistintas)
+    private static final UUID OS_LANE_1 = UUID.fromString("3f1c2a9e-0b7d-4e52-9a61-1d2e3f4a5b60");
+    private static final UUID OS_LANE_2 = UUID.fromString("3f1c2a9e-0b7d-4e52-9a61-1d2e3f4a5b61");
+    private static final UUID OS_LANE_3 = UUID.fromString("3f1c2a9e-0b7d-4e52-9a61-1d2e3f4a5b62");
+
+    @Mock
+    private KafkaBillingEventHandler eventHandler;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private KafkaBillingParallelEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new KafkaBillingParallelEventListener(eventHandler, LANES);
+    }
+
+    @Test
+    @DisplayName("As chaves dos testes devem cair em lanes distintas")
+    void deveUsarChavesEmLanesDistintas() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(LANES);
+
+        assertEquals(3, Stream.of(OS_LANE_1, OS_LANE_2, OS_LANE_3)
+                .map(osId -> dispatcher.lane(osId.toString()))
+                .distinct()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Deve tratar todos os registros do lote e confirmar uma vez")
+    void deveTratarTodosEConfirmar() {
+        List<ConsumerRecord<String, Object>> records = List.of(
+                record(0, OS_LANE_1), record(1, OS_LANE_2), record(2, OS_LANE_3));
+
+        listener.consumeOSEvents(records, acknowledgment);
+
+        records.forEach(record -> verify(eventHandler).handleOSEvent(record));
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o lote no índice que falhou sem confirmar")
+    void deveEncerrarNoIndiceQueFalhou() {
+        ConsumerRecord<String, Object> ok = record(0, OS_LANE_1);
+        ConsumerRecord<String, Object> falha = record(1, OS_LANE_2);
+        RuntimeException erro = new RuntimeException("DynamoDB indisponível");
+        // lenient: a lane do registro ok chama o handler com outro argumento
+        lenient().doThrow(erro).when(eventHandler).handleExecutionEvent(falha);
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> listener.consumeExecutionEvents(List.of(ok, falha), acknowledgment));
+
+        assertEquals(1, exception.getIndex());
+        assertSame(erro, exception.getCause());
+        verify(eventHandler).handleExecutionEvent(ok);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve processar a mesma chave em ordem e parar a lane no registro que falhou")
+    void deveProcessarMesmaChaveEmOrdem() {
+        ConsumerRecord<String, Object> primeiro = record(0, OS_LANE_1);
+        ConsumerRecord<String, Object> falha = record(1, OS_LANE_1);
+        ConsumerRecord<String, Object> depois = record(2, OS_LANE_1);
+        RuntimeException erro = new RuntimeException("DynamoDB indisponível");
+        lenient().doThrow(erro).when(eventHandler).handleOSEvent(falha);
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> listener.consumeOSEvents(List.of(primeiro, falha, depois), acknowledgment));
+
+        assertEquals(1, exception.getIndex());
+        assertSame(erro, exception.getCause());
+        InOrder ordem = inOrder(eventHandler);
+        ordem.verify(eventHandler).handleOSEvent(primeiro);
+        ordem.verify(eventHandler).handleOSEvent(falha);
+        verify(eventHandler, never()).handleOSEvent(depois);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private static ConsumerRecord<String, Object> record(long offset, UUID osId) {
+        return new ConsumerRecord<>(KafkaConfig.TOPIC_OS_EVENTS, 0, offset, osId.toString(), Map.of());
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeyOrderedDispatcher - Testes unitários")
+class KeyOrderedDispatcherTest {
+
+    @Test
+    @DisplayName("Deve processar os registros de cada chave na ordem do lote")
+    void deveManterOrdemPorChave() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(4);
+        List<ConsumerRecord<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            records.add(record(i, "os-" + (i % 7)));
+        }
+        Map<String, List<Long>> processados = new ConcurrentHashMap<>();
+
+        KeyOrderedDispatcher.Falha falha = dispatcher.dispatch(records, record -> processados
+                .computeIfAbsent(record.key(), key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(record.offset()));
+
+        assertNull(falha);
+        assertEquals(7, processados.size());
+        processados.values().forEach(offsets -> {
+            List<Long> ordenados = new ArrayList<>(offsets);
+            Collections.sort(ordenados);
+            assertEquals(ordenados, offsets);
+        });
+        assertEquals(200, processados.values().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    @DisplayName("Deve processar chaves de lanes diferentes em paralelo")
+    void deveProcessarLanesEmParalelo() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(8);
+        List<ConsumerRecord<String, Object>> records = List.of(record(0, "a"), record(1, "b"));
+        assertNotEquals(dispatcher.lane("a"), dispatcher.lane("b"));
+        // Cada registro espera o outro começar: só termina se as lanes rodarem juntas
+        CountDownLatch emAndamento = new CountDownLatch(2);
+
+        KeyOrderedDispatcher.Falha falha = dispatcher.dispatch(records, record -> {
+            emAndamento.countDown();
+            try {
+                assertTrue(emAndamento.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertNull(falha);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a menor falha e não processar registros seguintes da mesma lane")
+    void deveDevolverMenorFalha() {
+        KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(1);
+        RuntimeException erro = new RuntimeException("DynamoDB indisponível");
+        AtomicInteger processados = new AtomicInteger();
+
+        KeyOrderedDispatcher.Falha falha = dispatcher.dispatch(
+                List.of(record(0, "a"), record(1, "b"), record(2, "a"), record(3, "c")),
+                record -> {
+                    if (record.offset() == 1) {
+                        throw erro;
+                    }
+                    processados.incrementAndGet();
+                });
+
+        assertNotNull(falha);
+        assertEquals(1, falha.index());
+        assertSame(erro, falha.cause());
+        assertEquals(1, processados.get());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar quantidade de lanes menor que um")
+    void deveRejeitarLanesInvalidas() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyOrderedDispatcher(0));
+    }
+
+    private static ConsumerRecord<String, Object> record(long offset, String key) {
+        return new ConsumerRecord<>("os-events", 0, offset, key, Map.of());
+    }
+}
@@ -0,0 +1,244 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.adapter.OutboxEventMapper;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.NotEnoughReplicasException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay - Testes Unitários")
+class OutboxRelayTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(10);
+
+    @Mock
+    private DynamoDbOutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxEventMapper mapper;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepository, mapper, kafkaTemplate, meterRegistry, 3, LEASE, 2);
+        lenient().when(mapper.toRecord(any(OutboxEventEntity.class)))
+                .thenAnswer(inv -> new ProducerRecord<String, Object>("billing-events",
+                        inv.<OutboxEventEntity>getArgument(0).getEventId(), "payload"));
+    }
+
+    @Test
+    @DisplayName("Deve publicar e remover todos os eventos do shard")
+    void devePublicarERemoverEventos() {
+        List<OutboxEventEntity> lote = List.of(evento(), evento());
+        when(outboxRepository.adquirirLease(eq("2"), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes("2", 3)).thenReturn(lote);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sucesso());
+
+        assertEquals(2, relay.drenarShard("2"));
+
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+        verify(outboxRepository).deleteAll(lote);
+    }
+
+    @Test
+    @DisplayName("Deve continuar lendo enquanto o lote vier cheio")
+    void deveContinuarComLoteCheio() {
+        List<OutboxEventEntity> cheio = List.of(evento(), evento(), evento());
+        List<OutboxEventEntity> resto = List.of(evento());
+        when(outboxRepository.adquirirLease(eq("0"), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes("0", 3)).thenReturn(cheio, resto);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sucesso());
+
+        assertEquals(4, relay.drenarShard("0"));
+
+        verify(outboxRepository).deleteAll(cheio);
+        verify(outboxRepository).deleteAll(resto);
+    }
+
+    @Test
+    @DisplayName("Deve remover só o prefixo confirmado e parar na primeira falha")
+    void deveRemoverSoPrefixoConfirmado() {
+        OutboxEventEntity e1 = evento();
+        OutboxEventEntity e2 = evento();
+        OutboxEventEntity e3 = evento();
+        when(outboxRepository.adquirirLease(eq("1"), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes("1", 3)).thenReturn(List.of(e1, e2, e3));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(sucesso(), CompletableFuture.failedFuture(new IllegalStateException("broker")), sucesso());
+
+        assertEquals(1, relay.drenarShard("1"));
+
+        verify(outboxRepository).deleteAll(List.of(e1));
+        verify(outboxRepository, times(1)).findPendentes("1", 3);
+    }
+
+    @Test
+    @DisplayName("Não deve ler o shard sem o lease")
+    void naoDeveLerShardSemLease() {
+        when(outboxRepository.adquirirLease(eq("4"), anyString(), eq(LEASE))).thenReturn(false);
+
+        assertEquals(0, relay.drenarShard("4"));
+
+        verify(outboxRepository, never()).findPendentes(anyString(), anyInt());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Não deve renovar lease ainda na primeira metade da validade")
+    void naoDeveRenovarLeaseRecente() {
+        when(outboxRepository.adquirirLease(eq("6"), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes("6", 3)).thenReturn(List.of());
+
+        relay.drenarShard("6");
+        relay.drenarShard("6");
+
+        verify(outboxRepository, times(1)).adquirirLease(eq("6"), anyString(), eq(LEASE));
+        verify(outboxRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("Deve seguir para os demais shards quando um falha")
+    void deveSeguirQuandoShardFalha() {
+        when(outboxRepository.adquirirLease(anyString(), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes(anyString(), eq(3))).thenReturn(List.of());
+        when(outboxRepository.findPendentes("0", 3)).thenThrow(new IllegalStateException("dynamo"));
+
+        assertDoesNotThrow(() -> relay.drenar());
+
+        verify(outboxRepository, times(OutboxEventEntity.SHARDS)).findPendentes(anyString(), eq(3));
+    }
+
+    @Test
+    @DisplayName("Deve liberar os leases adquiridos ao encerrar")
+    void deveLiberarLeasesAoEncerrar() {
+        when(outboxRepository.adquirirLease(eq("3"), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes("3", 3)).thenReturn(List.of());
+        relay.drenarShard("3");
+
+        relay.liberarLeases();
+
+        verify(outboxRepository).liberarLease(eq("3"), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar batch-size não positivo")
+    void deveRejeitarBatchSizeInvalido() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OutboxRelay(outboxRepository, mapper, kafkaTemplate, meterRegistry, 0, LEASE, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OutboxRelay(outboxRepository, mapper, kafkaTemplate, meterRegistry, 3, LEASE, 0));
+    }
+
+    @Test
+    @DisplayName("Deve estacionar evento ilegível após o limite de tentativas e seguir o shard")
+    void deveEstacionarEventoIlegivel() {
+        OutboxEventEntity ilegivel = evento();
+        OutboxEventEntity seguinte = evento();
+        when(outboxRepository.adquirirLease(eq("5"), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes("5", 3))
+                .thenReturn(List.of(ilegivel, seguinte), List.of(ilegivel, seguinte), List.of(seguinte));
+        when(mapper.toRecord(ilegivel)).thenThrow(new IllegalStateException("Evento do outbox ilegível"));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sucesso());
+
+        assertEquals(0, relay.drenarShard("5"));
+        verify(outboxRepository, never()).estacionar(any());
+
+        assertEquals(0, relay.drenarShard("5"));
+        verify(outboxRepository).estacionar(ilegivel);
+        assertEquals(1.0, meterRegistry.counter("outbox.relay.events.parked",
+                "service", "billing-service", "topic", "billing-events").count());
+
+        assertEquals(1, relay.drenarShard("5"));
+        verify(outboxRepository).deleteAll(List.of(seguinte));
+    }
+
+    @Test
+    @DisplayName("Não deve estacionar evento com falha retentável do broker")
+    void naoDeveEstacionarFalhaRetentavel() {
+        when(outboxRepository.adquirirLease(eq("7"), anyString(), eq(LEASE))).thenReturn(true);
+        when(outboxRepository.findPendentes("7", 3)).thenReturn(List.of(evento()));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new NotEnoughReplicasException("broker")));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, relay.drenarShard("7"));
+        }
+
+        verify(outboxRepository, never()).estacionar(any());
+        verify(outboxRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("Não deve remover os publicados quando o lease é perdido durante o lote")
+    void naoDeveRemoverSemLease() {
+        // Lease sem validade: toda verificação vai ao DynamoDB
+        relay = new OutboxRelay(outboxRepository, mapper, kafkaTemplate, meterRegistry, 3, Duration.ZERO, 2);
+        when(outboxRepository.adquirirLease(eq("2"), anyString(), eq(Duration.ZERO))).thenReturn(true, false);
+        when(outboxRepository.findPendentes("2", 3)).thenReturn(List.of(evento()));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sucesso());
+
+        assertEquals(0, relay.drenarShard("2"));
+
+        verify(outboxRepository, times(2)).adquirirLease(eq("2"), anyString(), eq(Duration.ZERO));
+        verify(outboxRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("Deve parar de aguardar confirmações no prazo do lease")
+    void deveRespeitarPrazoDoLease() {
+        relay = new OutboxRelay(outboxRepository, mapper, kafkaTemplate, meterRegistry, 3, Duration.ZERO, 2);
+        when(outboxRepository.adquirirLease(eq("1"), anyString(), eq(Duration.ZERO))).thenReturn(true);
+        when(outboxRepository.findPendentes("1", 3)).thenReturn(List.of(evento()));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertEquals(0, relay.drenarShard("1")));
+
+        verify(outboxRepository, never()).deleteAll(any());
+        verify(outboxRepository, never()).estacionar(any());
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> sucesso() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static OutboxEventEntity evento() {
+        UUID eventId = UUID.randomUUID();
+        Instant createdAt = Instant.now();
+        return OutboxEventEntity.builder()
+                .shard("0")
+                .sequencia(OutboxEventEntity.sequencia(createdAt, eventId))
+                .eventId(eventId.toString())
+                .createdAt(createdAt)
+                .build();
+    }
+}
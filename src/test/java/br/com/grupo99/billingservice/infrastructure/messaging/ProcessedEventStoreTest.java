@@ -0,0 +1,122 @@
+package br.com.grupo99.billingservice.infrastructure.messaging;
+
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbProcessedEventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessedEventStore - Testes unitários")
+class ProcessedEventStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+
+    @Mock
+    private DynamoDbProcessedEventRepository repository;
+
+    private Cache<String, Boolean> cache;
+
+    private ProcessedEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().maximumSize(100).build();
+        store = new ProcessedEventStore(repository, cache, TTL, true);
+    }
+
+    @Test
+    @DisplayName("Deve usar o header eventId como chave e, sem ele, topic:partition:offset")
+    void deveMontarChave() {
+        ConsumerRecord<String, Object> comEventId = record(7);
+        comEventId.headers().add("eventId", "evt-1".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("evt-1", ProcessedEventStore.chave(comEventId));
+        assertEquals(KafkaConfig.TOPIC_OS_EVENTS + ":2:7", ProcessedEventStore.chave(record(7)));
+    }
+
+    @Test
+    @DisplayName("Deve responder pelo cache sem consultar o DynamoDB")
+    void deveResponderPeloCache() {
+        cache.put(ProcessedEventStore.chave(record(1)), Boolean.TRUE);
+
+        assertTrue(store.jaProcessado(record(1)));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve consultar em lote só as chaves fora do cache e guardar as encontradas")
+    void deveConsultarSoChavesForaDoCache() {
+        cache.put(ProcessedEventStore.chave(record(1)), Boolean.TRUE);
+        String chave2 = ProcessedEventStore.chave(record(2));
+        String chave3 = ProcessedEventStore.chave(record(3));
+        when(repository.findExistentes(Set.of(chave2, chave3))).thenReturn(Set.of(chave2));
+
+        Set<String> processados = store.jaProcessados(List.of(record(1), record(2), record(3)));
+
+        assertEquals(Set.of(ProcessedEventStore.chave(record(1)), chave2), processados);
+        assertEquals(Boolean.TRUE, cache.getIfPresent(chave2));
+        assertNull(cache.getIfPresent(chave3));
+    }
+
+    @Test
+    @DisplayName("Deve tratar como novos quando o DynamoDB falha na consulta")
+    void deveTratarComoNovosQuandoConsultaFalha() {
+        when(repository.findExistentes(anyCollection())).thenThrow(new RuntimeException("DynamoDB indisponível"));
+
+        assertFalse(store.jaProcessado(record(1)));
+    }
+
+    @Test
+    @DisplayName("Deve registrar no DynamoDB com o TTL e depois no cache")
+    void deveRegistrar() {
+        store.registrarTodos(List.of(record(1), record(1), record(2)));
+
+        String chave1 = ProcessedEventStore.chave(record(1));
+        String chave2 = ProcessedEventStore.chave(record(2));
+        verify(repository).saveAll(List.of(chave1, chave2), TTL);
+        assertTrue(store.jaProcessado(record(1)));
+        assertTrue(store.jaProcessado(record(2)));
+    }
+
+    @Test
+    @DisplayName("Deve manter no cache mesmo quando o DynamoDB falha no registro")
+    void deveManterNoCacheQuandoRegistroFalha() {
+        doThrow(new RuntimeException("DynamoDB indisponível")).when(repository).saveAll(anyCollection(), any());
+
+        assertDoesNotThrow(() -> store.registrar(record(1)));
+        assertTrue(store.jaProcessado(record(1)));
+    }
+
+    @Test
+    @DisplayName("Não deve consultar nem registrar quando desabilitado")
+    void naoDeveFazerNadaQuandoDesabilitado() {
+        ProcessedEventStore desabilitado = new ProcessedEventStore(repository, cache, TTL, false);
+
+        desabilitado.registrar(record(1));
+
+        assertFalse(desabilitado.jaProcessado(record(1)));
+        verifyNoInteractions(repository);
+    }
+
+    private static ConsumerRecord<String, Object> record(long offset) {
+        return new ConsumerRecord<>(KafkaConfig.TOPIC_OS_EVENTS, 2, offset, "os-1", Map.of());
+    }
+}
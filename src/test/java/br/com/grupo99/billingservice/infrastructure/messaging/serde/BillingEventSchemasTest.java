@@ -0,0 +1,102 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Os schemas são escritos à mão: estes testes os amarram às classes de
+ * domain.events, para um campo novo ou reordenado na classe quebrar o build
+ * em vez de sumir da mensagem.
+ */
+@DisplayName("BillingEventSchemas - Testes Unitários")
+class BillingEventSchemasTest {
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Test
+    @DisplayName("Deve ter os campos de cada schema na ordem dos campos declarados da classe")
+    void deveTerCamposDaClasseNaOrdem() {
+        for (EventSchema<?> schema : BillingEventSchemas.TODOS) {
+            List<String> declarados = camposDeclarados(schema.type()).stream().map(Field::getName).toList();
+
+            assertEquals(declarados, schema.fieldNames(), schema.eventType());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON do ObjectMapper com todos os campos preenchidos")
+    void deveGerarMesmoJsonComCamposPreenchidos() throws Exception {
+        for (EventSchema<?> schema : BillingEventSchemas.TODOS) {
+            assertMesmoJson(schema, preenchido(schema.type()));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON do ObjectMapper com os campos nulos")
+    void deveGerarMesmoJsonComCamposNulos() throws Exception {
+        for (EventSchema<?> schema : BillingEventSchemas.TODOS) {
+            assertMesmoJson(schema, schema.type().getDeclaredConstructor().newInstance());
+        }
+    }
+
+    private <T> void assertMesmoJson(EventSchema<T> schema, Object evento) throws Exception {
+        assertArrayEquals(objectMapper.writeValueAsBytes(evento), schema.toJson(schema.type().cast(evento)),
+                schema.eventType());
+    }
+
+    private static List<Field> camposDeclarados(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .toList();
+    }
+
+    /**
+     * Helper: instância com um valor não nulo em cada campo declarado
+     */
+    private static Object preenchido(Class<?> type) throws Exception {
+        Object evento = type.getDeclaredConstructor().newInstance();
+        for (Field field : camposDeclarados(type)) {
+            field.setAccessible(true);
+            field.set(evento, valor(field));
+        }
+        return evento;
+    }
+
+    private static Object valor(Field field) {
+        Class<?> type = field.getType();
+        if (type == UUID.class) {
+            return UUID.randomUUID();
+        }
+        if (type == String.class) {
+            return field.getName() + " \"ç\"";
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal("1250.90");
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2026, 3, 10, 12, 30, 45, 123_456_789);
+        }
+        if (type == Integer.class || type == int.class) {
+            return 7;
+        }
+        if (type == Long.class || type == long.class) {
+            return 42L;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.TRUE;
+        }
+        throw new IllegalArgumentException("Tipo sem valor de teste: " + type + " em " + field);
+    }
+}
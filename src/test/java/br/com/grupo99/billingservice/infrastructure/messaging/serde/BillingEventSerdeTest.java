@@ -0,0 +1,259 @@
+package br.com.grupo99.billingservice.infrastructure.messaging.serde;
+
+import br.com.grupo99.billingservice.domain.events.DiagnosticoConcluidoEvent;
+import br.com.grupo99.billingservice.domain.events.ExecucaoFalhouEvent;
+import br.com.grupo99.billingservice.domain.events.OSCanceladaEvent;
+import br.com.grupo99.billingservice.domain.events.OSCriadaEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoProntoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BillingEventSerializer/Deserializer - Testes Unitários")
+class BillingEventSerdeTest {
+
+    private static final String TOPIC = "billing-events";
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+    private final BillingEventSerializer json = new BillingEventSerializer(BillingEventSerializer.FORMAT_JSON);
+    private final BillingEventSerializer binario = new BillingEventSerializer(BillingEventSerializer.FORMAT_BINARY);
+    private final BillingEventDeserializer deserializer = new BillingEventDeserializer();
+
+    @Nested
+    @DisplayName("JSON")
+    class Json {
+
+        @Test
+        @DisplayName("Deve gerar o mesmo JSON do ObjectMapper do JsonSerializer")
+        void deveGerarMesmoJsonDoObjectMapper() throws Exception {
+            for (Object evento : eventos()) {
+                assertArrayEquals(objectMapper.writeValueAsBytes(evento), json.serialize(TOPIC, evento),
+                        evento.getClass().getSimpleName());
+            }
+        }
+
+        @Test
+        @DisplayName("Deve ler JSON do JsonSerializer na classe do evento pelo header eventType")
+        void deveLerJsonNaClasseDoEvento() throws Exception {
+            for (Object evento : eventos()) {
+                byte[] data = objectMapper.writeValueAsBytes(evento);
+
+                assertEquals(evento, deserializer.deserialize(TOPIC, headers(evento), data));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve aceitar data ISO-8601 e ignorar propriedades desconhecidas")
+        void deveAceitarDataIsoEIgnorarDesconhecidos() {
+            UUID osId = UUID.randomUUID();
+            String data = "{\"osId\":\"" + osId + "\",\"descricao\":\"Troca de óleo\","
+                    + "\"prioridade\":{\"nivel\":[1,2]},\"timestamp\":\"2026-03-10T12:30:45\"}";
+
+            Object evento = deserializer.deserialize(TOPIC, headers("OS_CRIADA"), data.getBytes(StandardCharsets.UTF_8));
+
+            OSCriadaEvent esperado = new OSCriadaEvent(osId, null, null, "Troca de óleo",
+                    LocalDateTime.of(2026, 3, 10, 12, 30, 45), "OS_CRIADA");
+            assertEquals(esperado, evento);
+        }
+
+        @Test
+        @DisplayName("Deve desserializar em Map o evento sem schema")
+        void deveDesserializarEmMapSemSchema() {
+            byte[] data = "{\"status\":\"EM_EXECUCAO\"}".getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(Map.of("status", "EM_EXECUCAO"), deserializer.deserialize(TOPIC, headers("STATUS_MUDADO"), data));
+            assertEquals(Map.of("status", "EM_EXECUCAO"), deserializer.deserialize(TOPIC, data));
+        }
+
+        @Test
+        @DisplayName("Deve substituir o header de tipo como o JsonSerializer")
+        void deveSubstituirHeaderDeTipo() {
+            Headers headers = new RecordHeaders();
+            headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, "java.util.HashMap".getBytes(StandardCharsets.UTF_8));
+
+            json.serialize(TOPIC, headers, eventos().get(0));
+
+            assertEquals(1, headers.toArray().length);
+            assertEquals(OrcamentoProntoEvent.class.getName(), new String(
+                    headers.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME).value(), StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Deve serializar valor sem schema pelo ObjectMapper")
+        void deveSerializarValorSemSchema() {
+            byte[] data = json.serialize(TOPIC, Map.of("motivo", "DLT"));
+
+            assertEquals("{\"motivo\":\"DLT\"}", new String(data, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Deve reenviar sem alteração o payload que não desserializou")
+        void deveReenviarBytesSemAlteracao() {
+            byte[] original = "{\"clienteId\":\"nao-e-uuid\"}".getBytes(StandardCharsets.UTF_8);
+
+            assertSame(original, json.serialize(TOPIC, new RecordHeaders(), original));
+        }
+
+        @Test
+        @DisplayName("Deve lançar SerializationException para JSON inválido")
+        void deveRejeitarJsonInvalido() {
+            byte[] data = "{\"osId\":\"nao-e-uuid\"}".getBytes(StandardCharsets.UTF_8);
+
+            assertThrows(SerializationException.class,
+                    () -> deserializer.deserialize(TOPIC, headers("OS_CANCELADA"), data));
+            assertThrows(SerializationException.class,
+                    () -> deserializer.deserialize(TOPIC, headers("OS_CANCELADA"), "[]".getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Binário")
+    class Binario {
+
+        @Test
+        @DisplayName("Deve fazer ida e volta de todos os schemas sem depender de headers")
+        void deveFazerIdaEVolta() {
+            for (Object evento : eventos()) {
+                byte[] data = binario.serialize(TOPIC, evento);
+
+                assertTrue(BillingEventCodec.isBinary(data));
+                assertEquals(evento, deserializer.deserialize(TOPIC, data), evento.getClass().getSimpleName());
+            }
+        }
+
+        @Test
+        @DisplayName("Deve ser menor que o JSON e não enviar header de tipo")
+        void deveSerMenorQueJson() {
+            for (Object evento : eventos()) {
+                Headers headers = new RecordHeaders();
+                byte[] data = binario.serialize(TOPIC, headers, evento);
+
+                assertTrue(data.length * 2 < json.serialize(TOPIC, evento).length, evento.getClass().getSimpleName());
+                assertNull(headers.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve pular campos de uma versão mais nova do schema")
+        void devePularCamposDeVersaoNova() {
+            EventSchema<OSCanceladaEvent> v2 = EventSchema
+                    .builder(11, "OS_CANCELADA", OSCanceladaEvent.class, OSCanceladaEvent::new)
+                    .version(2)
+                    .field("osId", FieldType.ID, OSCanceladaEvent::getOsId, OSCanceladaEvent::setOsId)
+                    .field("motivo", FieldType.TEXTO, OSCanceladaEvent::getMotivo, OSCanceladaEvent::setMotivo)
+                    .field("timestamp", FieldType.DATA_HORA, OSCanceladaEvent::getTimestamp, OSCanceladaEvent::setTimestamp)
+                    .field("eventType", FieldType.TEXTO, OSCanceladaEvent::getEventType, OSCanceladaEvent::setEventType)
+                    .field("canceladoPor", FieldType.ID, evento -> UUID.randomUUID(), (evento, valor) -> {
+                    })
+                    .field("reembolso", FieldType.DECIMAL, evento -> new BigDecimal("10.50"), (evento, valor) -> {
+                    })
+                    .build();
+            OSCanceladaEvent evento = new OSCanceladaEvent(UUID.randomUUID(), "Cliente desistiu",
+                    LocalDateTime.of(2026, 3, 10, 12, 30), "OS_CANCELADA");
+
+            assertEquals(evento, deserializer.deserialize(TOPIC, BillingEventCodec.toBinary(v2, evento)));
+        }
+
+        @Test
+        @DisplayName("Deve manter o valor padrão nos campos que uma versão antiga não tem")
+        void deveManterPadraoEmCamposAusentes() {
+            EventSchema<OSCanceladaEvent> antigo = EventSchema
+                    .builder(11, "OS_CANCELADA", OSCanceladaEvent.class, OSCanceladaEvent::new)
+                    .field("osId", FieldType.ID, OSCanceladaEvent::getOsId, OSCanceladaEvent::setOsId)
+                    .build();
+            UUID osId = UUID.randomUUID();
+
+            OSCanceladaEvent evento = (OSCanceladaEvent) deserializer.deserialize(TOPIC,
+                    BillingEventCodec.toBinary(antigo, new OSCanceladaEvent(osId, null, null, null)));
+
+            assertEquals(osId, evento.getOsId());
+            assertNull(evento.getMotivo());
+            assertEquals("OS_CANCELADA", evento.getEventType());
+        }
+
+        @Test
+        @DisplayName("Deve lançar SerializationException para mensagem corrompida")
+        void deveRejeitarMensagemCorrompida() {
+            byte[] data = binario.serialize(TOPIC, eventos().get(0));
+            byte[] truncada = Arrays.copyOf(data, data.length - 3);
+            byte[] schemaDesconhecido = data.clone();
+            schemaDesconhecido[1] = (byte) 200;
+            byte[] tipoIncompativel = data.clone();
+            tipoIncompativel[4] = 2;
+
+            assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, truncada));
+            assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, schemaDesconhecido));
+            assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, tipoIncompativel));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler o formato da configuração do producer")
+    void deveLerFormatoDaConfiguracao() {
+        BillingEventSerializer serializer = new BillingEventSerializer();
+        serializer.configure(Map.of(BillingEventSerializer.FORMAT_CONFIG, "BINARY"), false);
+
+        assertTrue(BillingEventCodec.isBinary(serializer.serialize(TOPIC, eventos().get(0))));
+        assertThrows(ConfigException.class,
+                () -> serializer.configure(Map.of(BillingEventSerializer.FORMAT_CONFIG, "xml"), false));
+    }
+
+    @Test
+    @DisplayName("Deve manter null como null")
+    void deveManterNull() {
+        assertNull(json.serialize(TOPIC, null));
+        assertNull(deserializer.deserialize(TOPIC, null));
+    }
+
+    private static List<Object> eventos() {
+        UUID osId = UUID.randomUUID();
+        UUID orcamentoId = UUID.randomUUID();
+        LocalDateTime agora = LocalDateTime.now();
+        BigDecimal valor = new BigDecimal("1250.90");
+        return List.of(
+                OrcamentoProntoEvent.builder().orcamentoId(orcamentoId).osId(osId).valorTotal(valor).timestamp(agora)
+                        .build(),
+                OrcamentoAprovadoEvent.builder().orcamentoId(orcamentoId).osId(osId).valorTotal(valor)
+                        .aprovadoPor("cliente").timestamp(LocalDateTime.of(2026, 3, 10, 12, 0)).build(),
+                OrcamentoRejeitadoEvent.builder().orcamentoId(orcamentoId).osId(osId).motivo("Valor alto")
+                        .timestamp(LocalDateTime.of(2026, 3, 10, 12, 0, 5)).build(),
+                PagamentoFalhouEvent.builder().pagamentoId(UUID.randomUUID()).orcamentoId(orcamentoId).osId(osId)
+                        .motivo("Cartão recusado").codigoErro("MP-402").valorTentado(new BigDecimal("-0.001"))
+                        .timestamp(agora).build(),
+                new OSCriadaEvent(osId, UUID.randomUUID(), UUID.randomUUID(), "Revisão — 20 mil km", agora, "OS_CRIADA"),
+                new OSCanceladaEvent(osId, null, agora, "OS_CANCELADA"),
+                new DiagnosticoConcluidoEvent(osId, UUID.randomUUID(), "Pastilhas gastas",
+                        new BigDecimal("123456789012345678901234567890.12"), agora, "DIAGNOSTICO_CONCLUIDO"),
+                new ExecucaoFalhouEvent(osId, UUID.randomUUID(), "Peça indisponível", false, agora, "EXECUCAO_FALHOU"));
+    }
+
+    private static Headers headers(Object evento) {
+        return headers(BillingEventSchemas.porClasse(evento.getClass()).eventType());
+    }
+
+    private static Headers headers(String eventType) {
+        Headers headers = new RecordHeaders();
+        headers.add(BillingEventDeserializer.EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
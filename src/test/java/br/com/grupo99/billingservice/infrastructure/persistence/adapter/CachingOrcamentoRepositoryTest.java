@@ -0,0 +1,321 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingOrcamentoRepository - Testes Unitários")
+class CachingOrcamentoRepositoryTest {
+
+    @Mock
+    private OrcamentoRepository delegate;
+
+    private final OrcamentoEntityMapper mapper = new OrcamentoEntityMapper();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CachingOrcamentoRepository repository;
+    private UUID testId;
+    private Orcamento testOrcamento;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingOrcamentoRepository(delegate, mapper, Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(30))
+                .ticker(nanos::get)
+                .build(), Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(10))
+                .ticker(nanos::get)
+                .build());
+
+        testId = UUID.randomUUID();
+        testOrcamento = Orcamento.builder()
+                .id(testId)
+                .osId(UUID.randomUUID())
+                .status(StatusOrcamento.PENDENTE)
+                .valorTotal(new BigDecimal("500.00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve buscar no DynamoDB apenas na primeira leitura")
+    void deveBuscarNoDynamoApenasNaPrimeiraLeitura() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+
+        Optional<Orcamento> first = repository.findById(testId);
+        Optional<Orcamento> second = repository.findById(testId);
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(testId, second.get().getId());
+        verify(delegate, times(1)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve devolver uma instância nova a cada leitura")
+    void deveDevolverInstanciaNova() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+
+        Orcamento first = repository.findById(testId).orElseThrow();
+        first.setStatus(StatusOrcamento.APROVADO);
+        Orcamento second = repository.findById(testId).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(StatusOrcamento.PENDENTE, second.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar o snapshot cacheado entre findById e o read model")
+    void deveCompartilharSnapshotComReadModel() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+
+        repository.findById(testId);
+        var snapshot = repository.findSnapshot(testId);
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(testId.toString(), snapshot.get().getId());
+        assertSame(snapshot.get(), repository.findSnapshot(testId).orElseThrow());
+        verify(delegate, times(1)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve buscar histórico sempre no delegate, fora do cache")
+    void deveBuscarHistoricoForaDoCache() {
+        HistoricoStatus entrada = HistoricoStatus.criar(null, StatusOrcamento.PENDENTE, "system", "Orçamento gerado");
+        when(delegate.findHistorico(testId)).thenReturn(List.of(entrada));
+
+        assertEquals(List.of(entrada), repository.findHistorico(testId));
+        assertEquals(List.of(entrada), repository.findHistorico(testId));
+
+        verify(delegate, times(2)).findHistorico(testId);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear orçamento inexistente")
+    void naoDeveCachearAusencia() {
+        when(delegate.findById(testId)).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById(testId).isEmpty());
+        assertTrue(repository.findById(testId).isEmpty());
+
+        verify(delegate, times(2)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a chave ao salvar")
+    void deveInvalidarAoSalvar() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+        when(delegate.save(testOrcamento)).thenReturn(testOrcamento);
+
+        repository.findById(testId);
+        repository.save(testOrcamento);
+        repository.findById(testId);
+
+        verify(delegate, times(2)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a chave quando o save falha por conflito de versão")
+    void deveInvalidarQuandoSaveFalhaPorConflito() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+        when(delegate.save(testOrcamento)).thenThrow(new ConflitoDeVersaoException("conflito", null));
+
+        repository.findById(testId);
+        assertThrows(ConflitoDeVersaoException.class, () -> repository.save(testOrcamento));
+        repository.findById(testId);
+
+        verify(delegate, times(2)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a chave na transição de status, mesmo com conflito")
+    void deveInvalidarNaTransicaoDeStatus() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+        when(delegate.updateStatus(testOrcamento, StatusOrcamento.PENDENTE))
+                .thenReturn(testOrcamento)
+                .thenThrow(new ConflitoDeVersaoException("conflito", null));
+
+        repository.findById(testId);
+        repository.updateStatus(testOrcamento, StatusOrcamento.PENDENTE);
+        repository.findById(testId);
+        assertThrows(ConflitoDeVersaoException.class,
+                () -> repository.updateStatus(testOrcamento, StatusOrcamento.PENDENTE));
+        repository.findById(testId);
+
+        verify(delegate, times(3)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a chave na transição de status com evento")
+    void deveInvalidarNaTransicaoDeStatusComEvento() {
+        OrcamentoAprovadoEvent evento = OrcamentoAprovadoEvent.de(testOrcamento);
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+        when(delegate.updateStatus(testOrcamento, StatusOrcamento.PENDENTE, evento)).thenReturn(testOrcamento);
+
+        repository.findById(testId);
+        repository.updateStatus(testOrcamento, StatusOrcamento.PENDENTE, evento);
+        repository.findById(testId);
+
+        verify(delegate, times(2)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar as chaves ao salvar em lote")
+    void deveInvalidarAoSalvarEmLote() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+        when(delegate.saveAll(List.of(testOrcamento))).thenReturn(List.of(testOrcamento));
+
+        repository.findById(testId);
+        repository.saveAll(List.of(testOrcamento));
+        repository.findById(testId);
+
+        verify(delegate, times(2)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a chave ao deletar, mesmo com falha")
+    void deveInvalidarAoDeletar() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+        doThrow(new IllegalStateException("throttled")).when(delegate).deleteById(testId);
+
+        repository.findById(testId);
+        assertThrows(IllegalStateException.class, () -> repository.deleteById(testId));
+        repository.findById(testId);
+
+        verify(delegate, times(2)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve expirar entradas após o TTL")
+    void deveExpirarAposTtl() {
+        when(delegate.findById(testId)).thenReturn(Optional.of(testOrcamento));
+
+        repository.findById(testId);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        repository.findById(testId);
+
+        verify(delegate, times(2)).findById(testId);
+    }
+
+    @Test
+    @DisplayName("Deve publicar hits e misses no Micrometer")
+    void devePublicarEstatisticas() {
+        OrcamentoRepositoryAdapter adapter = mock(OrcamentoRepositoryAdapter.class);
+        when(adapter.findById(testId)).thenReturn(Optional.of(testOrcamento));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CachingOrcamentoRepository monitored = new CachingOrcamentoRepository(
+                adapter, mapper, registry, 100, Duration.ofSeconds(30), 100, Duration.ofSeconds(10));
+
+        monitored.findById(testId);
+        monitored.findById(testId);
+        monitored.findById(testId);
+
+        assertEquals(2, registry.get("cache.gets").tag("cache", CachingOrcamentoRepository.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count(), 0.001);
+        assertEquals(1, registry.get("cache.gets").tag("cache", CachingOrcamentoRepository.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Não deve cachear orçamento encontrado por osId")
+    void naoDeveCachearOrcamentoEncontradoPorOsId() {
+        UUID osId = testOrcamento.getOsId();
+        when(delegate.findByOsId(osId)).thenReturn(Optional.of(testOrcamento));
+
+        assertEquals(Optional.of(testOrcamento), repository.findByOsId(osId));
+        assertTrue(repository.existsByOsId(osId));
+        verify(delegate, times(2)).findByOsId(osId);
+    }
+
+    @Test
+    @DisplayName("Deve responder OS sem orçamento sem ir ao DynamoDB")
+    void deveResponderOsSemOrcamentoPeloCacheNegativo() {
+        UUID osId = UUID.randomUUID();
+        when(delegate.findByOsId(osId)).thenReturn(Optional.empty());
+
+        assertTrue(repository.findByOsId(osId).isEmpty());
+        assertTrue(repository.findByOsId(osId).isEmpty());
+        assertFalse(repository.existsByOsId(osId));
+
+        verify(delegate, times(1)).findByOsId(osId);
+    }
+
+    @Test
+    @DisplayName("Deve esquecer a OS sem orçamento quando um orçamento é salvo para ela")
+    void deveInvalidarCacheNegativoAoSalvar() {
+        UUID osId = testOrcamento.getOsId();
+        when(delegate.findByOsId(osId)).thenReturn(Optional.empty(), Optional.of(testOrcamento));
+        when(delegate.save(testOrcamento)).thenReturn(testOrcamento);
+
+        assertTrue(repository.findByOsId(osId).isEmpty());
+        repository.save(testOrcamento);
+
+        assertTrue(repository.findByOsId(osId).isPresent());
+        verify(delegate, times(2)).findByOsId(osId);
+    }
+
+    @Test
+    @DisplayName("Deve expirar o cache negativo após o TTL")
+    void deveExpirarCacheNegativo() {
+        UUID osId = UUID.randomUUID();
+        when(delegate.findByOsId(osId)).thenReturn(Optional.empty());
+
+        repository.findByOsId(osId);
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+        repository.findByOsId(osId);
+
+        verify(delegate, times(2)).findByOsId(osId);
+    }
+
+    @Test
+    @DisplayName("Deve buscar em lote só as OS fora do cache negativo e marcar as sem orçamento")
+    void deveBuscarEmLoteUsandoCacheNegativo() {
+        UUID osComOrcamento = testOrcamento.getOsId();
+        UUID osSemOrcamento = UUID.randomUUID();
+        UUID osJaConhecida = UUID.randomUUID();
+        when(delegate.findByOsId(osJaConhecida)).thenReturn(Optional.empty());
+        when(delegate.findAllByOsId(List.of(osComOrcamento, osSemOrcamento))).thenReturn(List.of(testOrcamento));
+
+        repository.findByOsId(osJaConhecida);
+        List<Orcamento> result = repository.findAllByOsId(List.of(osComOrcamento, osSemOrcamento, osJaConhecida));
+
+        assertEquals(List.of(testOrcamento), result);
+        assertTrue(repository.findByOsId(osSemOrcamento).isEmpty());
+        verify(delegate, never()).findByOsId(osSemOrcamento);
+    }
+
+    @Test
+    @DisplayName("Não deve ir ao DynamoDB quando todas as OS do lote estão no cache negativo")
+    void naoDeveBuscarEmLoteQuandoTodasSemOrcamento() {
+        UUID osId = UUID.randomUUID();
+        when(delegate.findByOsId(osId)).thenReturn(Optional.empty());
+
+        repository.findByOsId(osId);
+
+        assertTrue(repository.findAllByOsId(List.of(osId, osId)).isEmpty());
+        verify(delegate, never()).findAllByOsId(any());
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
 
 import br.com.grupo99.billingservice.domain.model.*;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.HistoricoOrcamentoEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -86,6 +87,7 @@ class OrcamentoEntityMapperTest {
                     .observacao("Teste")
                     .motivoRejeicao(null)
                     .historico(historico)
+                    .version(7L)
                     .build();
 
             OrcamentoEntity entity = mapper.toEntity(orcamento);
@@ -100,6 +102,7 @@ class OrcamentoEntityMapperTest {
             assertNull(entity.getDataRejeicao());
             assertEquals("Teste", entity.getObservacao());
             assertNull(entity.getMotivoRejeicao());
+            assertEquals(7L, entity.getVersion());
 
             // Itens
             assertEquals(2, entity.getItens().size());
@@ -108,12 +111,8 @@ class OrcamentoEntityMapperTest {
             assertEquals("Filtro de óleo", entity.getItens().get(1).getDescricao());
             assertEquals("PECA", entity.getItens().get(1).getTipo());
 
-            // Histórico
-            assertEquals(2, entity.getHistorico().size());
-            assertNull(entity.getHistorico().get(0).getStatusAnterior());
-            assertEquals("PENDENTE", entity.getHistorico().get(0).getNovoStatus());
-            assertEquals("PENDENTE", entity.getHistorico().get(1).getStatusAnterior());
-            assertEquals("APROVADO", entity.getHistorico().get(1).getNovoStatus());
+            // Histórico: só o contador fica no item
+            assertEquals(2, entity.getHistoricoCount());
         }
 
         @Test
@@ -131,7 +130,7 @@ class OrcamentoEntityMapperTest {
 
             assertNotNull(entity);
             assertTrue(entity.getItens().isEmpty());
-            assertTrue(entity.getHistorico().isEmpty());
+            assertEquals(0, entity.getHistoricoCount());
         }
 
         @Test
@@ -170,22 +169,74 @@ class OrcamentoEntityMapperTest {
         }
 
         @Test
-        @DisplayName("Deve converter historico com status anterior nulo")
-        void deveConverterHistoricoComStatusAnteriorNulo() {
+        @DisplayName("Deve usar o contador persistido quando o histórico não foi carregado")
+        void deveUsarContadorPersistido() {
             Orcamento orcamento = Orcamento.builder()
                     .id(UUID.randomUUID())
                     .status(StatusOrcamento.PENDENTE)
-                    .itens(new ArrayList<>())
-                    .historico(List.of(HistoricoStatus.builder()
-                            .statusAnterior(null)
-                            .novoStatus(null)
-                            .build()))
+                    .historicoCount(5)
                     .build();
 
-            OrcamentoEntity entity = mapper.toEntity(orcamento);
+            assertEquals(5, mapper.toEntity(orcamento).getHistoricoCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("toHistoricoEntities")
+    class ToHistoricoEntities {
+
+        @Test
+        @DisplayName("Deve converter entradas novas continuando a sequência persistida")
+        void deveConverterEntradasNovasContinuandoSequencia() {
+            UUID id = UUID.randomUUID();
+            Instant data = Instant.parse("2026-03-01T10:15:30.5Z");
+            Orcamento orcamento = Orcamento.builder()
+                    .id(id)
+                    .status(StatusOrcamento.APROVADO)
+                    .historico(new ArrayList<>(List.of(HistoricoStatus.builder()
+                            .statusAnterior(StatusOrcamento.PENDENTE)
+                            .novoStatus(StatusOrcamento.APROVADO)
+                            .usuario("admin")
+                            .observacao("Aprovado pelo cliente")
+                            .data(data)
+                            .build())))
+                    .historicoCount(3)
+                    .build();
+
+            List<HistoricoOrcamentoEntity> entities = mapper.toHistoricoEntities(orcamento);
+
+            assertEquals(1, entities.size());
+            HistoricoOrcamentoEntity entity = entities.get(0);
+            assertEquals(id.toString(), entity.getOrcamentoId());
+            assertEquals(2, entity.getSequencia());
+            assertEquals("2026-03-01T10:15:30.500000000Z#000002", entity.getTimestamp());
+            assertEquals("PENDENTE", entity.getStatusAnterior());
+            assertEquals("APROVADO", entity.getNovoStatus());
+            assertEquals("admin", entity.getUsuario());
+            assertEquals("Aprovado pelo cliente", entity.getObservacao());
+            assertEquals(data, entity.getData());
+        }
+
+        @Test
+        @DisplayName("Deve gerar timestamps em ordem cronológica lexicográfica")
+        void deveGerarTimestampsOrdenaveis() {
+            String inteiro = HistoricoOrcamentoEntity.timestamp(Instant.parse("2026-03-01T10:15:30Z"), 0);
+            String fracao = HistoricoOrcamentoEntity.timestamp(Instant.parse("2026-03-01T10:15:30.5Z"), 1);
+
+            assertTrue(inteiro.compareTo(fracao) < 0);
+        }
+
+        @Test
+        @DisplayName("Deve retornar lista vazia sem entradas novas")
+        void deveRetornarVazioSemEntradasNovas() {
+            Orcamento orcamento = Orcamento.builder()
+                    .id(UUID.randomUUID())
+                    .historico(null)
+                    .historicoCount(4)
+                    .build();
 
-            assertNull(entity.getHistorico().get(0).getStatusAnterior());
-            assertNull(entity.getHistorico().get(0).getNovoStatus());
+            assertTrue(mapper.toHistoricoEntities(orcamento).isEmpty());
+            assertTrue(mapper.toHistoricoEntities(null).isEmpty());
         }
     }
 
@@ -222,22 +273,6 @@ class OrcamentoEntityMapperTest {
                             .tipo("PECA")
                             .build());
 
-            List<OrcamentoEntity.HistoricoStatusEntity> historicoEntity = List.of(
-                    OrcamentoEntity.HistoricoStatusEntity.builder()
-                            .statusAnterior(null)
-                            .novoStatus("PENDENTE")
-                            .usuario("system")
-                            .observacao("Criado")
-                            .data(now)
-                            .build(),
-                    OrcamentoEntity.HistoricoStatusEntity.builder()
-                            .statusAnterior("PENDENTE")
-                            .novoStatus("REJEITADO")
-                            .usuario("cliente")
-                            .observacao("Muito caro")
-                            .data(now)
-                            .build());
-
             OrcamentoEntity entity = OrcamentoEntity.builder()
                     .id(id.toString())
                     .osId(osId.toString())
@@ -249,13 +284,15 @@ class OrcamentoEntityMapperTest {
                     .dataRejeicao(now)
                     .observacao("Obs teste")
                     .motivoRejeicao("Muito caro")
-                    .historico(historicoEntity)
+                    .historicoCount(2)
+                    .version(4L)
                     .build();
 
             Orcamento domain = mapper.toDomain(entity);
 
             assertNotNull(domain);
             assertEquals(id, domain.getId());
+            assertEquals(4L, domain.getVersion());
             assertEquals(osId, domain.getOsId());
             assertEquals(StatusOrcamento.REJEITADO, domain.getStatus());
             assertEquals(new BigDecimal("275.00"), domain.getValorTotal());
@@ -272,12 +309,9 @@ class OrcamentoEntityMapperTest {
             assertEquals("Peça B", domain.getItens().get(1).getDescricao());
             assertEquals(TipoItem.PECA, domain.getItens().get(1).getTipo());
 
-            // Histórico
-            assertEquals(2, domain.getHistorico().size());
-            assertNull(domain.getHistorico().get(0).getStatusAnterior());
-            assertEquals(StatusOrcamento.PENDENTE, domain.getHistorico().get(0).getNovoStatus());
-            assertEquals(StatusOrcamento.PENDENTE, domain.getHistorico().get(1).getStatusAnterior());
-            assertEquals(StatusOrcamento.REJEITADO, domain.getHistorico().get(1).getNovoStatus());
+            // Histórico: não carregado, só o contador
+            assertTrue(domain.getHistorico().isEmpty());
+            assertEquals(2, domain.getHistoricoCount());
         }
 
         @Test
@@ -288,7 +322,7 @@ class OrcamentoEntityMapperTest {
                     .osId(UUID.randomUUID().toString())
                     .status("PENDENTE")
                     .itens(null)
-                    .historico(null)
+                    .historicoCount(null)
                     .build();
 
             Orcamento domain = mapper.toDomain(entity);
@@ -296,6 +330,24 @@ class OrcamentoEntityMapperTest {
             assertNotNull(domain);
             assertTrue(domain.getItens().isEmpty());
             assertTrue(domain.getHistorico().isEmpty());
+            assertEquals(0, domain.getHistoricoCount());
+        }
+
+        @Test
+        @DisplayName("Deve contar o histórico legado de item ainda não migrado")
+        void deveContarHistoricoLegadoSemContador() {
+            OrcamentoEntity entity = OrcamentoEntity.builder()
+                    .id(UUID.randomUUID().toString())
+                    .status("APROVADO")
+                    .historicoLegado(List.of(
+                            OrcamentoEntity.HistoricoStatusEntity.builder().novoStatus("PENDENTE").build(),
+                            OrcamentoEntity.HistoricoStatusEntity.builder().novoStatus("APROVADO").build()))
+                    .build();
+
+            Orcamento domain = mapper.toDomain(entity);
+
+            assertEquals(2, domain.getHistoricoCount());
+            assertTrue(domain.getHistorico().isEmpty());
         }
 
         @Test
@@ -306,7 +358,6 @@ class OrcamentoEntityMapperTest {
                     .osId(null)
                     .status(null)
                     .itens(new ArrayList<>())
-                    .historico(new ArrayList<>())
                     .build();
 
             Orcamento domain = mapper.toDomain(entity);
@@ -327,7 +378,6 @@ class OrcamentoEntityMapperTest {
                             .descricao("Sem tipo")
                             .tipo(null)
                             .build()))
-                    .historico(new ArrayList<>())
                     .build();
 
             Orcamento domain = mapper.toDomain(entity);
@@ -338,21 +388,19 @@ class OrcamentoEntityMapperTest {
         @Test
         @DisplayName("Deve converter historico entity com status nulos")
         void deveConverterHistoricoEntityComStatusNulos() {
-            OrcamentoEntity entity = OrcamentoEntity.builder()
-                    .id(UUID.randomUUID().toString())
-                    .status("PENDENTE")
-                    .itens(new ArrayList<>())
-                    .historico(List.of(OrcamentoEntity.HistoricoStatusEntity.builder()
-                            .statusAnterior(null)
-                            .novoStatus(null)
-                            .usuario("test")
-                            .build()))
+            HistoricoOrcamentoEntity entity = HistoricoOrcamentoEntity.builder()
+                    .orcamentoId(UUID.randomUUID().toString())
+                    .statusAnterior(null)
+                    .novoStatus(null)
+                    .usuario("test")
                     .build();
 
-            Orcamento domain = mapper.toDomain(entity);
+            HistoricoStatus domain = mapper.toHistoricoDomain(entity);
 
-            assertNull(domain.getHistorico().get(0).getStatusAnterior());
-            assertNull(domain.getHistorico().get(0).getNovoStatus());
+            assertNull(domain.getStatusAnterior());
+            assertNull(domain.getNovoStatus());
+            assertEquals("test", domain.getUsuario());
+            assertNull(mapper.toHistoricoDomain(null));
         }
     }
 }
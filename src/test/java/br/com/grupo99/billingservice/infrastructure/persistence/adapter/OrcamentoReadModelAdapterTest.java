@@ -0,0 +1,208 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbCursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrcamentoReadModelAdapter - Testes Unitários")
+class OrcamentoReadModelAdapterTest {
+
+    private static final String TABLE_NAME = "test-orcamentos";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private OrcamentoSnapshotReader snapshotReader;
+
+    private OrcamentoReadModelAdapter adapter;
+    private UUID testId;
+    private Map<String, AttributeValue> testItem;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OrcamentoReadModelAdapter(dynamoDbClient, snapshotReader, "test-", true, 100);
+
+        testId = UUID.randomUUID();
+        testItem = Map.of(
+                "id", AttributeValue.builder().s(testId.toString()).build(),
+                "status", AttributeValue.builder().s("APROVADO").build(),
+                "historicoCount", AttributeValue.builder().n("1").build());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por ID pelo snapshot do cache, sem montar o domínio")
+    void deveBuscarPorIdPeloCache() {
+        OrcamentoEntity snapshot = OrcamentoEntity.builder().id(testId.toString()).status("APROVADO").build();
+        when(snapshotReader.findSnapshot(testId)).thenReturn(Optional.of(snapshot));
+
+        Optional<OrcamentoResponse> result = adapter.findById(testId);
+
+        assertTrue(result.isPresent());
+        assertEquals(testId, result.get().getId());
+        assertEquals("APROVADO", result.get().getStatus());
+        verifyNoInteractions(dynamoDbClient);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o orçamento não existe")
+    void deveRetornarVazioQuandoNaoExiste() {
+        when(snapshotReader.findSnapshot(testId)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findById(testId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve buscar vários por ID via BatchGetItem projetado com IDs distintos")
+    void deveBuscarVariosPorIdEmLote() {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(BatchGetItemResponse.builder()
+                        .responses(Map.of(TABLE_NAME, List.of(testItem)))
+                        .build());
+
+        List<OrcamentoResponse> result = adapter.findAllById(List.of(testId, testId));
+
+        assertEquals(1, result.size());
+        assertEquals(testId, result.get(0).getId());
+        assertEquals("APROVADO", result.get(0).getStatus());
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient).batchGetItem(captor.capture());
+        KeysAndAttributes keys = captor.getValue().requestItems().get(TABLE_NAME);
+        assertEquals(List.of(Map.of("id", testItem.get("id"))), keys.keys());
+        assertProjecao(keys.projectionExpression(), keys.expressionAttributeNames());
+    }
+
+    @Test
+    @DisplayName("Deve buscar página via scan projetando só os atributos do DTO")
+    void deveBuscarPaginaComProjecao() {
+        Map<String, AttributeValue> lastKey = Map.of("id", testItem.get("id"));
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder().items(testItem).lastEvaluatedKey(lastKey).build());
+
+        PageResult<OrcamentoResponse> result = adapter.findAll(10, null);
+
+        assertEquals(1, result.items().size());
+        assertEquals(testId, result.items().get(0).getId());
+        assertEquals(DynamoDbCursorCodec.encode(lastKey), result.nextCursor());
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient).scan(captor.capture());
+        assertEquals(TABLE_NAME, captor.getValue().tableName());
+        assertEquals(10, captor.getValue().limit());
+        assertFalse(captor.getValue().hasExclusiveStartKey());
+        assertProjecao(captor.getValue().projectionExpression(), captor.getValue().expressionAttributeNames());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor recebido")
+    void deveContinuarDoCursor() {
+        Map<String, AttributeValue> startKey = Map.of("id", testItem.get("id"));
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder().build());
+
+        PageResult<OrcamentoResponse> result = adapter.findAll(10, DynamoDbCursorCodec.encode(startKey));
+
+        assertFalse(result.hasNext());
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient).scan(captor.capture());
+        assertEquals(startKey, captor.getValue().exclusiveStartKey());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pageSize inválido")
+    void deveRejeitarPageSizeInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> adapter.findAll(0, null));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos como stream com projeção")
+    void devePercorrerTodosComoStream() {
+        when(dynamoDbClient.scanPaginator(any(ScanRequest.class)))
+                .thenAnswer(invocation -> new ScanIterable(dynamoDbClient, invocation.getArgument(0)));
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder().items(testItem).build());
+
+        try (Stream<OrcamentoResponse> result = adapter.streamAll()) {
+            assertEquals(List.of(testId), result.map(OrcamentoResponse::getId).toList());
+        }
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient).scanPaginator(captor.capture());
+        assertProjecao(captor.getValue().projectionExpression(), captor.getValue().expressionAttributeNames());
+    }
+
+    @Test
+    @DisplayName("Deve contar o histórico legado sem historicoCount uma única vez, projetando só a lista")
+    void deveContarHistoricoLegadoUmaVez() {
+        Map<String, AttributeValue> naoMigrado = Map.of(
+                "id", testItem.get("id"),
+                "status", testItem.get("status"));
+        AttributeValue entrada = AttributeValue.builder().m(Map.of(
+                "novoStatus", AttributeValue.builder().s("PENDENTE").build())).build();
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder().items(naoMigrado).build());
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(BatchGetItemResponse.builder()
+                        .responses(Map.of(TABLE_NAME, List.of(Map.of(
+                                "id", testItem.get("id"),
+                                OrcamentoEntity.HISTORICO_LEGADO, AttributeValue.builder().l(entrada, entrada).build()))))
+                        .build());
+
+        assertEquals(2, adapter.findAll(10, null).items().get(0).getHistoricoCount());
+        assertEquals(2, adapter.findAll(10, null).items().get(0).getHistoricoCount());
+
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient, times(1)).batchGetItem(captor.capture());
+        KeysAndAttributes keys = captor.getValue().requestItems().get(TABLE_NAME);
+        assertEquals(List.of(Map.of("id", testItem.get("id"))), keys.keys());
+        assertEquals(List.of(OrcamentoEntity.HISTORICO_LEGADO, "id"),
+                keys.expressionAttributeNames().values().stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Não deve ler o histórico legado com o fallback desligado")
+    void naoDeveLerHistoricoLegadoDesligado() {
+        adapter = new OrcamentoReadModelAdapter(dynamoDbClient, snapshotReader, "test-", false, 100);
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder().items(Map.of("id", testItem.get("id"))).build());
+
+        assertEquals(0, adapter.findAll(10, null).items().get(0).getHistoricoCount());
+        verify(dynamoDbClient, never()).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    /**
+     * Helper: a projeção cobre exatamente os atributos do DTO
+     */
+    private static void assertProjecao(String projectionExpression, Map<String, String> names) {
+        assertEquals(OrcamentoResponseProjection.ATTRIBUTES.length, projectionExpression.split(", ").length);
+        for (String placeholder : projectionExpression.split(", ")) {
+            assertTrue(names.containsKey(placeholder), placeholder);
+        }
+        assertEquals(List.of(OrcamentoResponseProjection.ATTRIBUTES).stream().sorted().toList(),
+                names.values().stream().sorted().toList());
+    }
+}
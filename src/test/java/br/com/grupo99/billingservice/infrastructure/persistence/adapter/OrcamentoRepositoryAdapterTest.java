@@ -1,8 +1,14 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
 
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.model.HistoricoStatus;
 import br.com.grupo99.billingservice.domain.model.Orcamento;
 import br.com.grupo99.billingservice.domain.model.StatusOrcamento;
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.HistoricoOrcamentoEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbOrcamentoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,13 +17,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +43,9 @@ class OrcamentoRepositoryAdapterTest {
     @Mock
     private OrcamentoEntityMapper mapper;
 
+    @Mock
+    private OutboxEventMapper outboxMapper;
+
     @InjectMocks
     private OrcamentoRepositoryAdapter adapter;
 
@@ -59,8 +75,10 @@ class OrcamentoRepositoryAdapterTest {
     @Test
     @DisplayName("Deve salvar orcamento via adapter")
     void deveSalvarOrcamento() {
+        List<HistoricoOrcamentoEntity> novasEntradas = List.of(HistoricoOrcamentoEntity.builder().sequencia(0).build());
         when(mapper.toEntity(testOrcamento)).thenReturn(testEntity);
-        when(dynamoDbRepository.save(testEntity)).thenReturn(testEntity);
+        when(mapper.toHistoricoEntities(testOrcamento)).thenReturn(novasEntradas);
+        when(dynamoDbRepository.save(testEntity, novasEntradas)).thenReturn(testEntity);
         when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
 
         Orcamento result = adapter.save(testOrcamento);
@@ -68,10 +86,80 @@ class OrcamentoRepositoryAdapterTest {
         assertNotNull(result);
         assertEquals(testId, result.getId());
         verify(mapper).toEntity(testOrcamento);
-        verify(dynamoDbRepository).save(testEntity);
+        verify(dynamoDbRepository).save(testEntity, novasEntradas);
         verify(mapper).toDomain(testEntity);
     }
 
+    @Test
+    @DisplayName("Deve traduzir falha da condição de versão em conflito de domínio")
+    void deveTraduzirFalhaDeCondicaoEmConflito() {
+        when(mapper.toEntity(testOrcamento)).thenReturn(testEntity);
+        when(dynamoDbRepository.save(testEntity, List.of()))
+                .thenThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build());
+
+        ConflitoDeVersaoException error = assertThrows(ConflitoDeVersaoException.class,
+                () -> adapter.save(testOrcamento));
+
+        assertTrue(error.getMessage().contains(testId.toString()));
+        assertInstanceOf(ConditionalCheckFailedException.class, error.getCause());
+        verify(mapper, never()).toDomain(any(OrcamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar transição de status com o status anterior")
+    void deveGravarTransicaoDeStatus() {
+        List<HistoricoOrcamentoEntity> novasEntradas = List.of(HistoricoOrcamentoEntity.builder().sequencia(1).build());
+        when(mapper.toEntity(testOrcamento)).thenReturn(testEntity);
+        when(mapper.toHistoricoEntities(testOrcamento)).thenReturn(novasEntradas);
+        when(dynamoDbRepository.updateStatus(testEntity, "PENDENTE", novasEntradas)).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        Orcamento result = adapter.updateStatus(testOrcamento, StatusOrcamento.PENDENTE);
+
+        assertEquals(testId, result.getId());
+        verify(dynamoDbRepository, never()).save(any(OrcamentoEntity.class), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve gravar transição de status com o evento no outbox")
+    void deveGravarTransicaoComEventoNoOutbox() {
+        OrcamentoAprovadoEvent evento = OrcamentoAprovadoEvent.de(testOrcamento);
+        OutboxEventEntity outbox = OutboxEventEntity.builder().eventId("evt-1").build();
+        when(mapper.toEntity(testOrcamento)).thenReturn(testEntity);
+        when(mapper.toHistoricoEntities(testOrcamento)).thenReturn(List.of());
+        when(outboxMapper.toEntity(evento)).thenReturn(outbox);
+        when(dynamoDbRepository.updateStatus(testEntity, "PENDENTE", List.of(), List.of(outbox))).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        Orcamento result = adapter.updateStatus(testOrcamento, StatusOrcamento.PENDENTE, evento);
+
+        assertEquals(testId, result.getId());
+        verify(dynamoDbRepository, never()).updateStatus(any(OrcamentoEntity.class), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve traduzir falha da condição da transição com evento em conflito de domínio")
+    void deveTraduzirFalhaDeCondicaoDaTransicaoComEventoEmConflito() {
+        OrcamentoAprovadoEvent evento = OrcamentoAprovadoEvent.de(testOrcamento);
+        when(mapper.toEntity(testOrcamento)).thenReturn(testEntity);
+        when(outboxMapper.toEntity(evento)).thenReturn(OutboxEventEntity.builder().build());
+        when(dynamoDbRepository.updateStatus(any(OrcamentoEntity.class), anyString(), anyList(), anyList()))
+                .thenThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build());
+
+        assertThrows(ConflitoDeVersaoException.class,
+                () -> adapter.updateStatus(testOrcamento, StatusOrcamento.PENDENTE, evento));
+    }
+
+    @Test
+    @DisplayName("Deve traduzir falha da condição da transição em conflito de domínio")
+    void deveTraduzirFalhaDeCondicaoDaTransicaoEmConflito() {
+        when(mapper.toEntity(testOrcamento)).thenReturn(testEntity);
+        when(dynamoDbRepository.updateStatus(testEntity, "PENDENTE", List.of()))
+                .thenThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build());
+
+        assertThrows(ConflitoDeVersaoException.class, () -> adapter.updateStatus(testOrcamento, StatusOrcamento.PENDENTE));
+    }
+
     @Test
     @DisplayName("Deve buscar orcamento por ID")
     void deveBuscarPorId() {
@@ -131,6 +219,117 @@ class OrcamentoRepositoryAdapterTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    @DisplayName("Deve buscar página por status com cursor da próxima página")
+    void deveBuscarPaginaPorStatus() {
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("abc").build());
+        when(dynamoDbRepository.findByStatus("PENDENTE", 10, null))
+                .thenReturn(Page.create(List.of(testEntity), lastKey));
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        PageResult<Orcamento> result = adapter.findByStatus(StatusOrcamento.PENDENTE, 10, null);
+
+        assertEquals(1, result.items().size());
+        assertTrue(result.hasNext());
+
+        when(dynamoDbRepository.findByStatus("PENDENTE", 10, lastKey))
+                .thenReturn(Page.create(List.of()));
+
+        PageResult<Orcamento> next = adapter.findByStatus(StatusOrcamento.PENDENTE, 10, result.nextCursor());
+
+        assertTrue(next.items().isEmpty());
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por IDs em lote")
+    void deveBuscarPorIdsEmLote() {
+        when(dynamoDbRepository.findAllById(List.of(testId.toString()))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        List<Orcamento> result = adapter.findAllById(List.of(testId));
+
+        assertEquals(List.of(testOrcamento), result);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por osIds em lote")
+    void deveBuscarPorOsIdsEmLote() {
+        when(dynamoDbRepository.findAllByOsId(List.of(testOsId.toString()))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        List<Orcamento> result = adapter.findAllByOsId(List.of(testOsId));
+
+        assertEquals(List.of(testOrcamento), result);
+    }
+
+    @Test
+    @DisplayName("Deve salvar em lote convertendo domínio e entity")
+    void deveSalvarEmLote() {
+        when(mapper.toEntity(testOrcamento)).thenReturn(testEntity);
+        when(dynamoDbRepository.saveAll(List.of(testEntity), List.of(List.of()))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        List<Orcamento> result = adapter.saveAll(List.of(testOrcamento));
+
+        assertEquals(List.of(testOrcamento), result);
+        verify(dynamoDbRepository).saveAll(List.of(testEntity), List.of(List.of()));
+    }
+
+    @Test
+    @DisplayName("Deve buscar histórico sob demanda na tabela filha")
+    void deveBuscarHistorico() {
+        HistoricoOrcamentoEntity entrada = HistoricoOrcamentoEntity.builder().novoStatus("PENDENTE").build();
+        HistoricoStatus historico = HistoricoStatus.builder().novoStatus(StatusOrcamento.PENDENTE).build();
+        when(dynamoDbRepository.findHistorico(testId.toString())).thenReturn(List.of(entrada));
+        when(mapper.toHistoricoDomain(entrada)).thenReturn(historico);
+
+        List<HistoricoStatus> result = adapter.findHistorico(testId);
+
+        assertEquals(List.of(historico), result);
+    }
+
+    @Test
+    @DisplayName("Deve deletar em lote por IDs")
+    void deveDeletarEmLotePorIds() {
+        UUID outroId = UUID.randomUUID();
+
+        adapter.deleteAllById(List.of(testId, outroId));
+
+        verify(dynamoDbRepository).deleteAllById(List.of(testId.toString(), outroId.toString()));
+    }
+
+    @Test
+    @DisplayName("Deve buscar página de todos com cursor opaco")
+    void deveBuscarPaginaDeTodos() {
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("abc").build());
+        when(dynamoDbRepository.findAll(10, null)).thenReturn(Page.create(List.of(testEntity), lastKey));
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        PageResult<Orcamento> result = adapter.findAll(10, null);
+
+        assertEquals(1, result.items().size());
+        assertTrue(result.hasNext());
+
+        when(dynamoDbRepository.findAll(10, lastKey)).thenReturn(Page.create(List.of()));
+
+        PageResult<Orcamento> next = adapter.findAll(10, result.nextCursor());
+
+        assertTrue(next.items().isEmpty());
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos como stream")
+    void devePercorrerTodosComoStream() {
+        when(dynamoDbRepository.streamAll()).thenReturn(Stream.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testOrcamento);
+
+        try (Stream<Orcamento> result = adapter.streamAll()) {
+            assertEquals(List.of(testOrcamento), result.toList());
+        }
+    }
+
     @Test
     @DisplayName("Deve verificar existência por osId")
     void deveVerificarExistenciaPorOsId() {
@@ -0,0 +1,137 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.application.dto.OrcamentoResponse;
+import br.com.grupo99.billingservice.application.mapper.OrcamentoMapper;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter.Formato;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity.ItemOrcamentoEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A projeção deve produzir o mesmo OrcamentoResponse que o caminho
+ * Entity → Domain → DTO.
+ */
+@DisplayName("OrcamentoResponseProjection - Testes Unitários")
+class OrcamentoResponseProjectionTest {
+
+    private static final Instant AGORA = Instant.parse("2026-03-10T12:30:45.123456789Z");
+
+    private final OrcamentoEntityMapper entityMapper = new OrcamentoEntityMapper();
+    private final OrcamentoMapper responseMapper = new OrcamentoMapper();
+
+    @Test
+    @DisplayName("Deve projetar item com itens em lista igual ao mapeamento via domínio")
+    void deveProjetarItemComItensEmLista() {
+        OrcamentoEntity entity = entityCompleta();
+        Map<String, AttributeValue> item = EntityTableSchemas.orcamento(Formato.LISTA).itemToMap(entity, true);
+
+        assertEquals(viaDominio(entity), OrcamentoResponseProjection.fromItem(item));
+    }
+
+    @Test
+    @DisplayName("Deve projetar item com itens em binário igual ao mapeamento via domínio")
+    void deveProjetarItemComItensEmBinario() {
+        OrcamentoEntity entity = entityCompleta();
+        Map<String, AttributeValue> item = EntityTableSchemas.orcamento(Formato.BINARIO).itemToMap(entity, true);
+
+        assertNotNull(item.get("itens").b());
+        assertEquals(viaDominio(entity), OrcamentoResponseProjection.fromItem(item));
+    }
+
+    @Test
+    @DisplayName("Deve projetar snapshot da entity igual ao mapeamento via domínio")
+    void deveProjetarEntity() {
+        OrcamentoEntity entity = entityCompleta();
+
+        assertEquals(viaDominio(entity), OrcamentoResponseProjection.fromEntity(entity));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os mesmos defaults do domínio para atributos ausentes")
+    void deveAplicarDefaultsParaAtributosAusentes() {
+        OrcamentoEntity entity = OrcamentoEntity.builder().id(UUID.randomUUID().toString()).build();
+        Map<String, AttributeValue> item = EntityTableSchemas.orcamento(Formato.LISTA).itemToMap(entity, true);
+
+        OrcamentoResponse response = OrcamentoResponseProjection.fromItem(item);
+
+        assertEquals(viaDominio(entity), response);
+        assertEquals("PENDENTE", response.getStatus());
+        assertEquals(0, response.getHistoricoCount());
+        assertTrue(response.getItens().isEmpty());
+        assertEquals(viaDominio(entity), OrcamentoResponseProjection.fromEntity(entity));
+    }
+
+    @Test
+    @DisplayName("Deve projetar item só com os atributos projetados igual ao mapeamento via domínio")
+    void deveProjetarItemSoComAtributosProjetados() {
+        OrcamentoEntity entity = entityCompleta();
+        Map<String, AttributeValue> item = new HashMap<>(
+                EntityTableSchemas.orcamento(Formato.LISTA).itemToMap(entity, true));
+        item.keySet().retainAll(List.of(OrcamentoResponseProjection.ATTRIBUTES));
+
+        assertFalse(item.containsKey("version"));
+        assertEquals(viaDominio(entity), OrcamentoResponseProjection.fromItem(item));
+    }
+
+    @Test
+    @DisplayName("Deve contar o histórico legado quando falta historicoCount, como o mapeamento via domínio")
+    void deveContarHistoricoLegado() {
+        OrcamentoEntity entity = entityCompleta();
+        entity.setHistoricoCount(null);
+        entity.setHistoricoLegado(List.of(
+                OrcamentoEntity.HistoricoStatusEntity.builder().novoStatus("PENDENTE").data(AGORA).build(),
+                OrcamentoEntity.HistoricoStatusEntity.builder().novoStatus("APROVADO").data(AGORA).build()));
+        Map<String, AttributeValue> item = EntityTableSchemas.orcamento(Formato.LISTA).itemToMap(entity, true);
+
+        assertEquals(2, viaDominio(entity).getHistoricoCount());
+        assertEquals(viaDominio(entity), OrcamentoResponseProjection.fromItem(item));
+        assertEquals(viaDominio(entity), OrcamentoResponseProjection.fromEntity(entity));
+    }
+
+    private OrcamentoResponse viaDominio(OrcamentoEntity entity) {
+        return responseMapper.toResponse(entityMapper.toDomain(entity));
+    }
+
+    private static OrcamentoEntity entityCompleta() {
+        return OrcamentoEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .osId(UUID.randomUUID().toString())
+                .status("APROVADO")
+                .itens(List.of(
+                        ItemOrcamentoEntity.builder()
+                                .tipo("PECA")
+                                .descricao("Filtro de óleo")
+                                .valorUnitario(new BigDecimal("75.00"))
+                                .valorTotal(new BigDecimal("150.00"))
+                                .quantidade(2)
+                                .build(),
+                        ItemOrcamentoEntity.builder()
+                                .tipo("SERVICO")
+                                .descricao("Troca de óleo")
+                                .valorUnitario(new BigDecimal("50.00"))
+                                .valorTotal(new BigDecimal("50.00"))
+                                .quantidade(1)
+                                .build()))
+                .valorTotal(new BigDecimal("200.00"))
+                .dataGeracao(AGORA)
+                .dataAprovacao(AGORA)
+                .observacao("ok")
+                .historicoCount(2)
+                .createdAt(AGORA)
+                .updatedAt(AGORA)
+                .version(3L)
+                .build();
+    }
+}
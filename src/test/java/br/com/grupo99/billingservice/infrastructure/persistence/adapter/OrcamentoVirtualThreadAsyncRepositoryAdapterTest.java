@@ -0,0 +1,66 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.model.Orcamento;
+import br.com.grupo99.billingservice.domain.repository.OrcamentoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrcamentoVirtualThreadAsyncRepositoryAdapter - Testes Unitários")
+class OrcamentoVirtualThreadAsyncRepositoryAdapterTest {
+
+    @Mock
+    private OrcamentoRepository orcamentoRepository;
+
+    private OrcamentoVirtualThreadAsyncRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OrcamentoVirtualThreadAsyncRepositoryAdapter(orcamentoRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve executar a leitura síncrona em virtual thread")
+    void deveExecutarLeituraEmVirtualThread() {
+        UUID osId = UUID.randomUUID();
+        Orcamento orcamento = Orcamento.builder().id(UUID.randomUUID()).osId(osId).build();
+        AtomicReference<Thread> readerThread = new AtomicReference<>();
+        when(orcamentoRepository.findByOsId(osId)).thenAnswer(invocation -> {
+            readerThread.set(Thread.currentThread());
+            return Optional.of(orcamento);
+        });
+
+        Optional<Orcamento> result = adapter.findByOsId(osId).join();
+
+        assertEquals(Optional.of(orcamento), result);
+        assertTrue(readerThread.get().isVirtual());
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha do repositório no future")
+    void devePropagarFalhaNoFuture() {
+        UUID id = UUID.randomUUID();
+        when(orcamentoRepository.findById(id)).thenThrow(new IllegalStateException("throttled"));
+
+        CompletionException error = assertThrows(CompletionException.class, () -> adapter.findById(id).join());
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+}
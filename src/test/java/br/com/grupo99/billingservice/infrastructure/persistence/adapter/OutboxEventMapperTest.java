@@ -0,0 +1,146 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.events.OrcamentoAprovadoEvent;
+import br.com.grupo99.billingservice.domain.events.OrcamentoRejeitadoEvent;
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
+import br.com.grupo99.billingservice.infrastructure.config.KafkaConfig;
+import br.com.grupo99.billingservice.infrastructure.messaging.BillingEventRecords;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OutboxEventMapper - Testes Unitários")
+class OutboxEventMapperTest {
+
+    private OutboxEventMapper mapper;
+    private OrcamentoAprovadoEvent aprovado;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new OutboxEventMapper();
+        aprovado = OrcamentoAprovadoEvent.builder()
+                .orcamentoId(UUID.randomUUID())
+                .osId(UUID.randomUUID())
+                .valorTotal(new BigDecimal("350.00"))
+                .timestamp(LocalDateTime.of(2026, 3, 10, 12, 30, 45))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("toEntity")
+    class ToEntity {
+
+        @Test
+        @DisplayName("Deve guardar tópico, chave, headers e payload do evento")
+        void deveGuardarRecordDoEvento() {
+            OutboxEventEntity entity = mapper.toEntity(aprovado);
+
+            String osId = aprovado.getOsId().toString();
+            assertEquals(KafkaConfig.TOPIC_BILLING_EVENTS, entity.getTopic());
+            assertEquals(osId, entity.getMessageKey());
+            assertEquals(OutboxEventEntity.shard(osId), entity.getShard());
+            assertTrue(entity.getSequencia().endsWith("#" + entity.getEventId()));
+            assertEquals("ORCAMENTO_APROVADO", entity.getHeaders().get("eventType"));
+            assertEquals("350.00", entity.getHeaders().get("valorTotal"));
+            assertEquals(entity.getEventId(), entity.getHeaders().get(OutboxEventMapper.EVENT_ID_HEADER));
+            assertEquals("ORCAMENTO_APROVADO", entity.getPayloadType());
+            assertNotNull(entity.getCreatedAt());
+        }
+
+        @Test
+        @DisplayName("Deve manter eventos da mesma OS no mesmo shard")
+        void deveManterOrdemNoShard() {
+            OutboxEventEntity primeiro = mapper.toEntity(aprovado);
+            OutboxEventEntity segundo = mapper.toEntity(OrcamentoRejeitadoEvent.builder()
+                    .orcamentoId(aprovado.getOrcamentoId())
+                    .osId(aprovado.getOsId())
+                    .motivo("Preço alto")
+                    .build());
+
+            assertEquals(primeiro.getShard(), segundo.getShard());
+            assertNotEquals(primeiro.getSequencia(), segundo.getSequencia());
+            assertNotEquals(primeiro.getEventId(), segundo.getEventId());
+        }
+
+        @Test
+        @DisplayName("Deve omitir header opcional nulo")
+        void deveOmitirHeaderNulo() {
+            OutboxEventEntity entity = mapper.toEntity(OrcamentoRejeitadoEvent.builder()
+                    .orcamentoId(UUID.randomUUID())
+                    .osId(UUID.randomUUID())
+                    .build());
+
+            assertEquals("ORCAMENTO_REJEITADO", entity.getHeaders().get("eventType"));
+            assertFalse(entity.getHeaders().containsKey("motivo"));
+        }
+    }
+
+    @Nested
+    @DisplayName("toRecord")
+    class ToRecord {
+
+        @Test
+        @DisplayName("Deve reconstruir a mesma mensagem do envio direto, com eventId")
+        void deveReconstruirMensagemDoEnvioDireto() {
+            PagamentoFalhouEvent estorno = PagamentoFalhouEvent.builder()
+                    .pagamentoId(UUID.randomUUID())
+                    .orcamentoId(UUID.randomUUID())
+                    .osId(UUID.randomUUID())
+                    .codigoErro("ESTORNO")
+                    .valorTentado(new BigDecimal("99.90"))
+                    .timestamp(LocalDateTime.of(2026, 3, 10, 12, 30, 45))
+                    .eventType("PAGAMENTO_ESTORNADO")
+                    .build();
+            ProducerRecord<String, Object> direto = BillingEventRecords.toRecord(estorno);
+            OutboxEventEntity entity = mapper.toEntity(estorno);
+
+            ProducerRecord<String, Object> record = mapper.toRecord(entity);
+
+            assertEquals(direto.topic(), record.topic());
+            assertEquals(direto.key(), record.key());
+            assertEquals(estorno, record.value());
+            Map<String, String> esperados = headers(direto);
+            esperados.put(OutboxEventMapper.EVENT_ID_HEADER, entity.getEventId());
+            assertEquals(esperados, headers(record));
+        }
+
+        @Test
+        @DisplayName("Deve ler linha antiga com o nome da classe em payloadType")
+        void deveLerLinhaAntigaComNomeDaClasse() {
+            OutboxEventEntity entity = mapper.toEntity(aprovado);
+            entity.setPayloadType(OrcamentoAprovadoEvent.class.getName());
+
+            assertEquals(aprovado, mapper.toRecord(entity).value());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar payload de classe que não é evento do billing")
+        void deveRejeitarClasseDesconhecida() {
+            OutboxEventEntity entity = mapper.toEntity(aprovado);
+            entity.setPayloadType(String.class.getName());
+
+            assertThrows(IllegalStateException.class, () -> mapper.toRecord(entity));
+        }
+    }
+
+    private static Map<String, String> headers(ProducerRecord<String, Object> record) {
+        Map<String, String> headers = new HashMap<>();
+        for (Header header : record.headers()) {
+            headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+        }
+        return headers;
+    }
+}
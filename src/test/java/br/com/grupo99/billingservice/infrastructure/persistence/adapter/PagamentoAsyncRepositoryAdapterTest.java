@@ -0,0 +1,86 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
+
+import br.com.grupo99.billingservice.domain.model.Pagamento;
+import br.com.grupo99.billingservice.domain.model.StatusPagamento;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbPagamentoAsyncRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PagamentoAsyncRepositoryAdapter - Testes Unitários")
+class PagamentoAsyncRepositoryAdapterTest {
+
+    @Mock
+    private DynamoDbPagamentoAsyncRepository dynamoDbRepository;
+
+    @Mock
+    private PagamentoEntityMapper mapper;
+
+    @InjectMocks
+    private PagamentoAsyncRepositoryAdapter adapter;
+
+    private UUID testId;
+    private UUID testOsId;
+    private Pagamento testPagamento;
+    private PagamentoEntity testEntity;
+
+    @BeforeEach
+    void setUp() {
+        testId = UUID.randomUUID();
+        testOsId = UUID.randomUUID();
+
+        testPagamento = Pagamento.builder()
+                .id(testId)
+                .osId(testOsId)
+                .status(StatusPagamento.PENDENTE)
+                .valor(new BigDecimal("100.00"))
+                .build();
+
+        testEntity = PagamentoEntity.builder()
+                .id(testId.toString())
+                .osId(testOsId.toString())
+                .status("PENDENTE")
+                .valor(new BigDecimal("100.00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve buscar pagamento por ID de forma assíncrona")
+    void deveBuscarPorId() {
+        when(dynamoDbRepository.findById(testId.toString()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(testEntity)));
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        Optional<Pagamento> result = adapter.findById(testId).join();
+
+        assertTrue(result.isPresent());
+        assertEquals(testId, result.get().getId());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pagamentos por osId de forma assíncrona")
+    void deveBuscarPorOsId() {
+        when(dynamoDbRepository.findByOsId(testOsId.toString()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(testEntity)));
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        List<Pagamento> result = adapter.findByOsId(testOsId).join();
+
+        assertEquals(List.of(testPagamento), result);
+    }
+}
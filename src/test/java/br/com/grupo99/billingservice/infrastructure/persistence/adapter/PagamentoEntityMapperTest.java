@@ -54,12 +54,14 @@ class PagamentoEntityMapperTest {
                     .dataPagamento(now)
                     .dataEstorno(null)
                     .motivoEstorno(null)
+                    .version(2L)
                     .build();
 
             PagamentoEntity entity = mapper.toEntity(pagamento);
 
             assertNotNull(entity);
             assertEquals(id.toString(), entity.getId());
+            assertEquals(2L, entity.getVersion());
             assertEquals(orcamentoId.toString(), entity.getOrcamentoId());
             assertEquals(osId.toString(), entity.getOsId());
             assertEquals("CONFIRMADO", entity.getStatus());
@@ -162,12 +164,14 @@ class PagamentoEntityMapperTest {
                     .dataPagamento(now)
                     .dataEstorno(null)
                     .motivoEstorno(null)
+                    .version(5L)
                     .build();
 
             Pagamento domain = mapper.toDomain(entity);
 
             assertNotNull(domain);
             assertEquals(id, domain.getId());
+            assertEquals(5L, domain.getVersion());
             assertEquals(orcamentoId, domain.getOrcamentoId());
             assertEquals(osId, domain.getOsId());
             assertEquals(StatusPagamento.CONFIRMADO, domain.getStatus());
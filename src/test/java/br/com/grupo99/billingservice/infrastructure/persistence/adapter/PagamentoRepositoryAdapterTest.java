@@ -1,7 +1,11 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.adapter;
 
+import br.com.grupo99.billingservice.domain.events.PagamentoFalhouEvent;
 import br.com.grupo99.billingservice.domain.model.Pagamento;
 import br.com.grupo99.billingservice.domain.model.StatusPagamento;
+import br.com.grupo99.billingservice.domain.repository.ConflitoDeVersaoException;
+import br.com.grupo99.billingservice.domain.repository.PageResult;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbPagamentoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,13 +15,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +41,9 @@ class PagamentoRepositoryAdapterTest {
     @Mock
     private PagamentoEntityMapper mapper;
 
+    @Mock
+    private OutboxEventMapper outboxMapper;
+
     @InjectMocks
     private PagamentoRepositoryAdapter adapter;
 
@@ -78,6 +92,60 @@ class PagamentoRepositoryAdapterTest {
         verify(mapper).toDomain(testEntity);
     }
 
+    @Test
+    @DisplayName("Deve traduzir falha da condição de versão em conflito de domínio")
+    void deveTraduzirFalhaDeCondicaoEmConflito() {
+        when(mapper.toEntity(testPagamento)).thenReturn(testEntity);
+        when(dynamoDbRepository.save(testEntity))
+                .thenThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build());
+
+        ConflitoDeVersaoException error = assertThrows(ConflitoDeVersaoException.class,
+                () -> adapter.save(testPagamento));
+
+        assertTrue(error.getMessage().contains(testId.toString()));
+        assertInstanceOf(ConditionalCheckFailedException.class, error.getCause());
+        verify(mapper, never()).toDomain(any(PagamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar transição de status com o status anterior")
+    void deveGravarTransicaoDeStatus() {
+        when(mapper.toEntity(testPagamento)).thenReturn(testEntity);
+        when(dynamoDbRepository.updateStatus(testEntity, "PENDENTE")).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        Pagamento result = adapter.updateStatus(testPagamento, StatusPagamento.PENDENTE);
+
+        assertEquals(testId, result.getId());
+        verify(dynamoDbRepository, never()).save(any(PagamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar transição de status com o evento no outbox")
+    void deveGravarTransicaoComEventoNoOutbox() {
+        PagamentoFalhouEvent evento = PagamentoFalhouEvent.estorno(testPagamento);
+        OutboxEventEntity outbox = OutboxEventEntity.builder().eventId("evt-1").build();
+        when(mapper.toEntity(testPagamento)).thenReturn(testEntity);
+        when(outboxMapper.toEntity(evento)).thenReturn(outbox);
+        when(dynamoDbRepository.updateStatus(testEntity, "CONFIRMADO", List.of(outbox))).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        Pagamento result = adapter.updateStatus(testPagamento, StatusPagamento.CONFIRMADO, evento);
+
+        assertEquals(testId, result.getId());
+        verify(dynamoDbRepository, never()).updateStatus(any(PagamentoEntity.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve traduzir falha da condição da transição em conflito de domínio")
+    void deveTraduzirFalhaDeCondicaoDaTransicaoEmConflito() {
+        when(mapper.toEntity(testPagamento)).thenReturn(testEntity);
+        when(dynamoDbRepository.updateStatus(testEntity, "PENDENTE"))
+                .thenThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build());
+
+        assertThrows(ConflitoDeVersaoException.class, () -> adapter.updateStatus(testPagamento, StatusPagamento.PENDENTE));
+    }
+
     @Test
     @DisplayName("Deve buscar pagamento por ID")
     void deveBuscarPorId() {
@@ -147,6 +215,93 @@ class PagamentoRepositoryAdapterTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    @DisplayName("Deve buscar página por status com cursor da próxima página")
+    void deveBuscarPaginaPorStatus() {
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("abc").build());
+        when(dynamoDbRepository.findByStatus("CONFIRMADO", 10, null))
+                .thenReturn(Page.create(List.of(testEntity), lastKey));
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        PageResult<Pagamento> result = adapter.findByStatus(StatusPagamento.CONFIRMADO, 10, null);
+
+        assertEquals(1, result.items().size());
+        assertTrue(result.hasNext());
+
+        when(dynamoDbRepository.findByStatus("CONFIRMADO", 10, lastKey))
+                .thenReturn(Page.create(List.of()));
+
+        PageResult<Pagamento> next = adapter.findByStatus(StatusPagamento.CONFIRMADO, 10, result.nextCursor());
+
+        assertTrue(next.items().isEmpty());
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por IDs em lote")
+    void deveBuscarPorIdsEmLote() {
+        when(dynamoDbRepository.findAllById(List.of(testId.toString()))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        List<Pagamento> result = adapter.findAllById(List.of(testId));
+
+        assertEquals(List.of(testPagamento), result);
+    }
+
+    @Test
+    @DisplayName("Deve salvar em lote convertendo domínio e entity")
+    void deveSalvarEmLote() {
+        when(mapper.toEntity(testPagamento)).thenReturn(testEntity);
+        when(dynamoDbRepository.saveAll(List.of(testEntity))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        List<Pagamento> result = adapter.saveAll(List.of(testPagamento));
+
+        assertEquals(List.of(testPagamento), result);
+        verify(dynamoDbRepository).saveAll(List.of(testEntity));
+    }
+
+    @Test
+    @DisplayName("Deve deletar em lote por IDs")
+    void deveDeletarEmLotePorIds() {
+        UUID outroId = UUID.randomUUID();
+
+        adapter.deleteAllById(List.of(testId, outroId));
+
+        verify(dynamoDbRepository).deleteAllById(List.of(testId.toString(), outroId.toString()));
+    }
+
+    @Test
+    @DisplayName("Deve buscar página de todos com cursor opaco")
+    void deveBuscarPaginaDeTodos() {
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("abc").build());
+        when(dynamoDbRepository.findAll(10, null)).thenReturn(Page.create(List.of(testEntity), lastKey));
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        PageResult<Pagamento> result = adapter.findAll(10, null);
+
+        assertEquals(1, result.items().size());
+        assertTrue(result.hasNext());
+
+        when(dynamoDbRepository.findAll(10, lastKey)).thenReturn(Page.create(List.of()));
+
+        PageResult<Pagamento> next = adapter.findAll(10, result.nextCursor());
+
+        assertTrue(next.items().isEmpty());
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos como stream")
+    void devePercorrerTodosComoStream() {
+        when(dynamoDbRepository.streamAll()).thenReturn(Stream.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testPagamento);
+
+        try (Stream<Pagamento> result = adapter.streamAll()) {
+            assertEquals(List.of(testPagamento), result.toList());
+        }
+    }
+
     @Test
     @DisplayName("Deve verificar existência por orcamentoId e status")
     void deveVerificarExistenciaPorOrcamentoIdEStatus() {
@@ -0,0 +1,188 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter.Formato;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity.ItemOrcamentoEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.IndexMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Os schemas estáticos devem mapear exatamente como os gerados pelas
+ * anotações das entities (itens já gravados continuam legíveis e vice-versa).
+ */
+@DisplayName("EntityTableSchemas - Testes Unitários")
+class EntityTableSchemasTest {
+
+    private static final Instant AGORA = Instant.parse("2026-03-10T12:30:45.123456789Z");
+
+    @Test
+    @DisplayName("Schema de orçamento deve ser equivalente ao do bean")
+    void schemaOrcamentoDeveSerEquivalenteAoBean() {
+        OrcamentoEntity orcamento = OrcamentoEntity.builder()
+                .id("orc-1")
+                .osId("os-1")
+                .status("APROVADO")
+                .itens(List.of(item()))
+                .valorTotal(new BigDecimal("150.00"))
+                .dataGeracao(AGORA)
+                .dataAprovacao(AGORA)
+                .observacao("ok")
+                .historicoCount(2)
+                .historicoLegado(List.of(OrcamentoEntity.HistoricoStatusEntity.builder()
+                        .statusAnterior("PENDENTE")
+                        .novoStatus("APROVADO")
+                        .usuario("system")
+                        .observacao("ok")
+                        .data(AGORA)
+                        .build()))
+                .createdAt(AGORA)
+                .updatedAt(AGORA)
+                .version(3L)
+                .build();
+
+        assertEquivalente(TableSchema.fromBean(OrcamentoEntity.class), EntityTableSchemas.orcamento(Formato.LISTA),
+                orcamento);
+    }
+
+    @Test
+    @DisplayName("Schema de orçamento binário deve gravar itens em B e ler os dois formatos")
+    void schemaOrcamentoBinarioDeveLerOsDoisFormatos() {
+        TableSchema<OrcamentoEntity> binario = EntityTableSchemas.orcamento(Formato.BINARIO);
+        OrcamentoEntity orcamento = OrcamentoEntity.builder().id("orc-1").itens(List.of(item())).build();
+
+        Map<String, AttributeValue> item = binario.itemToMap(orcamento, true);
+
+        assertNotNull(item.get("itens").b());
+        assertEquals(orcamento, binario.mapToItem(item));
+        assertEquals(orcamento, binario.mapToItem(TableSchema.fromBean(OrcamentoEntity.class).itemToMap(orcamento, true)));
+    }
+
+    @Test
+    @DisplayName("Schema de pagamento deve ser equivalente ao do bean")
+    void schemaPagamentoDeveSerEquivalenteAoBean() {
+        PagamentoEntity pagamento = PagamentoEntity.builder()
+                .id("pag-1")
+                .orcamentoId("orc-1")
+                .osId("os-1")
+                .status("CONFIRMADO")
+                .valor(new BigDecimal("150.00"))
+                .formaPagamento("PIX")
+                .comprovante("comp")
+                .mercadoPagoPaymentId(123L)
+                .mercadoPagoPreferenceId("pref")
+                .initPoint("https://mp")
+                .dataPagamento(AGORA)
+                .createdAt(AGORA)
+                .updatedAt(AGORA)
+                .version(1L)
+                .build();
+
+        assertEquivalente(TableSchema.fromBean(PagamentoEntity.class), EntityTableSchemas.PAGAMENTO, pagamento);
+    }
+
+    @Test
+    @DisplayName("Schema do histórico deve ser equivalente ao do bean")
+    void schemaHistoricoDeveSerEquivalenteAoBean() {
+        HistoricoOrcamentoEntity entrada = HistoricoOrcamentoEntity.builder()
+                .orcamentoId("orc-1")
+                .timestamp(HistoricoOrcamentoEntity.timestamp(AGORA, 0))
+                .sequencia(0)
+                .statusAnterior("PENDENTE")
+                .novoStatus("APROVADO")
+                .usuario("sistema")
+                .data(AGORA)
+                .build();
+
+        assertEquivalente(TableSchema.fromBean(HistoricoOrcamentoEntity.class),
+                EntityTableSchemas.HISTORICO_ORCAMENTO, entrada);
+    }
+
+    @Test
+    @DisplayName("Schema do outbox deve ser equivalente ao do bean")
+    void schemaOutboxDeveSerEquivalenteAoBean() {
+        OutboxEventEntity evento = OutboxEventEntity.builder()
+                .shard("3")
+                .sequencia("000001773145845123#evt-1")
+                .eventId("evt-1")
+                .topic("billing-events")
+                .messageKey("os-1")
+                .headers(Map.of("eventType", "ORCAMENTO_APROVADO", "osId", "os-1"))
+                .payloadType("ORCAMENTO_APROVADO")
+                .payload("{\"osId\":\"os-1\"}")
+                .createdAt(AGORA)
+                .build();
+
+        assertEquivalente(TableSchema.fromBean(OutboxEventEntity.class), EntityTableSchemas.OUTBOX_EVENT, evento);
+    }
+
+    @Test
+    @DisplayName("Schema de eventos processados deve ser equivalente ao do bean")
+    void schemaEventoProcessadoDeveSerEquivalenteAoBean() {
+        ProcessedEventEntity evento = ProcessedEventEntity.builder()
+                .chave("os-events:2:1042")
+                .processedAt(AGORA)
+                .expiresAt(AGORA.getEpochSecond() + 86400)
+                .build();
+
+        assertEquivalente(TableSchema.fromBean(ProcessedEventEntity.class), EntityTableSchemas.PROCESSED_EVENT,
+                evento);
+    }
+
+    @Test
+    @DisplayName("Schema do item deve mapear como o bean aninhado")
+    void schemaItemDeveMapearComoBean() {
+        TableSchema<ItemOrcamentoEntity> bean = TableSchema.fromBean(ItemOrcamentoEntity.class);
+
+        assertEquals(new HashSet<>(bean.attributeNames()),
+                new HashSet<>(EntityTableSchemas.ITEM_ORCAMENTO.attributeNames()));
+        assertEquals(bean.itemToMap(item(), false), EntityTableSchemas.ITEM_ORCAMENTO.itemToMap(item(), false));
+        assertEquals(item(), EntityTableSchemas.ITEM_ORCAMENTO.mapToItem(bean.itemToMap(item(), true)));
+    }
+
+    private static <T> void assertEquivalente(TableSchema<T> bean, TableSchema<T> estatico, T item) {
+        TableMetadata esperado = bean.tableMetadata();
+        TableMetadata atual = estatico.tableMetadata();
+        assertEquals(new HashSet<>(bean.attributeNames()), new HashSet<>(estatico.attributeNames()));
+        assertEquals(esperado.primaryKeys(), atual.primaryKeys());
+        assertEquals(indices(esperado), indices(atual));
+        assertEquals(esperado.customMetadata(), atual.customMetadata());
+
+        assertEquals(bean.itemToMap(item, false), estatico.itemToMap(item, false));
+        assertEquals(bean.itemToMap(item, true), estatico.itemToMap(item, true));
+        assertEquals(item, estatico.mapToItem(bean.itemToMap(item, true)));
+    }
+
+    private static List<String> indices(TableMetadata metadata) {
+        return metadata.indices().stream()
+                .map(index -> index.name() + ":" + key(index, true) + ":" + key(index, false))
+                .sorted()
+                .toList();
+    }
+
+    private static String key(IndexMetadata index, boolean partition) {
+        return (partition ? index.partitionKey() : index.sortKey())
+                .map(key -> key.name())
+                .orElse("");
+    }
+
+    private static ItemOrcamentoEntity item() {
+        return ItemOrcamentoEntity.builder()
+                .tipo("PECA")
+                .descricao("Filtro de óleo")
+                .valorUnitario(new BigDecimal("75.00"))
+                .valorTotal(new BigDecimal("150.00"))
+                .quantidade(2)
+                .build();
+    }
+}
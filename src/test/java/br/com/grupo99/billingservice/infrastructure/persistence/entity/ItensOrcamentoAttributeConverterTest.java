@@ -0,0 +1,164 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter.Formato;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity.ItemOrcamentoEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ItensOrcamentoAttributeConverter - Testes Unitários")
+class ItensOrcamentoAttributeConverterTest {
+
+    private final ItensOrcamentoAttributeConverter lista = new ItensOrcamentoAttributeConverter();
+    private final ItensOrcamentoAttributeConverter binario = new ItensOrcamentoAttributeConverter(Formato.BINARIO);
+
+    @Test
+    @DisplayName("Deve gravar lista de maps por padrão, igual ao mapeamento de bean")
+    void deveGravarListaDeMapsPorPadrao() {
+        AttributeValue value = lista.transformFrom(itens(2));
+
+        assertEquals(Formato.LISTA, lista.formato());
+        assertEquals(AttributeValueType.L, lista.attributeValueType());
+        assertEquals(2, value.l().size());
+        assertEquals(TableSchema.fromBean(ItemOrcamentoEntity.class).itemToMap(itens(2).get(0), false),
+                value.l().get(0).m());
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler o formato binário sem perder escala nem nulos")
+    void deveGravarELerFormatoBinario() {
+        List<ItemOrcamentoEntity> itens = List.of(
+                ItemOrcamentoEntity.builder()
+                        .tipo("PECA")
+                        .descricao("Pastilha de freio – dianteira")
+                        .valorUnitario(new BigDecimal("189.90"))
+                        .valorTotal(new BigDecimal("379.800"))
+                        .quantidade(2)
+                        .build(),
+                ItemOrcamentoEntity.builder().descricao("Desconto").valorUnitario(new BigDecimal("-1E+2")).build(),
+                new ItemOrcamentoEntity());
+
+        AttributeValue value = binario.transformFrom(itens);
+
+        assertEquals(AttributeValueType.B, binario.attributeValueType());
+        assertNotNull(value.b());
+        assertEquals(ItensOrcamentoAttributeConverter.VERSAO_BINARIA, value.b().asByteArray()[0]);
+        List<ItemOrcamentoEntity> lidos = binario.transformTo(value);
+        assertEquals(itens, lidos);
+        assertEquals(3, lidos.get(0).getValorTotal().scale());
+        assertEquals(-2, lidos.get(1).getValorUnitario().scale());
+    }
+
+    @Test
+    @DisplayName("Deve ler os dois formatos independentemente do formato de escrita")
+    void deveLerOsDoisFormatos() {
+        List<ItemOrcamentoEntity> itens = itens(3);
+
+        assertEquals(itens, lista.transformTo(binario.transformFrom(itens)));
+        assertEquals(itens, binario.transformTo(lista.transformFrom(itens)));
+    }
+
+    @Test
+    @DisplayName("Deve ocupar bem menos bytes que a lista de maps")
+    void deveOcuparMenosBytesQueListaDeMaps() {
+        List<ItemOrcamentoEntity> itens = itens(100);
+
+        int binarioBytes = binario.transformFrom(itens).b().asByteArray().length;
+        int listaBytes = lista.transformFrom(itens).l().stream()
+                .mapToInt(item -> item.m().entrySet().stream()
+                        .mapToInt(e -> e.getKey().length() + size(e.getValue()))
+                        .sum())
+                .sum();
+
+        assertTrue(binarioBytes * 2 < listaBytes, binarioBytes + " bytes vs " + listaBytes + " bytes");
+    }
+
+    @Test
+    @DisplayName("Deve gravar lista vazia em binário")
+    void deveGravarListaVazia() {
+        AttributeValue value = binario.transformFrom(List.of());
+
+        assertEquals(2, value.b().asByteArray().length);
+        assertTrue(binario.transformTo(value).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valor que não cabe em long escalado")
+    void deveRejeitarValorForaDaFaixa() {
+        List<ItemOrcamentoEntity> itens = List.of(ItemOrcamentoEntity.builder()
+                .valorTotal(new BigDecimal("123456789012345678901234567890.00"))
+                .build());
+
+        assertThrows(IllegalArgumentException.class, () -> binario.transformFrom(itens));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar versão desconhecida e bytes truncados")
+    void deveRejeitarBinarioInvalido() {
+        byte[] valido = ItensOrcamentoAttributeConverter.encode(itens(1));
+        byte[] versaoFutura = valido.clone();
+        versaoFutura[0] = 2;
+        byte[] truncado = Arrays.copyOf(valido, valido.length - 3);
+
+        assertThrows(IllegalStateException.class, () -> binario.transformTo(binary(versaoFutura)));
+        assertThrows(IllegalStateException.class, () -> binario.transformTo(binary(truncado)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar contagem e tamanho maiores que os bytes restantes sem alocar")
+    void deveRejeitarTamanhosCorrompidos() {
+        // versão 1 + varint de Integer.MAX_VALUE itens, sem itens
+        byte[] contagemGigante = { 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+        // versão 1 + 1 item + presença da descrição + varint de -1 (10 bytes)
+        byte[] tamanhoNegativo = { 1, 1, 2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01 };
+
+        assertThrows(IllegalStateException.class, () -> binario.transformTo(binary(contagemGigante)));
+        assertThrows(IllegalStateException.class, () -> binario.transformTo(binary(tamanhoNegativo)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar bits de presença desconhecidos")
+    void deveRejeitarBitsDePresencaDesconhecidos() {
+        // versão 1 + 1 item só com quantidade 1; o bit 5 não existe na versão 1
+        byte[] valido = { 1, 1, 1 << 4, 2 };
+        byte[] bitDesconhecido = { 1, 1, (1 << 4) | (1 << 5), 2 };
+        byte[] bitAlto = { 1, 1, (byte) ((1 << 4) | 0x80), 2 };
+
+        assertEquals(1, binario.transformTo(binary(valido)).get(0).getQuantidade());
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> binario.transformTo(binary(bitDesconhecido)));
+        assertTrue(erro.getMessage().contains("presença"));
+        assertThrows(IllegalStateException.class, () -> binario.transformTo(binary(bitAlto)));
+    }
+
+    private static AttributeValue binary(byte[] bytes) {
+        return AttributeValue.builder().b(SdkBytes.fromByteArray(bytes)).build();
+    }
+
+    private static int size(AttributeValue value) {
+        return value.s() != null ? value.s().length() : value.n() != null ? value.n().length() : 1;
+    }
+
+    private static List<ItemOrcamentoEntity> itens(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ItemOrcamentoEntity.builder()
+                        .tipo(i % 2 == 0 ? "PECA" : "SERVICO")
+                        .descricao("Item " + i)
+                        .valorUnitario(new BigDecimal("25.50"))
+                        .valorTotal(new BigDecimal("25.50").multiply(BigDecimal.valueOf(i + 1)))
+                        .quantidade(i + 1)
+                        .build())
+                .toList();
+    }
+}
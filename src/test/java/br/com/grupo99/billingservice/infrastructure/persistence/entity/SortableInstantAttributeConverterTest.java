@@ -0,0 +1,55 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SortableInstantAttributeConverter - Testes Unitários")
+class SortableInstantAttributeConverterTest {
+
+    private final SortableInstantAttributeConverter converter = new SortableInstantAttributeConverter();
+
+    @Test
+    @DisplayName("Deve gravar com largura fixa para a ordem lexicográfica ser a cronológica")
+    void deveGravarComLarguraFixa() {
+        List<Instant> instantes = List.of(
+                Instant.parse("2026-01-31T10:00:00Z"),
+                Instant.parse("2026-01-31T10:00:00.000000001Z"),
+                Instant.parse("2026-01-31T10:00:00.123Z"),
+                Instant.parse("2026-01-31T10:00:00.5Z"),
+                Instant.parse("2026-01-31T10:00:01Z"));
+
+        List<String> gravados = instantes.stream().map(i -> converter.transformFrom(i).s()).toList();
+
+        assertEquals("2026-01-31T10:00:00.000000000Z", gravados.get(0));
+        assertTrue(gravados.stream().allMatch(s -> s.length() == gravados.get(0).length()));
+        assertEquals(gravados, gravados.stream().sorted().toList());
+        // Instant.toString() quebra a ordem: "...:00.5Z" > "...:00Z" é falso
+        assertTrue(instantes.get(3).toString().compareTo(instantes.get(0).toString()) < 0);
+    }
+
+    @Test
+    @DisplayName("Deve ler o formato fixo e o formato antigo de Instant.toString()")
+    void deveLerOsDoisFormatos() {
+        Instant instante = Instant.parse("2026-01-31T10:00:00.5Z");
+
+        assertEquals(instante, converter.transformTo(converter.transformFrom(instante)));
+        assertEquals(instante, converter.transformTo(AttributeValue.builder().s(instante.toString()).build()));
+    }
+
+    @Test
+    @DisplayName("Deve ser usado no createdAt do mapeamento por bean")
+    void deveSerUsadoNoMapeamentoPorBean() {
+        OrcamentoEntity entity = OrcamentoEntity.builder().id("1").createdAt(Instant.parse("2026-01-31T10:00:00Z"))
+                .build();
+
+        assertEquals("2026-01-31T10:00:00.000000000Z",
+                TableSchema.fromBean(OrcamentoEntity.class).itemToMap(entity, true).get("createdAt").s());
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.paginators.BatchGetItemIterable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbBatchReader - Testes Unitários")
+class DynamoDbBatchReaderTest {
+
+    private static final String TABLE_NAME = "test-pagamentos";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private DynamoDbBatchReader<PagamentoEntity> reader;
+
+    @BeforeEach
+    void setUp() {
+        // O enhanced client usa o paginador do BatchGetItem para seguir as chaves não processadas
+        lenient().when(dynamoDbClient.batchGetItemPaginator(any(BatchGetItemRequest.class)))
+                .thenAnswer(invocation -> new BatchGetItemIterable(dynamoDbClient, invocation.getArgument(0)));
+
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                .dynamoDbClient(dynamoDbClient)
+                .build();
+        DynamoDbTable<PagamentoEntity> table = enhancedClient.table(TABLE_NAME,
+                TableSchema.fromBean(PagamentoEntity.class));
+        reader = new DynamoDbBatchReader<>(enhancedClient, table, PagamentoEntity.class, Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("Deve dividir as chaves em lotes de 100")
+    void deveDividirEmLotesDe100() {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenAnswer(invocation -> responseWith(invocation.<BatchGetItemRequest>getArgument(0)
+                        .requestItems().get(TABLE_NAME).keys(), Map.of()));
+
+        List<PagamentoEntity> result = reader.getAll(keys(250));
+
+        assertEquals(250, result.size());
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient, times(3)).batchGetItem(captor.capture());
+        assertEquals(List.of(100, 100, 50), captor.getAllValues().stream()
+                .map(request -> request.requestItems().get(TABLE_NAME).keys().size())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar chaves não processadas")
+    void deveReenviarChavesNaoProcessadas() {
+        List<Map<String, AttributeValue>> keyMaps = keyMaps(3);
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(responseWith(keyMaps.subList(0, 2),
+                        Map.of(TABLE_NAME, KeysAndAttributes.builder().keys(keyMaps.get(2)).build())))
+                .thenReturn(responseWith(keyMaps.subList(2, 3), Map.of()));
+
+        List<PagamentoEntity> result = reader.getAll(keys(3));
+
+        assertEquals(List.of("id-0", "id-1", "id-2"), result.stream().map(PagamentoEntity::getId).toList());
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchGetItem(captor.capture());
+        assertEquals(List.of(keyMaps.get(2)), captor.getAllValues().get(1).requestItems().get(TABLE_NAME).keys());
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando chaves continuam não processadas após o limite de tentativas")
+    void deveFalharAposLimiteDeTentativas() {
+        List<Map<String, AttributeValue>> keyMaps = keyMaps(1);
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(responseWith(List.of(),
+                        Map.of(TABLE_NAME, KeysAndAttributes.builder().keys(keyMaps).build())));
+
+        assertThrows(IllegalStateException.class, () -> reader.getAll(keys(1)));
+        verify(dynamoDbClient, times(DynamoDbBatchReader.MAX_ATTEMPTS)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    @DisplayName("Não deve chamar o DynamoDB para lista vazia")
+    void naoDeveChamarDynamoParaListaVazia() {
+        assertTrue(reader.getAll(List.of()).isEmpty());
+
+        verify(dynamoDbClient, never()).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    private static List<Key> keys(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Key.builder().partitionValue("id-" + i).build())
+                .toList();
+    }
+
+    private static List<Map<String, AttributeValue>> keyMaps(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Map.of("id", AttributeValue.builder().s("id-" + i).build()))
+                .toList();
+    }
+
+    /**
+     * Helper: resposta devolvendo um item (apenas o id) por chave
+     */
+    private static BatchGetItemResponse responseWith(List<Map<String, AttributeValue>> found,
+            Map<String, KeysAndAttributes> unprocessed) {
+        return BatchGetItemResponse.builder()
+                .responses(Map.of(TABLE_NAME, found))
+                .unprocessedKeys(unprocessed)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbBatchWriter - Testes Unitários")
+class DynamoDbBatchWriterTest {
+
+    private static final String TABLE_NAME = "test-orcamentos";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private DynamoDbBatchWriter<OrcamentoEntity> writer;
+
+    @BeforeEach
+    void setUp() {
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                .dynamoDbClient(dynamoDbClient)
+                .build();
+        DynamoDbTable<OrcamentoEntity> table = enhancedClient.table(TABLE_NAME,
+                TableSchema.fromBean(OrcamentoEntity.class));
+        writer = new DynamoDbBatchWriter<>(enhancedClient, table, OrcamentoEntity.class, 4, Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("Deve dividir os itens em lotes de 25")
+    void deveDividirEmLotesDe25() {
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        writer.putAll(entities(60));
+
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(3)).batchWriteItem(captor.capture());
+        assertEquals(List.of(10, 25, 25), captor.getAllValues().stream()
+                .map(request -> request.requestItems().get(TABLE_NAME).size())
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar itens não processados")
+    void deveReenviarItensNaoProcessados() {
+        WriteRequest unprocessed = WriteRequest.builder()
+                .putRequest(PutRequest.builder()
+                        .item(Map.of("id", AttributeValue.builder().s("id-3").build()))
+                        .build())
+                .build();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Map.of(TABLE_NAME, List.of(unprocessed)))
+                        .build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        writer.putAll(entities(5));
+
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchWriteItem(captor.capture());
+        List<WriteRequest> retry = captor.getAllValues().get(1).requestItems().get(TABLE_NAME);
+        assertEquals(1, retry.size());
+        assertEquals("id-3", retry.get(0).putRequest().item().get("id").s());
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando itens continuam não processados após o limite de tentativas")
+    void deveFalharAposLimiteDeTentativas() {
+        WriteRequest unprocessed = WriteRequest.builder()
+                .putRequest(PutRequest.builder()
+                        .item(Map.of("id", AttributeValue.builder().s("id-0").build()))
+                        .build())
+                .build();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Map.of(TABLE_NAME, List.of(unprocessed)))
+                        .build());
+
+        assertThrows(IllegalStateException.class, () -> writer.putAll(entities(1)));
+        verify(dynamoDbClient, times(DynamoDbBatchWriter.MAX_ATTEMPTS)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve deletar por chave em lote")
+    void deveDeletarPorChaveEmLote() {
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        writer.deleteAll(List.of(Key.builder().partitionValue("a").build(), Key.builder().partitionValue("b").build()));
+
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient).batchWriteItem(captor.capture());
+        List<WriteRequest> requests = captor.getValue().requestItems().get(TABLE_NAME);
+        assertEquals(List.of("a", "b"), requests.stream()
+                .map(request -> request.deleteRequest().key().get("id").s())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Deve limitar lotes simultâneos em voo")
+    void deveLimitarLotesSimultaneos() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        writer.putAll(entities(250));
+
+        verify(dynamoDbClient, times(10)).batchWriteItem(any(BatchWriteItemRequest.class));
+        assertTrue(maxInFlight.get() <= 4);
+    }
+
+    @Test
+    @DisplayName("Não deve chamar o DynamoDB para lista vazia")
+    void naoDeveChamarDynamoParaListaVazia() {
+        writer.putAll(List.of());
+        writer.deleteAll(List.of());
+
+        verifyNoInteractions(dynamoDbClient);
+    }
+
+    private static List<OrcamentoEntity> entities(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> OrcamentoEntity.builder().id("id-" + i).status("PENDENTE").build())
+                .toList();
+    }
+}
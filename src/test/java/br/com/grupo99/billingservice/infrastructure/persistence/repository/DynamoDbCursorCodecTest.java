@@ -0,0 +1,62 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DynamoDbCursorCodec - Testes Unitários")
+class DynamoDbCursorCodecTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar lastEvaluatedKey com atributos S e N")
+    void deveFazerRoundTrip() {
+        Map<String, AttributeValue> key = Map.of(
+                "id", AttributeValue.builder().s("c0ffee").build(),
+                "status", AttributeValue.builder().s("PENDENTE").build(),
+                "mercadoPagoPaymentId", AttributeValue.builder().n("123456").build());
+
+        String cursor = DynamoDbCursorCodec.encode(key);
+
+        assertNotNull(cursor);
+        assertFalse(cursor.contains("PENDENTE"));
+        assertEquals(key, DynamoDbCursorCodec.decode(cursor));
+    }
+
+    @Test
+    @DisplayName("Deve retornar null quando não há próxima página")
+    void deveRetornarNullSemLastEvaluatedKey() {
+        assertNull(DynamoDbCursorCodec.encode(null));
+        assertNull(DynamoDbCursorCodec.encode(Map.of()));
+        assertNull(DynamoDbCursorCodec.decode(null));
+        assertNull(DynamoDbCursorCodec.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void deveRejeitarCursorInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> DynamoDbCursorCodec.decode("não-é-base64!"));
+        // {} (cursor vazio)
+        assertThrows(IllegalArgumentException.class, () -> DynamoDbCursorCodec.decode("e30"));
+        // {"id":{"B":"eA=="}} (tipo de atributo não suportado)
+        assertThrows(IllegalArgumentException.class, () -> DynamoDbCursorCodec.decode("eyJpZCI6eyJCIjoiZUE9PSJ9fQ"));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar só cursor com os atributos da chave paginada")
+    void deveValidarAtributosDaChave() {
+        Map<String, AttributeValue> chave = Map.of("id", AttributeValue.builder().s("c0ffee").build());
+
+        assertEquals(chave, DynamoDbCursorCodec.requireKey(chave, Set.of("id")));
+        assertNull(DynamoDbCursorCodec.requireKey(null, Set.of("id")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDbCursorCodec.requireKey(chave, Set.of("id", "status", "createdAt")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DynamoDbCursorCodec.requireKey(Map.of("id", AttributeValue.builder().n("1").build()),
+                        Set.of("id")));
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbOrcamentoAsyncRepository - Testes Unitários")
+class DynamoDbOrcamentoAsyncRepositoryTest {
+
+    @Mock
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient;
+
+    @Mock
+    private DynamoDbAsyncTable<OrcamentoEntity> table;
+
+    @Mock
+    private DynamoDbAsyncIndex<OrcamentoEntity> osIdIndex;
+
+    private DynamoDbOrcamentoAsyncRepository repository;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        when(enhancedAsyncClient.table(anyString(), any(TableSchema.class))).thenReturn(table);
+        when(table.index(OrcamentoEntity.OS_ID_INDEX)).thenReturn(osIdIndex);
+        repository = new DynamoDbOrcamentoAsyncRepository(enhancedAsyncClient, "test-");
+    }
+
+    @Test
+    @DisplayName("Deve usar prefixo da tabela")
+    void deveUsarPrefixoTabela() {
+        verify(enhancedAsyncClient).table(eq("test-orcamentos"), any(TableSchema.class));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por ID")
+    void deveBuscarPorId() {
+        OrcamentoEntity entity = OrcamentoEntity.builder().id("orc-1").build();
+        when(table.getItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(entity));
+
+        Optional<OrcamentoEntity> result = repository.findById("orc-1").join();
+
+        assertTrue(result.isPresent());
+        assertEquals("orc-1", result.get().getId());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando ID não existe")
+    void deveRetornarVazioQuandoIdNaoExiste() {
+        when(table.getItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertTrue(repository.findById("inexistente").join().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por osId no GSI")
+    void deveBuscarPorOsIdNoGsi() {
+        OrcamentoEntity entity = OrcamentoEntity.builder().id("orc-1").osId("os-1").build();
+        when(osIdIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(publisherOf(List.of(Page.create(List.of(entity)))));
+
+        Optional<OrcamentoEntity> result = repository.findByOsId("os-1").join();
+
+        assertTrue(result.isPresent());
+        assertEquals("orc-1", result.get().getId());
+        ArgumentCaptor<QueryEnhancedRequest> captor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(osIdIndex).query(captor.capture());
+        assertEquals(1, captor.getValue().limit());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando OS não tem orçamento")
+    void deveRetornarVazioQuandoOsSemOrcamento() {
+        when(osIdIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(publisherOf(List.of(Page.create(List.of()))));
+
+        assertTrue(repository.findByOsId("os-1").join().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha do DynamoDB no future")
+    void devePropagarFalhaNoFuture() {
+        when(table.getItem(any(Key.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("throttled")));
+
+        CompletableFuture<Optional<OrcamentoEntity>> result = repository.findById("orc-1");
+
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    static <T> SdkPublisher<T> publisherOf(List<T> elements) {
+        SimplePublisher<T> publisher = new SimplePublisher<>();
+        elements.forEach(publisher::send);
+        publisher.complete();
+        return SdkPublisher.adapt(publisher);
+    }
+}
@@ -1,6 +1,10 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.repository;
 
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.HistoricoOrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ItensOrcamentoAttributeConverter.Formato;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.OrcamentoEntity;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,17 +12,42 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.enhanced.dynamodb.*;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,9 +61,24 @@ class DynamoDbOrcamentoRepositoryTest {
     @Mock
     private DynamoDbEnhancedClient enhancedClient;
 
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
     @Mock
     private DynamoDbTable<OrcamentoEntity> table;
 
+    @Mock
+    private DynamoDbTable<HistoricoOrcamentoEntity> historicoTable;
+
+    @Mock
+    private DynamoDbTable<OutboxEventEntity> outboxTable;
+
+    @Mock
+    private DynamoDbIndex<OrcamentoEntity> statusIndex;
+
+    @Mock
+    private DynamoDbIndex<OrcamentoEntity> osIdIndex;
+
     @Mock
     private PageIterable<OrcamentoEntity> pageIterable;
 
@@ -43,14 +87,19 @@ class DynamoDbOrcamentoRepositoryTest {
     @SuppressWarnings("unchecked")
     @BeforeEach
     void setUp() {
-        when(enhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(table);
-        repository = new DynamoDbOrcamentoRepository(enhancedClient, "test-");
+        when(enhancedClient.table(eq("test-orcamentos"), any(TableSchema.class))).thenReturn(table);
+        when(enhancedClient.table(eq("test-orcamentos-historico"), any(TableSchema.class))).thenReturn(historicoTable);
+        when(enhancedClient.table(eq("test-billing-outbox"), any(TableSchema.class))).thenReturn(outboxTable);
+        when(table.index(OrcamentoEntity.OS_ID_INDEX)).thenReturn(osIdIndex);
+        when(table.index(OrcamentoEntity.STATUS_CREATED_AT_INDEX)).thenReturn(statusIndex);
+        repository = new DynamoDbOrcamentoRepository(enhancedClient, dynamoDbClient, "test-", Formato.LISTA, true);
     }
 
     @Test
     @DisplayName("Deve usar prefixo da tabela")
     void deveUsarPrefixoTabela() {
         verify(enhancedClient).table(eq("test-orcamentos"), any(TableSchema.class));
+        verify(enhancedClient).table(eq("test-orcamentos-historico"), any(TableSchema.class));
     }
 
     @Test
@@ -61,7 +110,7 @@ class DynamoDbOrcamentoRepositoryTest {
         DynamoDbTable<OrcamentoEntity> table2 = mock(DynamoDbTable.class);
         when(enhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(table2);
 
-        new DynamoDbOrcamentoRepository(enhancedClient, "");
+        new DynamoDbOrcamentoRepository(enhancedClient, dynamoDbClient, "", Formato.LISTA, true);
         verify(enhancedClient).table(eq("orcamentos"), any(TableSchema.class));
     }
 
@@ -73,10 +122,46 @@ class DynamoDbOrcamentoRepositoryTest {
         DynamoDbTable<OrcamentoEntity> table2 = mock(DynamoDbTable.class);
         when(enhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(table2);
 
-        new DynamoDbOrcamentoRepository(enhancedClient, null);
+        new DynamoDbOrcamentoRepository(enhancedClient, dynamoDbClient, null, Formato.LISTA, true);
         verify(enhancedClient).table(eq("orcamentos"), any(TableSchema.class));
     }
 
+    @Test
+    @DisplayName("Deve gravar itens em binário quando configurado para a tabela")
+    @SuppressWarnings("unchecked")
+    void deveGravarItensEmBinarioQuandoConfigurado() {
+        reset(enhancedClient);
+        when(enhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(mock(DynamoDbTable.class));
+
+        new DynamoDbOrcamentoRepository(enhancedClient, dynamoDbClient, "test-", Formato.BINARIO, true);
+
+        ArgumentCaptor<TableSchema<OrcamentoEntity>> captor = ArgumentCaptor.forClass(TableSchema.class);
+        verify(enhancedClient).table(eq("test-orcamentos"), captor.capture());
+        TableSchema<OrcamentoEntity> schema = captor.getValue();
+        OrcamentoEntity entity = OrcamentoEntity.builder()
+                .id("orc-1")
+                .itens(List.of(OrcamentoEntity.ItemOrcamentoEntity.builder()
+                        .tipo("PECA")
+                        .descricao("Filtro de óleo")
+                        .valorUnitario(new BigDecimal("35.00"))
+                        .valorTotal(new BigDecimal("70.00"))
+                        .quantidade(2)
+                        .build()))
+                .version(1L)
+                .build();
+
+        Map<String, AttributeValue> item = schema.itemToMap(entity, true);
+        assertNotNull(item.get("itens").b());
+        assertEquals("orc-1", item.get("id").s());
+        assertFalse(item.containsKey("observacao"));
+        assertEquals(entity, schema.mapToItem(item));
+
+        // Itens gravados antes da migração (lista de maps) continuam legíveis
+        Map<String, AttributeValue> legado = TableSchema.fromBean(OrcamentoEntity.class).itemToMap(entity, true);
+        assertNotNull(legado.get("itens").l());
+        assertEquals(entity, schema.mapToItem(legado));
+    }
+
     @Test
     @DisplayName("Deve salvar entity gerando ID quando não possui")
     void deveSalvarEntityGerandoId() {
@@ -124,6 +209,215 @@ class DynamoDbOrcamentoRepositoryTest {
         assertNotNull(result.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("Deve incrementar a versão após o put condicional")
+    void deveIncrementarVersaoAposSave() {
+        mockTableSchema();
+        OrcamentoEntity novo = OrcamentoEntity.builder().id(UUID.randomUUID().toString()).build();
+        OrcamentoEntity existente = OrcamentoEntity.builder().id(UUID.randomUUID().toString()).version(3L).build();
+
+        assertEquals(1L, repository.save(novo).getVersion());
+        assertEquals(4L, repository.save(existente).getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha da condição de versão sem alterar a versão")
+    void devePropagarFalhaDeCondicaoDeVersao() {
+        mockTableSchema();
+        OrcamentoEntity entity = OrcamentoEntity.builder().id(UUID.randomUUID().toString()).version(3L).build();
+        doThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build())
+                .when(dynamoDbClient).updateItem(any(UpdateItemRequest.class));
+
+        assertThrows(ConditionalCheckFailedException.class, () -> repository.save(entity));
+        assertEquals(3L, entity.getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve salvar orçamento existente com UpdateItem sem apagar o histórico legado")
+    void deveSalvarExistenteSemApagarHistoricoLegado() {
+        mockTableSchema();
+        OrcamentoEntity entity = OrcamentoEntity.builder()
+                .id("orc-1")
+                .status("PENDENTE")
+                .historicoCount(3)
+                .version(3L)
+                .build();
+
+        repository.save(entity);
+
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertFalse(request.expressionAttributeNames().containsValue(OrcamentoEntity.HISTORICO_LEGADO));
+        assertTrue(request.updateExpression().contains("#observacao"));
+        assertEquals("#version = :version_esperado", request.conditionExpression());
+        assertEquals("3", request.expressionAttributeValues().get(":historicoCount").n());
+        verify(table, never()).putItem(any(OrcamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Save de item existente deve gravar todos os atributos menos chave, versão e histórico legado")
+    void saveDeveCobrirTodosOsAtributos() {
+        Set<String> esperados = new HashSet<>(
+                EntityTableSchemas.orcamento(Formato.LISTA).attributeNames());
+        esperados.removeAll(Set.of("id", "version", OrcamentoEntity.HISTORICO_LEGADO));
+
+        assertEquals(esperados, Set.of(DynamoDbOrcamentoRepository.SAVE_ATTRIBUTES));
+    }
+
+    @Test
+    @DisplayName("Deve salvar orçamento e entradas do histórico na mesma transação")
+    void deveSalvarComHistoricoEmTransacao() {
+        mockTableSchema();
+        when(historicoTable.tableSchema()).thenReturn(TableSchema.fromBean(HistoricoOrcamentoEntity.class));
+        when(historicoTable.tableName()).thenReturn("test-orcamentos-historico");
+        OrcamentoEntity entity = OrcamentoEntity.builder().status("PENDENTE").historicoCount(1).build();
+        HistoricoOrcamentoEntity entrada = HistoricoOrcamentoEntity.builder()
+                .timestamp("2026-01-01T00:00:00.000000000Z#000000")
+                .sequencia(0)
+                .novoStatus("PENDENTE")
+                .build();
+
+        OrcamentoEntity result = repository.save(entity, List.of(entrada));
+
+        assertNotNull(result.getId());
+        assertEquals(result.getId(), entrada.getOrcamentoId());
+        assertEquals(1L, result.getVersion());
+        ArgumentCaptor<TransactWriteItemsEnhancedRequest> captor =
+                ArgumentCaptor.forClass(TransactWriteItemsEnhancedRequest.class);
+        verify(enhancedClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> itens = captor.getValue().transactWriteItems();
+        assertEquals(List.of("test-orcamentos", "test-orcamentos-historico"),
+                itens.stream().map(item -> item.put().tableName()).toList());
+        assertEquals(result.getId(), itens.get(1).put().item().get("orcamentoId").s());
+        verify(table, never()).putItem(any(OrcamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve traduzir transação cancelada por condição em falha de condição")
+    void deveTraduzirTransacaoCanceladaPorCondicao() {
+        mockTableSchema();
+        when(historicoTable.tableSchema()).thenReturn(TableSchema.fromBean(HistoricoOrcamentoEntity.class));
+        when(historicoTable.tableName()).thenReturn("test-orcamentos-historico");
+        OrcamentoEntity entity = OrcamentoEntity.builder().id("orc-1").version(3L).build();
+        doThrow(TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(
+                        CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                        CancellationReason.builder().code("None").build())
+                .build())
+                .when(dynamoDbClient).transactWriteItems(any(TransactWriteItemsRequest.class));
+
+        ConditionalCheckFailedException error = assertThrows(ConditionalCheckFailedException.class,
+                () -> repository.save(entity, List.of(HistoricoOrcamentoEntity.builder().timestamp("t").build())));
+        assertInstanceOf(TransactionCanceledException.class, error.getCause());
+        assertEquals(3L, entity.getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve gravar transição de status e entrada do histórico em uma transação sem reenviar itens")
+    void deveGravarTransicaoDeStatusComUpdateParcial() {
+        mockTableSchema();
+        when(historicoTable.tableSchema()).thenReturn(TableSchema.fromBean(HistoricoOrcamentoEntity.class));
+        when(historicoTable.tableName()).thenReturn("test-orcamentos-historico");
+        OrcamentoEntity entity = OrcamentoEntity.builder()
+                .id("orc-1")
+                .status("APROVADO")
+                .dataAprovacao(Instant.now())
+                .itens(IntStream.range(0, 50)
+                        .mapToObj(i -> OrcamentoEntity.ItemOrcamentoEntity.builder().descricao("item " + i).build())
+                        .toList())
+                .historicoCount(2)
+                .version(2L)
+                .build();
+        HistoricoOrcamentoEntity entrada = HistoricoOrcamentoEntity.builder()
+                .timestamp("2026-01-01T00:00:00.000000000Z#000001")
+                .sequencia(1)
+                .statusAnterior("PENDENTE")
+                .novoStatus("APROVADO")
+                .build();
+
+        OrcamentoEntity result = repository.updateStatus(entity, "PENDENTE", List.of(entrada));
+
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> items = captor.getValue().transactItems();
+        assertEquals(2, items.size());
+
+        Update update = items.get(0).update();
+        assertEquals("test-orcamentos", update.tableName());
+        assertEquals(Map.of("id", AttributeValue.builder().s("orc-1").build()), update.key());
+        assertFalse(update.expressionAttributeNames().containsValue("itens"));
+        assertEquals("#status = :status_esperado AND #version = :version_esperado", update.conditionExpression());
+        assertEquals("PENDENTE", update.expressionAttributeValues().get(":status_esperado").s());
+        assertEquals("2", update.expressionAttributeValues().get(":historicoCount").n());
+        assertEquals("3", update.expressionAttributeValues().get(":version").n());
+
+        Put put = items.get(1).put();
+        assertEquals("test-orcamentos-historico", put.tableName());
+        assertEquals("orc-1", put.item().get("orcamentoId").s());
+        assertEquals("2026-01-01T00:00:00.000000000Z#000001", put.item().get("timestamp").s());
+        assertEquals("APROVADO", put.item().get("novoStatus").s());
+
+        assertEquals(3L, result.getVersion());
+        assertNotNull(result.getUpdatedAt());
+        verify(dynamoDbClient, never()).updateItem(any(UpdateItemRequest.class));
+        verify(table, never()).putItem(any(OrcamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar evento do outbox na mesma transação da transição de status")
+    void deveGravarEventoDoOutboxNaTransacao() {
+        mockTableSchema();
+        when(outboxTable.tableSchema()).thenReturn(EntityTableSchemas.OUTBOX_EVENT);
+        when(outboxTable.tableName()).thenReturn("test-billing-outbox");
+        OrcamentoEntity entity = OrcamentoEntity.builder().id("orc-1").status("APROVADO").version(2L).build();
+        OutboxEventEntity evento = OutboxEventEntity.builder()
+                .shard("3")
+                .sequencia("000001767225600000#evt-1")
+                .eventId("evt-1")
+                .topic("billing-events")
+                .messageKey("os-1")
+                .headers(Map.of("eventType", "ORCAMENTO_APROVADO"))
+                .payload("{}")
+                .build();
+
+        repository.updateStatus(entity, "PENDENTE", List.of(), List.of(evento));
+
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> items = captor.getValue().transactItems();
+        assertEquals(2, items.size());
+        assertEquals("test-orcamentos", items.get(0).update().tableName());
+        Put put = items.get(1).put();
+        assertEquals("test-billing-outbox", put.tableName());
+        assertEquals("3", put.item().get("shard").s());
+        assertEquals("evt-1", put.item().get("eventId").s());
+        assertEquals("ORCAMENTO_APROVADO", put.item().get("headers").m().get("eventType").s());
+        assertNull(put.conditionExpression());
+        assertEquals(3L, entity.getVersion());
+        verify(dynamoDbClient, never()).updateItem(any(UpdateItemRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve remover atributos nulos e exigir ausência de versão quando não há versão lida")
+    void deveRemoverNulosEExigirAusenciaDeVersao() {
+        mockTableSchema();
+        OrcamentoEntity entity = OrcamentoEntity.builder().id("orc-1").status("CANCELADO").build();
+
+        repository.updateStatus(entity, "PENDENTE", List.of());
+
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertEquals("test-orcamentos", request.tableName());
+        assertTrue(request.updateExpression().contains(
+                "REMOVE #dataAprovacao, #dataRejeicao, #observacao, #motivoRejeicao, #historicoCount"));
+        verify(dynamoDbClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+        assertEquals("#status = :status_esperado AND attribute_not_exists(#version)", request.conditionExpression());
+        assertEquals(1L, entity.getVersion());
+    }
+
     @Test
     @DisplayName("Deve gerar ID quando ID é blank")
     void deveGerarIdQuandoIdBlank() {
@@ -174,37 +468,127 @@ class DynamoDbOrcamentoRepositoryTest {
                 .status("PENDENTE")
                 .build();
 
-        mockScanWithItems(List.of(expected));
+        mockOsIdQueryWithItems(List.of(expected));
 
         Optional<OrcamentoEntity> result = repository.findByOsId(osId);
 
         assertTrue(result.isPresent());
         assertEquals(osId, result.get().getOsId());
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
     }
 
     @Test
     @DisplayName("Deve retornar empty quando entity não encontrada por osId")
     void deveRetornarEmptyQuandoNaoEncontradaPorOsId() {
-        mockScanWithItems(List.of());
+        mockOsIdQueryWithItems(List.of());
 
         Optional<OrcamentoEntity> result = repository.findByOsId(UUID.randomUUID().toString());
 
         assertFalse(result.isPresent());
     }
 
+    @Test
+    @DisplayName("Deve buscar entities de várias OS com uma query no GSI por OS")
+    void deveBuscarEntitiesDeVariasOs() {
+        List<String> osIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            osIds.add("os-" + i);
+        }
+        // Metade das OS tem orçamento
+        AtomicInteger queries = new AtomicInteger();
+        when(osIdIndex.query(any(QueryEnhancedRequest.class))).thenAnswer(invocation -> {
+            int n = queries.getAndIncrement();
+            List<OrcamentoEntity> items = n % 2 == 0
+                    ? List.of(OrcamentoEntity.builder().id("orc-" + n).build())
+                    : List.of();
+            return (SdkIterable<Page<OrcamentoEntity>>) () -> List.of(Page.create(items)).iterator();
+        });
+
+        List<OrcamentoEntity> result = repository.findAllByOsId(osIds);
+
+        assertEquals(20, result.size());
+        verify(osIdIndex, times(40)).query(any(QueryEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve consultar cada OS repetida uma única vez")
+    void deveConsultarOsRepetidaUmaVez() {
+        OrcamentoEntity entity = OrcamentoEntity.builder().id("orc-1").osId("os-1").build();
+        mockOsIdQueryWithItems(List.of(entity));
+
+        List<OrcamentoEntity> result = repository.findAllByOsId(List.of("os-1", "os-1"));
+
+        assertEquals(List.of(entity), result);
+        verify(osIdIndex, times(1)).query(any(QueryEnhancedRequest.class));
+    }
+
     @Test
     @DisplayName("Deve buscar entities por status")
     void deveBuscarEntitiesPorStatus() {
         OrcamentoEntity e1 = OrcamentoEntity.builder().id("1").status("PENDENTE").build();
         OrcamentoEntity e2 = OrcamentoEntity.builder().id("2").status("PENDENTE").build();
 
-        mockScanWithItems(List.of(e1, e2));
+        mockStatusQueryWithItems(List.of(e1, e2));
 
         List<OrcamentoEntity> result = repository.findByStatus("PENDENTE");
 
         assertEquals(2, result.size());
     }
 
+    @Test
+    @DisplayName("Deve buscar página por status via GSI com limit e exclusiveStartKey")
+    void deveBuscarPaginaPorStatus() {
+        OrcamentoEntity e1 = OrcamentoEntity.builder().id("1").status("PENDENTE").build();
+        Map<String, AttributeValue> startKey = Map.of(
+                "id", AttributeValue.builder().s("0").build(),
+                "status", AttributeValue.builder().s("PENDENTE").build(),
+                "createdAt", AttributeValue.builder().s("2026-01-31T10:00:00.000000000Z").build());
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("1").build());
+
+        when(statusIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(List.of(e1), lastKey)).iterator());
+
+        Page<OrcamentoEntity> page = repository.findByStatus("PENDENTE", 1, startKey);
+
+        assertEquals(1, page.items().size());
+        assertEquals(lastKey, page.lastEvaluatedKey());
+
+        ArgumentCaptor<QueryEnhancedRequest> captor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(statusIndex).query(captor.capture());
+        assertEquals(1, captor.getValue().limit());
+        assertEquals(startKey, captor.getValue().exclusiveStartKey());
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pageSize inválido")
+    void deveRejeitarPageSizeInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findByStatus("PENDENTE", 0, null));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor com chave de outro índice ou de outro status")
+    void deveRejeitarCursorAdulteradoPorStatus() {
+        Map<String, AttributeValue> chaveDaTabela = Map.of("id", AttributeValue.builder().s("0").build());
+        Map<String, AttributeValue> outroStatus = Map.of(
+                "id", AttributeValue.builder().s("0").build(),
+                "status", AttributeValue.builder().s("OUTRO").build(),
+                "createdAt", AttributeValue.builder().s("2026-01-31T10:00:00.000000000Z").build());
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findByStatus("PENDENTE", 10, chaveDaTabela));
+        assertThrows(IllegalArgumentException.class, () -> repository.findByStatus("PENDENTE", 10, outroStatus));
+        verify(statusIndex, never()).query(any(QueryEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor do scan com atributos que não são a chave da tabela")
+    void deveRejeitarCursorAdulteradoNoScan() {
+        Map<String, AttributeValue> adulterado = Map.of("id", AttributeValue.builder().n("1").build());
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findAll(10, adulterado));
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
+    }
+
     @Test
     @DisplayName("Deve verificar existência por osId - existe")
     void deveVerificarExistenciaPorOsIdExiste() {
@@ -213,7 +597,7 @@ class DynamoDbOrcamentoRepositoryTest {
                 .osId("os-1")
                 .build();
 
-        mockScanWithItems(List.of(entity));
+        mockOsIdQueryWithItems(List.of(entity));
 
         assertTrue(repository.existsByOsId("os-1"));
     }
@@ -221,7 +605,7 @@ class DynamoDbOrcamentoRepositoryTest {
     @Test
     @DisplayName("Deve verificar existência por osId - não existe")
     void deveVerificarExistenciaPorOsIdNaoExiste() {
-        mockScanWithItems(List.of());
+        mockOsIdQueryWithItems(List.of());
 
         assertFalse(repository.existsByOsId("os-inexistente"));
     }
@@ -242,14 +626,254 @@ class DynamoDbOrcamentoRepositoryTest {
         assertEquals(3, result.size());
     }
 
+    @Test
+    @DisplayName("Deve buscar página via scan com limit e exclusiveStartKey")
+    void deveBuscarPaginaViaScan() {
+        OrcamentoEntity e1 = OrcamentoEntity.builder().id("1").build();
+        Map<String, AttributeValue> startKey = Map.of("id", AttributeValue.builder().s("0").build());
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("1").build());
+
+        when(table.scan(any(ScanEnhancedRequest.class)))
+                .thenReturn(PageIterable.create(() -> List.of(Page.create(List.of(e1), lastKey)).iterator()));
+
+        Page<OrcamentoEntity> page = repository.findAll(1, startKey);
+
+        assertEquals(1, page.items().size());
+        assertEquals(lastKey, page.lastEvaluatedKey());
+
+        ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+        verify(table).scan(captor.capture());
+        assertEquals(1, captor.getValue().limit());
+        assertEquals(startKey, captor.getValue().exclusiveStartKey());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pageSize inválido no scan paginado")
+    void deveRejeitarPageSizeInvalidoNoScan() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findAll(0, null));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as entities como stream")
+    void devePercorrerTodasEntitiesComoStream() {
+        OrcamentoEntity e1 = OrcamentoEntity.builder().id("1").build();
+        OrcamentoEntity e2 = OrcamentoEntity.builder().id("2").build();
+
+        when(table.scan()).thenReturn(pageIterable);
+        when(pageIterable.items()).thenReturn(() -> List.of(e1, e2).iterator());
+
+        try (Stream<OrcamentoEntity> result = repository.streamAll()) {
+            assertEquals(List.of("1", "2"), result.map(OrcamentoEntity::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve buscar entities por IDs via BatchGetItem")
+    void deveBuscarEntitiesPorIdsEmLote() {
+        OrcamentoEntity e1 = OrcamentoEntity.builder().id("1").build();
+        OrcamentoEntity e2 = OrcamentoEntity.builder().id("2").build();
+        BatchGetResultPage page = mock(BatchGetResultPage.class);
+        when(page.resultsForTable(table)).thenReturn(List.of(e1, e2));
+        lenient().when(table.tableSchema()).thenReturn(TableSchema.fromBean(OrcamentoEntity.class));
+        lenient().when(table.tableName()).thenReturn("test-orcamentos");
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class)))
+                .thenReturn(() -> List.of(page).iterator());
+
+        List<OrcamentoEntity> result = repository.findAllById(List.of("1", "2", "2"));
+
+        assertEquals(2, result.size());
+        ArgumentCaptor<BatchGetItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(enhancedClient).batchGetItem(captor.capture());
+        assertEquals(2, captor.getValue().readBatches().iterator().next().keysAndAttributes().keys().size());
+        verify(table, never()).getItem(any(Key.class));
+    }
+
+    @Test
+    @DisplayName("Deve salvar entities em lotes de 25 via BatchWriteItem")
+    void deveSalvarEntitiesEmLote() {
+        mockBatchWrite();
+        List<OrcamentoEntity> entities = IntStream.range(0, 30)
+                .mapToObj(i -> OrcamentoEntity.builder().status("PENDENTE").build())
+                .toList();
+
+        List<OrcamentoEntity> result = repository.saveAll(entities);
+
+        assertEquals(30, result.size());
+        result.forEach(entity -> {
+            assertNotNull(entity.getId());
+            assertNotNull(entity.getCreatedAt());
+            assertNotNull(entity.getUpdatedAt());
+        });
+        verify(enhancedClient, times(2)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+        verify(table, never()).putItem(any(OrcamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve buscar histórico com query na partição do orçamento")
+    void deveBuscarHistoricoPorOrcamento() {
+        HistoricoOrcamentoEntity h1 = HistoricoOrcamentoEntity.builder().orcamentoId("orc-1").sequencia(0).build();
+        HistoricoOrcamentoEntity h2 = HistoricoOrcamentoEntity.builder().orcamentoId("orc-1").sequencia(1).build();
+        mockHistoricoQueryWithItems(List.of(h1, h2));
+        when(table.tableName()).thenReturn("test-orcamentos");
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+        List<HistoricoOrcamentoEntity> result = repository.findHistorico("orc-1");
+
+        assertEquals(List.of(h1, h2), result);
+        ArgumentCaptor<QueryEnhancedRequest> captor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(historicoTable).query(captor.capture());
+        assertEquals("orc-1", captor.getValue().queryConditional()
+                .expression(TableSchema.fromBean(HistoricoOrcamentoEntity.class), TableMetadata.primaryIndexName())
+                .expressionValues().values().iterator().next().s());
+        // Sem histórico legado no item: a leitura é só a projeção do atributo
+        ArgumentCaptor<GetItemRequest> getItem = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbClient).getItem(getItem.capture());
+        assertEquals("test-orcamentos", getItem.getValue().tableName());
+        assertEquals("orc-1", getItem.getValue().key().get("id").s());
+        assertEquals("#historico", getItem.getValue().projectionExpression());
+        assertEquals(OrcamentoEntity.HISTORICO_LEGADO, getItem.getValue().expressionAttributeNames().get("#historico"));
+        verify(table, never()).getItem(any(Key.class));
+    }
+
+    @Test
+    @DisplayName("Deve juntar o histórico legado do item com a tabela filha sem repetir entradas migradas")
+    void deveBuscarHistoricoComFallbackLegado() {
+        Instant t0 = Instant.parse("2026-01-01T00:00:00Z");
+        Instant t1 = Instant.parse("2026-01-02T00:00:00Z");
+        Instant t2 = Instant.parse("2026-01-03T00:00:00Z");
+        // Entrada 0 já copiada pela migração e entrada nova gravada depois
+        mockHistoricoQueryWithItems(List.of(
+                HistoricoOrcamentoEntity.builder().orcamentoId("orc-1")
+                        .timestamp(HistoricoOrcamentoEntity.timestamp(t0, 0)).sequencia(0).novoStatus("PENDENTE")
+                        .build(),
+                HistoricoOrcamentoEntity.builder().orcamentoId("orc-1")
+                        .timestamp(HistoricoOrcamentoEntity.timestamp(t2, 2)).sequencia(2).novoStatus("CANCELADO")
+                        .build()));
+        mockTableSchema();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                .item(TableSchema.fromBean(OrcamentoEntity.class).itemToMap(OrcamentoEntity.builder()
+                        .historicoLegado(List.of(
+                                OrcamentoEntity.HistoricoStatusEntity.builder().novoStatus("PENDENTE").data(t0).build(),
+                                OrcamentoEntity.HistoricoStatusEntity.builder().statusAnterior("PENDENTE")
+                                        .novoStatus("APROVADO").data(t1).build()))
+                        .build(), List.of(OrcamentoEntity.HISTORICO_LEGADO)))
+                .build());
+
+        List<HistoricoOrcamentoEntity> result = repository.findHistorico("orc-1");
+
+        assertEquals(List.of("PENDENTE", "APROVADO", "CANCELADO"),
+                result.stream().map(HistoricoOrcamentoEntity::getNovoStatus).toList());
+        assertEquals(List.of(0, 1, 2), result.stream().map(HistoricoOrcamentoEntity::getSequencia).toList());
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbClient).getItem(captor.capture());
+        assertEquals("#historico", captor.getValue().projectionExpression());
+        assertEquals("orc-1", captor.getValue().key().get("id").s());
+    }
+
+    @Test
+    @DisplayName("Não deve ler o histórico legado com o fallback desligado")
+    void naoDeveLerHistoricoLegadoDesligado() {
+        repository = new DynamoDbOrcamentoRepository(enhancedClient, dynamoDbClient, "test-", Formato.LISTA, false);
+        mockHistoricoQueryWithItems(List.of());
+
+        assertTrue(repository.findHistorico("orc-1").isEmpty());
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve migrar o histórico legado para a tabela filha e remover o atributo")
+    void deveMigrarHistoricoLegado() {
+        Instant t0 = Instant.parse("2026-01-01T00:00:00Z");
+        OrcamentoEntity legado = OrcamentoEntity.builder()
+                .id("orc-1")
+                .historicoLegado(List.of(
+                        OrcamentoEntity.HistoricoStatusEntity.builder().novoStatus("PENDENTE").data(t0).build(),
+                        OrcamentoEntity.HistoricoStatusEntity.builder().statusAnterior("PENDENTE")
+                                .novoStatus("APROVADO").data(t0.plusSeconds(60)).build()))
+                .version(4L)
+                .build();
+        when(table.scan(any(ScanEnhancedRequest.class)))
+                .thenReturn(PageIterable.create(() -> List.of(Page.create(List.of(legado))).iterator()));
+        // Uma entrada gravada na tabela filha antes da migração
+        mockHistoricoQueryWithItems(List.of(HistoricoOrcamentoEntity.builder().orcamentoId("orc-1")
+                .timestamp(HistoricoOrcamentoEntity.timestamp(t0.plusSeconds(120), 0)).build()));
+        mockTableSchema();
+        when(historicoTable.tableSchema()).thenReturn(TableSchema.fromBean(HistoricoOrcamentoEntity.class));
+        when(historicoTable.tableName()).thenReturn("test-orcamentos-historico");
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(mock(BatchWriteResult.class));
+
+        assertEquals(1, repository.migrarHistoricoLegado());
+
+        ArgumentCaptor<ScanEnhancedRequest> scan = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+        verify(table).scan(scan.capture());
+        assertEquals("attribute_exists(#historico)", scan.getValue().filterExpression().expression());
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> batch = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(batch.capture());
+        assertEquals(2, batch.getValue().writeBatches().iterator().next().writeRequests().size());
+        ArgumentCaptor<UpdateItemRequest> update = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(update.capture());
+        assertEquals("SET #historicoCount = :historicoCount, #version = :version REMOVE #historico",
+                update.getValue().updateExpression());
+        assertEquals("3", update.getValue().expressionAttributeValues().get(":historicoCount").n());
+        assertEquals("#version = :version_esperado", update.getValue().conditionExpression());
+    }
+
+    @Test
+    @DisplayName("Deve pular na migração o item alterado por outro escritor")
+    void devePularItemAlteradoNaMigracao() {
+        OrcamentoEntity legado = OrcamentoEntity.builder()
+                .id("orc-1")
+                .historicoLegado(List.of(OrcamentoEntity.HistoricoStatusEntity.builder()
+                        .novoStatus("PENDENTE").data(Instant.now()).build()))
+                .version(1L)
+                .build();
+        when(table.scan(any(ScanEnhancedRequest.class)))
+                .thenReturn(PageIterable.create(() -> List.of(Page.create(List.of(legado))).iterator()));
+        mockHistoricoQueryWithItems(List.of());
+        mockTableSchema();
+        when(historicoTable.tableSchema()).thenReturn(TableSchema.fromBean(HistoricoOrcamentoEntity.class));
+        when(historicoTable.tableName()).thenReturn("test-orcamentos-historico");
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(mock(BatchWriteResult.class));
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build());
+
+        assertEquals(0, repository.migrarHistoricoLegado());
+    }
+
+    @Test
+    @DisplayName("Deve deletar entities por ID em lote ignorando IDs repetidos")
+    void deveDeletarEntitiesPorIdEmLote() {
+        mockBatchWrite();
+        mockHistoricoQueryWithItems(List.of());
+
+        repository.deleteAllById(List.of("1", "2", "1"));
+
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(captor.capture());
+        assertEquals(2, captor.getValue().writeBatches().iterator().next().writeRequests().size());
+        verify(table, never()).deleteItem(any(Key.class));
+    }
+
     @Test
     @DisplayName("Deve deletar entity por ID")
     void deveDeletarEntityPorId() {
         String id = UUID.randomUUID().toString();
+        mockHistoricoQueryWithItems(List.of(
+                HistoricoOrcamentoEntity.builder().orcamentoId(id).timestamp("t0#000000").build(),
+                HistoricoOrcamentoEntity.builder().orcamentoId(id).timestamp("t1#000001").build()));
+        lenient().when(historicoTable.tableSchema()).thenReturn(TableSchema.fromBean(HistoricoOrcamentoEntity.class));
+        lenient().when(historicoTable.tableName()).thenReturn("test-orcamentos-historico");
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(mock(BatchWriteResult.class));
 
         repository.deleteById(id);
 
         verify(table).deleteItem(any(Key.class));
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(captor.capture());
+        assertEquals(2, captor.getValue().writeBatches().iterator().next().writeRequests().size());
     }
 
     @Test
@@ -258,21 +882,74 @@ class DynamoDbOrcamentoRepositoryTest {
         OrcamentoEntity e1 = OrcamentoEntity.builder().id("1").build();
         OrcamentoEntity e2 = OrcamentoEntity.builder().id("2").build();
 
-        when(table.scan()).thenReturn(pageIterable);
-        when(pageIterable.items()).thenReturn(() -> List.of(e1, e2).iterator());
+        // deleteAll usa scan paralelo: os itens ficam no segmento 0, os demais vêm vazios
+        when(table.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+            ScanEnhancedRequest request = invocation.getArgument(0);
+            List<OrcamentoEntity> items = request.segment() == 0 ? List.of(e1, e2) : List.of();
+            return PageIterable.create(() -> List.of(Page.create(items)).iterator());
+        });
+
+        mockBatchWrite();
+        mockHistoricoQueryWithItems(List.of());
 
         repository.deleteAll();
 
-        verify(table, times(2)).deleteItem(any(Key.class));
+        verify(table, times(DynamoDbOrcamentoRepository.DELETE_ALL_SEGMENTS)).scan(any(ScanEnhancedRequest.class));
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(captor.capture());
+        assertEquals(2, captor.getValue().writeBatches().iterator().next().writeRequests().size());
+        verify(table, never()).deleteItem(any(Key.class));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as entities com scan paralelo")
+    void devePercorrerTodasEntitiesComScanParalelo() {
+        when(table.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+            ScanEnhancedRequest request = invocation.getArgument(0);
+            OrcamentoEntity entity = OrcamentoEntity.builder().id("seg-" + request.segment()).build();
+            return PageIterable.create(() -> List.of(Page.create(List.of(entity))).iterator());
+        });
+
+        List<String> ids = new ArrayList<>();
+        long count = repository.scanInParallel(3, entity -> ids.add(entity.getId()));
+
+        assertEquals(3, count);
+        assertTrue(ids.containsAll(List.of("seg-0", "seg-1", "seg-2")));
     }
 
     /**
-     * Helper: mock scan with ScanEnhancedRequest returning given items
+     * Helper: mock query no GSI osId-index retornando os itens informados
      */
-    @SuppressWarnings("unchecked")
-    private void mockScanWithItems(List<OrcamentoEntity> items) {
-        PageIterable<OrcamentoEntity> scanPageIterable = mock(PageIterable.class);
-        when(table.scan(any(ScanEnhancedRequest.class))).thenReturn(scanPageIterable);
-        when(scanPageIterable.items()).thenReturn(() -> items.iterator());
+    private void mockOsIdQueryWithItems(List<OrcamentoEntity> items) {
+        when(osIdIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(items)).iterator());
+    }
+
+    private void mockStatusQueryWithItems(List<OrcamentoEntity> items) {
+        when(statusIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(items)).iterator());
+    }
+
+    /**
+     * Helper: query na tabela de histórico retornando os itens informados
+     */
+    private void mockHistoricoQueryWithItems(List<HistoricoOrcamentoEntity> items) {
+        when(historicoTable.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(PageIterable.create(() -> List.of(Page.create(items)).iterator()));
+    }
+
+    private void mockTableSchema() {
+        when(table.tableSchema()).thenReturn(TableSchema.fromBean(OrcamentoEntity.class));
+        when(table.tableName()).thenReturn("test-orcamentos");
+    }
+
+    /**
+     * Helper: BatchWriteItem sem itens não processados
+     */
+    private void mockBatchWrite() {
+        lenient().when(table.tableSchema()).thenReturn(TableSchema.fromBean(OrcamentoEntity.class));
+        lenient().when(table.tableName()).thenReturn("test-orcamentos");
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(mock(BatchWriteResult.class));
     }
 }
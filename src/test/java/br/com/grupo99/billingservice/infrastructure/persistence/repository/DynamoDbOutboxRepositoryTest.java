@@ -0,0 +1,175 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbOutboxRepository - Testes Unitários")
+class DynamoDbOutboxRepositoryTest {
+
+    @Mock
+    private DynamoDbEnhancedClient enhancedClient;
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private DynamoDbTable<OutboxEventEntity> table;
+
+    private DynamoDbOutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        when(enhancedClient.table("test-billing-outbox", EntityTableSchemas.OUTBOX_EVENT)).thenReturn(table);
+        lenient().when(table.tableName()).thenReturn("test-billing-outbox");
+        repository = new DynamoDbOutboxRepository(enhancedClient, dynamoDbClient, "test-");
+    }
+
+    @Test
+    @DisplayName("Deve buscar pendentes do shard com leitura consistente e limite")
+    void deveBuscarPendentesDoShard() {
+        OutboxEventEntity e1 = evento("3");
+        OutboxEventEntity e2 = evento("3");
+        when(table.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(List.of(e1, e2))).iterator());
+
+        List<OutboxEventEntity> result = repository.findPendentes("3", 50);
+
+        assertEquals(List.of(e1, e2), result);
+        ArgumentCaptor<QueryEnhancedRequest> captor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(table).query(captor.capture());
+        assertTrue(captor.getValue().consistentRead());
+        assertEquals(50, captor.getValue().limit());
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia quando o shard não tem pendentes")
+    void deveRetornarVazioSemPendentes() {
+        when(table.query(any(QueryEnhancedRequest.class))).thenReturn(() -> List.<Page<OutboxEventEntity>>of().iterator());
+
+        assertTrue(repository.findPendentes("0", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite não positivo")
+    void deveRejeitarLimiteNaoPositivo() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findPendentes("0", 0));
+        verify(table, never()).query(any(QueryEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve remover eventos publicados em lote")
+    void deveRemoverEventosEmLote() {
+        when(table.tableSchema()).thenReturn(EntityTableSchemas.OUTBOX_EVENT);
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(mock(BatchWriteResult.class));
+
+        repository.deleteAll(List.of(evento("1"), evento("1")));
+
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(captor.capture());
+        assertEquals(2, captor.getValue().writeBatches().iterator().next().writeRequests().size());
+    }
+
+    @Test
+    @DisplayName("Deve adquirir lease com PutItem condicional")
+    void deveAdquirirLease() {
+        assertTrue(repository.adquirirLease("5", "relay-a", Duration.ofSeconds(10)));
+
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        PutItemRequest request = captor.getValue();
+        assertEquals("test-billing-outbox", request.tableName());
+        assertEquals("lease#5", request.item().get(OutboxEventEntity.SHARD).s());
+        assertEquals("lease", request.item().get(OutboxEventEntity.SEQUENCIA).s());
+        assertEquals("relay-a", request.item().get("dono").s());
+        assertTrue(request.conditionExpression().contains("attribute_not_exists"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar lease de outro dono ainda válido")
+    void deveRecusarLeaseDeOutroDono() {
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("lease").build());
+
+        assertFalse(repository.adquirirLease("5", "relay-b", Duration.ofSeconds(10)));
+    }
+
+    @Test
+    @DisplayName("Deve liberar lease do dono e ignorar lease que já não é dele")
+    void deveLiberarLease() {
+        when(dynamoDbClient.deleteItem(any(DeleteItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("lease").build());
+
+        assertDoesNotThrow(() -> repository.liberarLease("5", "relay-a"));
+
+        ArgumentCaptor<DeleteItemRequest> captor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+        verify(dynamoDbClient).deleteItem(captor.capture());
+        assertEquals("lease#5", captor.getValue().key().get(OutboxEventEntity.SHARD).s());
+        assertEquals("relay-a", captor.getValue().expressionAttributeValues().get(":dono").s());
+    }
+
+    @Test
+    @DisplayName("Deve estacionar evento movendo-o para fora do shard na mesma transação")
+    void deveEstacionarEvento() {
+        when(table.tableSchema()).thenReturn(EntityTableSchemas.OUTBOX_EVENT);
+        OutboxEventEntity evento = evento("4");
+        evento.setPayloadType("ORCAMENTO_APROVADO");
+        evento.setPayload("{...}");
+
+        repository.estacionar(evento);
+
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> itens = captor.getValue().transactItems();
+        assertEquals(2, itens.size());
+        Map<String, AttributeValue> estacionado = itens.get(0).put().item();
+        assertEquals(DynamoDbOutboxRepository.PARKED_PREFIX + "4", estacionado.get(OutboxEventEntity.SHARD).s());
+        assertEquals(evento.getSequencia(), estacionado.get(OutboxEventEntity.SEQUENCIA).s());
+        assertEquals("{...}", estacionado.get("payload").s());
+        Map<String, AttributeValue> removido = itens.get(1).delete().key();
+        assertEquals("4", removido.get(OutboxEventEntity.SHARD).s());
+        assertEquals(evento.getSequencia(), removido.get(OutboxEventEntity.SEQUENCIA).s());
+    }
+
+    private static OutboxEventEntity evento(String shard) {
+        UUID eventId = UUID.randomUUID();
+        Instant createdAt = Instant.now();
+        return OutboxEventEntity.builder()
+                .shard(shard)
+                .sequencia(OutboxEventEntity.sequencia(createdAt, eventId))
+                .eventId(eventId.toString())
+                .createdAt(createdAt)
+                .build();
+    }
+}
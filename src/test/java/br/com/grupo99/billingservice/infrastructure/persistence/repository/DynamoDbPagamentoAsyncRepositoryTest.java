@@ -0,0 +1,85 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static br.com.grupo99.billingservice.infrastructure.persistence.repository.DynamoDbOrcamentoAsyncRepositoryTest.publisherOf;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbPagamentoAsyncRepository - Testes Unitários")
+class DynamoDbPagamentoAsyncRepositoryTest {
+
+    @Mock
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient;
+
+    @Mock
+    private DynamoDbAsyncTable<PagamentoEntity> table;
+
+    @Mock
+    private DynamoDbAsyncIndex<PagamentoEntity> osIdIndex;
+
+    private DynamoDbPagamentoAsyncRepository repository;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        when(enhancedAsyncClient.table(anyString(), any(TableSchema.class))).thenReturn(table);
+        when(table.index(PagamentoEntity.OS_ID_INDEX)).thenReturn(osIdIndex);
+        repository = new DynamoDbPagamentoAsyncRepository(enhancedAsyncClient, "test-");
+    }
+
+    @Test
+    @DisplayName("Deve usar prefixo da tabela")
+    void deveUsarPrefixoTabela() {
+        verify(enhancedAsyncClient).table(eq("test-pagamentos"), any(TableSchema.class));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por ID")
+    void deveBuscarPorId() {
+        PagamentoEntity entity = PagamentoEntity.builder().id("pag-1").build();
+        when(table.getItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(entity));
+
+        Optional<PagamentoEntity> result = repository.findById("pag-1").join();
+
+        assertTrue(result.isPresent());
+        assertEquals("pag-1", result.get().getId());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por osId pelo GSI lendo todas as páginas")
+    void deveBuscarPorOsIdTodasAsPaginas() {
+        PagamentoEntity p1 = PagamentoEntity.builder().id("pag-1").osId("os-1").build();
+        PagamentoEntity p2 = PagamentoEntity.builder().id("pag-2").osId("os-1").build();
+        when(osIdIndex.query(any(QueryEnhancedRequest.class))).thenReturn(
+                publisherOf(List.of(Page.create(List.of(p1)), Page.create(List.of()), Page.create(List.of(p2)))));
+
+        List<PagamentoEntity> result = repository.findByOsId("os-1").join();
+
+        assertEquals(List.of("pag-1", "pag-2"), result.stream().map(PagamentoEntity::getId).toList());
+        verify(osIdIndex).query(any(QueryEnhancedRequest.class));
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
+    }
+}
@@ -1,21 +1,41 @@
 package br.com.grupo99.billingservice.infrastructure.persistence.repository;
 
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.OutboxEventEntity;
 import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.enhanced.dynamodb.*;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,16 +50,35 @@ class DynamoDbPagamentoRepositoryTest {
     @Mock
     private DynamoDbEnhancedClient enhancedClient;
 
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
     @Mock
     private DynamoDbTable<PagamentoEntity> table;
 
+    @Mock
+    private DynamoDbIndex<PagamentoEntity> statusIndex;
+
+    @Mock
+    private DynamoDbIndex<PagamentoEntity> mercadoPagoPaymentIdIndex;
+
+    @Mock
+    private DynamoDbIndex<PagamentoEntity> orcamentoIdStatusIndex;
+
+    @Mock
+    private DynamoDbIndex<PagamentoEntity> osIdIndex;
+
     private DynamoDbPagamentoRepository repository;
 
     @SuppressWarnings("unchecked")
     @BeforeEach
     void setUp() {
         when(enhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(table);
-        repository = new DynamoDbPagamentoRepository(enhancedClient, "test-");
+        when(table.index(PagamentoEntity.MERCADO_PAGO_PAYMENT_ID_INDEX)).thenReturn(mercadoPagoPaymentIdIndex);
+        when(table.index(PagamentoEntity.ORCAMENTO_ID_STATUS_INDEX)).thenReturn(orcamentoIdStatusIndex);
+        when(table.index(PagamentoEntity.STATUS_CREATED_AT_INDEX)).thenReturn(statusIndex);
+        when(table.index(PagamentoEntity.OS_ID_INDEX)).thenReturn(osIdIndex);
+        repository = new DynamoDbPagamentoRepository(enhancedClient, dynamoDbClient, "test-");
     }
 
     @Test
@@ -56,7 +95,7 @@ class DynamoDbPagamentoRepositoryTest {
         DynamoDbTable<PagamentoEntity> table2 = mock(DynamoDbTable.class);
         when(enhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(table2);
 
-        new DynamoDbPagamentoRepository(enhancedClient, "");
+        new DynamoDbPagamentoRepository(enhancedClient, dynamoDbClient, "");
         verify(enhancedClient).table(eq("pagamentos"), any(TableSchema.class));
     }
 
@@ -68,7 +107,7 @@ class DynamoDbPagamentoRepositoryTest {
         DynamoDbTable<PagamentoEntity> table2 = mock(DynamoDbTable.class);
         when(enhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(table2);
 
-        new DynamoDbPagamentoRepository(enhancedClient, null);
+        new DynamoDbPagamentoRepository(enhancedClient, dynamoDbClient, null);
         verify(enhancedClient).table(eq("pagamentos"), any(TableSchema.class));
     }
 
@@ -118,6 +157,84 @@ class DynamoDbPagamentoRepositoryTest {
         assertNotNull(result.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("Deve incrementar a versão após o put condicional")
+    void deveIncrementarVersaoAposSave() {
+        PagamentoEntity novo = PagamentoEntity.builder().id(UUID.randomUUID().toString()).build();
+        PagamentoEntity existente = PagamentoEntity.builder().id(UUID.randomUUID().toString()).version(3L).build();
+
+        assertEquals(1L, repository.save(novo).getVersion());
+        assertEquals(4L, repository.save(existente).getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve gravar transição de status via UpdateItem condicional")
+    void deveGravarTransicaoDeStatusComUpdateParcial() {
+        when(table.tableSchema()).thenReturn(TableSchema.fromBean(PagamentoEntity.class));
+        when(table.tableName()).thenReturn("test-pagamentos");
+        PagamentoEntity entity = PagamentoEntity.builder()
+                .id("pag-1")
+                .status("CONFIRMADO")
+                .valor(new BigDecimal("500.00"))
+                .mercadoPagoPaymentId(12345L)
+                .dataPagamento(Instant.now())
+                .version(1L)
+                .build();
+
+        PagamentoEntity result = repository.updateStatus(entity, "PROCESSANDO");
+
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertEquals(Map.of("id", AttributeValue.builder().s("pag-1").build()), request.key());
+        assertEquals("#status = :status_esperado AND #version = :version_esperado", request.conditionExpression());
+        assertEquals("PROCESSANDO", request.expressionAttributeValues().get(":status_esperado").s());
+        assertEquals("12345", request.expressionAttributeValues().get(":mercadoPagoPaymentId").n());
+        assertFalse(request.expressionAttributeNames().containsValue("valor"));
+        assertEquals(2L, result.getVersion());
+        verify(table, never()).putItem(any(PagamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar transição e evento do outbox em uma transação")
+    void deveGravarTransicaoEEventoDoOutboxEmUmaTransacao() {
+        mockOutbox();
+        PagamentoEntity entity = PagamentoEntity.builder().id("pag-1").status("ESTORNADO").version(1L).build();
+        OutboxEventEntity evento = OutboxEventEntity.builder().shard("0").sequencia("s#evt-1").eventId("evt-1").build();
+
+        PagamentoEntity result = repository.updateStatus(entity, "CONFIRMADO", List.of(evento));
+
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> items = captor.getValue().transactItems();
+        assertEquals(2, items.size());
+        assertEquals("test-pagamentos", items.get(0).update().tableName());
+        assertEquals("CONFIRMADO", items.get(0).update().expressionAttributeValues().get(":status_esperado").s());
+        assertEquals("test-billing-outbox", items.get(1).put().tableName());
+        assertEquals("evt-1", items.get(1).put().item().get("eventId").s());
+        assertEquals(2L, result.getVersion());
+        verify(dynamoDbClient, never()).updateItem(any(UpdateItemRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve traduzir transação cancelada por condição em falha de condição")
+    void deveTraduzirTransacaoCanceladaPorCondicao() {
+        mockOutbox();
+        doThrow(TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(
+                        CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                        CancellationReason.builder().code("None").build())
+                .build())
+                .when(dynamoDbClient).transactWriteItems(any(TransactWriteItemsRequest.class));
+        PagamentoEntity entity = PagamentoEntity.builder().id("pag-1").status("ESTORNADO").version(1L).build();
+        OutboxEventEntity evento = OutboxEventEntity.builder().shard("0").sequencia("s#evt-1").build();
+
+        assertThrows(ConditionalCheckFailedException.class,
+                () -> repository.updateStatus(entity, "CONFIRMADO", List.of(evento)));
+        assertEquals(1L, entity.getVersion());
+    }
+
     @Test
     @DisplayName("Deve gerar ID quando ID é blank")
     void deveGerarIdQuandoIdBlank() {
@@ -167,18 +284,19 @@ class DynamoDbPagamentoRepositoryTest {
                 .orcamentoId(orcamentoId)
                 .build();
 
-        mockScanWithItems(List.of(expected));
+        mockOrcamentoIdStatusQueryWithItems(List.of(expected));
 
         Optional<PagamentoEntity> result = repository.findByOrcamentoId(orcamentoId);
 
         assertTrue(result.isPresent());
         assertEquals(orcamentoId, result.get().getOrcamentoId());
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
     }
 
     @Test
     @DisplayName("Deve retornar empty quando não encontrada por orcamentoId")
     void deveRetornarEmptyQuandoNaoEncontradaPorOrcamentoId() {
-        mockScanWithItems(List.of());
+        mockOrcamentoIdStatusQueryWithItems(List.of());
 
         Optional<PagamentoEntity> result = repository.findByOrcamentoId(UUID.randomUUID().toString());
 
@@ -186,17 +304,18 @@ class DynamoDbPagamentoRepositoryTest {
     }
 
     @Test
-    @DisplayName("Deve buscar entities por osId")
+    @DisplayName("Deve buscar entities por osId pelo GSI, sem scan")
     void deveBuscarEntitiesPorOsId() {
         String osId = UUID.randomUUID().toString();
         PagamentoEntity e1 = PagamentoEntity.builder().id("1").osId(osId).build();
         PagamentoEntity e2 = PagamentoEntity.builder().id("2").osId(osId).build();
-
-        mockScanWithItems(List.of(e1, e2));
+        when(osIdIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(List.of(e1)), Page.create(List.of(e2))).iterator());
 
         List<PagamentoEntity> result = repository.findByOsId(osId);
 
         assertEquals(2, result.size());
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
     }
 
     @Test
@@ -204,13 +323,67 @@ class DynamoDbPagamentoRepositoryTest {
     void deveBuscarEntitiesPorStatus() {
         PagamentoEntity e1 = PagamentoEntity.builder().id("1").status("CONFIRMADO").build();
 
-        mockScanWithItems(List.of(e1));
+        mockStatusQueryWithItems(List.of(e1));
 
         List<PagamentoEntity> result = repository.findByStatus("CONFIRMADO");
 
         assertEquals(1, result.size());
     }
 
+    @Test
+    @DisplayName("Deve buscar página por status via GSI com limit e exclusiveStartKey")
+    void deveBuscarPaginaPorStatus() {
+        PagamentoEntity e1 = PagamentoEntity.builder().id("1").status("CONFIRMADO").build();
+        Map<String, AttributeValue> startKey = Map.of(
+                "id", AttributeValue.builder().s("0").build(),
+                "status", AttributeValue.builder().s("CONFIRMADO").build(),
+                "createdAt", AttributeValue.builder().s("2026-01-31T10:00:00.000000000Z").build());
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("1").build());
+
+        when(statusIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(List.of(e1), lastKey)).iterator());
+
+        Page<PagamentoEntity> page = repository.findByStatus("CONFIRMADO", 1, startKey);
+
+        assertEquals(1, page.items().size());
+        assertEquals(lastKey, page.lastEvaluatedKey());
+
+        ArgumentCaptor<QueryEnhancedRequest> captor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(statusIndex).query(captor.capture());
+        assertEquals(1, captor.getValue().limit());
+        assertEquals(startKey, captor.getValue().exclusiveStartKey());
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pageSize inválido")
+    void deveRejeitarPageSizeInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findByStatus("CONFIRMADO", 0, null));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor com chave de outro índice ou de outro status")
+    void deveRejeitarCursorAdulteradoPorStatus() {
+        Map<String, AttributeValue> chaveDaTabela = Map.of("id", AttributeValue.builder().s("0").build());
+        Map<String, AttributeValue> outroStatus = Map.of(
+                "id", AttributeValue.builder().s("0").build(),
+                "status", AttributeValue.builder().s("OUTRO").build(),
+                "createdAt", AttributeValue.builder().s("2026-01-31T10:00:00.000000000Z").build());
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findByStatus("CONFIRMADO", 10, chaveDaTabela));
+        assertThrows(IllegalArgumentException.class, () -> repository.findByStatus("CONFIRMADO", 10, outroStatus));
+        verify(statusIndex, never()).query(any(QueryEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor do scan com atributos que não são a chave da tabela")
+    void deveRejeitarCursorAdulteradoNoScan() {
+        Map<String, AttributeValue> adulterado = Map.of("id", AttributeValue.builder().n("1").build());
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findAll(10, adulterado));
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
+    }
+
     @Test
     @DisplayName("Deve verificar existência por orcamentoId e status - existe")
     void deveVerificarExistenciaPorOrcamentoIdEStatusExiste() {
@@ -220,19 +393,143 @@ class DynamoDbPagamentoRepositoryTest {
                 .status("CONFIRMADO")
                 .build();
 
-        mockScanWithItems(List.of(entity));
+        mockOrcamentoIdStatusQueryWithItems(List.of(entity));
 
         assertTrue(repository.existsByOrcamentoIdAndStatus("orc-1", "CONFIRMADO"));
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
     }
 
     @Test
     @DisplayName("Deve verificar existência por orcamentoId e status - não existe")
     void deveVerificarExistenciaPorOrcamentoIdEStatusNaoExiste() {
-        mockScanWithItems(List.of());
+        mockOrcamentoIdStatusQueryWithItems(List.of());
 
         assertFalse(repository.existsByOrcamentoIdAndStatus("orc-1", "CONFIRMADO"));
     }
 
+    @Test
+    @DisplayName("Deve buscar entity por mercadoPagoPaymentId via GSI")
+    void deveBuscarEntityPorMercadoPagoPaymentId() {
+        PagamentoEntity expected = PagamentoEntity.builder()
+                .id("1")
+                .mercadoPagoPaymentId(123456L)
+                .build();
+
+        when(mercadoPagoPaymentIdIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(List.of(expected))).iterator());
+
+        Optional<PagamentoEntity> result = repository.findByMercadoPagoPaymentId(123456L);
+
+        assertTrue(result.isPresent());
+        assertEquals(123456L, result.get().getMercadoPagoPaymentId());
+        verify(table, never()).scan(any(ScanEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar empty quando não encontrada por mercadoPagoPaymentId")
+    void deveRetornarEmptyQuandoNaoEncontradaPorMercadoPagoPaymentId() {
+        when(mercadoPagoPaymentIdIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.<PagamentoEntity>create(List.of())).iterator());
+
+        Optional<PagamentoEntity> result = repository.findByMercadoPagoPaymentId(999L);
+
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve buscar página via scan com limit e exclusiveStartKey")
+    void deveBuscarPaginaViaScan() {
+        PagamentoEntity e1 = PagamentoEntity.builder().id("1").build();
+        Map<String, AttributeValue> startKey = Map.of("id", AttributeValue.builder().s("0").build());
+        Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("1").build());
+
+        when(table.scan(any(ScanEnhancedRequest.class)))
+                .thenReturn(PageIterable.create(() -> List.of(Page.create(List.of(e1), lastKey)).iterator()));
+
+        Page<PagamentoEntity> page = repository.findAll(1, startKey);
+
+        assertEquals(1, page.items().size());
+        assertEquals(lastKey, page.lastEvaluatedKey());
+
+        ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+        verify(table).scan(captor.capture());
+        assertEquals(1, captor.getValue().limit());
+        assertEquals(startKey, captor.getValue().exclusiveStartKey());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pageSize inválido no scan paginado")
+    void deveRejeitarPageSizeInvalidoNoScan() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findAll(0, null));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as entities como stream")
+    void devePercorrerTodasEntitiesComoStream() {
+        PagamentoEntity e1 = PagamentoEntity.builder().id("1").build();
+        PagamentoEntity e2 = PagamentoEntity.builder().id("2").build();
+
+        when(table.scan()).thenReturn(PageIterable.create(() -> List.of(Page.create(List.of(e1, e2))).iterator()));
+
+        try (Stream<PagamentoEntity> result = repository.streamAll()) {
+            assertEquals(List.of("1", "2"), result.map(PagamentoEntity::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve buscar entities por IDs via BatchGetItem")
+    void deveBuscarEntitiesPorIdsEmLote() {
+        PagamentoEntity e1 = PagamentoEntity.builder().id("1").build();
+        PagamentoEntity e2 = PagamentoEntity.builder().id("2").build();
+        BatchGetResultPage page = mock(BatchGetResultPage.class);
+        when(page.resultsForTable(table)).thenReturn(List.of(e1, e2));
+        lenient().when(table.tableSchema()).thenReturn(TableSchema.fromBean(PagamentoEntity.class));
+        lenient().when(table.tableName()).thenReturn("test-pagamentos");
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class)))
+                .thenReturn(() -> List.of(page).iterator());
+
+        List<PagamentoEntity> result = repository.findAllById(List.of("1", "2", "2"));
+
+        assertEquals(2, result.size());
+        ArgumentCaptor<BatchGetItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(enhancedClient).batchGetItem(captor.capture());
+        assertEquals(2, captor.getValue().readBatches().iterator().next().keysAndAttributes().keys().size());
+        verify(table, never()).getItem(any(Key.class));
+    }
+
+    @Test
+    @DisplayName("Deve salvar entities em lotes de 25 via BatchWriteItem")
+    void deveSalvarEntitiesEmLote() {
+        mockBatchWrite();
+        List<PagamentoEntity> entities = IntStream.range(0, 30)
+                .mapToObj(i -> PagamentoEntity.builder().status("PENDENTE").build())
+                .toList();
+
+        List<PagamentoEntity> result = repository.saveAll(entities);
+
+        assertEquals(30, result.size());
+        result.forEach(entity -> {
+            assertNotNull(entity.getId());
+            assertNotNull(entity.getCreatedAt());
+            assertNotNull(entity.getUpdatedAt());
+        });
+        verify(enhancedClient, times(2)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+        verify(table, never()).putItem(any(PagamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve deletar entities por ID em lote ignorando IDs repetidos")
+    void deveDeletarEntitiesPorIdEmLote() {
+        mockBatchWrite();
+
+        repository.deleteAllById(List.of("1", "2", "1"));
+
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(captor.capture());
+        assertEquals(2, captor.getValue().writeBatches().iterator().next().writeRequests().size());
+        verify(table, never()).deleteItem(any(Key.class));
+    }
+
     @Test
     @DisplayName("Deve deletar entity por ID")
     void deveDeletarEntityPorId() {
@@ -249,4 +546,38 @@ class DynamoDbPagamentoRepositoryTest {
         when(table.scan(any(ScanEnhancedRequest.class))).thenReturn(scanPageIterable);
         when(scanPageIterable.items()).thenReturn(() -> items.iterator());
     }
+
+    private void mockOrcamentoIdStatusQueryWithItems(List<PagamentoEntity> items) {
+        when(orcamentoIdStatusIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(items)).iterator());
+    }
+
+    private void mockStatusQueryWithItems(List<PagamentoEntity> items) {
+        when(statusIndex.query(any(QueryEnhancedRequest.class)))
+                .thenReturn(() -> List.of(Page.create(items)).iterator());
+    }
+
+    /**
+     * Helper: BatchWriteItem sem itens não processados
+     */
+    private void mockBatchWrite() {
+        lenient().when(table.tableSchema()).thenReturn(TableSchema.fromBean(PagamentoEntity.class));
+        lenient().when(table.tableName()).thenReturn("test-pagamentos");
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(mock(BatchWriteResult.class));
+    }
+
+    /**
+     * Helper: repositório com tabela do outbox própria e schemas reais
+     */
+    @SuppressWarnings("unchecked")
+    private void mockOutbox() {
+        DynamoDbTable<OutboxEventEntity> outboxTable = mock(DynamoDbTable.class);
+        when(enhancedClient.table(eq("test-billing-outbox"), any(TableSchema.class))).thenReturn(outboxTable);
+        repository = new DynamoDbPagamentoRepository(enhancedClient, dynamoDbClient, "test-");
+        when(table.tableSchema()).thenReturn(TableSchema.fromBean(PagamentoEntity.class));
+        when(table.tableName()).thenReturn("test-pagamentos");
+        when(outboxTable.tableSchema()).thenReturn(EntityTableSchemas.OUTBOX_EVENT);
+        when(outboxTable.tableName()).thenReturn("test-billing-outbox");
+    }
 }
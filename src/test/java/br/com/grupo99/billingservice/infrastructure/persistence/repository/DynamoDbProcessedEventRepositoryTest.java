@@ -0,0 +1,90 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.EntityTableSchemas;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.ProcessedEventEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbProcessedEventRepository - Testes Unitários")
+class DynamoDbProcessedEventRepositoryTest {
+
+    @Mock
+    private DynamoDbEnhancedClient enhancedClient;
+
+    @Mock
+    private DynamoDbTable<ProcessedEventEntity> table;
+
+    private DynamoDbProcessedEventRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        when(enhancedClient.table("test-processed-events", EntityTableSchemas.PROCESSED_EVENT)).thenReturn(table);
+        lenient().when(table.tableName()).thenReturn("test-processed-events");
+        lenient().when(table.tableSchema()).thenReturn(EntityTableSchemas.PROCESSED_EVENT);
+        repository = new DynamoDbProcessedEventRepository(enhancedClient, "test-");
+    }
+
+    @Test
+    @DisplayName("Deve buscar chaves em lote ignorando itens já expirados")
+    void deveBuscarChavesIgnorandoExpirados() {
+        long agora = Instant.now().getEpochSecond();
+        BatchGetResultPage page = mock(BatchGetResultPage.class);
+        when(page.resultsForTable(table)).thenReturn(List.of(
+                ProcessedEventEntity.builder().chave("a").expiresAt(agora + 3600).build(),
+                ProcessedEventEntity.builder().chave("b").expiresAt(agora - 60).build()));
+        when(enhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class)))
+                .thenReturn(() -> List.of(page).iterator());
+
+        Set<String> existentes = repository.findExistentes(List.of("a", "b", "c", "a"));
+
+        assertEquals(Set.of("a"), existentes);
+        ArgumentCaptor<BatchGetItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(enhancedClient).batchGetItem(captor.capture());
+        assertEquals(3, captor.getValue().readBatches().iterator().next().keysAndAttributes().keys().size());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o DynamoDB sem chaves")
+    void naoDeveConsultarSemChaves() {
+        assertTrue(repository.findExistentes(List.of()).isEmpty());
+        verify(enhancedClient, never()).batchGetItem(any(BatchGetItemEnhancedRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar as chaves distintas em lote com expiresAt pelo TTL")
+    void deveGravarChavesComTtl() {
+        when(enhancedClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(mock(BatchWriteResult.class));
+        long antes = Instant.now().plus(Duration.ofHours(24)).getEpochSecond();
+
+        repository.saveAll(List.of("a", "b", "a"), Duration.ofHours(24));
+
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(enhancedClient).batchWriteItem(captor.capture());
+        var writeRequests = captor.getValue().writeBatches().iterator().next().writeRequests();
+        assertEquals(2, writeRequests.size());
+        long expiresAt = Long.parseLong(writeRequests.iterator().next().putRequest().item().get(ProcessedEventEntity.EXPIRES_AT).n());
+        assertTrue(expiresAt >= antes && expiresAt <= antes + 5);
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbProjectedReader - Testes Unitários")
+class DynamoDbProjectedReaderTest {
+
+    private static final String TABLE_NAME = "test-orcamentos";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private DynamoDbProjectedReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new DynamoDbProjectedReader(dynamoDbClient, TABLE_NAME, Duration.ofMillis(1), "id", "status");
+    }
+
+    @Test
+    @DisplayName("Deve dividir as chaves em lotes de 100 com a projeção em cada lote")
+    void deveDividirEmLotesDe100() {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenAnswer(invocation -> responseWith(invocation.<BatchGetItemRequest>getArgument(0)
+                        .requestItems().get(TABLE_NAME).keys(), Map.of()));
+
+        List<Map<String, AttributeValue>> result = reader.getAll(keys(250));
+
+        assertEquals(250, result.size());
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient, times(3)).batchGetItem(captor.capture());
+        assertEquals(List.of(100, 100, 50), captor.getAllValues().stream()
+                .map(request -> request.requestItems().get(TABLE_NAME).keys().size())
+                .toList());
+        KeysAndAttributes primeiro = captor.getAllValues().get(0).requestItems().get(TABLE_NAME);
+        assertEquals("#id, #status", primeiro.projectionExpression());
+        assertEquals(Map.of("#id", "id", "#status", "status"), primeiro.expressionAttributeNames());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar chaves não processadas")
+    void deveReenviarChavesNaoProcessadas() {
+        List<Map<String, AttributeValue>> keys = keys(3);
+        KeysAndAttributes naoProcessadas = KeysAndAttributes.builder().keys(keys.get(2)).build();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(responseWith(keys.subList(0, 2), Map.of(TABLE_NAME, naoProcessadas)))
+                .thenReturn(responseWith(keys.subList(2, 3), Map.of()));
+
+        List<Map<String, AttributeValue>> result = reader.getAll(keys);
+
+        assertEquals(keys, result);
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchGetItem(captor.capture());
+        assertEquals(naoProcessadas, captor.getAllValues().get(1).requestItems().get(TABLE_NAME));
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando chaves continuam não processadas após o limite de tentativas")
+    void deveFalharAposLimiteDeTentativas() {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(responseWith(List.of(),
+                        Map.of(TABLE_NAME, KeysAndAttributes.builder().keys(keys(1)).build())));
+
+        assertThrows(IllegalStateException.class, () -> reader.getAll(keys(1)));
+        verify(dynamoDbClient, times(DynamoDbBatchReader.MAX_ATTEMPTS)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    @DisplayName("Não deve chamar o DynamoDB para lista vazia")
+    void naoDeveChamarDynamoParaListaVazia() {
+        assertTrue(reader.getAll(List.of()).isEmpty());
+
+        verify(dynamoDbClient, never()).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve projetar o scan e repassar limite e chave inicial")
+    void deveProjetarScan() {
+        Map<String, AttributeValue> startKey = keys(1).get(0);
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder().build());
+
+        reader.scan(10, startKey);
+
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient).scan(captor.capture());
+        assertEquals(TABLE_NAME, captor.getValue().tableName());
+        assertEquals(10, captor.getValue().limit());
+        assertEquals(startKey, captor.getValue().exclusiveStartKey());
+        assertEquals("#id, #status", captor.getValue().projectionExpression());
+        assertEquals(Map.of("#id", "id", "#status", "status"), captor.getValue().expressionAttributeNames());
+    }
+
+    private static List<Map<String, AttributeValue>> keys(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Map.of("id", AttributeValue.builder().s("id-" + i).build()))
+                .toList();
+    }
+
+    /**
+     * Helper: resposta devolvendo um item (apenas o id) por chave
+     */
+    private static BatchGetItemResponse responseWith(List<Map<String, AttributeValue>> found,
+            Map<String, KeysAndAttributes> unprocessed) {
+        return BatchGetItemResponse.builder()
+                .responses(Map.of(TABLE_NAME, found))
+                .unprocessedKeys(unprocessed)
+                .build();
+    }
+}
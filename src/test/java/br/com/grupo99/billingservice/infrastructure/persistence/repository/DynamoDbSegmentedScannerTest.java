@@ -0,0 +1,122 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamoDbSegmentedScanner - Testes Unitários")
+class DynamoDbSegmentedScannerTest {
+
+    @Mock
+    private DynamoDbTable<String> table;
+
+    @Test
+    @DisplayName("Deve consumir os itens de todos os segmentos")
+    void deveConsumirTodosOsSegmentos() {
+        mockSegments(3, 50);
+
+        List<String> consumed = new ArrayList<>();
+        long count = new DynamoDbSegmentedScanner<>(table, 3, 4).forEach(consumed::add);
+
+        assertEquals(150, count);
+        assertEquals(150, consumed.size());
+        assertTrue(consumed.containsAll(List.of("0-0", "1-49", "2-25")));
+
+        ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+        verify(table, times(3)).scan(captor.capture());
+        assertEquals(List.of(0, 1, 2), captor.getAllValues().stream().map(ScanEnhancedRequest::segment).sorted().toList());
+        captor.getAllValues().forEach(request -> assertEquals(3, request.totalSegments()));
+    }
+
+    @Test
+    @DisplayName("Deve chamar o consumidor sempre na thread chamadora")
+    void deveChamarConsumidorNaThreadChamadora() {
+        mockSegments(4, 20);
+        Thread caller = Thread.currentThread();
+
+        new DynamoDbSegmentedScanner<>(table, 4, 1)
+                .forEach(item -> assertSame(caller, Thread.currentThread()));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Deve propagar falha de um segmento")
+    void devePropagarFalhaDeSegmento() {
+        when(table.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+            ScanEnhancedRequest request = invocation.getArgument(0);
+            if (request.segment() == 1) {
+                throw new IllegalStateException("throttled");
+            }
+            return segmentPages(request.segment(), 1_000);
+        });
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> new DynamoDbSegmentedScanner<>(table, 2, 1).forEach(item -> {
+                }));
+        assertEquals("throttled", error.getMessage());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Deve cancelar os segmentos quando o consumidor falha com o buffer cheio")
+    void deveCancelarSegmentosQuandoConsumidorFalha() {
+        mockSegments(4, 10_000);
+        AtomicInteger consumed = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new DynamoDbSegmentedScanner<>(table, 4, 2).forEach(item -> {
+                    if (consumed.incrementAndGet() == 3) {
+                        throw new IllegalArgumentException("item inválido");
+                    }
+                }));
+        assertEquals(3, consumed.get());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parâmetros inválidos")
+    void deveRejeitarParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDbSegmentedScanner<>(table, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DynamoDbSegmentedScanner<>(table, DynamoDbSegmentedScanner.MAX_SEGMENTS + 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDbSegmentedScanner<>(table, 2, 0));
+    }
+
+    /**
+     * Helper: cada segmento devolve itens "segmento-índice" em páginas de 10
+     */
+    private void mockSegments(int totalSegments, int itemsPerSegment) {
+        when(table.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+            ScanEnhancedRequest request = invocation.getArgument(0);
+            assertTrue(request.segment() < totalSegments);
+            return segmentPages(request.segment(), itemsPerSegment);
+        });
+    }
+
+    private static PageIterable<String> segmentPages(int segment, int itemsPerSegment) {
+        List<Page<String>> pages = new ArrayList<>();
+        for (int start = 0; start < itemsPerSegment; start += 10) {
+            pages.add(Page.create(IntStream.range(start, Math.min(start + 10, itemsPerSegment))
+                    .mapToObj(i -> segment + "-" + i)
+                    .toList()));
+        }
+        return PageIterable.create(pages::iterator);
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.grupo99.billingservice.infrastructure.persistence.repository;
+
+import br.com.grupo99.billingservice.infrastructure.config.DynamoDbConfig;
+import br.com.grupo99.billingservice.infrastructure.persistence.entity.PagamentoEntity;
+import br.com.grupo99.billingservice.testconfig.DynamoDbTestContainer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark: lookup de pagamento por mercadoPagoPaymentId (hot path do
+ * webhook) — scan com filtro x query no GSI esparso.
+ *
+ * Roda contra DynamoDB Local (Testcontainers) com tamanhos crescentes de
+ * tabela. Desabilitado por padrão:
+ * mvn test -Dtest=MercadoPagoPaymentIdLookupBenchmarkIT -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Benchmark - lookup por mercadoPagoPaymentId (scan x GSI)")
+class MercadoPagoPaymentIdLookupBenchmarkIT {
+
+    private static final String TABLE_PREFIX = "bench-" + System.nanoTime() + "-";
+    private static final int[] TABLE_SIZES = { 250, 1_000, 4_000 };
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+
+    private static DynamoDbPagamentoRepository repository;
+    private static DynamoDbTable<PagamentoEntity> table;
+
+    @BeforeAll
+    static void setUp() {
+        DynamoDbConfig config = new DynamoDbConfig();
+        ReflectionTestUtils.setField(config, "endpoint", DynamoDbTestContainer.getEndpoint());
+        ReflectionTestUtils.setField(config, "region", "us-east-1");
+        ReflectionTestUtils.setField(config, "tablePrefix", TABLE_PREFIX);
+        config.createTablesIfNotExist();
+
+        DynamoDbClient client = DynamoDbClient.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(URI.create(DynamoDbTestContainer.getEndpoint()))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+
+        repository = new DynamoDbPagamentoRepository(enhancedClient, client, TABLE_PREFIX);
+        table = enhancedClient.table(TABLE_PREFIX + "pagamentos", TableSchema.fromBean(PagamentoEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve comparar latência de scan e query conforme a tabela cresce")
+    void deveCompararScanEQuery() {
+        System.out.printf("%n%-10s %14s %14s %14s %14s%n",
+                "itens", "scan p50 (ms)", "scan p95 (ms)", "query p50 (ms)", "query p95 (ms)");
+
+        long nextPaymentId = 1;
+        int seeded = 0;
+        for (int size : TABLE_SIZES) {
+            for (; seeded < size; seeded++) {
+                // Metade dos pagamentos ainda sem payment_id do MP (fora do GSI esparso)
+                Long mpId = seeded % 2 == 0 ? nextPaymentId++ : null;
+                repository.save(PagamentoEntity.builder()
+                        .orcamentoId(UUID.randomUUID().toString())
+                        .osId(UUID.randomUUID().toString())
+                        .status(mpId != null ? "PROCESSANDO" : "PENDENTE")
+                        .valor(BigDecimal.TEN)
+                        .formaPagamento("PIX")
+                        .mercadoPagoPaymentId(mpId)
+                        .build());
+            }
+
+            long lastPaymentId = nextPaymentId - 1;
+            double[] scan = measure(lastPaymentId, this::scanByMercadoPagoPaymentId);
+            double[] query = measure(lastPaymentId, repository::findByMercadoPagoPaymentId);
+
+            System.out.printf("%-10d %14.2f %14.2f %14.2f %14.2f%n",
+                    size, percentile(scan, 50), percentile(scan, 95), percentile(query, 50), percentile(query, 95));
+        }
+    }
+
+    private double[] measure(long paymentId, LongFunction<Optional<PagamentoEntity>> lookup) {
+        for (int i = 0; i < WARMUP; i++) {
+            lookup.apply(paymentId);
+        }
+
+        double[] samples = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            Optional<PagamentoEntity> result = lookup.apply(paymentId);
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+
+            assertTrue(result.isPresent());
+            assertEquals(paymentId, result.get().getMercadoPagoPaymentId());
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double percentile(double[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * Implementação anterior (scan com filtro), mantida aqui como baseline.
+     */
+    private Optional<PagamentoEntity> scanByMercadoPagoPaymentId(long mercadoPagoPaymentId) {
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .filterExpression(Expression.builder()
+                        .expression("mercadoPagoPaymentId = :mpId")
+                        .putExpressionValue(":mpId",
+                                AttributeValue.builder().n(Long.toString(mercadoPagoPaymentId)).build())
+                        .build())
+                .build();
+
+        return table.scan(request).items().stream().findFirst();
+    }
+}
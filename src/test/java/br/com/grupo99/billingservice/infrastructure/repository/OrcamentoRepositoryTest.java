@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -58,7 +59,7 @@ class OrcamentoRepositoryTest {
     void deveSalvarOrcamentoComSucesso() {
         // Arrange
         when(mapper.toEntity(any(Orcamento.class))).thenReturn(orcamentoEntity);
-        when(dynamoDbRepository.save(any(OrcamentoEntity.class))).thenReturn(orcamentoEntity);
+        when(dynamoDbRepository.save(any(OrcamentoEntity.class), anyList())).thenReturn(orcamentoEntity);
         when(mapper.toDomain(any(OrcamentoEntity.class))).thenReturn(orcamento);
 
         // Act
@@ -67,7 +68,7 @@ class OrcamentoRepositoryTest {
         // Assert
         assertNotNull(saved);
         assertEquals(osId, saved.getOsId());
-        verify(dynamoDbRepository).save(any(OrcamentoEntity.class));
+        verify(dynamoDbRepository).save(any(OrcamentoEntity.class), anyList());
         verify(mapper).toEntity(orcamento);
         verify(mapper).toDomain(orcamentoEntity);
     }